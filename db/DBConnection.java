@@ -2,6 +2,7 @@ package db;
 
 import java.sql.*;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -72,15 +73,69 @@ public class DBConnection {
         }
     }
 
+    /**
+     * 연결/SQL 실행 통계 (JMX 로 노출)
+     */
+    private static final DBConnectionStats STATS = DBConnectionStats.getInstance();
+
     /**
      * DB 연결(Connection)을 제공합니다.
      */
     public static Connection getConnection() throws SQLException {
         // 시스템 속성에서 읽어온 정보로 DB 연결
-        return DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Connection conn = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+            success = true;
+            return conn;
+        } finally {
+            STATS.recordConnection(System.nanoTime() - start, success);
+        }
+    }
+
+    // --- 2. 트랜잭션 (현재 스레드에 연결을 묶어 여러 SQL 을 하나로 커밋) ---
+
+    /**
+     * 현재 스레드에서 진행 중인 트랜잭션의 연결 (없으면 null)
+     */
+    private static final ThreadLocal<Connection> TX_CONNECTION = new ThreadLocal<>();
+
+    /**
+     * work 안에서 실행되는 execute/query 헬퍼들을 하나의 트랜잭션으로 묶습니다.
+     * 예외가 나면 전체 롤백되며, 이미 트랜잭션 안이면 바깥 트랜잭션에 합류합니다.
+     */
+    public <T> T inTransaction(Supplier<T> work) {
+        if (TX_CONNECTION.get() != null) {
+            return work.get();
+        }
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            TX_CONNECTION.set(conn);
+            try {
+                T result = work.get();
+                conn.commit();
+                return result;
+            } catch (RuntimeException | Error e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                TX_CONNECTION.remove();
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("DB 트랜잭션 실패: " + e.getMessage(), e);
+        }
     }
 
-    // --- 2. SQL 실행 헬퍼 메서드 (팀원들이 사용할 공용 API) ---
+    public void inTransaction(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // --- 3. SQL 실행 헬퍼 메서드 (팀원들이 사용할 공용 API) ---
 
     /**
      * INSERT, UPDATE, DELETE 쿼리를 실행합니다.
@@ -90,15 +145,93 @@ public class DBConnection {
      */
     public int execute(String sql, Map<String, Object> params) {
         ParsedQuery parsedQuery = parseNamedQuery(sql, params);
+        StatementTrace trace = new StatementTrace("execute", sql);
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(parsedQuery.parsedSql)) {
+        try (ConnectionLease lease = trace.open();
+             PreparedStatement pstmt = lease.connection.prepareStatement(parsedQuery.parsedSql)) {
 
             setParameters(pstmt, parsedQuery.parameters);
-            return pstmt.executeUpdate();
+            int rows = pstmt.executeUpdate();
+            trace.succeeded(rows);
+            STATS.recordRowsAffected(rows);
+            return rows;
 
         } catch (SQLException e) {
             throw new RuntimeException("DB execute 실패: " + e.getMessage(), e);
+        } finally {
+            trace.finish();
+        }
+    }
+
+    /**
+     * 파라미터 변환 없이 SQL 을 그대로 실행합니다 (스키마 변경 스크립트 등 ':' 가 값의 일부일 수 있는 DDL 용).
+     * @return 영향을 받은 행(row)의 수 (DDL 은 보통 0)
+     */
+    public int executeStatement(String sql) {
+        StatementTrace trace = new StatementTrace("executeStatement", sql);
+
+        try (ConnectionLease lease = trace.open();
+             Statement stmt = lease.connection.createStatement()) {
+
+            int rows = stmt.executeUpdate(sql);
+            trace.succeeded(rows);
+            STATS.recordRowsAffected(rows);
+            return rows;
+
+        } catch (SQLException e) {
+            throw new RuntimeException("DB executeStatement 실패: " + e.getMessage(), e);
+        } finally {
+            trace.finish();
+        }
+    }
+
+    /**
+     * 같은 INSERT/UPDATE 를 여러 파라미터 묶음으로 실행합니다 (JDBC 배치, batchSize 건마다 서버 왕복 1회).
+     * 트랜잭션 밖에서 호출하면 배치마다 자동 커밋되므로, 전체를 원자적으로 반영하려면 inTransaction 안에서 호출하세요.
+     * @param sql        이름 기반 파라미터(:paramName)를 포함한 SQL
+     * @param paramsList 행별 파라미터 Map 목록 (모두 같은 키를 가져야 함)
+     * @return 영향을 받은 행(row)의 수 합계
+     */
+    public int executeBatch(String sql, List<Map<String, Object>> paramsList, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be > 0");
+        }
+        if (paramsList.isEmpty()) {
+            return 0;
+        }
+        // SQL 파싱은 1회만 하고, 행마다 파라미터 이름 순서대로 값만 꺼냄
+        ParsedQuery parsedQuery = parseNamedQuery(sql, paramsList.get(0));
+        StatementTrace trace = new StatementTrace("executeBatch", sql);
+
+        try (ConnectionLease lease = trace.open();
+             PreparedStatement pstmt = lease.connection.prepareStatement(parsedQuery.parsedSql)) {
+
+            List<Object> values = new ArrayList<>(parsedQuery.parameterNames.size());
+            int rows = 0;
+            int pending = 0;
+            for (Map<String, Object> params : paramsList) {
+                values.clear();
+                for (String name : parsedQuery.parameterNames) {
+                    values.add(params.get(name));
+                }
+                setParameters(pstmt, values);
+                pstmt.addBatch();
+                if (++pending == batchSize) {
+                    rows += sumUpdateCounts(pstmt.executeBatch());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                rows += sumUpdateCounts(pstmt.executeBatch());
+            }
+            trace.succeeded(rows);
+            STATS.recordRowsAffected(rows);
+            return rows;
+
+        } catch (SQLException e) {
+            throw new RuntimeException("DB executeBatch 실패: " + e.getMessage(), e);
+        } finally {
+            trace.finish();
         }
     }
 
@@ -110,15 +243,18 @@ public class DBConnection {
      */
     public int executeAndReturnKey(String sql, Map<String, Object> params) {
         ParsedQuery parsedQuery = parseNamedQuery(sql, params);
+        StatementTrace trace = new StatementTrace("executeAndReturnKey", sql);
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(parsedQuery.parsedSql, Statement.RETURN_GENERATED_KEYS)) {
+        try (ConnectionLease lease = trace.open();
+             PreparedStatement pstmt = lease.connection.prepareStatement(parsedQuery.parsedSql, Statement.RETURN_GENERATED_KEYS)) {
 
             setParameters(pstmt, parsedQuery.parameters);
-            pstmt.executeUpdate();
+            int rows = pstmt.executeUpdate();
+            STATS.recordRowsAffected(rows);
 
             try (ResultSet rs = pstmt.getGeneratedKeys()) {
                 if (rs.next()) {
+                    trace.succeeded(rows);
                     return rs.getInt(1);
                 } else {
                     throw new SQLException("ID 생성 실패: 생성된 키를 반환받지 못했습니다.");
@@ -126,6 +262,8 @@ public class DBConnection {
             }
         } catch (SQLException e) {
             throw new RuntimeException("DB executeAndReturnKey 실패: " + e.getMessage(), e);
+        } finally {
+            trace.finish();
         }
     }
 
@@ -137,21 +275,26 @@ public class DBConnection {
      */
     public Optional<Map<String, Object>> queryForObject(String sql, Map<String, Object> params) {
         ParsedQuery parsedQuery = parseNamedQuery(sql, params);
+        StatementTrace trace = new StatementTrace("queryForObject", sql);
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(parsedQuery.parsedSql)) {
+        try (ConnectionLease lease = trace.open();
+             PreparedStatement pstmt = lease.connection.prepareStatement(parsedQuery.parsedSql)) {
 
             setParameters(pstmt, parsedQuery.parameters);
 
             try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapRowToMap(rs));
-                } else {
-                    return Optional.empty(); // 조회 결과 없음
-                }
+                Optional<Map<String, Object>> result = rs.next()
+                        ? Optional.of(mapRowToMap(rs))
+                        : Optional.empty(); // 조회 결과 없음
+                int rows = result.isPresent() ? 1 : 0;
+                trace.succeeded(rows);
+                STATS.recordRowsReturned(rows);
+                return result;
             }
         } catch (SQLException e) {
             throw new RuntimeException("DB queryForObject 실패: " + e.getMessage(), e);
+        } finally {
+            trace.finish();
         }
     }
 
@@ -161,9 +304,10 @@ public class DBConnection {
     public List<Map<String, Object>> queryForList(String sql, Map<String, Object> params) {
         List<Map<String, Object>> results = new ArrayList<>();
         ParsedQuery parsedQuery = parseNamedQuery(sql, params);
+        StatementTrace trace = new StatementTrace("queryForList", sql);
 
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(parsedQuery.parsedSql)) {
+        try (ConnectionLease lease = trace.open();
+             PreparedStatement pstmt = lease.connection.prepareStatement(parsedQuery.parsedSql)) {
 
             setParameters(pstmt, parsedQuery.parameters);
 
@@ -172,14 +316,124 @@ public class DBConnection {
                     results.add(mapRowToMap(rs));
                 }
             }
+            trace.succeeded(results.size());
+            STATS.recordRowsReturned(results.size());
         } catch (SQLException e) {
             throw new RuntimeException("DB queryForList 실패: " + e.getMessage(), e);
+        } finally {
+            trace.finish();
         }
         return results;
     }
 
+    /**
+     * 대용량 SELECT 를 스트리밍으로 실행합니다. 결과를 List 에 모으지 않고 커서에서 1건씩 handler 에 넘기므로
+     * 행 수와 무관하게 메모리 사용량이 일정합니다. (fetchSize 만큼씩 서버에서 받아옴)
+     * 스트리밍 중에는 같은 연결로 다른 SQL 을 실행할 수 없으므로 handler 안에서 DB 를 호출하지 마세요.
+     * @return 처리한 행(row)의 수
+     */
+    public long queryForEach(String sql, Map<String, Object> params, int fetchSize, RowHandler handler) {
+        ParsedQuery parsedQuery = parseNamedQuery(sql, params);
+        StatementTrace trace = new StatementTrace("queryForEach", sql);
+        long rows = 0;
+
+        try (ConnectionLease lease = trace.open();
+             PreparedStatement pstmt = lease.connection.prepareStatement(parsedQuery.parsedSql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            pstmt.setFetchSize(fetchSize);
+            setParameters(pstmt, parsedQuery.parameters);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(rs);
+                    rows++;
+                }
+            }
+            trace.succeeded(rows);
+            return rows;
+        } catch (SQLException e) {
+            throw new RuntimeException("DB queryForEach 실패: " + e.getMessage(), e);
+        } finally {
+            STATS.recordRowsReturned(rows);
+            trace.finish();
+        }
+    }
+
+    /**
+     * SQL 1건이 사용하는 연결. 직접 연 연결만 닫고, 트랜잭션 연결은 inTransaction 이 닫습니다.
+     */
+    private static final class ConnectionLease implements AutoCloseable {
+        private final Connection connection;
+        private final boolean owned;
+
+        ConnectionLease(Connection connection, boolean owned) {
+            this.connection = connection;
+            this.owned = owned;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (owned) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * SQL 1건의 실행 기록 (JMX 통계 + JFR SqlStatementEvent).
+     * JFR 기록이 꺼져 있으면 이벤트 필드는 채우지 않으므로 추가 비용이 거의 없습니다.
+     */
+    private static final class StatementTrace {
+        private final String operation;
+        private final String sql;
+        private final long startNanos = System.nanoTime();
+        private final SqlStatementEvent event = new SqlStatementEvent();
+        private long connectionWaitNanos;
+        private long rows;
+        private boolean success;
+
+        StatementTrace(String operation, String sql) {
+            this.operation = operation;
+            this.sql = sql;
+            event.begin();
+        }
 
-    // --- 3. 내부 헬퍼 메서드 (JDBC 처리) ---
+        /** 연결 획득 (대기 시간 측정). 트랜잭션 중이면 그 연결을 빌려 씀 */
+        ConnectionLease open() throws SQLException {
+            Connection txConnection = TX_CONNECTION.get();
+            if (txConnection != null) {
+                return new ConnectionLease(txConnection, false);
+            }
+            long start = System.nanoTime();
+            try {
+                return new ConnectionLease(getConnection(), true);
+            } finally {
+                connectionWaitNanos = System.nanoTime() - start;
+            }
+        }
+
+        void succeeded(long rows) {
+            this.rows = rows;
+            this.success = true;
+        }
+
+        void finish() {
+            STATS.recordStatement(System.nanoTime() - startNanos, success);
+            if (event.shouldCommit()) {
+                event.sqlId = Integer.toHexString(sql.hashCode());
+                event.sql = sql;
+                event.operation = operation;
+                event.rows = rows;
+                event.connectionWait = connectionWaitNanos;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+
+    // --- 4. 내부 헬퍼 메서드 (JDBC 처리) ---
 
     private Map<String, Object> mapRowToMap(ResultSet rs) throws SQLException {
         Map<String, Object> rowMap = new HashMap<>();
@@ -195,6 +449,15 @@ public class DBConnection {
         return rowMap;
     }
 
+    /** 배치 결과 합계 (드라이버가 건별 개수를 모르면 SUCCESS_NO_INFO 를 1건으로 셈) */
+    private int sumUpdateCounts(int[] counts) {
+        int sum = 0;
+        for (int count : counts) {
+            sum += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return sum;
+    }
+
     private void setParameters(PreparedStatement pstmt, List<Object> params) throws SQLException {
         for (int i = 0; i < params.size(); i++) {
             pstmt.setObject(i + 1, params.get(i));
@@ -203,6 +466,7 @@ public class DBConnection {
 
     private ParsedQuery parseNamedQuery(String sql, Map<String, Object> params) {
         List<Object> paramValues = new ArrayList<>();
+        List<String> paramNames = new ArrayList<>();
         Pattern pattern = Pattern.compile(":(\\w+)");
         Matcher matcher = pattern.matcher(sql);
         StringBuffer parsedSql = new StringBuffer();
@@ -213,22 +477,25 @@ public class DBConnection {
                 throw new IllegalArgumentException("SQL 파라미터 매핑 오류: 쿼리에 명시된 '" + paramName + "'이(가) 파라미터 Map에 존재하지 않습니다.");
             }
             matcher.appendReplacement(parsedSql, "?");
+            paramNames.add(paramName);
             if (params != null) {
                 paramValues.add(params.get(paramName));
             }
         }
         matcher.appendTail(parsedSql);
 
-        return new ParsedQuery(parsedSql.toString(), paramValues);
+        return new ParsedQuery(parsedSql.toString(), paramValues, paramNames);
     }
 
     private static class ParsedQuery {
         final String parsedSql;
         final List<Object> parameters;
+        final List<String> parameterNames;
 
-        ParsedQuery(String parsedSql, List<Object> parameters) {
+        ParsedQuery(String parsedSql, List<Object> parameters, List<String> parameterNames) {
             this.parsedSql = parsedSql;
             this.parameters = parameters;
+            this.parameterNames = parameterNames;
         }
     }
 
@@ -0,0 +1,74 @@
+package db;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Singleton Pattern: DBConnection 의 연결/SQL 실행 통계 (락 없는 누적 카운터).
+ * JMX(DatabaseStatsMXBean)로 노출되어 실행 중인 인스턴스에서 조회할 수 있습니다.
+ * (DBConnection 과 분리되어 있어 .env 없이 동작하는 인메모리 백엔드에서도 등록 가능)
+ */
+public class DBConnectionStats implements DatabaseStatsMXBean {
+
+    private static final DBConnectionStats INSTANCE = new DBConnectionStats();
+
+    private DBConnectionStats() {}
+
+    public static DBConnectionStats getInstance() {
+        return INSTANCE;
+    }
+
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionFailures = new LongAdder();
+    private final LongAdder connectionWaitNanos = new LongAdder();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder statementFailures = new LongAdder();
+    private final LongAdder statementNanos = new LongAdder();
+    private final LongAdder rowsAffected = new LongAdder();
+    private final LongAdder rowsReturned = new LongAdder();
+
+    // ====== 기록 (DBConnection 내부에서 호출) ======
+
+    void recordConnection(long waitNanos, boolean success) {
+        if (success) {
+            connectionsOpened.increment();
+        } else {
+            connectionFailures.increment();
+        }
+        connectionWaitNanos.add(waitNanos);
+    }
+
+    void recordStatement(long nanos, boolean success) {
+        statements.increment();
+        statementNanos.add(nanos);
+        if (!success) {
+            statementFailures.increment();
+        }
+    }
+
+    void recordRowsAffected(long rows) { rowsAffected.add(rows); }
+    void recordRowsReturned(long rows) { rowsReturned.add(rows); }
+
+    // ====== 조회 (MXBean) ======
+
+    @Override public long getConnectionsOpened() { return connectionsOpened.sum(); }
+    @Override public long getConnectionFailures() { return connectionFailures.sum(); }
+
+    @Override
+    public double getAverageConnectionWaitMillis() {
+        long n = connectionsOpened.sum() + connectionFailures.sum();
+        return n == 0 ? 0.0 : connectionWaitNanos.sum() / 1_000_000.0 / n;
+    }
+
+    @Override public long getStatementsExecuted() { return statements.sum(); }
+    @Override public long getStatementFailures() { return statementFailures.sum(); }
+
+    @Override
+    public double getAverageStatementMillis() {
+        long n = statements.sum();
+        return n == 0 ? 0.0 : statementNanos.sum() / 1_000_000.0 / n;
+    }
+
+    @Override public long getRowsAffected() { return rowsAffected.sum(); }
+    @Override public long getRowsReturned() { return rowsReturned.sum(); }
+}
@@ -0,0 +1,18 @@
+package db;
+
+/**
+ * JMX 로 노출되는 DB 연결/SQL 실행 통계.
+ * (연결 풀이 없으므로 "연결"은 DriverManager 로 새로 연 물리 연결 수를 의미)
+ */
+public interface DatabaseStatsMXBean {
+    long getConnectionsOpened();
+    long getConnectionFailures();
+    double getAverageConnectionWaitMillis();
+
+    long getStatementsExecuted();
+    long getStatementFailures();
+    double getAverageStatementMillis();
+
+    long getRowsAffected();
+    long getRowsReturned();
+}
@@ -0,0 +1,13 @@
+package db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * DBConnection.queryForEach 가 커서에서 읽은 행을 1건씩 넘겨주는 콜백.
+ * ResultSet 은 현재 행에 위치해 있으며, 호출자가 next()/close() 를 호출해서는 안 됩니다.
+ */
+@FunctionalInterface
+public interface RowHandler {
+    void handle(ResultSet rs) throws SQLException;
+}
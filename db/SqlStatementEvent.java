@@ -0,0 +1,41 @@
+package db;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 이벤트: DBConnection 을 통한 SQL 1건 실행.
+ * 이벤트의 duration 은 연결 획득부터 결과 처리까지 전체 시간이며, connectionWait 로 연결 대기 비중을 구분합니다.
+ */
+@Name("carrental.SqlStatement")
+@Label("SQL Statement")
+@Category({"Car Rental", "Database"})
+@Description("DBConnection 을 통한 SQL 실행 1건")
+@StackTrace(false)
+public class SqlStatementEvent extends jdk.jfr.Event {
+
+    @Label("SQL Id")
+    @Description("SQL 문자열 해시 (같은 쿼리끼리 묶어 보기 위한 식별자)")
+    public String sqlId;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Rows")
+    @Description("영향받은 행 수(갱신) 또는 반환된 행 수(조회)")
+    public long rows;
+
+    @Label("Connection Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long connectionWait;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,92 @@
+package db.migration;
+
+import db.DBConnection;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 시작 시 자주 실행되는 조회의 실행 계획(EXPLAIN)을 출력해 인덱스를 타는지 확인합니다.
+ *
+ * 각 SQL 은 해당 리포지토리 쿼리와 같은 WHERE 절 형태이며, 값은 실행 계획에 영향이 없는 표본 값입니다.
+ * 전체 스캔(type=ALL)이면서 후보 인덱스도 없으면 ⚠️ 로 표시합니다.
+ * (행 수가 아주 적은 테이블은 인덱스가 있어도 옵티마이저가 전체 스캔을 고를 수 있어 참고로만 표시)
+ */
+public class HotQueryPlanCheck {
+
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("RentalRepository.findActiveByCarId",
+                "SELECT * FROM rental WHERE carId = :carId AND status = 'RENTED' AND startTime >= :since LIMIT 1");
+        QUERIES.put("RentalRepository.findActiveWithCarByUserId",
+                "SELECT r.*, c.name FROM rental r JOIN car c ON r.carId = c.id " +
+                "WHERE r.userId = :userId AND r.status = 'RENTED' AND r.startTime >= :since ORDER BY r.startTime DESC");
+        QUERIES.put("RentalRepository.findOverdue",
+                "SELECT r.id FROM rental r WHERE r.status = 'RENTED' AND r.endTime < :now AND r.startTime >= :since " +
+                "ORDER BY r.endTime LIMIT 50");
+        QUERIES.put("RentalRepository.activeSince",
+                "SELECT MIN(startTime) FROM rental WHERE status = 'RENTED'");
+        QUERIES.put("AdminService.findCarByName",
+                "SELECT id, name, type, status FROM car WHERE name = :name");
+        QUERIES.put("UserRepository.findByUserId",
+                "SELECT id FROM user WHERE userId = :userId");
+        QUERIES.put("UserRepository.findByPhoneNumber",
+                "SELECT id FROM user WHERE phoneNumber = :phoneNumber");
+        QUERIES.put("UserRepository.findByName",
+                "SELECT id FROM user WHERE name = :name");
+    }
+
+    private final DBConnection db;
+
+    public HotQueryPlanCheck(DBConnection db) {
+        this.db = Objects.requireNonNull(db, "db");
+    }
+
+    /** 점검 결과를 콘솔에 출력하고 경고 건수를 반환 (점검 실패는 시작을 막지 않음) */
+    public int run() {
+        Map<String, Object> p = new LinkedHashMap<>();
+        p.put("carId", 1);
+        p.put("userId", 1);
+        p.put("since", Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+        p.put("now", Timestamp.valueOf(LocalDateTime.now()));
+        p.put("name", "-");
+        p.put("phoneNumber", "-");
+
+        System.out.println("🔎 주요 조회 실행 계획 점검");
+        int warnings = 0;
+        for (Map.Entry<String, String> query : QUERIES.entrySet()) {
+            try {
+                List<Map<String, Object>> plan = db.queryForList("EXPLAIN " + query.getValue(), p);
+                StringBuilder line = new StringBuilder();
+                boolean missingIndex = false;
+                for (Map<String, Object> row : plan) {
+                    String type = Objects.toString(row.get("type"), "-");
+                    String key = Objects.toString(row.get("key"), null);
+                    String possible = Objects.toString(row.get("possible_keys"), null);
+                    if ("ALL".equals(type) && possible == null) {
+                        missingIndex = true;
+                    }
+                    if (line.length() > 0) line.append(" → ");
+                    line.append(row.get("table")).append(": ").append(type);
+                    if (key != null) {
+                        line.append(' ').append(key);
+                    } else if (possible != null) {
+                        line.append(" (후보 ").append(possible).append(")");
+                    }
+                    line.append(", rows≈").append(row.get("rows"));
+                }
+                if (missingIndex) warnings++;
+                System.out.printf("  %s %-44s %s%n", missingIndex ? "⚠️" : "✅", query.getKey(), line);
+            } catch (RuntimeException e) {
+                warnings++;
+                System.out.printf("  ⚠️ %-44s 점검 실패: %s%n", query.getKey(), e.getMessage());
+            }
+        }
+        return warnings;
+    }
+}
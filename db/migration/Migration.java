@@ -0,0 +1,89 @@
+package db.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 버전이 붙은 스키마 변경 스크립트 1개 (파일명: V{버전}__{설명}.sql, 예: V3__hot_path_indexes.sql).
+ *
+ * 문장은 줄 끝의 ';' 로 구분하며, '--' 로 시작하는 줄은 주석으로 무시합니다.
+ * 체크섬은 주석/공백을 제외한 문장으로 계산하므로 주석만 고친 경우에는 바뀌지 않습니다.
+ */
+public class Migration implements Comparable<Migration> {
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+    private final long checksum;
+
+    Migration(int version, String description, List<String> statements) {
+        this.version = version;
+        this.description = description;
+        this.statements = Collections.unmodifiableList(statements);
+        this.checksum = checksumOf(statements);
+    }
+
+    /** 파일명이 V{n}__{desc}.sql 형식이 아니면 null */
+    static Migration parse(Path file, String content) {
+        Matcher m = FILE_NAME.matcher(file.getFileName().toString());
+        if (!m.matches()) {
+            return null;
+        }
+        return new Migration(Integer.parseInt(m.group(1)), m.group(2).replace('_', ' '), splitStatements(content));
+    }
+
+    public int getVersion() { return version; }
+    public String getDescription() { return description; }
+    public List<String> getStatements() { return statements; }
+    public long getChecksum() { return checksum; }
+
+    @Override
+    public int compareTo(Migration other) {
+        return Integer.compare(version, other.version);
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " (" + description + ")";
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    private static List<String> splitStatements(String content) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : content.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                continue;
+            }
+            if (current.length() > 0) current.append('\n');
+            current.append(line);
+            if (trimmed.endsWith(";")) {
+                String statement = current.toString().trim();
+                statements.add(statement.substring(0, statement.length() - 1).trim());
+                current.setLength(0);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            statements.add(current.toString().trim()); // 마지막 문장에 ';' 가 없는 경우
+        }
+        return statements;
+    }
+
+    private static long checksumOf(List<String> statements) {
+        CRC32 crc = new CRC32();
+        for (String statement : statements) {
+            crc.update(statement.replaceAll("\\s+", " ").getBytes(StandardCharsets.UTF_8));
+        }
+        return crc.getValue();
+    }
+}
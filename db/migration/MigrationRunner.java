@@ -0,0 +1,159 @@
+package db.migration;
+
+import db.DBConnection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 버전별 스키마 변경 스크립트(db/migration/sql/V{n}__*.sql)를 시작 시 순서대로 적용합니다.
+ *
+ * - 적용 이력은 schema_history 테이블에 버전/설명/체크섬/소요 시간으로 기록되며, 이미 적용된 버전은 건너뜀
+ * - 적용된 스크립트의 내용이 바뀌면(체크섬 불일치) 시작을 중단 → 변경은 항상 새 버전 파일로 추가
+ * - 여러 인스턴스가 동시에 시작해도 GET_LOCK 으로 한 곳에서만 적용
+ *
+ * MariaDB 의 DDL 은 트랜잭션으로 되돌릴 수 없으므로 스크립트는 IF NOT EXISTS 등으로 재실행 가능하게 작성합니다.
+ */
+public class MigrationRunner {
+    private static final String HISTORY_TBL = "schema_history";
+    private static final String LOCK_NAME = "carrental_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private final DBConnection db;
+    private final Path directory;
+
+    public MigrationRunner(DBConnection db, Path directory) {
+        this.db = Objects.requireNonNull(db, "db");
+        this.directory = Objects.requireNonNull(directory, "directory");
+    }
+
+    /**
+     * 미적용 스크립트를 모두 적용합니다.
+     * @return 이번에 적용한 스크립트 수
+     * @throws IllegalStateException 스크립트 실행 실패, 체크섬 불일치, 잠금 획득 실패 시
+     */
+    public int migrate() {
+        List<Migration> migrations = load();
+        // GET_LOCK 은 연결 단위이므로 트랜잭션 연결을 고정해 같은 연결에서 잠금/적용/해제
+        return db.inTransaction(() -> {
+            acquireLock();
+            try {
+                ensureHistoryTable();
+                Map<Integer, Long> applied = appliedChecksums();
+
+                int count = 0;
+                for (Migration migration : migrations) {
+                    Long checksum = applied.get(migration.getVersion());
+                    if (checksum == null) {
+                        apply(migration);
+                        count++;
+                    } else if (checksum != migration.getChecksum()) {
+                        throw new IllegalStateException(migration + " 스크립트가 적용 후 변경되었습니다 (체크섬 불일치). " +
+                                "수정 대신 새 버전 파일을 추가하세요.");
+                    }
+                }
+
+                int latest = migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+                System.out.printf("✅ DB 스키마 최신 상태 (V%d, 이번에 %d개 적용)%n", latest, count);
+                return count;
+            } finally {
+                releaseLock();
+            }
+        });
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    /** 디렉터리의 V{n}__*.sql 을 버전 순으로 읽음 (같은 버전이 둘이면 오류) */
+    private List<Migration> load() {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalStateException("마이그레이션 디렉터리를 찾을 수 없습니다: " + directory.toAbsolutePath());
+        }
+        List<Migration> migrations = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted()::iterator) {
+                Migration migration = Migration.parse(file, Files.readString(file, StandardCharsets.UTF_8));
+                if (migration != null) {
+                    migrations.add(migration);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("마이그레이션 스크립트 읽기 실패: " + e.getMessage(), e);
+        }
+        migrations.sort(null);
+        for (int i = 1; i < migrations.size(); i++) {
+            if (migrations.get(i).getVersion() == migrations.get(i - 1).getVersion()) {
+                throw new IllegalStateException("같은 버전의 스크립트가 둘 이상 있습니다: V" + migrations.get(i).getVersion());
+            }
+        }
+        return migrations;
+    }
+
+    private void apply(Migration migration) {
+        System.out.println("⏳ 스키마 적용 중: " + migration);
+        long start = System.nanoTime();
+        int index = 0;
+        try {
+            for (String statement : migration.getStatements()) {
+                index++;
+                db.executeStatement(statement);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(migration + " 의 " + index + "번째 문장 실행 실패: " + e.getMessage(), e);
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Map<String, Object> p = new HashMap<>();
+        p.put("version", migration.getVersion());
+        p.put("description", migration.getDescription());
+        p.put("checksum", migration.getChecksum());
+        p.put("appliedAt", Timestamp.valueOf(LocalDateTime.now()));
+        p.put("executionMillis", millis);
+        db.execute("INSERT INTO " + HISTORY_TBL + " (version, description, checksum, appliedAt, executionMillis) " +
+                   "VALUES (:version, :description, :checksum, :appliedAt, :executionMillis)", p);
+        System.out.printf("   └ 완료 (%d개 문장, %dms)%n", migration.getStatements().size(), millis);
+    }
+
+    private void ensureHistoryTable() {
+        db.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TBL + " (" +
+                   "  version INT PRIMARY KEY," +
+                   "  description VARCHAR(200) NOT NULL," +
+                   "  checksum BIGINT NOT NULL," +
+                   "  appliedAt DATETIME NOT NULL," +
+                   "  executionMillis INT NOT NULL" +
+                   ")", Map.of());
+    }
+
+    private Map<Integer, Long> appliedChecksums() {
+        Map<Integer, Long> applied = new HashMap<>();
+        for (Map<String, Object> row : db.queryForList("SELECT version, checksum FROM " + HISTORY_TBL, Map.of())) {
+            applied.put(((Number) row.get("version")).intValue(), ((Number) row.get("checksum")).longValue());
+        }
+        return applied;
+    }
+
+    private void acquireLock() {
+        Object locked = db.queryForObject("SELECT GET_LOCK(:name, :timeout) AS locked",
+                        Map.of("name", LOCK_NAME, "timeout", LOCK_TIMEOUT_SECONDS))
+                .map(row -> row.get("locked"))
+                .orElse(null);
+        if (!(locked instanceof Number) || ((Number) locked).intValue() != 1) {
+            throw new IllegalStateException("다른 인스턴스가 스키마를 적용 중입니다 (잠금 대기 " + LOCK_TIMEOUT_SECONDS + "초 초과)");
+        }
+    }
+
+    private void releaseLock() {
+        db.queryForObject("SELECT RELEASE_LOCK(:name) AS released", Map.of("name", LOCK_NAME));
+    }
+}
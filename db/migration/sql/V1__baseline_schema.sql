@@ -0,0 +1,56 @@
+-- 기본 스키마 (README 에 있던 테이블 정의를 옮김)
+-- 이미 수동으로 만든 DB 에서도 실행할 수 있도록 IF NOT EXISTS 로 작성
+
+CREATE TABLE IF NOT EXISTS user (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    userId VARCHAR(100) NOT NULL UNIQUE,
+    pw VARCHAR(255) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    phoneNumber VARCHAR(50) UNIQUE,
+    cardNumber VARCHAR(50),
+    membership VARCHAR(50)
+);
+
+CREATE TABLE IF NOT EXISTS car (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    type ENUM('SEDAN', 'SUV', 'BIKE') NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    dailyRentalFee DECIMAL(10, 2)
+);
+
+CREATE TABLE IF NOT EXISTS rental (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    userId INT NOT NULL,
+    carId INT NOT NULL,
+    startTime DATETIME NOT NULL,
+    endTime DATETIME NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    rentalDays INT,
+    feeStrategy VARCHAR(50),
+    membership VARCHAR(50),
+    options VARCHAR(100),
+    baseFee DECIMAL(12, 2),
+    optionFee DECIMAL(12, 2),
+    discount DECIMAL(12, 2),
+    penalty DECIMAL(12, 2),
+    totalFee DECIMAL(12, 2),
+
+    FOREIGN KEY (userId) REFERENCES user(id) ON DELETE CASCADE,
+    FOREIGN KEY (carId) REFERENCES car(id)
+);
+
+-- 요금 컬럼이 없던 기존 rental 테이블 보완 (대여 시 확정 요금, 반납 시 할인/패널티/결제 금액)
+ALTER TABLE rental
+    ADD COLUMN IF NOT EXISTS rentalDays INT,
+    ADD COLUMN IF NOT EXISTS feeStrategy VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS membership VARCHAR(50),
+    ADD COLUMN IF NOT EXISTS options VARCHAR(100),
+    ADD COLUMN IF NOT EXISTS baseFee DECIMAL(12, 2),
+    ADD COLUMN IF NOT EXISTS optionFee DECIMAL(12, 2),
+    ADD COLUMN IF NOT EXISTS discount DECIMAL(12, 2),
+    ADD COLUMN IF NOT EXISTS penalty DECIMAL(12, 2),
+    ADD COLUMN IF NOT EXISTS totalFee DECIMAL(12, 2);
+
+-- 연체 조회 (RentalRepository.findOverdue / countOverdue)
+CREATE INDEX IF NOT EXISTS idx_rental_status_endtime ON rental (status, endTime);
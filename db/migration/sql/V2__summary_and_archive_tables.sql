@@ -0,0 +1,50 @@
+-- 매출/가동률 요약 테이블 (RentalSummaryRepository) + 대여 이력 보관 테이블 (RentalArchiveRepository)
+
+CREATE TABLE IF NOT EXISTS rental_daily_type_summary (
+    day DATE NOT NULL,
+    carType VARCHAR(20) NOT NULL,
+    rentals INT NOT NULL DEFAULT 0,
+    returns INT NOT NULL DEFAULT 0,
+    rentedDays INT NOT NULL DEFAULT 0,
+    bookedRevenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    collectedRevenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    penaltyRevenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (day, carType)
+);
+
+CREATE TABLE IF NOT EXISTS rental_daily_car_summary (
+    day DATE NOT NULL,
+    carId INT NOT NULL,
+    rentals INT NOT NULL DEFAULT 0,
+    returns INT NOT NULL DEFAULT 0,
+    rentedDays INT NOT NULL DEFAULT 0,
+    bookedRevenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    collectedRevenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    penaltyRevenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (day, carId),
+    FOREIGN KEY (carId) REFERENCES car(id)
+);
+
+CREATE TABLE IF NOT EXISTS rental_archive (
+    id INT PRIMARY KEY,
+    userId INT NOT NULL,
+    carId INT NOT NULL,
+    startTime DATETIME NOT NULL,
+    endTime DATETIME NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    rentalDays INT,
+    feeStrategy VARCHAR(50),
+    membership VARCHAR(50),
+    options VARCHAR(100),
+    baseFee DECIMAL(12, 2),
+    optionFee DECIMAL(12, 2),
+    discount DECIMAL(12, 2),
+    penalty DECIMAL(12, 2),
+    totalFee DECIMAL(12, 2),
+    archivedAt DATETIME NOT NULL,
+
+    INDEX idx_rental_archive_car (carId),
+    INDEX idx_rental_archive_user (userId)
+);
@@ -0,0 +1,19 @@
+-- 자주 실행되는 조회용 인덱스 (시작 시 HotQueryPlanCheck 가 EXPLAIN 으로 사용 여부를 출력)
+
+-- 차량별 활성 대여 확인: RentalRepository.findActiveByCarId, AdminService.retireCarById
+CREATE INDEX IF NOT EXISTS idx_rental_car_status ON rental (carId, status);
+
+-- 사용자별 활성 대여 (startTime 하한 + 최신순 정렬까지 인덱스로 처리):
+-- RentalRepository.findActiveByUserId / findActiveWithCarByUserId
+CREATE INDEX IF NOT EXISTS idx_rental_user_status_start ON rental (userId, status, startTime);
+
+-- 가장 오래된 활성 대여 시작 시각 (RentalRepository.activeSince 의 MIN(startTime))
+CREATE INDEX IF NOT EXISTS idx_rental_status_start ON rental (status, startTime);
+
+-- 차량 이름 조회/중복 확인: AdminService.findCarByName, addCar
+-- (기존 데이터에 중복 이름이 있을 수 있어 UNIQUE 가 아닌 일반 인덱스)
+CREATE INDEX IF NOT EXISTS idx_car_name ON car (name);
+
+-- 이름으로 회원 조회: UserRepository.findByName (phoneNumber 는 UNIQUE 제약이 없는 DB 를 위해 일반 인덱스 추가)
+CREATE INDEX IF NOT EXISTS idx_user_name ON user (name);
+CREATE INDEX IF NOT EXISTS idx_user_phone ON user (phoneNumber);
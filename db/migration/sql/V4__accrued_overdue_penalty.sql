@@ -0,0 +1,9 @@
+-- 반납 전 연체료 누적 (OverduePenaltyAccrualJob 이 매일 밤 갱신, 반납 시 확정 금액은 기존 penalty 컬럼)
+-- accruedPenalty   : penaltyAccruedAt 시점까지 쌓인 연체료 (RENTED 상태에서만 의미 있음)
+-- penaltyAccruedAt : 마지막 누적 계산 기준 시각
+
+ALTER TABLE rental
+    ADD COLUMN IF NOT EXISTS accruedPenalty DECIMAL(12, 2),
+    ADD COLUMN IF NOT EXISTS penaltyAccruedAt DATETIME;
+
+-- 청크 순회/누적 UPDATE 는 V1 의 idx_rental_status_endtime (status, endTime [, id]) 범위 스캔을 사용하므로 인덱스 추가 없음
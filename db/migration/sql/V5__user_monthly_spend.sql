@@ -0,0 +1,25 @@
+-- 회원 등급 산정용 사용자별 월 집계 (UserSpendRepository)
+-- 반납 시 (userId, 반납 월) 버킷에 누적하고, 등급은 최근 12개월 버킷 합계로 판정 (MembershipTier)
+-- yearMonth: 202610 형식 (EXTRACT(YEAR_MONTH FROM endTime))
+
+CREATE TABLE IF NOT EXISTS user_monthly_spend (
+    userId INT NOT NULL,
+    yearMonth INT NOT NULL,
+    rentals INT NOT NULL DEFAULT 0,
+    spend DECIMAL(14, 2) NOT NULL DEFAULT 0,
+
+    PRIMARY KEY (userId, yearMonth),
+    FOREIGN KEY (userId) REFERENCES user(id) ON DELETE CASCADE
+);
+
+-- 기존 반납 이력으로 최근 12개월(이번 달 포함) 버킷을 채움
+-- (비어 있으면 다음 반납/야간 재계산 때 기존 회원이 SILVER 로 내려가므로 UserSpendRepository.recomputeRange 와 같은 집계로 초기화)
+INSERT INTO user_monthly_spend (userId, yearMonth, rentals, spend)
+SELECT h.userId, EXTRACT(YEAR_MONTH FROM h.endTime), COUNT(*), SUM(COALESCE(h.totalFee, 0))
+FROM (SELECT userId, endTime, totalFee FROM rental
+      WHERE status = 'RETURNED' AND endTime >= DATE_FORMAT(CURDATE() - INTERVAL 11 MONTH, '%Y-%m-01')
+      UNION ALL
+      SELECT userId, endTime, totalFee FROM rental_archive
+      WHERE endTime >= DATE_FORMAT(CURDATE() - INTERVAL 11 MONTH, '%Y-%m-01')) h
+GROUP BY h.userId, EXTRACT(YEAR_MONTH FROM h.endTime)
+ON DUPLICATE KEY UPDATE rentals = VALUES(rentals), spend = VALUES(spend);
@@ -0,0 +1,129 @@
+-- =====================================================================
+-- rental 테이블 월별 파티셔닝 (선택 적용, MariaDB 10.3+)
+--
+--   mysql rentalsystem < db/sql/rental_partitioning.sql
+--   CALL rental_partition_init('2024-01-01', '2026-12-01');   -- 기존 데이터 범위 + 앞으로 쓸 달까지
+--
+-- - startTime 의 월 단위 RANGE COLUMNS 파티션. 활성 대여 조회는 RentalRepository 가
+--   'startTime >= (가장 오래된 활성 대여 시작 시각)' 조건을 붙이므로 최근 파티션만 읽음
+-- - 지난 달 파티션은 rental_detach_partitions 로 rental_archive 에 옮긴 뒤 DROP PARTITION
+--   (행 단위 DELETE 가 아니므로 잠금/undo 로그 없이 즉시 정리됨)
+-- - 비교용 벤치마크: main.loadgen.PartitionBenchmark
+-- =====================================================================
+
+-- 1) InnoDB 파티션 테이블은 외래 키를 지원하지 않으므로 rental 의 FK 를 제거 (userId/carId 인덱스는 남음)
+--    FK 이름이 다르면 SHOW CREATE TABLE rental 로 확인 후 수정
+ALTER TABLE rental DROP FOREIGN KEY rental_ibfk_1, DROP FOREIGN KEY rental_ibfk_2;
+
+-- 사용자 삭제 시 대여 기록도 함께 삭제하던 ON DELETE CASCADE 를 트리거로 대체
+DROP TRIGGER IF EXISTS user_delete_rentals;
+CREATE TRIGGER user_delete_rentals AFTER DELETE ON user
+    FOR EACH ROW DELETE FROM rental WHERE userId = OLD.id;
+
+-- 2) 파티션 키(startTime)는 모든 UNIQUE 키에 포함되어야 하므로 PK 를 (id, startTime) 로 변경
+ALTER TABLE rental DROP PRIMARY KEY, ADD PRIMARY KEY (id, startTime);
+
+DELIMITER $$
+
+-- 3) [fromMonth, toMonth] 의 월별 파티션 + pmax 로 테이블 재구성 (최초 1회, 데이터 복사가 일어나므로 점검 시간에 실행)
+DROP PROCEDURE IF EXISTS rental_partition_init $$
+CREATE PROCEDURE rental_partition_init(IN fromMonth DATE, IN toMonth DATE)
+BEGIN
+    DECLARE m DATE DEFAULT DATE_FORMAT(fromMonth, '%Y-%m-01');
+    DECLARE parts TEXT DEFAULT '';
+
+    -- 첫 파티션은 fromMonth 이전 데이터도 모두 받음
+    WHILE m <= toMonth DO
+        SET parts = CONCAT(parts, 'PARTITION p', DATE_FORMAT(m, '%Y%m'),
+                           ' VALUES LESS THAN (''', DATE_ADD(m, INTERVAL 1 MONTH), '''), ');
+        SET m = DATE_ADD(m, INTERVAL 1 MONTH);
+    END WHILE;
+
+    SET @ddl = CONCAT('ALTER TABLE rental PARTITION BY RANGE COLUMNS (startTime) (',
+                      parts, 'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+    PREPARE stmt FROM @ddl;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END $$
+
+-- 4) 다음 달 파티션 추가 (pmax 를 분할, pmax 가 비어 있으면 데이터 이동 없음)
+DROP PROCEDURE IF EXISTS rental_add_month_partition $$
+CREATE PROCEDURE rental_add_month_partition(IN month DATE)
+BEGIN
+    DECLARE m DATE DEFAULT DATE_FORMAT(month, '%Y-%m-01');
+    DECLARE existing INT;
+
+    SELECT COUNT(*) INTO existing FROM information_schema.PARTITIONS
+     WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'rental'
+       AND PARTITION_NAME = CONCAT('p', DATE_FORMAT(m, '%Y%m'));
+
+    IF existing = 0 THEN
+        SET @ddl = CONCAT('ALTER TABLE rental REORGANIZE PARTITION pmax INTO (',
+                          'PARTITION p', DATE_FORMAT(m, '%Y%m'),
+                          ' VALUES LESS THAN (''', DATE_ADD(m, INTERVAL 1 MONTH), '''), ',
+                          'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END $$
+
+-- 5) cutoff 이전에 끝나는 파티션을 rental_archive 로 옮기고 DROP PARTITION
+--    아직 반납되지 않은(RENTED) 대여가 남아 있는 파티션은 건너뜀
+DROP PROCEDURE IF EXISTS rental_detach_partitions $$
+CREATE PROCEDURE rental_detach_partitions(IN cutoff DATE)
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE pname VARCHAR(64);
+    DECLARE parts CURSOR FOR
+        SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+         WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'rental'
+           AND PARTITION_NAME <> 'pmax'
+           AND CAST(TRIM(BOTH '''' FROM PARTITION_DESCRIPTION) AS DATETIME) <= cutoff
+         ORDER BY PARTITION_ORDINAL_POSITION;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+
+    OPEN parts;
+    detach_loop: LOOP
+        FETCH parts INTO pname;
+        IF done THEN
+            LEAVE detach_loop;
+        END IF;
+
+        SET @sql = CONCAT('SELECT COUNT(*) INTO @active FROM rental PARTITION (', pname, ') WHERE status = ''RENTED''');
+        PREPARE stmt FROM @sql;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+
+        IF @active > 0 THEN
+            SELECT CONCAT(pname, ': 반납되지 않은 대여 ', @active, '건이 있어 건너뜀') AS skipped;
+        ELSE
+            SET @sql = CONCAT(
+                'INSERT INTO rental_archive (id, userId, carId, startTime, endTime, status, rentalDays, feeStrategy, ',
+                '  membership, options, baseFee, optionFee, discount, penalty, totalFee, archivedAt) ',
+                'SELECT id, userId, carId, startTime, endTime, status, rentalDays, feeStrategy, ',
+                '  membership, options, baseFee, optionFee, discount, penalty, totalFee, NOW() ',
+                'FROM rental PARTITION (', pname, ')');
+            PREPARE stmt FROM @sql;
+            EXECUTE stmt;
+            DEALLOCATE PREPARE stmt;
+
+            SET @sql = CONCAT('ALTER TABLE rental DROP PARTITION ', pname);
+            PREPARE stmt FROM @sql;
+            EXECUTE stmt;
+            DEALLOCATE PREPARE stmt;
+        END IF;
+    END LOOP;
+    CLOSE parts;
+END $$
+
+-- 6) 매월 1일: 두 달 뒤 파티션 미리 추가 + 13개월 지난 파티션 보관 이동 (SET GLOBAL event_scheduler = ON 필요)
+DROP EVENT IF EXISTS rental_partition_maintenance $$
+CREATE EVENT rental_partition_maintenance
+    ON SCHEDULE EVERY 1 MONTH STARTS DATE_ADD(DATE_FORMAT(CURDATE(), '%Y-%m-01'), INTERVAL 1 MONTH)
+DO BEGIN
+    CALL rental_add_month_partition(DATE_ADD(CURDATE(), INTERVAL 2 MONTH));
+    CALL rental_detach_partitions(DATE_FORMAT(DATE_SUB(CURDATE(), INTERVAL 13 MONTH), '%Y-%m-01'));
+END $$
+
+DELIMITER ;
@@ -1,12 +1,22 @@
 package domain.admin;
 
 import db.DBConnection;
+import domain.car.Car;
+import domain.car.FleetStatistics;
 import domain.car.carFactory.CarStatus;
 import domain.car.carFactory.CarType;
+import domain.rental.RentalHistoryFilter;
+import domain.rental.RentalHistoryPage;
+import domain.rental.RentalRepository;
 import domain.user.User;
 import domain.user.UserService;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -26,8 +36,14 @@ public class AdminService {
     private static final String RENTAL_TBL = "rental";
     // =====================================
 
+    // 대여 이력 출력 시 한 번에 읽는 건수
+    private static final int HISTORY_PAGE_SIZE = 100;
+    // 차량 일괄 등록 시 JDBC 배치 크기
+    private static final int IMPORT_BATCH_SIZE = 500;
+
     private final DBConnection db;
     private final UserService userService;
+    private final RentalRepository rentalRepository;
 
     // 현재 로그인된 관리자 상태
     private boolean adminLoggedIn = false;
@@ -36,6 +52,8 @@ public class AdminService {
     public AdminService(DBConnection db, UserService userService) {
         this.db = db;
         this.userService = userService;
+        // 인메모리 백엔드(db == null)에서는 대여 이력 조회를 지원하지 않음
+        this.rentalRepository = db == null ? null : new RentalRepository(db);
     }
 
     // =====================================================================
@@ -93,7 +111,7 @@ public class AdminService {
      * car 테이블 스키마:
      *  - id              INT AUTO_INCREMENT PK
      *  - type            ENUM('SEDAN', 'SUV', 'BIKE')
-     *  - status          VARCHAR(20)   (AVAILABLE, UNAVAILABLE)
+     *  - status          VARCHAR(20)   (AVAILABLE, UNAVAILABLE, RETIRED)
      *  - dailyRentalFee  DECIMAL(10,2)
      *  - name            VARCHAR(100)  차량 이름
      */
@@ -145,7 +163,7 @@ public class AdminService {
      * car 테이블 예시 스키마:
      *  - id              VARCHAR(50)   PK
      *  - type            VARCHAR(20)   (SEDAN, SUV ...)
-     *  - status          VARCHAR(20)   (AVAILABLE, UNAVAILABLE)
+     *  - status          VARCHAR(20)   (AVAILABLE, UNAVAILABLE, RETIRED)
      *  - dailyRentalFee  DECIMAL(10,2)
      *  - name            VARCHAR(100)  차량 이름
      */
@@ -194,34 +212,188 @@ public class AdminService {
     }
 
     /**
-     * 차량 삭제 기능 (ID로 삭제).
-     * 현재 대여 중인 차량(status='RENTED')은 삭제할 수 없습니다.
-     * 과거 대여 기록이 있는 경우, 해당 기록을 먼저 삭제한 후 차량을 삭제합니다.
+     * 차량 CSV 일괄 등록 (type,name,dailyRentalFee).
+     *
+     * - 모든 행을 메모리에서 먼저 검증 (타입/이름/요금, 파일 내 이름 중복)
+     * - 기존 차량 이름은 SELECT 1회로 미리 읽어 중복 검사 (행마다 조회하지 않음)
+     * - 통과한 행만 하나의 트랜잭션 안에서 IMPORT_BATCH_SIZE 건씩 배치 INSERT (실패 시 전체 롤백)
+     * - 첫 줄이 "type" 으로 시작하면 헤더로 보고 건너뜀, 빈 줄/'#' 주석 줄은 무시
+     *
+     * @throws IOException 파일을 읽을 수 없을 때
      */
-    public boolean deleteCarById(int carId) {
-        // 1) 현재 대여 중인지 확인 (status='RENTED'인 대여 기록이 있는지)
-        String checkActiveRentalSql = "SELECT id FROM " + RENTAL_TBL + " WHERE carId = :carId AND status = 'RENTED' LIMIT 1";
-        if (db.queryForObject(checkActiveRentalSql, Map.of("carId", carId)).isPresent()) {
-            throw new IllegalStateException("현재 대여 중인 차량은 삭제할 수 없습니다.");
+    public CarImportReport importCars(Path csvFile) throws IOException {
+        CarImportReport report = new CarImportReport();
+
+        // 1) 기존 차량 이름 미리 읽기 (DB 의 기본 collation 처럼 대소문자 구분 없이 비교)
+        Set<String> names = new HashSet<>();
+        for (Map<String, Object> row : db.queryForList("SELECT name FROM " + CAR_TBL, Map.of())) {
+            names.add(Objects.toString(row.get("name"), "").toLowerCase(Locale.ROOT));
         }
 
-        // 2) 과거 대여 기록 삭제 (외래키 제약 조건 해결을 위해)
-        String deleteRentalsSql = "DELETE FROM " + RENTAL_TBL + " WHERE carId = :carId";
-        db.execute(deleteRentalsSql, Map.of("carId", carId));
+        // 2) 행별 검증
+        List<Map<String, Object>> batch = new ArrayList<>();
+        int dataRows = 0;
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1); // 엑셀 저장 시 붙는 BOM 제거
+                }
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")
+                        || (lineNumber == 1 && trimmed.toLowerCase().startsWith("type"))) {
+                    continue;
+                }
+                dataRows++;
+
+                try {
+                    Map<String, Object> params = parseCarRow(trimmed);
+                    String name = (String) params.get("name");
+                    if (!names.add(name.toLowerCase(Locale.ROOT))) {
+                        throw new IllegalArgumentException("이미 존재하거나 파일 안에서 중복된 차량 이름입니다: " + name);
+                    }
+                    batch.add(params);
+                } catch (IllegalArgumentException e) {
+                    report.addError(lineNumber, line, e.getMessage());
+                }
+            }
+        }
+        report.setDataRows(dataRows);
+
+        // 3) 배치 INSERT (하나의 트랜잭션)
+        if (!batch.isEmpty()) {
+            String insertSql =
+                    "INSERT INTO " + CAR_TBL +
+                            " (type, status, dailyRentalFee, name) " +
+                            "VALUES (:type, :status, :dailyRentalFee, :name)";
+            int rows = db.inTransaction(() -> db.executeBatch(insertSql, batch, IMPORT_BATCH_SIZE));
+            report.setImported(rows);
+        }
+        return report;
+    }
 
-        // 3) 차량 삭제
-        String sql = "DELETE FROM " + CAR_TBL + " WHERE id = :id";
-        int rows = db.execute(sql, Map.of("id", carId));
+    /** CSV 1행(type,name,dailyRentalFee)을 검증해 INSERT 파라미터로 변환 (이름은 따옴표로 감쌀 수 있음) */
+    private Map<String, Object> parseCarRow(String line) {
+        List<String> fields = splitCsvLine(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("컬럼 수가 올바르지 않습니다 (type,name,dailyRentalFee): " + fields.size() + "개");
+        }
 
-        if (rows > 0) {
-            return true;
-        } else {
+        CarType type;
+        try {
+            type = CarType.valueOf(fields.get(0).trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 차량 타입입니다: " + fields.get(0).trim());
+        }
+
+        String name = fields.get(1).trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("차량 이름은 필수입니다.");
+        }
+        if (name.length() > 100) {
+            throw new IllegalArgumentException("차량 이름은 100자 이하여야 합니다.");
+        }
+
+        BigDecimal fee;
+        try {
+            fee = new BigDecimal(fields.get(2).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("일일 대여료가 숫자가 아닙니다: " + fields.get(2).trim());
+        }
+        if (fee.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("일일 대여료는 0보다 커야 합니다.");
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("type", type.name());
+        params.put("status", CarStatus.AVAILABLE.name());
+        params.put("dailyRentalFee", fee);
+        params.put("name", name);
+        return params;
+    }
+
+    /** 쉼표로 필드 분리 (큰따옴표로 감싼 필드 안의 쉼표/"" 처리) */
+    private List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * 차량 삭제 기능 (ID로 퇴역 처리, 소프트 삭제).
+     * 현재 대여 중인 차량(status='RENTED')은 삭제할 수 없습니다.
+     * 대여 이력(정산 자료)을 보존하기 위해 car/rental 행은 지우지 않고 차량 상태만 RETIRED 로 바꿉니다.
+     * 퇴역 차량은 차량 목록/대여 대상에서 제외되며, 오래된 대여 이력은 RentalArchiveJob 이 따로 옮깁니다.
+     *
+     * 확인과 갱신은 한 트랜잭션에서 car 행을 잠근 채 실행합니다. 대여도 같은 행을 잠그고(RentalRepository.claimCar)
+     * 퇴역 여부를 확인하므로, 대여와 퇴역이 동시에 들어와도 둘 중 하나만 성공합니다.
+     */
+    public boolean retireCarById(int carId) {
+        boolean retiredNow = db.inTransaction(() -> {
+            // 1) car 행 잠금 (같은 차량의 대여 트랜잭션과 직렬화)
+            if (db.queryForObject("SELECT id FROM " + CAR_TBL + " WHERE id = :id FOR UPDATE",
+                    Map.of("id", carId)).isEmpty()) {
+                return false;
+            }
+
+            // 2) 현재 대여 중인지 확인 (잠금을 얻은 뒤이므로 앞서 커밋된 대여가 반드시 보임)
+            String checkActiveRentalSql = "SELECT id FROM " + RENTAL_TBL +
+                    " WHERE carId = :carId AND status = 'RENTED' LIMIT 1 FOR UPDATE";
+            if (db.queryForObject(checkActiveRentalSql, Map.of("carId", carId)).isPresent()) {
+                throw new IllegalStateException("현재 대여 중인 차량은 삭제할 수 없습니다.");
+            }
+
+            // 3) 대여 가능 상태일 때만 퇴역
+            String sql = "UPDATE " + CAR_TBL + " SET status = :retired WHERE id = :id AND status = :available";
+            Map<String, Object> params = new HashMap<>();
+            params.put("retired", CarStatus.RETIRED.name());
+            params.put("available", CarStatus.AVAILABLE.name());
+            params.put("id", carId);
+            return db.execute(sql, params) > 0;
+        });
+        if (!retiredNow) {
             return false;
         }
+
+        // 4) 런타임 통계에서 제외
+        db.queryForObject("SELECT type FROM " + CAR_TBL + " WHERE id = :id", Map.of("id", carId))
+                .ifPresent(row -> {
+                    Car retired = new Car(String.valueOf(carId), CarType.valueOf(String.valueOf(row.get("type"))));
+                    retired.retire();
+                    FleetStatistics.getInstance().observe(retired);
+                });
+        return true;
     }
 
     /**
-     * 차량 이름으로 차량 정보 조회 (삭제용).
+     * 차량 이름으로 차량 정보 조회 (삭제용, 퇴역 차량 포함).
      */
     public Optional<Map<String, Object>> findCarByName(String carName) {
         String sql = "SELECT id, name, type, status FROM " + CAR_TBL + " WHERE name = :name";
@@ -229,10 +401,10 @@ public class AdminService {
     }
 
     /**
-     * 모든 차량 목록 조회 (이름, 상태 포함).
+     * 모든 차량 목록 조회 (이름, 상태 포함, 퇴역 차량 제외).
      */
     public List<Map<String, Object>> getAllCarsWithStatus() {
-        String sql = "SELECT id, name, type, status FROM " + CAR_TBL + " ORDER BY id";
+        String sql = "SELECT id, name, type, status FROM " + CAR_TBL + " WHERE status <> 'RETIRED' ORDER BY id";
         return db.queryForList(sql, Map.of());
     }
 
@@ -280,32 +452,46 @@ public class AdminService {
     public void printAllRentalRecords() {
         ensureAdminLoggedIn();
 
-        String sql = "SELECT * FROM " + RENTAL_TBL + " ORDER BY id DESC";
-        var rows = db.queryForList(sql, Map.of());
-
-        if (rows.isEmpty()) {
+        // 전체를 한 번에 적재하지 않고 키셋 페이지 단위로 읽으며 출력
+        RentalHistoryPage page = getRentalRecordsPage(RentalHistoryFilter.all(), null, HISTORY_PAGE_SIZE);
+        if (page.getRows().isEmpty()) {
             System.out.println("[관리자] 등록된 대여 이력이 없습니다.");
             return;
         }
 
         System.out.println("==== 전체 대여 이력 ====");
-        for (Map<String, Object> row : rows) {
-            Object idObj = row.get("id");
-            long id = (idObj instanceof Number) ? ((Number) idObj).longValue() : 0L;
-
-            String userId = Objects.toString(row.get("userId"), "");
-            String carId  = Objects.toString(row.get("carId"), "");
-            Object start  = row.get("startTime");
-            Object end    = row.get("endTime");
-
-            System.out.printf("#%d | user=%s, car=%s, 시작=%s, 종료=%s%n",
-                    id, userId, carId, start, end);
+        while (true) {
+            for (Map<String, Object> row : page.getRows()) {
+                Object idObj = row.get("id");
+                long id = (idObj instanceof Number) ? ((Number) idObj).longValue() : 0L;
+
+                String userId = Objects.toString(row.get("userId"), "");
+                String carId  = Objects.toString(row.get("carId"), "");
+                Object start  = row.get("startTime");
+                Object end    = row.get("endTime");
+
+                System.out.printf("#%d | user=%s, car=%s, 시작=%s, 종료=%s%n",
+                        id, userId, carId, start, end);
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = getRentalRecordsPage(RentalHistoryFilter.all(), page.getNextCursor(), HISTORY_PAGE_SIZE);
         }
     }
 
+    /**
+     * 대여 이력 키셋 페이지 조회 (사용자/차량/상태/기간 필터, 차량 이름·사용자 이름 포함).
+     * 다음 페이지는 이전 페이지의 nextCursor 를 afterId 로 넘깁니다.
+     */
+    public RentalHistoryPage getRentalRecordsPage(RentalHistoryFilter filter, Long afterId, int pageSize) {
+        return rentalRepository.findHistoryPage(filter, afterId, pageSize);
+    }
+
     /**
      * 전체 대여 기록 조회 (차량 이름, 사용자 이름 포함).
      * 차량 이름, 사용자 이름, 대여 날짜, 반납 날짜, 상태를 표시하고 연체된 경우 빨간색 이모지 표시.
+     * 전체를 한 번에 적재하므로 화면 조회는 getRentalRecordsPage(...)를 사용합니다.
      */
     public List<Map<String, Object>> getAllRentalRecordsWithCarName() {
         String sql = 
@@ -0,0 +1,43 @@
+package domain.admin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 차량 CSV 일괄 등록 결과 (등록 건수 + 행별 오류 목록).
+ */
+public class CarImportReport {
+
+    /** 등록하지 못한 행 1건 (CSV 줄 번호, 원문, 사유) */
+    public static class RowError {
+        private final int lineNumber;
+        private final String line;
+        private final String message;
+
+        public RowError(int lineNumber, String line, String message) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLineNumber() { return lineNumber; }
+        public String getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+
+    private int dataRows;
+    private int imported;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void setDataRows(int dataRows) { this.dataRows = dataRows; }
+    void setImported(int imported) { this.imported = imported; }
+    void addError(int lineNumber, String line, String message) {
+        errors.add(new RowError(lineNumber, line, message));
+    }
+
+    /** 헤더/빈 줄을 제외한 데이터 행 수 */
+    public int getDataRows() { return dataRows; }
+    public int getImported() { return imported; }
+    public List<RowError> getErrors() { return Collections.unmodifiableList(errors); }
+}
@@ -40,6 +40,7 @@ public class Car {
     
     public void occupy() { this.status = CarStatus.UNAVAILABLE; }
     public void release() { this.status = CarStatus.AVAILABLE; }
+    public void retire() { this.status = CarStatus.RETIRED; }
     
     
     @Override public String toString() {
@@ -14,6 +14,7 @@ public class CarInventory {
     public CarInventory(CarRepository carRepository) {
         this.carRepository = carRepository;
         this.cars = carRepository.findAllCars(); // DB에서 전체 차량 로드
+        this.cars.forEach(FleetStatistics.getInstance()::observe);
     }
 
     /** 사용 가능한 차량 리스트 반환 */
@@ -43,6 +44,7 @@ public class CarInventory {
             Car car = opt.get();
             car.occupy();                 // 상태 변경
             carRepository.update(car);    // DB 업데이트
+            FleetStatistics.getInstance().observe(car);
         } else {
             throw new IllegalArgumentException("존재하지 않는 차량 ID입니다: " + carId);
         }
@@ -56,6 +58,7 @@ public class CarInventory {
             Car car = opt.get();
             car.release();
             carRepository.update(car);
+            FleetStatistics.getInstance().observe(car);
         } else {
             throw new IllegalArgumentException("존재하지 않는 차량 ID입니다: " + carId);
         }
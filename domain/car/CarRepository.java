@@ -26,8 +26,8 @@ public class CarRepository {
     public List<Car> findAllCars() {
         List<Car> cars = new ArrayList<>();
 
-        // 컬럼명 dailyrentalfee로 수정, name 컬럼 추가
-        String sql = "SELECT id, type, status, dailyrentalfee, name FROM car";
+        // 컬럼명 dailyrentalfee로 수정, name 컬럼 추가 (퇴역 차량은 목록에서 제외)
+        String sql = "SELECT id, type, status, dailyrentalfee, name FROM car WHERE status <> 'RETIRED'";
 
         try (Connection conn = db.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql);
@@ -66,6 +66,7 @@ public class CarRepository {
                 }
 
                 cars.add(car);
+                FleetStatistics.getInstance().observe(car);
             }
 
         } catch (SQLException e) {
@@ -76,10 +77,10 @@ public class CarRepository {
     }
 
     /**
-     * 차량 상태 업데이트 (대여/반납)
+     * 차량 상태 업데이트 (대여/반납). 퇴역 처리된 차량은 대여/반납 상태로 되살리지 않습니다.
      */
     public void update(Car car) {
-        String sql = "UPDATE car SET status=? WHERE id=?";
+        String sql = "UPDATE car SET status=? WHERE id=? AND status <> 'RETIRED'";
 
         try (Connection conn = db.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
@@ -88,6 +89,7 @@ public class CarRepository {
             ps.setString(2, car.id());
 
             ps.executeUpdate();
+            FleetStatistics.getInstance().observe(car);
 
         } catch (SQLException e) {
             System.err.println("❌ 차량 상태 업데이트 실패: " + e.getMessage());
@@ -133,8 +135,11 @@ public class CarRepository {
 
                 if ("UNAVAILABLE".equalsIgnoreCase(status)) {
                     car.occupy();
+                } else if ("RETIRED".equalsIgnoreCase(status)) {
+                    car.retire();
                 }
 
+                FleetStatistics.getInstance().observe(car);
                 return car;
             }
 
@@ -0,0 +1,202 @@
+package domain.car;
+
+import domain.car.carFactory.CarStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연(write-behind) 차량 상태의 선행 기록(journal) 파일.
+ *
+ * 한 줄에 "차량ID 상태" 하나씩 덧붙이고 디스크 동기화(force) 후에 반환하므로, append 가 끝난 상태 변경은
+ * 프로세스가 비정상 종료되어도 다음 기동 시 recover() 로 복구됩니다.
+ * 기록(write)과 동기화(awaitSynced)는 나눠 호출할 수 있으며, 동기화는 group commit 으로 처리합니다:
+ * 먼저 기다리기 시작한 스레드 하나가 잠금 밖에서 force 를 한 번 하고, 그 사이 기록된 줄을 기다리던 스레드는 함께 깨어납니다.
+ * DB 반영이 끝나면 rewrite() 로 아직 반영되지 않은 항목만 남겨 파일 크기를 유지합니다.
+ */
+public class CarStatusJournal implements AutoCloseable {
+
+    private final Path path;
+    // ====== 기록 상태 (this 잠금) ======
+    private FileChannel channel;
+    // 지금까지 기록한 줄 수 (write 가 돌려주는 번호)
+    private long written;
+
+    // ====== group commit (syncLock 잠금) ======
+    private final Object syncLock = new Object();
+    // 디스크 동기화가 끝난 줄 번호
+    private long synced;
+    // force 를 맡은 스레드가 있는지
+    private boolean syncing;
+
+    public CarStatusJournal(Path path) {
+        this.path = path;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.channel = open(path);
+            terminateTornLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("차량 상태 저널 열기 실패: " + path, e);
+        }
+    }
+
+    public Path getPath() { return path; }
+
+    /**
+     * 저널에 남아 있는 상태 변경을 읽습니다 (같은 차량은 마지막 기록이 우선).
+     * 마지막 줄이 기록 도중 끊긴 경우 등 해석할 수 없는 줄은 건너뜁니다.
+     */
+    public synchronized Map<String, CarStatus> recover() {
+        Map<String, CarStatus> pending = new LinkedHashMap<>();
+        try {
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            for (String line : lines) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length != 2) continue;
+                try {
+                    pending.put(parts[0], CarStatus.valueOf(parts[1]));
+                } catch (IllegalArgumentException ignored) {
+                    // 끊긴 줄
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("차량 상태 저널 읽기 실패: " + path, e);
+        }
+        return pending;
+    }
+
+    /** 상태 변경 1건을 기록하고 디스크에 동기화합니다. */
+    public void append(String carId, CarStatus status) {
+        awaitSynced(write(carId, status));
+    }
+
+    /**
+     * 상태 변경 1건을 기록만 합니다 (디스크 동기화는 awaitSynced 로).
+     * @return 기록 번호 (awaitSynced 로 동기화 완료를 기다릴 수 있음)
+     */
+    public synchronized long write(String carId, CarStatus status) {
+        try {
+            ByteBuffer buf = ByteBuffer.wrap((carId + " " + status.name() + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+            return ++written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("차량 상태 저널 기록 실패: " + path, e);
+        }
+    }
+
+    /** ticket 번호까지의 기록이 디스크에 동기화될 때까지 대기 (필요하면 이 스레드가 force) */
+    public void awaitSynced(long ticket) {
+        synchronized (syncLock) {
+            while (synced < ticket && syncing) {
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("차량 상태 저널 동기화 대기 중 인터럽트되었습니다.", e);
+                }
+            }
+            if (synced >= ticket) return;
+            syncing = true;
+        }
+
+        long target;
+        FileChannel ch;
+        synchronized (this) {
+            target = written;
+            ch = channel;
+        }
+        try {
+            ch.force(false);
+        } catch (IOException e) {
+            boolean replaced;
+            synchronized (this) {
+                replaced = channel != ch;
+            }
+            // rewrite 로 파일이 교체되며 닫힌 경우: 교체된 파일은 이미 동기화되어 있음
+            if (!replaced) {
+                synchronized (syncLock) {
+                    syncing = false;
+                    syncLock.notifyAll();
+                }
+                throw new UncheckedIOException("차량 상태 저널 동기화 실패: " + path, e);
+            }
+        }
+        synchronized (syncLock) {
+            synced = Math.max(synced, target);
+            syncing = false;
+            syncLock.notifyAll();
+        }
+    }
+
+    /**
+     * 저널을 remaining 내용으로 교체합니다 (임시 파일에 쓴 뒤 원자적 이동).
+     * 호출자는 append 와 같은 잠금 안에서 "아직 DB 에 반영되지 않은 전체 항목"을 넘겨야 합니다.
+     */
+    public synchronized void rewrite(Map<String, CarStatus> remaining) {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            StringBuilder sb = new StringBuilder();
+            remaining.forEach((carId, status) -> sb.append(carId).append(' ').append(status.name()).append('\n'));
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buf = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+                while (buf.hasRemaining()) {
+                    out.write(buf);
+                }
+                out.force(true);
+            }
+            channel.close();
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = open(path);
+            // 교체된 파일에 지금까지 기록한 (아직 반영되지 않은) 항목이 모두 동기화되어 있음
+            synchronized (syncLock) {
+                synced = Math.max(synced, written);
+                syncLock.notifyAll();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("차량 상태 저널 정리 실패: " + path, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("⚠️ 차량 상태 저널 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    /** 기록 도중 끊긴 마지막 줄이 있으면 줄을 끝내서, 이후 기록이 그 줄에 이어 붙지 않게 합니다. */
+    private void terminateTornLine() throws IOException {
+        long size = channel.size();
+        if (size == 0) return;
+        ByteBuffer last = ByteBuffer.allocate(1);
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            in.read(last, size - 1);
+        }
+        if (last.get(0) != '\n') {
+            channel.write(ByteBuffer.wrap(new byte[] {'\n'}));
+            channel.force(false);
+        }
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
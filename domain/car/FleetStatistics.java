@@ -0,0 +1,86 @@
+package domain.car;
+
+import domain.car.carFactory.CarStatus;
+import domain.car.carFactory.CarType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Singleton Pattern: CarType 별 전체/가용 차량 수 (락 없는 카운터).
+ *
+ * CarRepository/CarInventory 가 차량을 읽거나 상태를 바꿀 때마다 observe(car)를 호출합니다.
+ * 차량 id 별 마지막 상태를 기억하므로 같은 차량을 여러 번 관찰해도 중복 집계되지 않습니다.
+ */
+public class FleetStatistics implements FleetStatisticsMXBean {
+
+    private static final FleetStatistics INSTANCE = new FleetStatistics();
+
+    private final Map<String, CarStatus> statusByCarId = new ConcurrentHashMap<>();
+    private final Map<CarType, LongAdder> totalByType = new EnumMap<>(CarType.class);
+    private final Map<CarType, LongAdder> availableByType = new EnumMap<>(CarType.class);
+
+    private FleetStatistics() {
+        // EnumMap 은 생성 후 구조가 바뀌지 않으므로 읽기만 하는 동안은 스레드 안전
+        for (CarType type : CarType.values()) {
+            totalByType.put(type, new LongAdder());
+            availableByType.put(type, new LongAdder());
+        }
+    }
+
+    public static FleetStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /** 차량의 현재 상태를 반영합니다 (처음 보는 차량이면 전체 수에 추가, 퇴역 차량은 전체 수에서 제외). */
+    public void observe(Car car) {
+        if (car == null) return;
+        CarType type = car.type();
+        // compute 는 키 단위로 원자적이므로 같은 차량의 동시 관찰도 한 번씩만 반영됨
+        statusByCarId.compute(car.id(), (id, previous) -> {
+            CarStatus current = car.status();
+            totalByType.get(type).add(counted(current) - counted(previous));
+            availableByType.get(type).add(available(current) - available(previous));
+            return current;
+        });
+    }
+
+    private static int counted(CarStatus status) {
+        return status != null && status != CarStatus.RETIRED ? 1 : 0;
+    }
+
+    private static int available(CarStatus status) {
+        return status == CarStatus.AVAILABLE ? 1 : 0;
+    }
+
+    // ====== 조회 (MXBean) ======
+
+    @Override
+    public long getTotalCars() {
+        return totalByType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public long getAvailableCars() {
+        return availableByType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public Map<String, Long> getTotalCarsByType() {
+        return toNamedMap(totalByType);
+    }
+
+    @Override
+    public Map<String, Long> getAvailableCarsByType() {
+        return toNamedMap(availableByType);
+    }
+
+    private Map<String, Long> toNamedMap(Map<CarType, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((type, counter) -> result.put(type.name(), counter.sum()));
+        return result;
+    }
+}
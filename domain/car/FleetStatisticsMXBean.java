@@ -0,0 +1,14 @@
+package domain.car;
+
+import java.util.Map;
+
+/**
+ * JMX 로 노출되는 차량(플릿) 통계. 맵의 키는 CarType 이름입니다.
+ */
+public interface FleetStatisticsMXBean {
+    long getTotalCars();
+    long getAvailableCars();
+
+    Map<String, Long> getTotalCarsByType();
+    Map<String, Long> getAvailableCarsByType();
+}
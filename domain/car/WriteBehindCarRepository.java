@@ -0,0 +1,238 @@
+package domain.car;
+
+import db.DBConnection;
+import domain.car.carFactory.CarStatus;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 차량 상태 쓰기 지연(write-behind) 리포지토리.
+ *
+ * update(car)는 DB 왕복 없이 저널 기록 + 메모리 대기열 등록 후 바로 반환하고, 대기열은
+ *  - 대기 차량 수가 batchSize 에 도달하거나
+ *  - flushIntervalMillis 가 지날 때마다
+ * UPDATE ... CASE 한 문장으로 묶어 반영됩니다. 같은 차량의 상태 변경은 마지막 상태 하나로 합쳐집니다.
+ *
+ * 조회(findAllCars/findById)는 아직 반영되지 않은 상태를 덮어써서 돌려주므로 호출자는 항상 최신 상태를 봅니다.
+ * 저널은 반환 전에 디스크에 동기화되므로, 비정상 종료 시에도 다음 start() 에서 남은 변경을 먼저 반영합니다.
+ */
+public class WriteBehindCarRepository extends CarRepository {
+
+    // UPDATE ... CASE 한 문장에 담는 최대 차량 수
+    private static final int MAX_STATEMENT_ROWS = 500;
+
+    private final DBConnection db;
+    private final CarStatusJournal journal;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    // 대기열/저널 변경은 이 잠금 안에서만 (저널 내용 = pending + inFlight 를 유지)
+    private final Object lock = new Object();
+    private final Map<String, CarStatus> pending = new LinkedHashMap<>();
+    // 반영 중인 묶음 (반영이 끝나기 전까지 조회 시 덮어쓰기에 사용)
+    private volatile Map<String, CarStatus> inFlight = Map.of();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+
+    public WriteBehindCarRepository(DBConnection db, CarStatusJournal journal, int batchSize, long flushIntervalMillis) {
+        super(db);
+        if (batchSize <= 0 || flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("batchSize and flushIntervalMillis must be > 0");
+        }
+        this.db = db;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    // =================================================================
+    // 시작 / 종료
+    // =================================================================
+
+    /** 저널에 남은 변경을 복구·반영한 뒤 주기 반영을 시작합니다. */
+    public synchronized void start() {
+        if (scheduler != null) return;
+
+        Map<String, CarStatus> recovered = journal.recover();
+        if (!recovered.isEmpty()) {
+            synchronized (lock) {
+                recovered.forEach(pending::putIfAbsent);
+            }
+            System.out.printf("♻️ 차량 상태 저널 복구: %d건%n", recovered.size());
+        }
+        flush();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "car-status-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** 주기 반영을 멈추고 남은 변경을 모두 반영합니다 (반영 실패분은 저널에 남아 다음 기동 시 복구). */
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+        flush();
+        journal.close();
+    }
+
+    // =================================================================
+    // CarRepository 재정의
+    // =================================================================
+
+    /**
+     * 상태 변경을 저널에 기록하고 대기열에 넣습니다 (DB 반영은 뒤에서 묶어서).
+     * 저널 디스크 동기화는 잠금 밖에서 기다리므로 동시에 들어온 변경들이 force 한 번을 나눠 씁니다.
+     */
+    @Override
+    public void update(Car car) {
+        int size;
+        long ticket;
+        synchronized (lock) {
+            ticket = journal.write(car.id(), car.status());
+            pending.put(car.id(), car.status());
+            size = pending.size();
+        }
+        journal.awaitSynced(ticket);
+        FleetStatistics.getInstance().observe(car);
+
+        if (size >= batchSize && flushRequested.compareAndSet(false, true)) {
+            ScheduledExecutorService s = scheduler;
+            if (s != null) {
+                s.execute(this::flushQuietly);
+            } else {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    @Override
+    public List<Car> findAllCars() {
+        List<Car> cars = super.findAllCars();
+        cars.forEach(this::applyUnflushed);
+        return cars;
+    }
+
+    @Override
+    public Car findById(String carId) {
+        Car car = super.findById(carId);
+        if (car != null) {
+            applyUnflushed(car);
+        }
+        return car;
+    }
+
+    // =================================================================
+    // 반영
+    // =================================================================
+
+    /**
+     * 대기 중인 변경을 DB 에 반영합니다.
+     * @return 반영한 차량 수 (실패 시 0, 실패한 변경은 대기열로 되돌려 다음 반영 때 재시도)
+     */
+    public synchronized int flush() {
+        flushRequested.set(false);
+        Map<String, CarStatus> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) return 0;
+            batch = new LinkedHashMap<>(pending);
+            pending.clear();
+            inFlight = batch;
+        }
+
+        try {
+            db.inTransaction(() -> writeBatch(batch));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                // 반영 중 들어온 더 최신 상태는 유지
+                batch.forEach(pending::putIfAbsent);
+                inFlight = Map.of();
+            }
+            System.err.println("❌ 차량 상태 일괄 반영 실패 (재시도 예정): " + e.getMessage());
+            return 0;
+        }
+
+        synchronized (lock) {
+            inFlight = Map.of();
+            journal.rewrite(pending);
+        }
+        return batch.size();
+    }
+
+    /** 반영 대기 중인 차량 수 */
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size() + inFlight.size();
+        }
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("❌ 차량 상태 반영 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * UPDATE car SET status = CASE id WHEN :id0 THEN :s0 ... END WHERE id IN (:id0, ...)
+     * 퇴역 처리된 차량은 지연된 반납 상태로 되살리지 않습니다.
+     */
+    private void writeBatch(Map<String, CarStatus> batch) {
+        List<Map.Entry<String, CarStatus>> entries = List.copyOf(batch.entrySet());
+        for (int from = 0; from < entries.size(); from += MAX_STATEMENT_ROWS) {
+            List<Map.Entry<String, CarStatus>> chunk =
+                    entries.subList(from, Math.min(from + MAX_STATEMENT_ROWS, entries.size()));
+
+            StringBuilder caseSql = new StringBuilder("UPDATE car SET status = CASE id");
+            StringBuilder inSql = new StringBuilder();
+            Map<String, Object> params = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                caseSql.append(" WHEN :id").append(i).append(" THEN :s").append(i);
+                inSql.append(i == 0 ? "" : ", ").append(":id").append(i);
+                params.put("id" + i, chunk.get(i).getKey());
+                params.put("s" + i, chunk.get(i).getValue().name());
+            }
+            caseSql.append(" ELSE status END WHERE id IN (").append(inSql).append(") AND status <> 'RETIRED'");
+            db.execute(caseSql.toString(), params);
+        }
+    }
+
+    private void applyUnflushed(Car car) {
+        CarStatus status;
+        synchronized (lock) {
+            status = pending.get(car.id());
+        }
+        if (status == null) {
+            status = inFlight.get(car.id());
+        }
+        if (status == null || car.status() == CarStatus.RETIRED) return;
+
+        if (status == CarStatus.UNAVAILABLE) {
+            car.occupy();
+        } else if (status == CarStatus.AVAILABLE) {
+            car.release();
+        }
+        FleetStatistics.getInstance().observe(car);
+    }
+}
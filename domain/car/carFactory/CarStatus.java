@@ -2,5 +2,7 @@ package domain.car.carFactory;
 
 
 public enum CarStatus{
-	AVAILABLE, UNAVAILABLE
+	AVAILABLE, UNAVAILABLE,
+	// 퇴역(소프트 삭제): 대여 이력 보존을 위해 행은 남기고 목록/대여 대상에서만 제외
+	RETIRED
 }
@@ -0,0 +1,49 @@
+package domain.rental;
+
+import domain.car.Car;
+import domain.car.carFactory.CarFactoryProvider;
+import domain.car.carFactory.CarStatus;
+import domain.car.carFactory.CarType;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 활성 대여 + 차량 정보 프로젝션 (rental ⨝ car 한 번의 JOIN 결과).
+ * 대여 목록 화면에서 차량마다 CarRepository.findById 를 다시 호출하지 않도록 필요한 차량 필드를 함께 담습니다.
+ */
+public class ActiveRentalView {
+    private final RentalRecord record;
+    private final String carName;
+    private final CarType carType;
+    private final BigDecimal dailyRentalFee;
+    private final CarStatus carStatus;
+
+    public ActiveRentalView(RentalRecord record, String carName, CarType carType,
+                            BigDecimal dailyRentalFee, CarStatus carStatus) {
+        this.record = Objects.requireNonNull(record, "record");
+        this.carType = Objects.requireNonNull(carType, "carType");
+        this.carName = carName != null ? carName : record.getCarId();
+        this.dailyRentalFee = dailyRentalFee != null ? dailyRentalFee : carType.baseRate();
+        this.carStatus = carStatus != null ? carStatus : CarStatus.UNAVAILABLE;
+    }
+
+    public RentalRecord getRecord() { return record; }
+    public Long getRentalId() { return record.getId(); }
+    public String getCarId() { return record.getCarId(); }
+    public String getCarName() { return carName; }
+    public CarType getCarType() { return carType; }
+    public BigDecimal getDailyRentalFee() { return dailyRentalFee; }
+    public CarStatus getCarStatus() { return carStatus; }
+
+    /** 반납 처리 등에 넘길 Car 객체 생성 (DB 조회 없이 프로젝션 값으로 구성) */
+    public Car toCar() {
+        Car car = CarFactoryProvider.getFactory(carType.name()).createCar(record.getCarId());
+        car.setDailyRentalFee(dailyRentalFee);
+        car.setName(carName);
+        if (carStatus == CarStatus.UNAVAILABLE) {
+            car.occupy();
+        }
+        return car;
+    }
+}
@@ -0,0 +1,131 @@
+package domain.rental;
+
+import domain.car.Car;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 반납 예정 시각이 지나는 순간 연체 콜백을 호출하는 스케줄러.
+ *
+ * 주기적으로 폴링하지 않고 RentalDueIndex 에서 다음 마감 시각을 O(log n)으로 찾아 그때까지만 대기합니다.
+ * 더 이른 마감의 대여가 새로 생기면(RentalEventListener) 즉시 깨어나 대기 시각을 다시 계산합니다.
+ * 각 대여는 최대 한 번만 알림되며, 시작 시점에 이미 연체 중이던 대여는 알림 대상이 아닙니다
+ * (해당 목록은 RentalDueIndex.overdue(...)로 조회).
+ * SimulatedClock 을 쓰면 대기 시간을 배율로 나누고, advance 를 놓치지 않도록 최대 1초씩만 대기합니다.
+ */
+public class OverdueAlertScheduler implements RentalEventListener {
+
+    private final RentalDueIndex index;
+    private final Consumer<RentalDue> onOverdue;
+    private final Clock clock;
+
+    // 시뮬레이션 시계 사용 시 1회 최대 대기 시간 (advance 반영 지연 한도)
+    private static final long MAX_SIMULATED_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+    private volatile boolean running = false;
+    private Thread worker;
+
+    // 마지막으로 알림 처리한 위치 (정렬 순서상 이 키 이하의 항목은 처리 완료)
+    private RentalDue lastFired;
+
+    public OverdueAlertScheduler(RentalDueIndex index, Consumer<RentalDue> onOverdue) {
+        this(index, onOverdue, Clock.systemDefaultZone());
+    }
+
+    public OverdueAlertScheduler(RentalDueIndex index, Consumer<RentalDue> onOverdue, Clock clock) {
+        this.index = index;
+        this.onOverdue = onOverdue;
+        this.clock = clock;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        lastFired = RentalDue.boundary(LocalDateTime.now(clock), Long.MAX_VALUE);
+        worker = new Thread(this::runLoop, "overdue-alert-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        signal();
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // ====== RentalEventListener: 새 대여가 현재 대기 중인 마감보다 이를 수 있으므로 깨움 ======
+
+    @Override
+    public void onRented(RentalRecord record, Car car) {
+        signal();
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            wakeUp.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runLoop() {
+        lock.lock();
+        try {
+            while (running) {
+                fireDue(LocalDateTime.now(clock));
+
+                Optional<RentalDue> next = index.higher(lastFired);
+                if (next.isEmpty()) {
+                    wakeUp.await();
+                } else {
+                    long waitNanos = realWaitNanos(Duration.between(LocalDateTime.now(clock), next.get().getDueAt()));
+                    if (waitNanos > 0) {
+                        wakeUp.await(waitNanos, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 시계 기준 대기 시간 → 실제 대기 시간 */
+    private long realWaitNanos(Duration wait) {
+        long nanos = wait.isNegative() ? 0 : wait.toNanos();
+        if (clock instanceof SimulatedClock simulated) {
+            double rate = simulated.getRate();
+            long scaled = rate > 0 ? (long) (nanos / rate) : MAX_SIMULATED_WAIT_NANOS;
+            return Math.min(Math.max(scaled, 1), MAX_SIMULATED_WAIT_NANOS);
+        }
+        return nanos;
+    }
+
+    /** lastFired 이후 ~ now 이전에 마감된 대여를 순서대로 알림 */
+    private void fireDue(LocalDateTime now) {
+        Optional<RentalDue> next = index.higher(lastFired);
+        while (next.isPresent() && next.get().getDueAt().isBefore(now)) {
+            RentalDue due = next.get();
+            lastFired = due;
+            try {
+                onOverdue.accept(due);
+            } catch (RuntimeException e) {
+                System.err.println("연체 알림 처리 중 오류: " + e.getMessage());
+            }
+            next = index.higher(lastFired);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package domain.rental;
+
+import domain.car.carFactory.CarType;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * 반납 예정 시각 인덱스(RentalDueIndex)의 항목: 활성 대여 1건.
+ * 반납 예정 시각 → rental id 순으로 정렬됩니다 (같은 시각의 대여도 구분).
+ */
+public final class RentalDue implements Comparable<RentalDue> {
+
+    static final Comparator<RentalDue> ORDER =
+            Comparator.comparing(RentalDue::getDueAt).thenComparingLong(RentalDue::getRentalId);
+
+    private final long rentalId;
+    private final String carId;
+    private final CarType carType;
+    private final String userId;
+    private final LocalDateTime dueAt;
+
+    public RentalDue(long rentalId, String carId, CarType carType, String userId, LocalDateTime dueAt) {
+        this.rentalId = rentalId;
+        this.carId = carId;
+        this.carType = Objects.requireNonNull(carType, "carType");
+        this.userId = userId;
+        this.dueAt = Objects.requireNonNull(dueAt, "dueAt");
+    }
+
+    /** 탐색용 경계 키 (해당 시각 이전/이후 범위를 잘라낼 때 사용) */
+    static RentalDue boundary(LocalDateTime dueAt, long rentalId) {
+        return new RentalDue(rentalId, null, CarType.SEDAN, null, dueAt);
+    }
+
+    public long getRentalId() { return rentalId; }
+    public String getCarId() { return carId; }
+    public CarType getCarType() { return carType; }
+    public String getUserId() { return userId; }
+    public LocalDateTime getDueAt() { return dueAt; }
+
+    @Override
+    public int compareTo(RentalDue other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RentalDue other && rentalId == other.rentalId && dueAt.equals(other.dueAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rentalId, dueAt);
+    }
+
+    @Override
+    public String toString() {
+        return "RentalDue{id=%d, carId=%s, type=%s, user=%s, dueAt=%s}"
+                .formatted(rentalId, carId, carType, userId, dueAt);
+    }
+}
@@ -0,0 +1,167 @@
+package domain.rental;
+
+import domain.car.Car;
+import domain.car.carFactory.CarType;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 활성 대여를 반납 예정 시각 순으로 유지하는 동시성 인덱스.
+ *
+ *  - 기동 시 rebuild(...)로 rental 테이블의 활성 대여를 적재
+ *  - RentalEventListener 로 등록되어 대여/반납마다 갱신
+ *  - "지금 연체 중인 대여", "특정 구간에 연체로 넘어간 대여", "다음 SUV 반납 예정 시각"을
+ *    전체 스캔 없이 O(log n) 탐색으로 조회
+ */
+public class RentalDueIndex implements RentalEventListener, RentalDueIndexMXBean {
+
+    private final ConcurrentSkipListSet<RentalDue> byDue = new ConcurrentSkipListSet<>();
+    private final Map<CarType, ConcurrentSkipListSet<RentalDue>> byType = new EnumMap<>(CarType.class);
+    private final Map<Long, RentalDue> byId = new ConcurrentHashMap<>();
+    // JMX 연체 건수 기준 시계 (RentalService 와 같은 시계)
+    private final Clock clock;
+
+    public RentalDueIndex() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public RentalDueIndex(Clock clock) {
+        this.clock = clock;
+        // EnumMap 은 생성 후 구조가 바뀌지 않으므로 읽기만 하는 동안은 스레드 안전
+        for (CarType type : CarType.values()) {
+            byType.put(type, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    /** 활성 대여 목록으로 인덱스를 다시 구성 (기동 시 1회) */
+    public void rebuild(List<ActiveRentalView> activeRentals) {
+        byDue.clear();
+        byId.clear();
+        byType.values().forEach(ConcurrentSkipListSet::clear);
+        for (ActiveRentalView view : activeRentals) {
+            RentalRecord rec = view.getRecord();
+            if (rec.getId() == null || rec.getEndAt() == null) continue;
+            add(new RentalDue(rec.getId(), rec.getCarId(), view.getCarType(), rec.getUserId(), rec.getEndAt()));
+        }
+    }
+
+    /** 이미 만들어진 항목들로 인덱스를 다시 구성 (대여 이벤트 저널 복구 결과 등) */
+    public void rebuildFrom(Collection<RentalDue> dues) {
+        byDue.clear();
+        byId.clear();
+        byType.values().forEach(ConcurrentSkipListSet::clear);
+        dues.forEach(this::add);
+    }
+
+    /** 항목 추가 (같은 rental id 가 있으면 교체) */
+    public void add(RentalDue due) {
+        RentalDue previous = byId.put(due.getRentalId(), due);
+        if (previous != null) {
+            unlink(previous);
+        }
+        byDue.add(due);
+        byType.get(due.getCarType()).add(due);
+    }
+
+    /** 반납 등으로 활성 대여에서 제외 */
+    public void remove(long rentalId) {
+        RentalDue previous = byId.remove(rentalId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    public Optional<RentalDue> find(long rentalId) {
+        return Optional.ofNullable(byId.get(rentalId));
+    }
+
+    /** 반납 예정 시각이 가장 이른 활성 대여 */
+    public Optional<RentalDue> first() {
+        return Optional.ofNullable(byDue.isEmpty() ? null : byDue.first());
+    }
+
+    /** 정렬 순서상 key 바로 다음 항목 (스케줄러가 다음 마감 시각을 찾을 때 사용) */
+    public Optional<RentalDue> higher(RentalDue key) {
+        return Optional.ofNullable(byDue.higher(key));
+    }
+
+    /** asOf 시점에 이미 반납 예정 시각이 지난 대여 (예정 시각 오름차순, 읽기 전용 뷰) */
+    public NavigableSet<RentalDue> overdue(LocalDateTime asOf) {
+        return java.util.Collections.unmodifiableNavigableSet(
+                byDue.headSet(RentalDue.boundary(asOf, Long.MIN_VALUE), false));
+    }
+
+    /** [from, to) 구간에 반납 예정 시각이 지나 연체로 넘어간 대여 */
+    public NavigableSet<RentalDue> becameOverdue(LocalDateTime from, LocalDateTime to) {
+        return java.util.Collections.unmodifiableNavigableSet(
+                byDue.subSet(RentalDue.boundary(from, Long.MIN_VALUE), true,
+                             RentalDue.boundary(to, Long.MIN_VALUE), false));
+    }
+
+    /**
+     * 해당 타입 차량이 가장 빨리 반납될 예정 시각 (가용 차량이 없을 때 안내용).
+     * 대여 중인 차량이 없으면 empty.
+     */
+    public Optional<LocalDateTime> nextAvailableAt(CarType type) {
+        ConcurrentSkipListSet<RentalDue> set = byType.get(type);
+        RentalDue head = set.isEmpty() ? null : set.first();
+        return Optional.ofNullable(head).map(RentalDue::getDueAt);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /** 현재 활성 대여 전체 (반납 예정 시각 오름차순 복사본) */
+    public List<RentalDue> all() {
+        return new ArrayList<>(byDue);
+    }
+
+    // ====== RentalEventListener ======
+
+    @Override
+    public void onRented(RentalRecord record, Car car) {
+        if (record.getId() == null || record.getEndAt() == null) return;
+        add(new RentalDue(record.getId(), car.id(), car.type(), record.getUserId(), record.getEndAt()));
+    }
+
+    @Override
+    public void onReturned(RentalRecord record, Car car) {
+        if (record.getId() != null) {
+            remove(record.getId());
+        }
+    }
+
+    // ====== 조회 (MXBean) ======
+
+    @Override
+    public long getActiveRentals() {
+        return size();
+    }
+
+    /** 연체 건수 (연체 구간 크기에 비례, 전체 활성 대여 수와는 무관) */
+    @Override
+    public long getOverdueRentals() {
+        return overdue(LocalDateTime.now(clock)).size();
+    }
+
+    @Override
+    public String getNextDueAt() {
+        return first().map(d -> d.getDueAt().toString()).orElse("");
+    }
+
+    private void unlink(RentalDue due) {
+        byDue.remove(due);
+        byType.get(due.getCarType()).remove(due);
+    }
+}
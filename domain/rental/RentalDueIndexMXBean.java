@@ -0,0 +1,10 @@
+package domain.rental;
+
+/**
+ * JMX 로 노출되는 반납 예정 인덱스 통계 (현재 연체 건수 포함).
+ */
+public interface RentalDueIndexMXBean {
+    long getActiveRentals();
+    long getOverdueRentals();
+    String getNextDueAt();
+}
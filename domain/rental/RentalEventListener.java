@@ -0,0 +1,19 @@
+package domain.rental;
+
+import domain.car.Car;
+
+/**
+ * Observer Pattern: RentalService 의 대여/반납 확정 이벤트 수신자.
+ * 대여/반납이 DB 에 반영된 뒤 호출되며, 수신자에서 발생한 예외는 대여/반납 결과에 영향을 주지 않습니다.
+ */
+public interface RentalEventListener {
+
+    /** 대여 확정 (record.getId() 에 생성된 rental id 가 설정된 상태) */
+    default void onRented(RentalRecord record, Car car) {}
+
+    /** 반납 확정 */
+    default void onReturned(RentalRecord record, Car car) {}
+
+    /** 반납에 따른 회원 등급 승급 (before/after 는 전략 클래스 이름, 예: SilverStrategy → GoldStrategy) */
+    default void onMembershipChanged(String userId, String before, String after) {}
+}
@@ -0,0 +1,40 @@
+package domain.rental;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 이력 페이지 조회 조건 (지정하지 않은 항목은 조건에서 제외).
+ *
+ *   RentalHistoryFilter.all().userPk(3).status(RentalRecord.Status.RENTED)
+ *
+ * 기간(from ~ to)은 대여 시작 시각(startTime) 기준이며 from 이상, to 미만입니다.
+ */
+public class RentalHistoryFilter {
+    private Integer userPk;
+    private Integer carPk;
+    private RentalRecord.Status status;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    public static RentalHistoryFilter all() {
+        return new RentalHistoryFilter();
+    }
+
+    public RentalHistoryFilter userPk(Integer userPk) { this.userPk = userPk; return this; }
+    public RentalHistoryFilter carPk(Integer carPk) { this.carPk = carPk; return this; }
+    public RentalHistoryFilter status(RentalRecord.Status status) { this.status = status; return this; }
+    public RentalHistoryFilter from(LocalDateTime from) { this.from = from; return this; }
+    public RentalHistoryFilter to(LocalDateTime to) { this.to = to; return this; }
+
+    public Integer getUserPk() { return userPk; }
+    public Integer getCarPk() { return carPk; }
+    public RentalRecord.Status getStatus() { return status; }
+    public LocalDateTime getFrom() { return from; }
+    public LocalDateTime getTo() { return to; }
+
+    @Override
+    public String toString() {
+        return "RentalHistoryFilter{userPk=%s, carPk=%s, status=%s, from=%s, to=%s}"
+                .formatted(userPk, carPk, status, from, to);
+    }
+}
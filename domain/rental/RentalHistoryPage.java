@@ -0,0 +1,27 @@
+package domain.rental;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대여 이력 1페이지 (id 내림차순).
+ * 다음 페이지는 nextCursor 를 afterId 로 넘겨 조회합니다 (OFFSET 없이 id 로 바로 이어서 탐색).
+ */
+public class RentalHistoryPage {
+    private final List<Map<String, Object>> rows;
+    private final Long nextCursor;
+
+    public RentalHistoryPage(List<Map<String, Object>> rows, Long nextCursor) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.nextCursor = nextCursor;
+    }
+
+    /** id, userId, carId, startTime, endTime, status, carName, userName, loginUserId 컬럼 */
+    public List<Map<String, Object>> getRows() { return rows; }
+
+    /** 다음 페이지 조회용 커서 (마지막 페이지면 null) */
+    public Long getNextCursor() { return nextCursor; }
+
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,48 @@
+package domain.rental;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: RentalService 의 대여/반납 1건 (요금 계산 포함).
+ */
+@Name("carrental.RentalOperation")
+@Label("Rental Operation")
+@Category({"Car Rental", "Rental"})
+@Description("RentalService 의 대여(RENT) 또는 반납(RETURN) 1건")
+@StackTrace(false)
+public class RentalOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Rental Id")
+    public long rentalId;
+
+    @Label("Car Id")
+    public String carId;
+
+    @Label("Car Type")
+    public String carType;
+
+    @Label("Rental Days")
+    public int rentalDays;
+
+    @Label("Options")
+    public String options;
+
+    @Label("Fee Strategy")
+    public String feeStrategy;
+
+    @Label("Total Fee")
+    public double totalFee;
+
+    @Label("Penalty")
+    public double penalty;
+
+    @Label("Success")
+    public boolean success;
+}
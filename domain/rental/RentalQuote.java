@@ -0,0 +1,41 @@
+package domain.rental;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 대여 전 견적(요금 계산 결과).
+ *  - baseFee  : 요금 정책(FeeStrategy)이 적용된 기본료 (일수 포함)
+ *  - optionFee: 옵션 총액 (일수 포함)
+ *  - totalFee : baseFee + optionFee (멤버십 할인은 반납 시 확정되므로 포함하지 않음)
+ */
+public class RentalQuote {
+    private final String carId;
+    private final int rentalDays;
+    private final List<String> options;
+    private final String feeStrategyType;
+    private final BigDecimal baseFee;
+    private final BigDecimal optionFee;
+    private final BigDecimal totalFee;
+
+    public RentalQuote(String carId, int rentalDays, List<String> options, String feeStrategyType,
+                       BigDecimal baseFee, BigDecimal optionFee, BigDecimal totalFee) {
+        this.carId = carId;
+        this.rentalDays = rentalDays;
+        this.options = options == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(options));
+        this.feeStrategyType = feeStrategyType;
+        this.baseFee = baseFee;
+        this.optionFee = optionFee;
+        this.totalFee = totalFee;
+    }
+
+    public String getCarId() { return carId; }
+    public int getRentalDays() { return rentalDays; }
+    public List<String> getOptions() { return options; }
+    public String getFeeStrategyType() { return feeStrategyType; }
+    public BigDecimal getBaseFee() { return baseFee; }
+    public BigDecimal getOptionFee() { return optionFee; }
+    public BigDecimal getTotalFee() { return totalFee; }
+}
@@ -1,34 +1,96 @@
 package domain.rental;
 
 import db.DBConnection;
+import db.RowHandler;
+import domain.rental.archive.RentalArchiveRepository;
+import domain.car.carFactory.CarStatus;
+import domain.car.carFactory.CarType;
 
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
 /**
  * rental 테이블과 상호작용하는 리포지토리.
- *  - README의 MySQL 스키마에 맞춰 userId/carId는 정수 PK를 사용
+ *  - 스키마(db/migration/sql)에 맞춰 userId/carId는 정수 PK를 사용
  *  - 비즈니스 계층(RentalService)에서는 RentalRecord를 통해 도메인 정보를 주고받음
  */
 public class RentalRepository {
     private static final String TBL = "rental";
 
+    /** 활성 대여 + 차량 정보 조회 공통 SELECT/JOIN 절 (WHERE 는 호출부에서 추가) */
+    private static final String ACTIVE_WITH_CAR_SQL =
+            "SELECT r.*, u.userId AS loginUserId, " +
+            "       c.name AS carName, c.type AS carType, " +
+            "       c.dailyRentalFee AS carDailyRentalFee, c.status AS carStatus " +
+            "FROM " + TBL + " r " +
+            "JOIN user u ON r.userId = u.id " +
+            "JOIN car c ON r.carId = c.id ";
+
+    /** 활성 대여 startTime 하한 재계산 주기 / 현재 시각 기준 여유 (아직 저장 중인 대여를 놓치지 않도록) */
+    private static final long ACTIVE_BOUND_REFRESH_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final Duration ACTIVE_BOUND_MARGIN = Duration.ofDays(1);
+
     private final DBConnection db;
+    // 반납 시각 / 활성 대여 하한 계산용 시계 (SQL 의 CURRENT_TIMESTAMP 대신 사용)
+    private final Clock clock;
+
+    // 활성 대여 조회에 붙이는 startTime 하한 (월별 파티션 프루닝용, activeSince() 참고)
+    private volatile Timestamp activeSince;
+    private volatile long activeSinceComputedAt;
 
     public RentalRepository(DBConnection db) {
+        this(db, Clock.systemDefaultZone());
+    }
+
+    public RentalRepository(DBConnection db, Clock clock) {
         this.db = Objects.requireNonNull(db, "db");
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /** DB 없이 동작하는 하위 클래스(인메모리 백엔드 등)용 생성자. 모든 공개 메서드를 재정의해야 합니다. */
+    protected RentalRepository() {
+        this(Clock.systemDefaultZone());
+    }
+
+    protected RentalRepository(Clock clock) {
+        this.db = null;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public Clock getClock() {
+        return clock;
     }
 
     /** carId(INT) 기준으로 'RENTED' 상태인 활성 대여가 있는지 확인 */
     public Optional<RentalRecord> findActiveByCarId(int carId) {
-        String sql = "SELECT * FROM " + TBL + " WHERE carId=:carId AND status='RENTED' LIMIT 1";
-        Map<String, Object> p = Map.of("carId", carId);
+        String sql = "SELECT * FROM " + TBL + " WHERE carId=:carId AND status='RENTED' " +
+                     "AND startTime >= :activeSince LIMIT 1";
+        Map<String, Object> p = Map.of("carId", carId, "activeSince", activeSince());
         return db.queryForObject(sql, p).map(this::mapRowToRecord);
     }
 
+    /**
+     * 대여 트랜잭션 안에서 차량을 선점합니다 (inTransaction 안에서 save 전에 호출).
+     *  1) 퇴역하지 않은 car 행을 SELECT ... FOR UPDATE 로 잠가 같은 차량의 대여/퇴역 트랜잭션을 직렬화
+     *  2) 잠금을 얻은 뒤 활성 대여를 잠금 읽기(최신 커밋 기준)로 다시 확인
+     * 잠금은 트랜잭션이 끝날 때 풀리므로 앞선 트랜잭션이 커밋한 대여/퇴역은 반드시 보입니다.
+     * (대여/반납 상태는 WriteBehindCarRepository 가 늦게 반영하므로 RETIRED 여부만 확인)
+     * @return 선점 성공 여부 (차량이 없거나 퇴역했거나 이미 활성 대여가 있으면 false)
+     */
+    public boolean claimCar(int carId) {
+        if (db.queryForObject("SELECT id FROM car WHERE id=:carId AND status <> 'RETIRED' FOR UPDATE",
+                Map.of("carId", carId)).isEmpty()) {
+            return false;
+        }
+        String sql = "SELECT id FROM " + TBL + " WHERE carId=:carId AND status='RENTED' " +
+                     "AND startTime >= :activeSince LIMIT 1 FOR UPDATE";
+        return db.queryForObject(sql, Map.of("carId", carId, "activeSince", activeSince())).isEmpty();
+    }
+
     /** PK로 단건 조회 + user 조인으로 로그인 아이디(user.userId)까지 가져오기 */
     public Optional<RentalRecord> findById(long id) {
         String sql =
@@ -46,24 +108,178 @@ public class RentalRepository {
                 "SELECT r.*, u.userId AS loginUserId " +
                 "FROM " + TBL + " r " +
                 "JOIN user u ON r.userId = u.id " +
-                "WHERE r.userId = :userId AND r.status = 'RENTED' " +
+                "WHERE r.userId = :userId AND r.status = 'RENTED' AND r.startTime >= :activeSince " +
                 "ORDER BY r.startTime DESC";
-        return db.queryForList(sql, Map.of("userId", userId))
+        return db.queryForList(sql, Map.of("userId", userId, "activeSince", activeSince()))
                 .stream()
                 .map(this::mapRowToRecord)
                 .collect(java.util.stream.Collectors.toList());
     }
 
     /**
-     * 대여 저장 (README의 rental 테이블)
+     * userId(INT PK) 기준 활성 대여 + 차량 이름/타입/요금을 한 번의 JOIN 으로 조회.
+     * 목록 화면에서 대여 건마다 car 를 다시 조회하던 N+1 쿼리를 대체합니다.
+     */
+    public List<ActiveRentalView> findActiveWithCarByUserId(int userId) {
+        String sql = ACTIVE_WITH_CAR_SQL +
+                "WHERE r.userId = :userId AND r.status = 'RENTED' AND r.startTime >= :activeSince " +
+                "ORDER BY r.startTime DESC";
+        return db.queryForList(sql, Map.of("userId", userId, "activeSince", activeSince()))
+                .stream()
+                .map(this::mapRowToView)
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    /** 전체 활성 대여 + 차량 정보 (기동 시 반납 예정 인덱스 적재용) */
+    public List<ActiveRentalView> findAllActiveWithCar() {
+        String sql = ACTIVE_WITH_CAR_SQL + "WHERE r.status = 'RENTED' AND r.startTime >= :activeSince";
+        return db.queryForList(sql, Map.of("activeSince", activeSince()))
+                .stream()
+                .map(this::mapRowToView)
+                .collect(java.util.stream.Collectors.toList());
+    }
+
+    /**
+     * asOf 시점 기준 연체(반납 예정 시각이 지났는데 아직 RENTED) 대여 목록, 예정 시각이 오래된 순.
+     * rental(status, endTime) 복합 인덱스의 범위 스캔으로 처리되므로 전체 대여 건수와 무관하게 빠릅니다.
+     * 관리자 화면 출력용으로 AdminService.getAllRentalRecordsWithCarName 과 같은 컬럼(carName, userName 포함)을 반환합니다.
+     */
+    public List<Map<String, Object>> findOverdue(LocalDateTime asOf, int limit) {
+        String sql =
+                "SELECT r.id, r.startTime, r.endTime, r.status, " +
+                "       c.name AS carName, u.name AS userName " +
+                "FROM " + TBL + " r " +
+                "JOIN car c ON r.carId = c.id " +
+                "JOIN user u ON r.userId = u.id " +
+                "WHERE r.status = 'RENTED' AND r.endTime < :asOf AND r.startTime >= :activeSince " +
+                "ORDER BY r.endTime ASC " +
+                "LIMIT :limit";
+        Map<String, Object> p = new HashMap<>();
+        p.put("activeSince", activeSince());
+        p.put("asOf", Timestamp.valueOf(asOf));
+        p.put("limit", limit);
+        return db.queryForList(sql, p);
+    }
+
+    /** asOf 시점 기준 연체 대여 건수 (인덱스만으로 계산) */
+    public long countOverdue(LocalDateTime asOf) {
+        String sql = "SELECT COUNT(*) AS cnt FROM " + TBL + " WHERE status='RENTED' AND endTime < :asOf " +
+                     "AND startTime >= :activeSince";
+        return db.queryForObject(sql, Map.of("asOf", Timestamp.valueOf(asOf), "activeSince", activeSince()))
+                .map(row -> ((Number) row.get("cnt")).longValue())
+                .orElse(0L);
+    }
+
+    /**
+     * 대여 이력 키셋(seek) 페이지 조회: id 내림차순으로 afterId 보다 작은 id 부터 pageSize 건.
+     * OFFSET 을 쓰지 않으므로 몇 번째 페이지든 PK(또는 userId/carId 외래키 인덱스) 탐색 비용이 같습니다.
+     *
+     * @param afterId 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public RentalHistoryPage findHistoryPage(RentalHistoryFilter filter, Long afterId, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be > 0");
+        }
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.id, r.userId, r.carId, r.startTime, r.endTime, r.status, " +
+                "       c.name AS carName, u.name AS userName, u.userId AS loginUserId " +
+                "FROM " + TBL + " r " +
+                "JOIN car c ON r.carId = c.id " +
+                "JOIN user u ON r.userId = u.id " +
+                "WHERE 1=1 ");
+        Map<String, Object> p = new HashMap<>();
+
+        if (afterId != null) {
+            sql.append("AND r.id < :afterId ");
+            p.put("afterId", afterId);
+        }
+        appendFilter(sql, p, filter);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        sql.append("ORDER BY r.id DESC LIMIT :limit");
+        p.put("limit", pageSize + 1);
+
+        List<Map<String, Object>> rows = db.queryForList(sql.toString(), p);
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * 대여 이력 전체(필터 적용)를 id 오름차순으로 커서에서 1건씩 넘겨줍니다 (CSV 내보내기 등 대용량 출력용).
+     * 보관된 이력(rental_archive)까지 포함하며, 요금 내역과 차량/사용자 정보를 함께 조회합니다.
+     * 컬럼 순서는 아래 SELECT 절과 같습니다.
+     * @return 처리한 행 수
+     */
+    public long streamHistory(RentalHistoryFilter filter, int fetchSize, RowHandler handler) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.id, r.startTime, r.endTime, r.status, r.rentalDays, r.feeStrategy, r.membership, " +
+                "       r.options, r.baseFee, r.optionFee, r.discount, r.penalty, r.totalFee, " +
+                "       r.carId, c.name AS carName, c.type AS carType, " +
+                "       r.userId, u.userId AS loginUserId, u.name AS userName " +
+                "FROM " + RentalArchiveRepository.ALL_HISTORY + " r " +
+                "JOIN car c ON r.carId = c.id " +
+                "JOIN user u ON r.userId = u.id " +
+                "WHERE 1=1 ");
+        Map<String, Object> p = new HashMap<>();
+        appendFilter(sql, p, filter);
+        sql.append("ORDER BY r.id");
+
+        return db.queryForEach(sql.toString(), p, fetchSize, handler);
+    }
+
+    /** 대여 이력 필터(사용자/차량/상태/대여 시작 기간)를 WHERE 절에 추가 */
+    private void appendFilter(StringBuilder sql, Map<String, Object> p, RentalHistoryFilter filter) {
+        if (filter.getUserPk() != null) {
+            sql.append("AND r.userId = :userPk ");
+            p.put("userPk", filter.getUserPk());
+        }
+        if (filter.getCarPk() != null) {
+            sql.append("AND r.carId = :carPk ");
+            p.put("carPk", filter.getCarPk());
+        }
+        if (filter.getStatus() != null) {
+            sql.append("AND r.status = :status ");
+            p.put("status", filter.getStatus().name());
+        }
+        if (filter.getFrom() != null) {
+            sql.append("AND r.startTime >= :from ");
+            p.put("from", Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append("AND r.startTime < :to ");
+            p.put("to", Timestamp.valueOf(filter.getTo()));
+        }
+    }
+
+    /** pageSize+1 건 조회 결과를 페이지로 변환 (초과분이 있으면 마지막 행의 id 가 다음 커서) */
+    protected RentalHistoryPage toPage(List<Map<String, Object>> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new RentalHistoryPage(rows, null);
+        }
+        List<Map<String, Object>> page = new ArrayList<>(rows.subList(0, pageSize));
+        Object lastId = page.get(page.size() - 1).get("id");
+        return new RentalHistoryPage(page, ((Number) lastId).longValue());
+    }
+
+    /** 'RENTED' 상태인 활성 대여 건수 (기동 시 런타임 통계 초기화용) */
+    public long countActive() {
+        String sql = "SELECT COUNT(*) AS cnt FROM " + TBL + " WHERE status='RENTED' AND startTime >= :activeSince";
+        return db.queryForObject(sql, Map.of("activeSince", activeSince()))
+                .map(row -> ((Number) row.get("cnt")).longValue())
+                .orElse(0L);
+    }
+
+    /**
+     * 대여 저장 (V1__baseline_schema.sql 의 rental 테이블)
      *  - startTime: now
      *  - endTime  : 예약 종료( startTime + rentalDays )  ← NOT NULL 제약 충족
      *  - status   : 'RENTED'
+     *  - 요금 내역: rentalDays, feeStrategy, membership, options, baseFee, optionFee, totalFee
      */
     public long save(int userId, int carId, RentalRecord r) {
         String sql =
-                "INSERT INTO " + TBL + " (userId, carId, startTime, endTime, status) " +
-                "VALUES (:userId, :carId, :startTime, :endTime, :status)";
+                "INSERT INTO " + TBL + " (userId, carId, startTime, endTime, status, " +
+                "                    rentalDays, feeStrategy, membership, options, baseFee, optionFee, totalFee) " +
+                "VALUES (:userId, :carId, :startTime, :endTime, :status, " +
+                "        :rentalDays, :feeStrategy, :membership, :options, :baseFee, :optionFee, :totalFee)";
 
         LocalDateTime start = r.getStartAt();
         LocalDateTime scheduledEnd = start.plusDays(r.getRentalDays());
@@ -74,20 +290,83 @@ public class RentalRepository {
         p.put("startTime", Timestamp.valueOf(start));
         p.put("endTime", Timestamp.valueOf(scheduledEnd));
         p.put("status", "RENTED");
+        p.put("rentalDays", r.getRentalDays());
+        p.put("feeStrategy", r.getFeeStrategyType());
+        p.put("membership", r.getMembershipStrategyType());
+        p.put("options", String.join(",", r.getOptions()));
+        p.put("baseFee", r.getBaseFee());
+        p.put("optionFee", r.getOptionFee());
+        p.put("totalFee", r.getTotalFee());
 
         int generatedId = db.executeAndReturnKey(sql, p);
         r.setId((long) generatedId);
         return r.getId();
     }
 
-    /** 반납 처리: status='RETURNED', endTime=현재시각. 현재 상태가 RENTED일 때만 반납 처리. */
+    /** 반납 처리: status='RETURNED', endTime=현재시각(clock). 현재 상태가 RENTED일 때만 반납 처리. */
     public boolean markReturnedIfRented(long id) {
-        String sql = "UPDATE " + TBL + " SET status='RETURNED', endTime=CURRENT_TIMESTAMP " +
-                     "WHERE id=:id AND status='RENTED'";
-        int affected = db.execute(sql, Map.of("id", id));
+        String sql = "UPDATE " + TBL + " SET status='RETURNED', endTime=:endTime " +
+                     "WHERE id=:id AND status='RENTED' AND startTime >= :activeSince";
+        int affected = db.execute(sql, Map.of("id", id, "endTime", Timestamp.valueOf(LocalDateTime.now(clock)),
+                "activeSince", activeSince()));
         return affected > 0;
     }
 
+    /** 반납 처리 + 반납 시 확정된 요금(할인, 패널티, 최종 결제액) 저장. 반납 시각은 현재시각(clock). */
+    public boolean markReturnedIfRented(long id, BigDecimal discount, BigDecimal penalty, BigDecimal totalFee) {
+        return markReturnedIfRented(id, LocalDateTime.now(clock), discount, penalty, totalFee);
+    }
+
+    /**
+     * 반납 처리 + 확정 요금 저장. 반납 시각(endTime)은 연체료를 계산한 시각과 같도록 호출자가 넘깁니다.
+     * 현재 상태가 RENTED일 때만.
+     */
+    public boolean markReturnedIfRented(long id, LocalDateTime endTime, BigDecimal discount, BigDecimal penalty,
+                                        BigDecimal totalFee) {
+        String sql = "UPDATE " + TBL + " SET status='RETURNED', endTime=:endTime, " +
+                     "       discount=:discount, penalty=:penalty, totalFee=:totalFee " +
+                     "WHERE id=:id AND status='RENTED' AND startTime >= :activeSince";
+        Map<String, Object> p = new HashMap<>();
+        p.put("id", id);
+        p.put("endTime", Timestamp.valueOf(endTime));
+        p.put("activeSince", activeSince());
+        p.put("discount", discount);
+        p.put("penalty", penalty);
+        p.put("totalFee", totalFee);
+        return db.execute(sql, p) > 0;
+    }
+
+    /**
+     * 여러 저장/갱신을 하나의 트랜잭션으로 실행 (RentalService 가 대여 기록과 요약 테이블을 함께 갱신할 때 사용)
+     */
+    public <T> T inTransaction(java.util.function.Supplier<T> work) {
+        return db.inTransaction(work);
+    }
+
+    /**
+     * 활성(RENTED) 대여의 startTime 하한. 활성 대여 조회에 'startTime >= 하한' 조건을 붙여
+     * 월별 파티션(db/sql/rental_partitioning.sql)을 사용하는 경우 오래된 파티션을 읽지 않게 합니다.
+     *
+     * 가장 오래된 활성 대여의 시작 시각(과 현재 - 1일 중 이른 값)을 1분마다 다시 계산합니다.
+     * 새 대여는 항상 현재 시각으로 시작하고, 반납되면 최솟값은 커지기만 하므로 캐시된 값은 실제 하한보다
+     * 작거나 같아 결과가 누락되지 않습니다. (파티셔닝하지 않은 테이블에서는 결과에 영향 없는 조건)
+     */
+    protected Timestamp activeSince() {
+        long now = System.nanoTime();
+        Timestamp bound = activeSince;
+        if (bound == null || now - activeSinceComputedAt > ACTIVE_BOUND_REFRESH_NANOS) {
+            LocalDateTime floor = LocalDateTime.now(clock).minus(ACTIVE_BOUND_MARGIN);
+            LocalDateTime oldest = db.queryForObject(
+                    "SELECT MIN(startTime) AS oldest FROM " + TBL + " WHERE status='RENTED'", Map.of())
+                    .map(row -> toLdt(row.get("oldest")))
+                    .orElse(null);
+            bound = Timestamp.valueOf(oldest != null && oldest.isBefore(floor) ? oldest : floor);
+            activeSince = bound;
+            activeSinceComputedAt = now;
+        }
+        return bound;
+    }
+
     // ===== 내부 매핑 =====
     private RentalRecord mapRowToRecord(Map<String, Object> row) {
         RentalRecord rec = new RentalRecord();
@@ -143,21 +422,49 @@ public class RentalRepository {
         rec.setStatus("RETURNED".equalsIgnoreCase(st) ? RentalRecord.Status.RETURNED
                                                       : RentalRecord.Status.RENTED);
 
-        if (start != null && end != null) {
+        Object rentalDays = row.get("rentalDays");
+        if (rentalDays instanceof Number n) {
+            rec.setRentalDays(n.intValue());
+        } else if (start != null && end != null) {
+            // 요금 내역 컬럼 추가 전의 기록: 시작~종료 시각으로 추정
             long days = Math.max(1, Duration.between(start, end).toDays());
             rec.setRentalDays((int) days);
         }
 
-        // 요금 관련 필드는 DB에 아직 없으므로 도메인 레벨에서만 사용
-        rec.setBaseFee(BigDecimal.ZERO);
-        rec.setOptionFee(BigDecimal.ZERO);
-        rec.setDiscount(BigDecimal.ZERO);
-        rec.setPenalty(BigDecimal.ZERO);
-        rec.setTotalFee(BigDecimal.ZERO);
+        // 요금 내역 (컬럼 추가 전의 기록은 0)
+        rec.setFeeStrategyType(row.get("feeStrategy") == null ? null : String.valueOf(row.get("feeStrategy")));
+        rec.setMembershipStrategyType(row.get("membership") == null ? null : String.valueOf(row.get("membership")));
+        Object options = row.get("options");
+        if (options != null && !options.toString().isEmpty()) {
+            rec.setOptions(new ArrayList<>(Arrays.asList(options.toString().split(","))));
+        }
+        rec.setBaseFee(toMoney(row.get("baseFee")));
+        rec.setOptionFee(toMoney(row.get("optionFee")));
+        rec.setDiscount(toMoney(row.get("discount")));
+        rec.setPenalty(toMoney(row.get("penalty")));
+        rec.setTotalFee(toMoney(row.get("totalFee")));
 
         return rec;
     }
 
+    private ActiveRentalView mapRowToView(Map<String, Object> row) {
+        RentalRecord rec = mapRowToRecord(row);
+        Object fee = row.get("carDailyRentalFee");
+        String carStatus = String.valueOf(row.get("carStatus"));
+        return new ActiveRentalView(
+                rec,
+                row.get("carName") == null ? null : String.valueOf(row.get("carName")),
+                CarType.valueOf(String.valueOf(row.get("carType"))),
+                fee == null ? null : new BigDecimal(fee.toString()),
+                "UNAVAILABLE".equalsIgnoreCase(carStatus) ? CarStatus.UNAVAILABLE : CarStatus.AVAILABLE);
+    }
+
+    private BigDecimal toMoney(Object o) {
+        if (o == null) return BigDecimal.ZERO;
+        if (o instanceof BigDecimal bd) return bd;
+        return new BigDecimal(o.toString());
+    }
+
     private LocalDateTime toLdt(Object o) {
         if (o == null) return null;
         if (o instanceof Timestamp ts) return ts.toLocalDateTime();
@@ -10,30 +10,63 @@ import domain.car.decorator.SunroofOption;
 import domain.rental.strategy.FeeStrategy;
 import domain.rental.option.OptionPricerAdapter;
 import domain.rental.option.RentalComponent;
+import domain.rental.summary.RentalSummaryRepository;
 import domain.user.User;
 import domain.user.UserService;
+import domain.user.tier.MembershipTier;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 대여/반납 비즈니스 로직을 담당하는 서비스.
  */
 public class RentalService {
 
-    // 연체 패널티: 초과 1일당 기본 일일요금의 30%
-    private static final BigDecimal OVERDUE_RATE = new BigDecimal("0.30");
+    // 연체 패널티: 초과 1일당 기본 일일요금의 30% (야간 누적 배치 OverduePenaltyRepository 도 같은 비율 사용)
+    public static final BigDecimal OVERDUE_RATE = new BigDecimal("0.30");
 
     private final RentalRepository rentalRepository;
     private final UserService userService;
+    // 매출/가동률 요약 테이블 (null 이면 요약 갱신 생략: 인메모리 백엔드 등)
+    private final RentalSummaryRepository summaryRepository;
+    private final List<RentalEventListener> listeners = new CopyOnWriteArrayList<>();
+    // 대여 시작/반납/연체 판정 기준 시계 (시뮬레이션 시 SimulatedClock 주입)
+    private final Clock clock;
 
     public RentalService(RentalRepository rentalRepository, UserService userService) {
+        this(rentalRepository, userService, null);
+    }
+
+    public RentalService(RentalRepository rentalRepository, UserService userService,
+                         RentalSummaryRepository summaryRepository) {
+        this(rentalRepository, userService, summaryRepository, Clock.systemDefaultZone());
+    }
+
+    public RentalService(RentalRepository rentalRepository, UserService userService,
+                         RentalSummaryRepository summaryRepository, Clock clock) {
         this.rentalRepository = Objects.requireNonNull(rentalRepository, "rentalRepository");
         this.userService = Objects.requireNonNull(userService, "userService");
+        this.summaryRepository = summaryRepository;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /** 이 서비스가 "현재 시각"으로 사용하는 시계 (연체 조회 등 같은 기준이 필요한 곳에서 사용) */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * 대여/반납 확정 이벤트 수신자 등록 (Observer Pattern)
+     */
+    public void addListener(RentalEventListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
     }
 
     /**
@@ -55,6 +88,22 @@ public class RentalService {
                              int rentalDays,
                              List<String> optionNames,
                              FeeStrategy feeStrategy) {
+        RentalOperationEvent event = new RentalOperationEvent();
+        event.begin();
+        RentalRecord rec = null;
+        try {
+            rec = doRent(userId, car, rentalDays, optionNames, feeStrategy);
+            return rec;
+        } finally {
+            commitEvent(event, "RENT", car, rec, rec != null);
+        }
+    }
+
+    private RentalRecord doRent(String userId,
+                                Car car,
+                                int rentalDays,
+                                List<String> optionNames,
+                                FeeStrategy feeStrategy) {
 
         Objects.requireNonNull(userId, "userId");
         Objects.requireNonNull(car, "car");
@@ -85,17 +134,14 @@ public class RentalService {
             throw new IllegalStateException("차량 상태가 AVAILABLE이 아닙니다. 현재 상태: " + car.status());
         }
 
-        // 4) 옵션 데코레이터 체인 구성
-        CarPricer pricer = buildPricer(car, optionNames);
-
-        // 5) 요금 계산 (정책 + 옵션)
-        RentalComponent adapter = new OptionPricerAdapter(pricer, car, rentalDays, feeStrategy);
-        BigDecimal combined = adapter.getCost();                       // 정책 기본료 + 옵션 총액
-        BigDecimal base = feeStrategy.calculateTotalFee(car, rentalDays);
-        BigDecimal option = combined.subtract(base);
+        // 4~5) 옵션 데코레이터 체인 + 요금 정책으로 견적 계산
+        RentalQuote quote = quote(car, rentalDays, optionNames, feeStrategy);
+        BigDecimal combined = quote.getTotalFee();                     // 정책 기본료 + 옵션 총액
+        BigDecimal base = quote.getBaseFee();
+        BigDecimal option = quote.getOptionFee();
 
         // 6) RentalRecord(도메인용) 구성
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
 
         RentalRecord rec = new RentalRecord();
         rec.setUserId(userId);             // 로그인 아이디 (문자열)
@@ -117,13 +163,32 @@ public class RentalService {
         rec.setPenalty(BigDecimal.ZERO);
         rec.setTotalFee(combined);
 
-        // 7) DB에 저장 (userId, carId는 정수 PK 기준)
-        long rentalId = rentalRepository.save(userPk, carPk, rec);
+        // 7) DB에 저장 (userId, carId는 정수 PK 기준) + 요약 테이블 누적을 한 트랜잭션으로
+        //    3) 의 검사는 잠금 없이 읽으므로, 같은 차량을 동시에 대여하는 경우는 트랜잭션 안의 선점으로 걸러냄
+        long rentalId = rentalRepository.inTransaction(() -> {
+            if (!rentalRepository.claimCar(carPk)) {
+                throw new IllegalStateException("대여할 수 없는 차량입니다 (이미 대여 중이거나 삭제됨): carId=" + carPk);
+            }
+            long id = rentalRepository.save(userPk, carPk, rec);
+            if (summaryRepository != null) {
+                summaryRepository.recordRent(now.toLocalDate(), car.type(), carPk, rentalDays, combined);
+            }
+            return id;
+        });
         rec.setId(rentalId);
+        RentalStatistics.getInstance().recordRent();
 
         // 8) 차량 상태 점유
         car.occupy();
 
+        for (RentalEventListener listener : listeners) {
+            try {
+                listener.onRented(rec, car);
+            } catch (RuntimeException e) {
+                System.err.println("대여 이벤트 처리 중 오류: " + e.getMessage());
+            }
+        }
+
         return rec;
     }
 
@@ -136,6 +201,19 @@ public class RentalService {
      *  5) 차량 상태 AVAILABLE로 변경
      */
     public void returnCar(long rentalId, Car car, RentalRecord cachedRecord) {
+        RentalOperationEvent event = new RentalOperationEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            doReturn(rentalId, car, cachedRecord);
+            success = true;
+        } finally {
+            event.rentalId = rentalId;
+            commitEvent(event, "RETURN", car, cachedRecord, success);
+        }
+    }
+
+    private void doReturn(long rentalId, Car car, RentalRecord cachedRecord) {
         Objects.requireNonNull(car, "car");
         Objects.requireNonNull(cachedRecord, "cachedRecord");
 
@@ -143,8 +221,9 @@ public class RentalService {
         RentalRecord rec = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new IllegalArgumentException("대여 레코드를 찾을 수 없습니다: id=" + rentalId));
 
-        // 2) now 기준 연체 패널티 계산
-        BigDecimal penalty = calculatePenaltyNow(rec, car);
+        // 2) now 기준 연체 패널티 계산 (반납 시각과 같은 기준)
+        LocalDateTime now = LocalDateTime.now(clock);
+        BigDecimal penalty = calculatePenaltyNow(rec, car, now);
         
         // 3) 회원 등급 할인 계산
         String loginUserId = rec.getUserId();
@@ -165,31 +244,46 @@ public class RentalService {
         // 최종 결제 금액 = 할인된 대여 시 요금 + penalty
         BigDecimal total = discountedAmount.add(penalty);
 
-        // 3) DB 상태 업데이트 (status='RETURNED', endTime=현재시각)
-        boolean updated = rentalRepository.markReturnedIfRented(rentalId);
+        // 3) DB 상태 업데이트 (status='RETURNED', endTime=현재시각, 확정 요금) + 요약 테이블 누적을 한 트랜잭션으로
+        boolean updated = rentalRepository.inTransaction(() -> {
+            if (!rentalRepository.markReturnedIfRented(rentalId, now, discount, penalty, total)) {
+                return false;
+            }
+            if (summaryRepository != null) {
+                summaryRepository.recordReturn(now.toLocalDate(), car.type(),
+                        Integer.parseInt(car.id()), total, penalty);
+            }
+            userService.recordReturnSpend(user, now, total);
+            return true;
+        });
         if (!updated) {
             throw new IllegalStateException("반납 처리에 실패했습니다. 이미 반납되었거나 상태가 RENTED가 아닙니다: id=" + rentalId);
         }
+        RentalStatistics.getInstance().recordReturn(penalty.signum() > 0);
 
-        // 4) 회원 등급 자동 승급
+        // 4) 회원 등급 재판정 (최근 12개월 실적, 위 트랜잭션에서 누적한 월 집계 기준)
         // RentalRecord.userId 는 로그인 아이디(user.userId)라고 가정
         String userIdForUpgrade = rec.getUserId();
+        // 전략이 없는 사용자(ADMIN, 예전 데이터)는 기본 등급으로 간주
+        String membershipBefore = MembershipTier.of(user.getUserMembershipStrategy()).membershipName();
+        String membershipAfter = membershipBefore;
         try {
-            userService.upgradeGrade(userIdForUpgrade);
-        } catch (IllegalArgumentException e) {
-            // 이미 VIP이거나 사용자가 없을 때 등: 반납은 성공시키되, 승급 실패는 로그만
-            System.err.println("등급 승급 중 오류: " + e.getMessage());
+            membershipAfter = MembershipTier.of(userService.refreshTier(user, now.toLocalDate())
+                    .getUserMembershipStrategy()).membershipName();
+        } catch (RuntimeException e) {
+            // 반납은 성공시키되, 등급 변경 실패는 로그만 (야간 재계산 배치가 다시 맞춤)
+            System.err.println("등급 변경 중 오류: " + e.getMessage());
         }
 
         // 5) 메모리 상에서도 요약 정보 업데이트 (캐시된 레코드도 업데이트)
-        rec.setEndAt(LocalDateTime.now());
+        rec.setEndAt(now);
         rec.setStatus(RentalRecord.Status.RETURNED);
         rec.setPenalty(penalty);
         rec.setDiscount(discount);
         rec.setTotalFee(total);
         
         // 캐시된 레코드도 업데이트
-        cachedRecord.setEndAt(LocalDateTime.now());
+        cachedRecord.setEndAt(now);
         cachedRecord.setStatus(RentalRecord.Status.RETURNED);
         cachedRecord.setPenalty(penalty);
         cachedRecord.setDiscount(discount);
@@ -197,8 +291,46 @@ public class RentalService {
 
         // 6) 차량 상태 해제
         car.release();
+
+        for (RentalEventListener listener : listeners) {
+            try {
+                listener.onReturned(rec, car);
+            } catch (RuntimeException e) {
+                System.err.println("반납 이벤트 처리 중 오류: " + e.getMessage());
+            }
+        }
+        if (!membershipBefore.equals(membershipAfter)) {
+            for (RentalEventListener listener : listeners) {
+                try {
+                    listener.onMembershipChanged(userIdForUpgrade, membershipBefore, membershipAfter);
+                } catch (RuntimeException e) {
+                    System.err.println("등급 변경 이벤트 처리 중 오류: " + e.getMessage());
+                }
+            }
+        }
     }
     
+    /**
+     * 견적: 대여 없이 (정책 기본료 + 옵션) 요금만 계산합니다.
+     * rent(...)와 동일한 데코레이터 체인/어댑터를 사용하므로 결과가 항상 일치합니다.
+     */
+    public RentalQuote quote(Car car, int rentalDays, List<String> optionNames, FeeStrategy feeStrategy) {
+        Objects.requireNonNull(car, "car");
+        Objects.requireNonNull(feeStrategy, "feeStrategy");
+        if (rentalDays <= 0) {
+            throw new IllegalArgumentException("rentalDays must be > 0");
+        }
+
+        CarPricer pricer = buildPricer(car, optionNames);
+        RentalComponent adapter = new OptionPricerAdapter(pricer, car, rentalDays, feeStrategy);
+        BigDecimal combined = adapter.getCost();
+        BigDecimal base = feeStrategy.calculateTotalFee(car, rentalDays);
+        BigDecimal option = combined.subtract(base).max(BigDecimal.ZERO);
+
+        return new RentalQuote(car.id(), rentalDays, optionNames,
+                feeStrategy.getClass().getSimpleName(), base, option, combined);
+    }
+
     // 기존 메서드 호환성을 위한 오버로드
     public void returnCar(long rentalId, Car car) {
         RentalRecord rec = rentalRepository.findById(rentalId)
@@ -208,6 +340,29 @@ public class RentalService {
 
     // ====== 내부 헬퍼 메서드 ======
 
+    /** JFR 기록 중일 때만 대여/반납 이벤트 필드를 채워 커밋 (꺼져 있으면 비용 없음) */
+    private void commitEvent(RentalOperationEvent event, String operation, Car car,
+                             RentalRecord rec, boolean success) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.operation = operation;
+        event.success = success;
+        if (car != null) {
+            event.carId = car.id();
+            event.carType = car.type().name();
+        }
+        if (rec != null) {
+            if (rec.getId() != null) event.rentalId = rec.getId();
+            event.rentalDays = rec.getRentalDays();
+            event.options = rec.getOptions() == null ? "" : String.join(",", rec.getOptions());
+            event.feeStrategy = rec.getFeeStrategyType();
+            event.totalFee = rec.getTotalFee() == null ? 0.0 : rec.getTotalFee().doubleValue();
+            event.penalty = rec.getPenalty() == null ? 0.0 : rec.getPenalty().doubleValue();
+        }
+        event.commit();
+    }
+
     /** 옵션 이름 리스트를 기반으로 데코레이터 체인을 생성 */
     private CarPricer buildPricer(Car car, List<String> optionNames) {
         CarPricer pricer = new BaseCarPricer(car);
@@ -232,9 +387,8 @@ public class RentalService {
      * - 기준: 예정 종료 시각 = startAt + rentalDays
      * - 초과 1일당 기본 일일요금의 OVERDUE_RATE 비율만큼 부과
      */
-    private BigDecimal calculatePenaltyNow(RentalRecord rec, Car car) {
+    private BigDecimal calculatePenaltyNow(RentalRecord rec, Car car, LocalDateTime now) {
         LocalDateTime shouldEnd = rec.getStartAt().plusDays(rec.getRentalDays());
-        LocalDateTime now = LocalDateTime.now();
         if (!now.isAfter(shouldEnd)) {
             return BigDecimal.ZERO;
         }
@@ -0,0 +1,78 @@
+package domain.rental;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Singleton Pattern: 대여/반납 런타임 통계 (락 없는 누적 카운터).
+ * RentalService 가 대여/반납이 확정될 때마다 기록하며, DB 를 조회하지 않고 JMX 로 관찰할 수 있습니다.
+ */
+public class RentalStatistics implements RentalStatisticsMXBean {
+
+    private static final RentalStatistics INSTANCE = new RentalStatistics();
+
+    private final LongAdder rents = new LongAdder();
+    private final LongAdder returns = new LongAdder();
+    private final LongAdder overdueReturns = new LongAdder();
+
+    // 기동 시점에 이미 대여 중이던 건수 (initializeActive 로 보정)
+    private volatile long activeBaseline = 0;
+
+    // 초당 처리량 (sampleRates 를 주기적으로 호출해 갱신)
+    private long lastRents = 0;
+    private long lastReturns = 0;
+    private long lastSampleNanos = System.nanoTime();
+    private volatile double rentsPerSecond = 0.0;
+    private volatile double returnsPerSecond = 0.0;
+
+    private RentalStatistics() {}
+
+    public static RentalStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    // ====== 기록 ======
+
+    public void recordRent() {
+        rents.increment();
+    }
+
+    public void recordReturn(boolean overdue) {
+        returns.increment();
+        if (overdue) {
+            overdueReturns.increment();
+        }
+    }
+
+    /** 기동 시 DB 의 활성 대여 건수로 현재 대여 중 건수를 맞춥니다. */
+    public void initializeActive(long activeRentals) {
+        activeBaseline = activeRentals - (rents.sum() - returns.sum());
+    }
+
+    /** 직전 샘플 이후의 증가량으로 초당 대여/반납 수를 갱신합니다. */
+    public synchronized void sampleRates() {
+        long now = System.nanoTime();
+        long currentRents = rents.sum();
+        long currentReturns = returns.sum();
+        double seconds = (now - lastSampleNanos) / 1_000_000_000.0;
+        if (seconds > 0) {
+            rentsPerSecond = (currentRents - lastRents) / seconds;
+            returnsPerSecond = (currentReturns - lastReturns) / seconds;
+        }
+        lastRents = currentRents;
+        lastReturns = currentReturns;
+        lastSampleNanos = now;
+    }
+
+    // ====== 조회 (MXBean) ======
+
+    @Override
+    public long getActiveRentals() {
+        return Math.max(0, activeBaseline + rents.sum() - returns.sum());
+    }
+
+    @Override public long getTotalRents() { return rents.sum(); }
+    @Override public long getTotalReturns() { return returns.sum(); }
+    @Override public long getOverdueReturns() { return overdueReturns.sum(); }
+    @Override public double getRentsPerSecond() { return rentsPerSecond; }
+    @Override public double getReturnsPerSecond() { return returnsPerSecond; }
+}
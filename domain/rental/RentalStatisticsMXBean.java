@@ -0,0 +1,14 @@
+package domain.rental;
+
+/**
+ * JMX 로 노출되는 대여/반납 통계.
+ */
+public interface RentalStatisticsMXBean {
+    long getActiveRentals();
+    long getTotalRents();
+    long getTotalReturns();
+    long getOverdueReturns();
+
+    double getRentsPerSecond();
+    double getReturnsPerSecond();
+}
@@ -0,0 +1,86 @@
+package domain.rental;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시뮬레이션용 시계: 실제 경과 시간에 배율(rate)을 곱해 흐르고, advance 로 즉시 앞당길 수 있습니다.
+ * RentalService / RentalRepository 에 주입하면 몇 주치 연체를 몇 초 만에 재현할 수 있습니다.
+ *
+ *   SimulatedClock clock = SimulatedClock.startingNow(8_640); // 실제 5분 = 시뮬레이션 30일
+ *   clock.advance(Duration.ofDays(3));
+ *
+ * 실제 시간은 System.nanoTime 기준이므로 시스템 시각이 바뀌어도 거꾸로 가지 않으며,
+ * withZone 으로 만든 시계는 같은 시간(advance 포함)을 공유합니다.
+ */
+public class SimulatedClock extends Clock {
+
+    private final Instant origin;
+    private final long originNanos;
+    private final double rate;
+    private final ZoneId zone;
+    // advance 로 앞당긴 시간 (ns, withZone 시계와 공유)
+    private final AtomicLong advancedNanos;
+
+    private SimulatedClock(Instant origin, long originNanos, double rate, ZoneId zone, AtomicLong advancedNanos) {
+        this.origin = origin;
+        this.originNanos = originNanos;
+        this.rate = rate;
+        this.zone = zone;
+        this.advancedNanos = advancedNanos;
+    }
+
+    /** 현재 시각에서 시작해 실제 시간의 rate 배로 흐르는 시계 (rate 0 이면 advance 로만 움직임) */
+    public static SimulatedClock startingNow(double rate) {
+        return startingAt(Instant.now(), rate);
+    }
+
+    public static SimulatedClock startingAt(Instant origin, double rate) {
+        if (rate < 0 || Double.isNaN(rate) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("rate must be >= 0: " + rate);
+        }
+        return new SimulatedClock(Objects.requireNonNull(origin, "origin"), System.nanoTime(), rate,
+                ZoneId.systemDefault(), new AtomicLong());
+    }
+
+    /** 시뮬레이션 시간을 즉시 앞당김 */
+    public void advance(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("시계는 되돌릴 수 없습니다: " + duration);
+        }
+        advancedNanos.addAndGet(duration.toNanos());
+    }
+
+    /** 시작 이후 흐른 시뮬레이션 시간 */
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos());
+    }
+
+    public double getRate() { return rate; }
+
+    @Override
+    public ZoneId getZone() { return zone; }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new SimulatedClock(origin, originNanos, rate, zone, advancedNanos);
+    }
+
+    @Override
+    public Instant instant() {
+        return origin.plusNanos(elapsedNanos());
+    }
+
+    private long elapsedNanos() {
+        return (long) ((System.nanoTime() - originNanos) * rate) + advancedNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedClock[origin=" + origin + ", rate=x" + rate + ", now=" + instant() + "]";
+    }
+}
@@ -0,0 +1,49 @@
+package domain.rental.analytics;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 이력 분석 조건 (지정하지 않은 항목은 조건/구분에서 제외).
+ *
+ *   AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.CAR_TYPE).bucket(AnalyticsQuery.Bucket.MONTH).from(...).to(...)
+ *
+ * 기간(from ~ to)은 대여 시작 시각 기준이며 from 이상, to 미만입니다.
+ * 가동 시간(occupiedSeconds)은 기간과 겹치는 대여 구간을 모두 더하므로 기간 이전에 시작한 대여도 포함합니다.
+ * 시간 구간을 나누면 가동 시간은 대여 시작일이 아니라 실제 시간으로 구간 경계에서 나눠 각 구간에 더합니다.
+ */
+public class AnalyticsQuery {
+
+    /** 그룹 구분 기준 */
+    public enum GroupBy { NONE, CAR_TYPE, MEMBERSHIP, FEE_STRATEGY }
+
+    /** 시간 구간 (대여 시작일 기준, 주는 월요일 시작) */
+    public enum Bucket { NONE, DAY, WEEK, MONTH }
+
+    private GroupBy groupBy = GroupBy.NONE;
+    private Bucket bucket = Bucket.NONE;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    public static AnalyticsQuery all() {
+        return new AnalyticsQuery();
+    }
+
+    public static AnalyticsQuery groupBy(GroupBy groupBy) {
+        return new AnalyticsQuery().group(groupBy);
+    }
+
+    public AnalyticsQuery group(GroupBy groupBy) { this.groupBy = groupBy; return this; }
+    public AnalyticsQuery bucket(Bucket bucket) { this.bucket = bucket; return this; }
+    public AnalyticsQuery from(LocalDateTime from) { this.from = from; return this; }
+    public AnalyticsQuery to(LocalDateTime to) { this.to = to; return this; }
+
+    public GroupBy getGroupBy() { return groupBy; }
+    public Bucket getBucket() { return bucket; }
+    public LocalDateTime getFrom() { return from; }
+    public LocalDateTime getTo() { return to; }
+
+    @Override
+    public String toString() {
+        return "AnalyticsQuery{groupBy=%s, bucket=%s, from=%s, to=%s}".formatted(groupBy, bucket, from, to);
+    }
+}
@@ -0,0 +1,73 @@
+package domain.rental.analytics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * RentalAnalytics 실행 결과: (그룹, 시간 구간)별 집계 행과 실행 정보.
+ * 금액은 원 단위이며, 요금 백분위는 그룹 단위(시간 구간 구분 없음)입니다.
+ */
+public class AnalyticsResult {
+
+    /** 집계 행 1개 */
+    public static final class Row {
+        private final String group;
+        private final LocalDate bucketStart;
+        private final long rentals;
+        private final long revenue;
+        private final long penalty;
+        private final long rentalDays;
+        private final long occupiedSeconds;
+        private final long feeP50;
+        private final long feeP90;
+        private final long feeP99;
+
+        Row(String group, LocalDate bucketStart, long rentals, long revenue, long penalty, long rentalDays,
+            long occupiedSeconds, long feeP50, long feeP90, long feeP99) {
+            this.group = group;
+            this.bucketStart = bucketStart;
+            this.rentals = rentals;
+            this.revenue = revenue;
+            this.penalty = penalty;
+            this.rentalDays = rentalDays;
+            this.occupiedSeconds = occupiedSeconds;
+            this.feeP50 = feeP50;
+            this.feeP90 = feeP90;
+            this.feeP99 = feeP99;
+        }
+
+        /** 그룹 이름 (GroupBy.NONE 이면 "전체") */
+        public String getGroup() { return group; }
+        /** 시간 구간 시작일 (Bucket.NONE 이면 null) */
+        public LocalDate getBucketStart() { return bucketStart; }
+        public long getRentals() { return rentals; }
+        public long getRevenue() { return revenue; }
+        public long getPenalty() { return penalty; }
+        public long getRentalDays() { return rentalDays; }
+        /** 조회 기간과 겹치는 대여 시간 중 이 시간 구간에 속한 부분의 합계 (기간 지정 시) */
+        public long getOccupiedSeconds() { return occupiedSeconds; }
+        public long getFeeP50() { return feeP50; }
+        public long getFeeP90() { return feeP90; }
+        public long getFeeP99() { return feeP99; }
+
+        public long getAverageFee() { return rentals == 0 ? 0 : revenue / rentals; }
+        public double getAverageDays() { return rentals == 0 ? 0.0 : (double) rentalDays / rentals; }
+    }
+
+    private final AnalyticsQuery query;
+    private final List<Row> rows;
+    private final long scannedRows;
+    private final long elapsedNanos;
+
+    AnalyticsResult(AnalyticsQuery query, List<Row> rows, long scannedRows, long elapsedNanos) {
+        this.query = query;
+        this.rows = List.copyOf(rows);
+        this.scannedRows = scannedRows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public AnalyticsQuery getQuery() { return query; }
+    public List<Row> getRows() { return rows; }
+    public long getScannedRows() { return scannedRows; }
+    public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+}
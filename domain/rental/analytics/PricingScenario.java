@@ -0,0 +1,59 @@
+package domain.rental.analytics;
+
+import domain.rental.strategy.FeeStrategy;
+import domain.rental.strategy.MultiplierFeeStrategy;
+import domain.user.strategy.UserMembershipStrategy;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 가격 시뮬레이션 후보 구성: 기존 정책 이름(대여 기록의 feeStrategy / membership 값) → 대체할 정책.
+ * 지정하지 않은 정책은 기록된 요금/할인을 그대로 사용합니다.
+ *
+ *   PricingScenario.named("성수기 1.3배")
+ *       .fee("PeakSeasonFeeStrategy", new MultiplierFeeStrategy(new BigDecimal("1.3")))
+ *       .membership("VIPStrategy", new RateMembershipStrategy(new BigDecimal("0.85")))
+ */
+public class PricingScenario {
+
+    private final String name;
+    private final Map<String, FeeStrategy> feeStrategies = new LinkedHashMap<>();
+    private final Map<String, UserMembershipStrategy> memberships = new LinkedHashMap<>();
+
+    private PricingScenario(String name) {
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    public static PricingScenario named(String name) {
+        return new PricingScenario(name);
+    }
+
+    /** 성수기/비수기 배율만 바꾸는 시나리오 */
+    public static PricingScenario seasonMultipliers(BigDecimal peak, BigDecimal off) {
+        return named("성수기 x" + peak.toPlainString() + " / 비수기 x" + off.toPlainString())
+                .fee("PeakSeasonFeeStrategy", new MultiplierFeeStrategy(peak))
+                .fee("OffSeasonFeeStrategy", new MultiplierFeeStrategy(off));
+    }
+
+    public PricingScenario fee(String original, FeeStrategy candidate) {
+        feeStrategies.put(Objects.requireNonNull(original, "original"), Objects.requireNonNull(candidate, "candidate"));
+        return this;
+    }
+
+    public PricingScenario membership(String original, UserMembershipStrategy candidate) {
+        memberships.put(Objects.requireNonNull(original, "original"), Objects.requireNonNull(candidate, "candidate"));
+        return this;
+    }
+
+    public String getName() { return name; }
+    public Map<String, FeeStrategy> getFeeStrategies() { return Map.copyOf(feeStrategies); }
+    public Map<String, UserMembershipStrategy> getMemberships() { return Map.copyOf(memberships); }
+
+    @Override
+    public String toString() {
+        return "PricingScenario{name=%s, fee=%s, membership=%s}".formatted(name, feeStrategies, memberships);
+    }
+}
@@ -0,0 +1,79 @@
+package domain.rental.analytics;
+
+import java.util.List;
+
+/**
+ * PricingSimulator 실행 결과: 실제(기록된) 매출과 시나리오별 시뮬레이션 매출.
+ * 금액은 원 단위이며, 연체료는 양쪽 모두 기록된 값을 그대로 포함합니다.
+ */
+public class PricingSimulationResult {
+
+    /** 구분(요금 정책 / 회원 등급)별 실제 매출과 시뮬레이션 매출 */
+    public static final class Line {
+        private final String label;
+        private final long baseline;
+        private final long simulated;
+
+        Line(String label, long baseline, long simulated) {
+            this.label = label;
+            this.baseline = baseline;
+            this.simulated = simulated;
+        }
+
+        public String getLabel() { return label; }
+        public long getBaseline() { return baseline; }
+        public long getSimulated() { return simulated; }
+        public long getDelta() { return simulated - baseline; }
+        public double getDeltaPercent() { return baseline == 0 ? 0.0 : getDelta() * 100.0 / baseline; }
+    }
+
+    /** 시나리오 1개의 결과 */
+    public static final class ScenarioResult {
+        private final String name;
+        private final long baseline;
+        private final long simulated;
+        private final List<Line> byFeeStrategy;
+        private final List<Line> byMembership;
+
+        ScenarioResult(String name, long baseline, long simulated, List<Line> byFeeStrategy, List<Line> byMembership) {
+            this.name = name;
+            this.baseline = baseline;
+            this.simulated = simulated;
+            this.byFeeStrategy = List.copyOf(byFeeStrategy);
+            this.byMembership = List.copyOf(byMembership);
+        }
+
+        public String getName() { return name; }
+        public long getBaseline() { return baseline; }
+        public long getSimulated() { return simulated; }
+        public long getDelta() { return simulated - baseline; }
+        public double getDeltaPercent() { return baseline == 0 ? 0.0 : getDelta() * 100.0 / baseline; }
+        public List<Line> getByFeeStrategy() { return byFeeStrategy; }
+        public List<Line> getByMembership() { return byMembership; }
+    }
+
+    private final long rentals;
+    private final long baseline;
+    private final List<ScenarioResult> scenarios;
+    private final long scannedRows;
+    private final long elapsedNanos;
+
+    PricingSimulationResult(long rentals, long baseline, List<ScenarioResult> scenarios, long scannedRows,
+                            long elapsedNanos) {
+        this.rentals = rentals;
+        this.baseline = baseline;
+        this.scenarios = List.copyOf(scenarios);
+        this.scannedRows = scannedRows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** 시뮬레이션 대상(기간 내 반납 완료) 대여 건수 */
+    public long getRentals() { return rentals; }
+    /** 실제 매출 합계 */
+    public long getBaseline() { return baseline; }
+    public List<ScenarioResult> getScenarios() { return scenarios; }
+    public long getScannedRows() { return scannedRows; }
+    public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+    /** 초당 처리 행 수 (저장소 전체 스캔 기준) */
+    public double getRowsPerSecond() { return elapsedNanos == 0 ? 0.0 : scannedRows * 1e9 / elapsedNanos; }
+}
@@ -0,0 +1,228 @@
+package domain.rental.analytics;
+
+import domain.car.Car;
+import domain.car.carFactory.CarType;
+import domain.rental.RentalRecord;
+import domain.rental.strategy.FeeStrategy;
+import domain.user.strategy.UserMembershipStrategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 정책 What-if 시뮬레이션: 컬럼 저장소의 반납 완료 대여를 후보 요금 정책/회원 등급 정책으로 다시 계산해
+ * 실제 매출과의 차이를 구합니다. 여러 시나리오를 한 번의 병렬 스캔(RentalColumnStore.scan)으로 처리합니다.
+ *
+ * 정책 인터페이스는 BigDecimal 기반이므로 행마다 호출하지 않고, 실행 전에 한 번만 호출해 보정표를 만듭니다.
+ * - 요금 정책: (차종, 대여 일수)별 "후보 요금 / 기존 요금" 비율 (백만분율)
+ * - 회원 등급: 할인 후 금액 비율 (백만분율)
+ * 스캔은 이 표와 기록된 기본 요금/옵션 요금/할인/연체료(long)만으로 계산하므로 행 단위 객체 생성이 없습니다.
+ * 보정표는 일 요금에 비례하는(선형) 정책을 전제로 하며, 그렇지 않은 정책은 IllegalArgumentException 으로 거부합니다.
+ *
+ *   new PricingSimulator(store).run(from, to, List.of(PricingScenario.seasonMultipliers(peak, off)))
+ */
+public class PricingSimulator {
+
+    // 보정표의 최대 대여 일수 (그 이상은 마지막 값 사용)
+    static final int MAX_DAYS = 366;
+    private static final long PPM = 1_000_000L;
+    private static final BigDecimal BIG_PPM = BigDecimal.valueOf(PPM);
+    private static final CarType[] CAR_TYPES = CarType.values();
+    private static final String FEE_STRATEGY_PACKAGE = "domain.rental.strategy.";
+    private static final String UNKNOWN = "(없음)";
+
+    private final RentalColumnStore store;
+
+    public PricingSimulator(RentalColumnStore store) {
+        this.store = store;
+    }
+
+    /** 시나리오 1개의 보정표 (null 이면 해당 정책은 변경 없음) */
+    private static final class Calibration {
+        final long[][] feeRatio;   // [요금 정책 코드][차종 × (MAX_DAYS + 1) + 일수]
+        final long[] memberRatio;  // [회원 등급 코드], 변경 없으면 -1
+
+        Calibration(int feeStrategies, int memberships) {
+            feeRatio = new long[feeStrategies + 1][];
+            memberRatio = new long[memberships + 1];
+            Arrays.fill(memberRatio, -1);
+        }
+    }
+
+    /**
+     * 대여 시작 시각이 [from, to) 인 반납 완료 대여를 시나리오별로 다시 계산합니다 (from/to 가 null 이면 제한 없음).
+     */
+    public PricingSimulationResult run(LocalDateTime from, LocalDateTime to, List<PricingScenario> scenarios) {
+        long start = System.nanoTime();
+        long scanned = store.size();
+
+        // 스캔 도중 사전에 추가되는 값은 제외하도록 이름 목록을 먼저 고정
+        List<String> feeNames = store.feeStrategyNames();
+        List<String> memberNames = store.membershipNames();
+        int fees = feeNames.size();
+        int members = memberNames.size();
+        int scenarioCount = scenarios.size();
+        Calibration[] calibrations = new Calibration[scenarioCount];
+        for (int s = 0; s < scenarioCount; s++) {
+            calibrations[s] = calibrate(scenarios.get(s), feeNames, memberNames);
+        }
+
+        long fromEpoch = from == null ? Long.MIN_VALUE : RentalColumnStore.epochSecond(from);
+        long toEpoch = to == null ? Long.MAX_VALUE : RentalColumnStore.epochSecond(to);
+        byte returned = (byte) RentalRecord.Status.RETURNED.ordinal();
+
+        // 누적기: [0] 건수, 이후 (실제 + 시나리오 수)개 블록 × (요금 정책별 + 회원 등급별) 매출
+        int block = fees + 1 + members + 1;
+        int width = 1 + (scenarioCount + 1) * block;
+
+        long[] total = store.scan(() -> new long[width], (acc, c, lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                if (c.status[i] != returned) continue;
+                long rentalStart = c.startEpoch[i];
+                if (rentalStart < fromEpoch || rentalStart >= toEpoch) continue;
+                int f = c.feeStrategy[i];
+                int m = c.membership[i];
+                if (f >= fees || m >= members) continue; // 조회 시작 후 사전에 추가된 값
+                if (f < 0) f = fees;
+                if (m < 0) m = members;
+
+                long base = c.baseFee[i];
+                long option = c.optionFee[i];
+                long penalty = c.penalty[i];
+                long paid = c.totalFee[i];
+                long rental = base + option;
+                // 기록된 할인 후 금액 비율 (회원 등급을 바꾸지 않는 시나리오에서 그대로 사용)
+                long keptRatio = rental == 0 ? PPM : ((rental - c.discount[i]) * PPM + rental / 2) / rental;
+                int days = c.days[i];
+                int key = c.carType[i] * (MAX_DAYS + 1) + Math.max(0, Math.min(days, MAX_DAYS));
+
+                acc[0]++;
+                acc[1 + f] += paid;
+                acc[1 + fees + 1 + m] += paid;
+                for (int s = 0; s < scenarioCount; s++) {
+                    Calibration cal = calibrations[s];
+                    long[] feeRatio = cal.feeRatio[f];
+                    long newBase = feeRatio == null ? base : (base * feeRatio[key] + PPM / 2) / PPM;
+                    long memberRatio = cal.memberRatio[m];
+                    long simulated;
+                    if (memberRatio < 0) {
+                        simulated = newBase == base ? paid : ((newBase + option) * keptRatio + PPM / 2) / PPM + penalty;
+                    } else {
+                        simulated = ((newBase + option) * memberRatio + PPM / 2) / PPM + penalty;
+                    }
+                    int offset = 1 + (s + 1) * block;
+                    acc[offset + f] += simulated;
+                    acc[offset + fees + 1 + m] += simulated;
+                }
+            }
+        }, (a, b) -> {
+            for (int i = 0; i < a.length; i++) a[i] += b[i];
+            return a;
+        });
+
+        long baseline = 0;
+        for (int f = 0; f <= fees; f++) baseline += total[1 + f];
+        List<PricingSimulationResult.ScenarioResult> results = new ArrayList<>();
+        for (int s = 0; s < scenarioCount; s++) {
+            int offset = 1 + (s + 1) * block;
+            List<PricingSimulationResult.Line> byFee = lines(feeNames, total, 1, offset);
+            List<PricingSimulationResult.Line> byMember = lines(memberNames, total, 1 + fees + 1, offset + fees + 1);
+            long simulated = 0;
+            for (int f = 0; f <= fees; f++) simulated += total[offset + f];
+            results.add(new PricingSimulationResult.ScenarioResult(scenarios.get(s).getName(),
+                    baseline / RentalColumnStore.MONEY_SCALE, simulated / RentalColumnStore.MONEY_SCALE, byFee, byMember));
+        }
+        return new PricingSimulationResult(total[0], baseline / RentalColumnStore.MONEY_SCALE, results, scanned,
+                System.nanoTime() - start);
+    }
+
+    // ====== 보정 ======
+
+    private Calibration calibrate(PricingScenario scenario, List<String> feeNames, List<String> memberNames) {
+        Calibration cal = new Calibration(feeNames.size(), memberNames.size());
+        for (Map.Entry<String, FeeStrategy> e : scenario.getFeeStrategies().entrySet()) {
+            int code = feeNames.indexOf(e.getKey());
+            if (code < 0) continue; // 이력에 없는 정책
+            FeeStrategy original = instantiate(FEE_STRATEGY_PACKAGE, e.getKey(), FeeStrategy.class);
+            cal.feeRatio[code] = feeRatios(e.getKey(), original, e.getValue());
+        }
+        for (Map.Entry<String, UserMembershipStrategy> e : scenario.getMemberships().entrySet()) {
+            int code = memberNames.indexOf(e.getKey());
+            if (code < 0) continue;
+            cal.memberRatio[code] = memberRatio(e.getValue());
+        }
+        return cal;
+    }
+
+    /** (차종, 일수)별 후보 요금 / 기존 요금 (백만분율) */
+    private static long[] feeRatios(String name, FeeStrategy original, FeeStrategy candidate) {
+        long[] table = new long[CAR_TYPES.length * (MAX_DAYS + 1)];
+        for (CarType type : CAR_TYPES) {
+            Car probe = probe(type, type.baseRate());
+            Car doubled = probe(type, type.baseRate().multiply(BigDecimal.valueOf(2)));
+            int row = type.ordinal() * (MAX_DAYS + 1);
+            table[row] = PPM;
+            for (int days = 1; days <= MAX_DAYS; days++) {
+                BigDecimal before = linearFee(name, original, probe, doubled, days);
+                BigDecimal after = linearFee(candidate.toString(), candidate, probe, doubled, days);
+                table[row + days] = before.signum() == 0 ? PPM
+                        : after.multiply(BIG_PPM).divide(before, 0, RoundingMode.HALF_UP).longValueExact();
+            }
+        }
+        return table;
+    }
+
+    /** 일 요금을 2배로 했을 때 요금도 2배가 되는지 확인 (보정표는 일 요금과 무관해야 함) */
+    private static BigDecimal linearFee(String name, FeeStrategy strategy, Car probe, Car doubled, int days) {
+        BigDecimal fee = strategy.calculateTotalFee(probe, days);
+        BigDecimal twice = strategy.calculateTotalFee(doubled, days);
+        if (fee.multiply(BigDecimal.valueOf(2)).subtract(twice).abs().compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("일 요금에 비례하지 않는 요금 정책은 시뮬레이션할 수 없습니다: " + name);
+        }
+        return fee;
+    }
+
+    /** 할인 후 금액 비율 (백만분율) */
+    private static long memberRatio(UserMembershipStrategy candidate) {
+        BigDecimal once = candidate.calculateDiscount(BIG_PPM);
+        BigDecimal twice = candidate.calculateDiscount(BIG_PPM.multiply(BigDecimal.valueOf(2)));
+        if (once.multiply(BigDecimal.valueOf(2)).subtract(twice).abs().compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("금액에 비례하지 않는 할인 정책은 시뮬레이션할 수 없습니다: " + candidate.name());
+        }
+        return once.setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static Car probe(CarType type, BigDecimal dailyFee) {
+        Car car = new Car("0", type);
+        car.setDailyRentalFee(dailyFee);
+        return car;
+    }
+
+    /** 대여 기록에 남은 클래스 이름으로 기존 정책 생성 (기본 생성자 필요) */
+    private static <T> T instantiate(String packageName, String simpleName, Class<T> type) {
+        try {
+            Class<?> cls = Class.forName(packageName + simpleName);
+            return type.cast(cls.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw new IllegalArgumentException("기존 정책을 찾을 수 없어 비교할 수 없습니다: " + simpleName, e);
+        }
+    }
+
+    private static List<PricingSimulationResult.Line> lines(List<String> names, long[] total,
+                                                            int baselineOffset, int simulatedOffset) {
+        List<PricingSimulationResult.Line> lines = new ArrayList<>();
+        for (int i = 0; i <= names.size(); i++) {
+            long baseline = total[baselineOffset + i];
+            long simulated = total[simulatedOffset + i];
+            if (baseline == 0 && simulated == 0) continue;
+            lines.add(new PricingSimulationResult.Line(i < names.size() ? names.get(i) : UNKNOWN,
+                    baseline / RentalColumnStore.MONEY_SCALE, simulated / RentalColumnStore.MONEY_SCALE));
+        }
+        return lines;
+    }
+}
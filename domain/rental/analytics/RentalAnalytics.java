@@ -0,0 +1,226 @@
+package domain.rental.analytics;
+
+import domain.car.carFactory.CarType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컬럼 저장소 위의 병렬 분석 엔진: 그룹(차종/회원 등급/요금 정책) × 시간 구간(일/주/월)별
+ * 건수, 매출, 연체료, 대여 일수, 가동 시간과 그룹별 요금 백분위를 계산합니다.
+ *
+ * 실행은 RentalColumnStore.scan 의 fork/join 분할을 그대로 사용하며, 작업마다 기본형 배열 누적기(Cells)를
+ * 따로 두고 마지막에 합치므로 행 단위 객체 생성이나 잠금이 없습니다.
+ * 날짜 경계는 실행 시점의 시스템 시간대 오프셋으로 계산합니다 (일광 절약 시간 전환은 고려하지 않음).
+ *
+ *   new RentalAnalytics(store).run(AnalyticsQuery.groupBy(GroupBy.CAR_TYPE).from(from).to(to))
+ */
+public class RentalAnalytics {
+
+    // 시간 구간 배열의 최대 크기 (그룹 수 × 구간 수)
+    private static final int MAX_CELLS = 1_000_000;
+    private static final String ALL = "전체";
+    private static final String UNKNOWN = "(없음)";
+
+    private final RentalColumnStore store;
+
+    public RentalAnalytics(RentalColumnStore store) {
+        this.store = store;
+    }
+
+    public RentalColumnStore getStore() { return store; }
+
+    /** 작업별 누적기: (그룹, 구간) 칸은 g * buckets + b */
+    private static final class Cells {
+        final int buckets;
+        final long[] rentals;
+        final long[] revenue;
+        final long[] penalty;
+        final long[] days;
+        final long[] occupied;
+        final FeeHistogram[] fees;
+
+        Cells(int groups, int buckets) {
+            this.buckets = buckets;
+            int n = groups * buckets;
+            rentals = new long[n];
+            revenue = new long[n];
+            penalty = new long[n];
+            days = new long[n];
+            occupied = new long[n];
+            fees = new FeeHistogram[groups];
+            for (int g = 0; g < groups; g++) {
+                fees[g] = new FeeHistogram();
+            }
+        }
+
+        Cells merge(Cells other) {
+            for (int i = 0; i < rentals.length; i++) {
+                rentals[i] += other.rentals[i];
+                revenue[i] += other.revenue[i];
+                penalty[i] += other.penalty[i];
+                days[i] += other.days[i];
+                occupied[i] += other.occupied[i];
+            }
+            for (int g = 0; g < fees.length; g++) {
+                fees[g].merge(other.fees[g]);
+            }
+            return this;
+        }
+    }
+
+    public AnalyticsResult run(AnalyticsQuery query) {
+        long start = System.nanoTime();
+        long scanned = store.size();
+
+        List<String> labels = groupLabels(query.getGroupBy());
+        int groups = labels.size();
+        int unknownGroup = groups - 1;
+
+        long fromEpoch = query.getFrom() == null ? Long.MIN_VALUE : RentalColumnStore.epochSecond(query.getFrom());
+        long toEpoch = query.getTo() == null ? Long.MAX_VALUE : RentalColumnStore.epochSecond(query.getTo());
+        long firstStart = Math.max(fromEpoch, store.minStartEpoch());
+        long lastStart = Math.min(toEpoch - 1, store.maxStartEpoch());
+        if (scanned == 0 || firstStart > lastStart) {
+            return new AnalyticsResult(query, List.of(), scanned, System.nanoTime() - start);
+        }
+
+        AnalyticsQuery.Bucket bucket = query.getBucket();
+        boolean occupancy = query.getFrom() != null && query.getTo() != null;
+        int offset = ZoneId.systemDefault().getRules().getOffset(Instant.now()).getTotalSeconds();
+        // 가동 시간은 기간 끝까지 이어지므로 기간이 지정되면 구간도 기간 전체를 덮음
+        long firstDay = Math.floorDiv((occupancy ? fromEpoch : firstStart) + offset, 86_400L);
+        long lastDay = Math.floorDiv((occupancy ? toEpoch - 1 : lastStart) + offset, 86_400L);
+        long firstBucket = bucketOf(bucket, firstDay);
+        long bucketSpan = bucketOf(bucket, lastDay) - firstBucket + 1;
+        if (bucketSpan * groups > MAX_CELLS || lastDay - firstDay >= MAX_CELLS) {
+            throw new IllegalArgumentException("시간 구간이 너무 많습니다: " + bucketSpan + "개 × 그룹 " + groups + "개");
+        }
+        int buckets = (int) bucketSpan;
+        // 일 → 구간 번호 표 (행마다 달력 계산 대신 나눗셈 1번 + 배열 조회)
+        int[] bucketByDay = new int[(int) (lastDay - firstDay + 1)];
+        for (int d = 0; d < bucketByDay.length; d++) {
+            bucketByDay[d] = (int) (bucketOf(bucket, firstDay + d) - firstBucket);
+        }
+        // 구간 b 의 시작 시각(epoch 초), 마지막 원소는 끝 시각 (가동 시간을 구간 경계에서 나누는 데 사용)
+        long[] bucketEdge = new long[buckets + 1];
+        for (int d = bucketByDay.length - 1; d >= 0; d--) {
+            bucketEdge[bucketByDay[d]] = (firstDay + d) * 86_400L - offset;
+        }
+        bucketEdge[buckets] = (lastDay + 1) * 86_400L - offset;
+        AnalyticsQuery.GroupBy groupBy = query.getGroupBy();
+
+        Cells total = store.scan(() -> new Cells(groups, buckets), (acc, c, lo, hi) -> {
+            byte[] groupColumn = switch (groupBy) {
+                case CAR_TYPE -> c.carType;
+                case MEMBERSHIP -> c.membership;
+                case FEE_STRATEGY -> c.feeStrategy;
+                case NONE -> null;
+            };
+            for (int i = lo; i < hi; i++) {
+                int g = groupColumn == null ? 0 : groupColumn[i];
+                if (g < 0) {
+                    g = unknownGroup;
+                } else if (g >= groups) {
+                    continue; // 조회 시작 후 사전에 추가된 값
+                }
+                long rentalStart = c.startEpoch[i];
+                if (occupancy) {
+                    long from = Math.max(rentalStart, fromEpoch);
+                    long to = Math.min(c.endEpoch[i], toEpoch);
+                    if (from < to) {
+                        int b = bucketByDay[(int) (Math.floorDiv(from + offset, 86_400L) - firstDay)];
+                        for (; b < buckets && bucketEdge[b] < to; b++) {
+                            acc.occupied[g * buckets + b] += Math.min(to, bucketEdge[b + 1]) - Math.max(from, bucketEdge[b]);
+                        }
+                    }
+                }
+                if (rentalStart < fromEpoch || rentalStart >= toEpoch) continue;
+                long day = Math.floorDiv(rentalStart + offset, 86_400L) - firstDay;
+                if (day < 0 || day >= bucketByDay.length) continue; // 조회 시작 후 추가된 행
+
+                int cell = g * buckets + bucketByDay[(int) day];
+                long fee = c.totalFee[i];
+                acc.rentals[cell]++;
+                acc.revenue[cell] += fee;
+                acc.penalty[cell] += c.penalty[i];
+                acc.days[cell] += c.days[i];
+                acc.fees[g].record(fee / RentalColumnStore.MONEY_SCALE);
+            }
+        }, Cells::merge);
+
+        List<AnalyticsResult.Row> rows = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            FeeHistogram fees = total.fees[g];
+            long p50 = fees.percentile(50), p90 = fees.percentile(90), p99 = fees.percentile(99);
+            for (int b = 0; b < buckets; b++) {
+                int cell = g * buckets + b;
+                long occupied = total.occupied[cell];
+                if (total.rentals[cell] == 0 && occupied == 0) continue;
+                rows.add(new AnalyticsResult.Row(labels.get(g),
+                        bucket == AnalyticsQuery.Bucket.NONE ? null : bucketStart(bucket, firstBucket + b),
+                        total.rentals[cell], total.revenue[cell] / RentalColumnStore.MONEY_SCALE,
+                        total.penalty[cell] / RentalColumnStore.MONEY_SCALE, total.days[cell], occupied,
+                        p50, p90, p99));
+            }
+        }
+        return new AnalyticsResult(query, rows, scanned, System.nanoTime() - start);
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    /** 그룹 이름 목록 (사전 인코딩 그룹은 마지막에 값이 없는 행용 "(없음)") */
+    private List<String> groupLabels(AnalyticsQuery.GroupBy groupBy) {
+        List<String> labels = new ArrayList<>();
+        switch (groupBy) {
+            case NONE -> labels.add(ALL);
+            case CAR_TYPE -> {
+                for (CarType type : CarType.values()) labels.add(type.name());
+            }
+            case MEMBERSHIP -> {
+                labels.addAll(store.membershipNames());
+                labels.add(UNKNOWN);
+            }
+            case FEE_STRATEGY -> {
+                labels.addAll(store.feeStrategyNames());
+                labels.add(UNKNOWN);
+            }
+        }
+        return labels;
+    }
+
+    /** epoch day → 구간 번호 (일: epoch day, 주: 월요일 시작 주 번호, 월: 연 × 12 + 월 - 1) */
+    static long bucketOf(AnalyticsQuery.Bucket bucket, long day) {
+        return switch (bucket) {
+            case NONE -> 0;
+            case DAY -> day;
+            case WEEK -> Math.floorDiv(day + 3, 7); // 1970-01-01 은 목요일
+            case MONTH -> monthIndex(day);
+        };
+    }
+
+    static LocalDate bucketStart(AnalyticsQuery.Bucket bucket, long index) {
+        return switch (bucket) {
+            case NONE -> null;
+            case DAY -> LocalDate.ofEpochDay(index);
+            case WEEK -> LocalDate.ofEpochDay(index * 7 - 3);
+            case MONTH -> LocalDate.of((int) Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1, 1);
+        };
+    }
+
+    /** epoch day → 연 × 12 + 월 - 1 (그레고리력 변환, 정수 연산만) */
+    private static long monthIndex(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long doe = z - era * 146_097;
+        long yoe = (doe - doe / 1_460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+}
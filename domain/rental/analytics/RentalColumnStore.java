@@ -0,0 +1,390 @@
+package domain.rental.analytics;
+
+import domain.car.Car;
+import domain.car.carFactory.CarType;
+import domain.rental.RentalEventListener;
+import domain.rental.RentalHistoryFilter;
+import domain.rental.RentalRecord;
+import domain.rental.RentalRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * 분석용 대여 이력 컬럼 저장소 (struct-of-arrays).
+ *
+ * 행마다 객체/Map 을 만드는 대신 컬럼별 기본형 배열에 저장하므로, 집계는 배열을 도는 단순 반복문이 되고
+ * 행당 약 90바이트만 사용합니다. 배열은 CHUNK_SIZE 행 단위 청크로 나뉘어 있어 뒤에 덧붙여도 복사가 없고,
+ * 청크 범위를 fork/join 작업 단위로 그대로 나눠 여러 코어에서 집계합니다.
+ *
+ *  - 금액은 원 × MONEY_SCALE 정수, 시각은 epoch 초
+ *  - 상태는 RentalRecord.Status 순서, 차량 타입은 CarType 순서 (1바이트)
+ *  - 요금 정책 / 회원 등급은 사전 인코딩 1바이트, 옵션은 사전 코드별 비트 마스크, 사용자는 로그인 ID 사전 코드
+ *
+ * 기동 시 load(...)로 rental + rental_archive 를 커서 스트리밍으로 적재하고,
+ * RentalService 리스너로 등록되어 이후 대여/반납을 반영합니다 (쓰기는 1개 스레드씩).
+ *
+ * 대여(행 추가)는 size 의 volatile 쓰기로 공개되고, 반납(기존 행의 상태/요금 변경)은 대기열에 넣었다가
+ * 실행 중인 스캔이 없을 때만 반영합니다. 스캔은 시작할 때 밀린 반납을 반영한 뒤 끝날 때까지 읽기 잠금을 쥐므로,
+ * 한 번의 스캔 안에서는 모든 행이 일관된 상태(반납 전 또는 반납 후 값 전체)로 보입니다.
+ * 스캔 도중의 반납은 다음 스캔부터 보입니다 (최종 일관성). 반납 경로는 잠금을 기다리지 않습니다.
+ */
+public class RentalColumnStore implements RentalEventListener {
+
+    static final int CHUNK_BITS = 16;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    // fork/join 에서 더 나누지 않고 바로 도는 최소 행 수
+    private static final int LEAF_ROWS = CHUNK_SIZE / 4;
+
+    public static final long MONEY_SCALE = 100;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final CarType[] CAR_TYPES = CarType.values();
+    private static final RentalRecord.Status[] STATUSES = RentalRecord.Status.values();
+
+    /** 청크 1개: 같은 인덱스가 같은 행 */
+    static final class Chunk {
+        final long[] rentalId = new long[CHUNK_SIZE];
+        final int[] carId = new int[CHUNK_SIZE];
+        final int[] user = new int[CHUNK_SIZE];
+        final byte[] carType = new byte[CHUNK_SIZE];
+        final long[] startEpoch = new long[CHUNK_SIZE];
+        final long[] endEpoch = new long[CHUNK_SIZE];
+        final int[] days = new int[CHUNK_SIZE];
+        final byte[] status = new byte[CHUNK_SIZE];
+        final byte[] feeStrategy = new byte[CHUNK_SIZE];
+        final byte[] membership = new byte[CHUNK_SIZE];
+        final int[] options = new int[CHUNK_SIZE];
+        final long[] baseFee = new long[CHUNK_SIZE];
+        final long[] optionFee = new long[CHUNK_SIZE];
+        final long[] discount = new long[CHUNK_SIZE];
+        final long[] penalty = new long[CHUNK_SIZE];
+        final long[] totalFee = new long[CHUNK_SIZE];
+    }
+
+    final StringDictionary users = new StringDictionary("user", Integer.MAX_VALUE);
+    final StringDictionary feeStrategies = new StringDictionary("feeStrategy", Byte.MAX_VALUE);
+    final StringDictionary memberships = new StringDictionary("membership", Byte.MAX_VALUE);
+    final StringDictionary optionNames = new StringDictionary("option", Integer.SIZE);
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    // 읽기 스레드는 size 까지만 읽음 (size 를 늘리기 전에 행을 모두 기록하므로 volatile 쓰기가 공개 시점)
+    private volatile int size;
+    private volatile Chunk[] chunkView = new Chunk[0];
+    // 아직 반납되지 않은 대여의 행 번호 (반납 시 갱신용)
+    private final Map<Long, Integer> activeRows = new HashMap<>();
+    // 아직 반영하지 않은 반납 (스캔 중에는 여기 쌓임)
+    private final Queue<PendingReturn> pendingReturns = new ConcurrentLinkedQueue<>();
+    // 스캔(읽기) ↔ 반납 반영(쓰기) 경계
+    private final ReentrantReadWriteLock scanLock = new ReentrantReadWriteLock();
+    // 대여 시작 시각 범위 (시간 구간 집계의 배열 크기 결정용)
+    private volatile long minStartEpoch = Long.MAX_VALUE;
+    private volatile long maxStartEpoch = Long.MIN_VALUE;
+
+    // =================================================================
+    // 적재
+    // =================================================================
+
+    /** 대여 이력 전체(보관분 포함)를 커서로 읽어 저장소를 만듭니다. */
+    public static RentalColumnStore load(RentalRepository repository, int fetchSize) {
+        RentalColumnStore store = new RentalColumnStore();
+        repository.streamHistory(RentalHistoryFilter.all(), fetchSize, store::appendRow);
+        return store;
+    }
+
+    /** RentalRepository.streamHistory 의 현재 행 1건 추가 */
+    public void appendRow(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        String options = rs.getString("options");
+        int optionMask = 0;
+        if (options != null && !options.isEmpty()) {
+            for (String option : options.split(",")) {
+                optionMask |= 1 << optionNames.encode(option);
+            }
+        }
+        append(rs.getLong("id"), rs.getInt("carId"), rs.getString("loginUserId"),
+                CarType.valueOf(rs.getString("carType")),
+                epochSecond(rs.getTimestamp("startTime")), epochSecond(rs.getTimestamp("endTime")),
+                rs.getInt("rentalDays"), RentalRecord.Status.valueOf(status),
+                rs.getString("feeStrategy"), rs.getString("membership"), optionMask,
+                money(rs.getBigDecimal("baseFee")), money(rs.getBigDecimal("optionFee")),
+                money(rs.getBigDecimal("discount")), money(rs.getBigDecimal("penalty")),
+                money(rs.getBigDecimal("totalFee")));
+    }
+
+    /** 행 1건 추가 (금액은 원 × MONEY_SCALE) */
+    public synchronized void append(long rentalId, int carId, String userId, CarType carType,
+                                    long startEpoch, long endEpoch, int days, RentalRecord.Status status,
+                                    String feeStrategy, String membership, int optionMask,
+                                    long baseFee, long optionFee, long discount, long penalty, long totalFee) {
+        int row = size;
+        int offset = row & CHUNK_MASK;
+        if (offset == 0) {
+            chunks.add(new Chunk());
+            chunkView = chunks.toArray(new Chunk[0]);
+        }
+        Chunk c = chunks.get(row >>> CHUNK_BITS);
+        c.rentalId[offset] = rentalId;
+        c.carId[offset] = carId;
+        c.user[offset] = users.encode(userId);
+        c.carType[offset] = (byte) carType.ordinal();
+        c.startEpoch[offset] = startEpoch;
+        c.endEpoch[offset] = endEpoch;
+        c.days[offset] = days;
+        c.status[offset] = (byte) status.ordinal();
+        c.feeStrategy[offset] = (byte) feeStrategies.encode(feeStrategy);
+        c.membership[offset] = (byte) memberships.encode(membership);
+        c.options[offset] = optionMask;
+        c.baseFee[offset] = baseFee;
+        c.optionFee[offset] = optionFee;
+        c.discount[offset] = discount;
+        c.penalty[offset] = penalty;
+        c.totalFee[offset] = totalFee;
+        if (status == RentalRecord.Status.RENTED) {
+            activeRows.put(rentalId, row);
+        }
+        if (startEpoch < minStartEpoch) minStartEpoch = startEpoch;
+        if (startEpoch > maxStartEpoch) maxStartEpoch = startEpoch;
+        size = row + 1;
+    }
+
+    // =================================================================
+    // RentalEventListener (대여/반납 반영)
+    // =================================================================
+
+    @Override
+    public void onRented(RentalRecord record, Car car) {
+        if (record.getId() == null) return;
+        int optionMask = 0;
+        for (String option : record.getOptions()) {
+            optionMask |= 1 << optionNames.encode(option);
+        }
+        append(record.getId(), Integer.parseInt(car.id()), record.getUserId(), car.type(),
+                epochSecond(record.getStartAt()), epochSecond(record.getEndAt()), record.getRentalDays(),
+                RentalRecord.Status.RENTED, record.getFeeStrategyType(), record.getMembershipStrategyType(),
+                optionMask, money(record.getBaseFee()), money(record.getOptionFee()),
+                money(record.getDiscount()), money(record.getPenalty()), money(record.getTotalFee()));
+    }
+
+    @Override
+    public void onReturned(RentalRecord record, Car car) {
+        if (record.getId() == null) return;
+        // 값은 지금 복사 (record 는 호출 후 다른 곳에서 바뀔 수 있음)
+        pendingReturns.add(new PendingReturn(record.getId(), epochSecond(record.getEndAt()),
+                money(record.getDiscount()), money(record.getPenalty()), money(record.getTotalFee())));
+        tryApplyPendingReturns();
+    }
+
+    /** 반납 1건의 확정 값 */
+    private static final class PendingReturn {
+        final long rentalId;
+        final long endEpoch;
+        final long discount;
+        final long penalty;
+        final long totalFee;
+
+        PendingReturn(long rentalId, long endEpoch, long discount, long penalty, long totalFee) {
+            this.rentalId = rentalId;
+            this.endEpoch = endEpoch;
+            this.discount = discount;
+            this.penalty = penalty;
+            this.totalFee = totalFee;
+        }
+    }
+
+    /** 실행 중인 스캔이 없으면 밀린 반납을 반영 (있으면 기다리지 않고 다음 기회로 미룸) */
+    private void tryApplyPendingReturns() {
+        if (pendingReturns.isEmpty() || !scanLock.writeLock().tryLock()) {
+            return;
+        }
+        try {
+            applyPendingReturns();
+        } finally {
+            scanLock.writeLock().unlock();
+        }
+    }
+
+    private synchronized void applyPendingReturns() {
+        PendingReturn r;
+        while ((r = pendingReturns.poll()) != null) {
+            Integer row = activeRows.remove(r.rentalId);
+            if (row == null) continue;
+            Chunk c = chunkView[row >>> CHUNK_BITS];
+            int offset = row & CHUNK_MASK;
+            c.endEpoch[offset] = r.endEpoch;
+            c.discount[offset] = r.discount;
+            c.penalty[offset] = r.penalty;
+            c.totalFee[offset] = r.totalFee;
+            c.status[offset] = (byte) RentalRecord.Status.RETURNED.ordinal();
+        }
+    }
+
+    // =================================================================
+    // 조회 / 병렬 스캔
+    // =================================================================
+
+    public int size() { return size; }
+
+    public synchronized int activeCount() { return activeRows.size(); }
+
+    public List<String> feeStrategyNames() { return feeStrategies.values(); }
+    public List<String> membershipNames() { return memberships.values(); }
+    public List<String> optionNames() { return optionNames.values(); }
+
+    long minStartEpoch() { return minStartEpoch; }
+    long maxStartEpoch() { return maxStartEpoch; }
+
+    /** 청크의 [from, to) 행을 누적기에 반영하는 반복문 (청크 배열에 직접 접근) */
+    @FunctionalInterface
+    interface RangeVisitor<A> {
+        void visit(A acc, Chunk chunk, int from, int to);
+    }
+
+    /**
+     * 현재까지 기록된 행 전체를 fork/join 으로 나눠 스캔합니다.
+     * 작업마다 newAccumulator 로 누적기를 따로 만들고, 끝나면 merge 로 합칩니다 (작업 사이 공유 상태 없음).
+     * 작업 수는 코어 수의 몇 배 정도로 제한되므로 누적기가 커도(그룹 × 시간 구간) 할당이 늘지 않습니다.
+     * 스캔하는 동안은 읽기 잠금을 쥐어 반납 반영이 끼어들지 않습니다 (클래스 설명 참고).
+     */
+    <A> A scan(Supplier<A> newAccumulator, RangeVisitor<A> visitor, BinaryOperator<A> merge) {
+        tryApplyPendingReturns();
+        scanLock.readLock().lock();
+        try {
+            int rows = size;
+            Chunk[] view = chunkView;
+            int leafRows = Math.max(LEAF_ROWS, rows / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            return new ScanTask<>(view, 0, rows, leafRows, newAccumulator, visitor, merge).invoke();
+        } finally {
+            scanLock.readLock().unlock();
+        }
+    }
+
+    private static final class ScanTask<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final Chunk[] chunks;
+        private final int from;
+        private final int to;
+        private final int leafRows;
+        private final Supplier<A> newAccumulator;
+        private final RangeVisitor<A> visitor;
+        private final BinaryOperator<A> merge;
+
+        ScanTask(Chunk[] chunks, int from, int to, int leafRows, Supplier<A> newAccumulator,
+                 RangeVisitor<A> visitor, BinaryOperator<A> merge) {
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+            this.newAccumulator = newAccumulator;
+            this.visitor = visitor;
+            this.merge = merge;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= leafRows) {
+                A acc = newAccumulator.get();
+                // 범위가 청크 경계를 넘으면 청크별로 나눠서 방문
+                int row = from;
+                while (row < to) {
+                    int chunkStart = row & ~CHUNK_MASK;
+                    int end = Math.min(to, chunkStart + CHUNK_SIZE);
+                    visitor.visit(acc, chunks[row >>> CHUNK_BITS], row - chunkStart, end - chunkStart);
+                    row = end;
+                }
+                return acc;
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask<A> left = new ScanTask<>(chunks, from, mid, leafRows, newAccumulator, visitor, merge);
+            ScanTask<A> right = new ScanTask<>(chunks, mid, to, leafRows, newAccumulator, visitor, merge);
+            left.fork();
+            A r = right.compute();
+            return merge.apply(left.join(), r);
+        }
+    }
+
+    // =================================================================
+    // 기본 집계
+    // =================================================================
+
+    /** 대여 시작 시각이 [from, to) 인 대여의 차량 타입별 결제 금액 합계 (원, CarType 순서) */
+    public long[] revenueByCarType(LocalDateTime from, LocalDateTime to) {
+        long fromEpoch = epochSecond(from);
+        long toEpoch = epochSecond(to);
+        long[] sums = scan(() -> new long[CAR_TYPES.length], (acc, c, lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                long start = c.startEpoch[i];
+                if (start >= fromEpoch && start < toEpoch) {
+                    acc[c.carType[i]] += c.totalFee[i];
+                }
+            }
+        }, (a, b) -> {
+            for (int i = 0; i < a.length; i++) a[i] += b[i];
+            return a;
+        });
+        for (int i = 0; i < sums.length; i++) sums[i] /= MONEY_SCALE;
+        return sums;
+    }
+
+    /** 회원 등급별 평균 대여 일수 (membershipNames() 순서, 해당 등급 대여가 없으면 0) */
+    public double[] averageDaysByMembership() {
+        int n = memberships.size();
+        long[][] acc = scan(() -> new long[2][n], (a, c, lo, hi) -> {
+            long[] days = a[0];
+            long[] counts = a[1];
+            for (int i = lo; i < hi; i++) {
+                int m = c.membership[i];
+                if (m >= 0 && m < n) {
+                    days[m] += c.days[i];
+                    counts[m]++;
+                }
+            }
+        }, (a, b) -> {
+            for (int i = 0; i < n; i++) {
+                a[0][i] += b[0][i];
+                a[1][i] += b[1][i];
+            }
+            return a;
+        });
+        double[] averages = new double[n];
+        for (int i = 0; i < n; i++) {
+            averages[i] = acc[1][i] == 0 ? 0 : (double) acc[0][i] / acc[1][i];
+        }
+        return averages;
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    static long epochSecond(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZONE).toEpochSecond();
+    }
+
+    static long epochSecond(Timestamp time) {
+        return time == null ? 0 : time.getTime() / 1000;
+    }
+
+    static long money(BigDecimal amount) {
+        return amount == null ? 0 : amount.multiply(BigDecimal.valueOf(MONEY_SCALE)).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    static CarType carType(byte code) { return CAR_TYPES[code]; }
+    static RentalRecord.Status status(byte code) { return STATUSES[code]; }
+}
@@ -0,0 +1,58 @@
+package domain.rental.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼 저장소의 사전 인코딩: 문자열 값 ↔ 0부터 차례로 부여한 정수 코드.
+ * 값 종류가 적은 컬럼(요금 정책, 회원 등급, 옵션 이름 등)을 1바이트/비트 단위로 저장할 때 사용합니다.
+ * null 은 코드 -1 로 표현합니다.
+ */
+public class StringDictionary {
+
+    private final String name;
+    private final int maxCodes;
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    public StringDictionary(String name, int maxCodes) {
+        this.name = name;
+        this.maxCodes = maxCodes;
+    }
+
+    /** 값의 코드 (처음 보는 값이면 새 코드 부여) */
+    public synchronized int encode(String value) {
+        if (value == null) return -1;
+        Integer code = codes.get(value);
+        if (code != null) return code;
+        if (values.size() >= maxCodes) {
+            throw new IllegalStateException(name + " 사전의 최대 크기(" + maxCodes + ")를 넘었습니다: " + value);
+        }
+        int next = values.size();
+        codes.put(value, next);
+        values.add(value);
+        return next;
+    }
+
+    /** 이미 있는 값의 코드 (없으면 -1, 새 코드를 만들지 않음) */
+    public synchronized int find(String value) {
+        if (value == null) return -1;
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    public synchronized String decode(int code) {
+        return code < 0 || code >= values.size() ? null : values.get(code);
+    }
+
+    public synchronized int size() {
+        return values.size();
+    }
+
+    /** 코드 순서대로의 값 목록 (복사본) */
+    public synchronized List<String> values() {
+        return new ArrayList<>(values);
+    }
+}
@@ -0,0 +1,72 @@
+package domain.rental.archive;
+
+import db.DBConnection;
+import db.EnvLoader;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 대여 이력 보관 배치.
+ *
+ * 반납 후 retentionDays 가 지난 대여를 batchSize 건씩 rental_archive 로 옮기며, 배치 사이에 잠시 쉬어
+ * 운영 트래픽과 잠금을 나눠 씁니다. Main 에서 JobScheduler 작업(rental-archive)으로 주기 실행하거나 단독으로 1회 실행할 수 있습니다.
+ *
+ *   java -cp "build;lib/*" domain.rental.archive.RentalArchiveJob [보관 기준 일수]
+ */
+public class RentalArchiveJob implements Runnable {
+
+    // 기본 보관 기준: 반납 후 1년
+    public static final int DEFAULT_RETENTION_DAYS = 365;
+    // 한 트랜잭션에서 옮기는 최대 행 수
+    private static final int BATCH_SIZE = 1_000;
+    // 배치 사이 대기 시간 (잠금 경합 완화)
+    private static final long PAUSE_MILLIS = 200;
+
+    private final RentalArchiveRepository archiveRepository;
+    // 보관 기준 시각 계산용 시계 (대여/반납과 같은 시계)
+    private final Clock clock;
+    private final int retentionDays;
+
+    public RentalArchiveJob(RentalArchiveRepository archiveRepository, Clock clock, int retentionDays) {
+        if (retentionDays <= 0) {
+            throw new IllegalArgumentException("retentionDays must be > 0");
+        }
+        this.archiveRepository = archiveRepository;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+    }
+
+    /** 1회 실행: 옮길 행이 없을 때까지 배치 반복 */
+    @Override
+    public void run() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(retentionDays);
+        long start = System.nanoTime();
+        long total = 0;
+        try {
+            int moved;
+            do {
+                moved = archiveRepository.archiveBatch(cutoff, BATCH_SIZE);
+                total += moved;
+                if (moved == BATCH_SIZE) {
+                    Thread.sleep(PAUSE_MILLIS);
+                }
+            } while (moved == BATCH_SIZE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("❌ 대여 이력 보관 실패: " + e.getMessage());
+        }
+        if (total > 0) {
+            System.out.printf("🗄️ 대여 이력 보관: %s 이전 반납 %d건 이동 (%.1f초)%n",
+                    cutoff.toLocalDate(), total, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    public static void main(String[] args) {
+        EnvLoader.load();
+        int retentionDays = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RETENTION_DAYS;
+        new RentalArchiveJob(new RentalArchiveRepository(DBConnection.getInstance()), Clock.systemDefaultZone(),
+                retentionDays).run();
+    }
+}
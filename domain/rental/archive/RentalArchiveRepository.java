@@ -0,0 +1,74 @@
+package domain.rental.archive;
+
+import db.DBConnection;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 오래된 대여 이력을 rental → rental_archive 로 옮기는 리포지토리.
+ *
+ * 대여/반납/연체 조회 등 자주 실행되는 쿼리는 rental 테이블만 읽으므로, 반납이 끝난 지 오래된 행을 옮겨두면
+ * rental 은 최근/활성 데이터만 남아 인덱스와 버퍼 풀 사용량이 작게 유지됩니다.
+ * 정산용 전체 이력(CSV 내보내기, 요약 재집계)은 ALL_HISTORY 로 두 테이블을 함께 읽습니다.
+ */
+public class RentalArchiveRepository {
+    private static final String TBL = "rental";
+    public static final String ARCHIVE_TBL = "rental_archive";
+
+    /** rental / rental_archive 공통 컬럼 */
+    public static final String COLUMNS =
+            "id, userId, carId, startTime, endTime, status, rentalDays, feeStrategy, membership, " +
+            "options, baseFee, optionFee, discount, penalty, totalFee";
+
+    /** 현재 + 보관 대여 이력 전체 (FROM 절에 별칭과 함께 사용) */
+    public static final String ALL_HISTORY =
+            "(SELECT " + COLUMNS + " FROM " + TBL + " UNION ALL SELECT " + COLUMNS + " FROM " + ARCHIVE_TBL + ")";
+
+    /** 옮길 대상: 반납 완료 + 반납일이 cutoff 이전 */
+    private static final String ARCHIVABLE = "status = 'RETURNED' AND endTime < :cutoff ";
+
+    private final DBConnection db;
+
+    public RentalArchiveRepository(DBConnection db) {
+        this.db = Objects.requireNonNull(db, "db");
+    }
+
+    /**
+     * cutoff 이전에 반납된 대여를 id 순으로 최대 batchSize 건 옮깁니다 (한 트랜잭션: 복사 후 삭제).
+     * 한 번에 잠그는 행 수가 batchSize 로 제한되므로 운영 중에도 대여/반납을 오래 막지 않습니다.
+     * @return 옮긴 행 수 (0 이면 더 옮길 행 없음)
+     */
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        return db.inTransaction(() -> {
+            Map<String, Object> p = new HashMap<>();
+            p.put("cutoff", Timestamp.valueOf(cutoff));
+            p.put("limit", batchSize);
+
+            // 1) 이번 배치의 id 범위 (PK 순서로 batchSize 건)
+            Map<String, Object> range = db.queryForObject(
+                    "SELECT MIN(id) AS minId, MAX(id) AS maxId FROM (" +
+                    "  SELECT id FROM " + TBL + " WHERE " + ARCHIVABLE + "ORDER BY id LIMIT :limit" +
+                    ") batch", p).orElse(Map.of());
+            if (range.get("minId") == null) {
+                return 0;
+            }
+            p.put("minId", range.get("minId"));
+            p.put("maxId", range.get("maxId"));
+
+            // 2) 복사 후 같은 조건으로 삭제 (범위 안의 활성 대여는 조건에서 제외됨)
+            String where = "WHERE id BETWEEN :minId AND :maxId AND " + ARCHIVABLE;
+            int copied = db.execute(
+                    "INSERT INTO " + ARCHIVE_TBL + " (" + COLUMNS + ", archivedAt) " +
+                    "SELECT " + COLUMNS + ", NOW() FROM " + TBL + " " + where, p);
+            int deleted = db.execute("DELETE FROM " + TBL + " " + where, p);
+            if (copied != deleted) {
+                throw new IllegalStateException("보관 이동 불일치: 복사 " + copied + "건, 삭제 " + deleted + "건");
+            }
+            return deleted;
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package domain.rental.export;
+
+import java.nio.file.Path;
+
+/**
+ * 대여 이력 내보내기 결과 (파일 경로, 행 수, 압축 후 크기, 소요 시간).
+ */
+public class RentalExportResult {
+    private final Path file;
+    private final long rows;
+    private final long compressedBytes;
+    private final long elapsedNanos;
+
+    public RentalExportResult(Path file, long rows, long compressedBytes, long elapsedNanos) {
+        this.file = file;
+        this.rows = rows;
+        this.compressedBytes = compressedBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Path getFile() { return file; }
+    public long getRows() { return rows; }
+    public long getCompressedBytes() { return compressedBytes; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /** 초당 처리 행 수 */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rows / (elapsedNanos / 1e9);
+    }
+}
@@ -0,0 +1,166 @@
+package domain.rental.export;
+
+import db.DBConnection;
+import db.EnvLoader;
+import domain.rental.RentalHistoryFilter;
+import domain.rental.RentalRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 대여 이력(rental + car + user JOIN)을 gzip 압축 CSV 파일로 내보냅니다 (재무팀 정산용).
+ *
+ * - RentalRepository.streamHistory 로 DB 커서에서 1건씩 받아 바로 파일에 쓰므로 이력 건수와 무관하게 메모리 사용량이 일정
+ * - 행마다 String.format/Map 변환 없이 컬럼 값을 버퍼에 그대로 기록 (따옴표 처리가 필요한 필드만 escape)
+ * - ".part" 임시 파일에 쓴 뒤 완료 시 이름을 바꾸므로, 실패해도 반쯤 쓰인 파일이 남지 않음
+ *
+ *   java -cp "build;lib/*" domain.rental.export.RentalHistoryCsvExporter rental_2025.csv.gz 2025-01-01 2025-12-31
+ */
+public class RentalHistoryCsvExporter {
+
+    // DB 에서 한 번에 받아오는 행 수
+    private static final int FETCH_SIZE = 1_000;
+    // gzip / 문자 버퍼 크기
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** CSV 헤더 (RentalRepository.streamHistory 의 SELECT 컬럼 순서와 같음) */
+    private static final String[] HEADER = {
+        "id", "startTime", "endTime", "status", "rentalDays", "feeStrategy", "membership",
+        "options", "baseFee", "optionFee", "discount", "penalty", "totalFee",
+        "carId", "carName", "carType", "userPk", "userId", "userName"
+    };
+
+    private final RentalRepository rentalRepository;
+
+    public RentalHistoryCsvExporter(RentalRepository rentalRepository) {
+        this.rentalRepository = rentalRepository;
+    }
+
+    /**
+     * 필터(대여 시작 기간 등)에 해당하는 대여 이력을 target 파일로 내보냅니다.
+     * @throws UncheckedIOException 파일 쓰기 실패 시
+     */
+    public RentalExportResult export(RentalHistoryFilter filter, Path target) {
+        long start = System.nanoTime();
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+
+        long rows;
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(partial), BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+
+            out.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM
+            writeRow(out, HEADER);
+            rows = rentalRepository.streamHistory(filter, FETCH_SIZE, rs -> writeRow(out, rs));
+
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw new UncheckedIOException("CSV 파일 쓰기 실패: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            deleteQuietly(partial);
+            throw unwrap(e);
+        }
+
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+            return new RentalExportResult(target, rows, Files.size(target), System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("CSV 파일 저장 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    private static void writeRow(Writer out, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.write(',');
+            writeField(out, values[i]);
+        }
+        out.write('\n');
+    }
+
+    /** 커서의 현재 행을 CSV 1줄로 기록 (IOException 은 SQLException 경로로 전달되지 않도록 감싸서 던짐) */
+    private static void writeRow(Writer out, ResultSet rs) throws SQLException {
+        try {
+            for (int i = 1; i <= HEADER.length; i++) {
+                if (i > 1) out.write(',');
+                writeField(out, rs.getString(i));
+            }
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** RFC 4180: 쉼표/따옴표/줄바꿈이 있을 때만 따옴표로 감싸고 내부 따옴표는 두 번 씀 */
+    private static void writeField(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuoting(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 콜백 안에서 감싼 IOException 은 원래 형태로 돌려줌 */
+    private static RuntimeException unwrap(RuntimeException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof UncheckedIOException) {
+                return (UncheckedIOException) t;
+            }
+        }
+        return e;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+
+    /** 배치 실행: [파일] [시작일(yyyy-MM-dd, 포함)] [종료일(yyyy-MM-dd, 포함)] */
+    public static void main(String[] args) {
+        EnvLoader.load();
+        Path target = Paths.get(args.length > 0 ? args[0] : "rental_history.csv.gz");
+        RentalHistoryFilter filter = RentalHistoryFilter.all();
+        if (args.length > 1) filter.from(LocalDate.parse(args[1]).atStartOfDay());
+        if (args.length > 2) filter.to(LocalDate.parse(args[2]).plusDays(1).atStartOfDay());
+
+        RentalExportResult result = new RentalHistoryCsvExporter(new RentalRepository(DBConnection.getInstance()))
+                .export(filter, target);
+        System.out.printf("✅ 내보내기 완료: %s (%,d건, %,d bytes, %.1f초)%n", result.getFile(), result.getRows(),
+                result.getCompressedBytes(), result.getElapsedNanos() / 1e9);
+    }
+}
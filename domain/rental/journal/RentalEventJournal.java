@@ -0,0 +1,434 @@
+package domain.rental.journal;
+
+import domain.car.Car;
+import domain.rental.RentalDue;
+import domain.rental.RentalEventListener;
+import domain.rental.RentalRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Observer Pattern: RentalService 의 대여/반납/연체 패널티/등급 승급을 이진 레코드로 덧붙이는 이벤트 저널.
+ *
+ *  - 세그먼트 파일(rental-events-{첫 seq}.seg)을 MappedByteBuffer 로 매핑해 시스템 콜 없이 기록
+ *  - 기록 스레드는 디스크 동기화를 직접 하지 않고 동기화 스레드에 요청한 뒤 대기 (group commit:
+ *    동시에 들어온 기록들이 force 한 번을 나눠 씀)
+ *  - snapshotEvery 건마다 상태 스냅샷(snapshot.bin)을 저장하고, 스냅샷에 모두 포함된 세그먼트는 삭제
+ *  - open() 은 "스냅샷 + 이후 레코드 재생"으로 RentalJournalState 를 복구 (끊긴 마지막 레코드는 버림)
+ *
+ * DB(rental 테이블)가 여전히 기준 데이터이며, 저널은 기동 시 메모리 상태(반납 예정 인덱스 등)를
+ * DB 전체 조회 없이 빠르게 복구하고 대여 이벤트를 SQL 없이 순서대로 보존하는 용도입니다.
+ *
+ *   java -cp "build;lib/*" domain.rental.journal.RentalEventJournal data/rental-journal   (재생 통계 출력)
+ */
+public class RentalEventJournal implements RentalEventListener, AutoCloseable {
+
+    public static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+    public static final int DEFAULT_SNAPSHOT_EVERY = 50_000;
+
+    private static final String SEGMENT_PREFIX = "rental-events-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    private final Path dir;
+    // 반납 시각이 없는 레코드, 등급 변경 레코드의 기록 시각 (RentalService 와 같은 시계)
+    private final Clock clock;
+    private final int segmentBytes;
+    private final int snapshotEvery;
+    private final boolean fresh;
+    private final long replayedRecords;
+    private final long replayMillis;
+
+    // ====== 기록 상태 (this 잠금) ======
+    private final RentalJournalState state;
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private MappedByteBuffer segment;
+    private int syncedPosition;
+    private long nextSeq;
+    private long appendedSinceSnapshot;
+    private boolean closing;
+
+    // ====== group commit (syncLock 잠금) ======
+    private final Object syncLock = new Object();
+    private long durableSeq;
+    private boolean syncRequested;
+    private boolean syncStopped;
+    // 동기화 스레드를 멈추게 한 오류 (정상 종료면 null)
+    private Throwable syncFailure;
+    private final Thread syncThread;
+
+    private RentalEventJournal(Path dir, Clock clock, int segmentBytes, int snapshotEvery) {
+        this.dir = dir;
+        this.clock = clock;
+        this.segmentBytes = segmentBytes;
+        this.snapshotEvery = snapshotEvery;
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(dir);
+            Path snapshot = dir.resolve(SNAPSHOT_FILE);
+            boolean hadSnapshot = Files.exists(snapshot);
+            this.state = RentalJournalState.readSnapshot(snapshot);
+            long lastSeen = state.getLastSeq();
+            long replayed = 0;
+            int endPosition = 0;
+
+            try (Stream<Path> files = Files.list(dir)) {
+                files.filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                                && p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .forEach(p -> segments.put(firstSeqOf(p), p));
+            }
+            for (Map.Entry<Long, Path> entry : segments.entrySet()) {
+                try (FileChannel ch = FileChannel.open(entry.getValue(), StandardOpenOption.READ)) {
+                    ByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                    RentalJournalRecord record;
+                    while ((record = RentalJournalRecord.decode(buf)) != null) {
+                        if (record.getSeq() > state.getLastSeq()) {
+                            state.apply(record);
+                            replayed++;
+                        }
+                        lastSeen = Math.max(lastSeen, record.getSeq());
+                    }
+                    endPosition = buf.position();
+                }
+            }
+            this.fresh = !hadSnapshot && segments.isEmpty();
+            this.nextSeq = lastSeen + 1;
+            this.durableSeq = lastSeen;
+            this.replayedRecords = replayed;
+
+            if (segments.isEmpty()) {
+                openNewSegment();
+            } else {
+                reopenLastSegment(endPosition);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 이벤트 저널 열기 실패: " + dir, e);
+        }
+        this.replayMillis = (System.nanoTime() - start) / 1_000_000;
+
+        this.syncThread = new Thread(this::syncLoop, "rental-journal-sync");
+        syncThread.setDaemon(true);
+        syncThread.start();
+    }
+
+    /** 기본 설정(시스템 시계, 세그먼트 16MB, 5만 건마다 스냅샷)으로 열고 복구합니다. */
+    public static RentalEventJournal open(Path dir) {
+        return open(dir, Clock.systemDefaultZone());
+    }
+
+    /** 시뮬레이션 시계(SimulatedClock 등)를 쓰는 경우 RentalService 와 같은 시계를 넘김 */
+    public static RentalEventJournal open(Path dir, Clock clock) {
+        return open(dir, clock, DEFAULT_SEGMENT_BYTES, DEFAULT_SNAPSHOT_EVERY);
+    }
+
+    public static RentalEventJournal open(Path dir, int segmentBytes, int snapshotEvery) {
+        return open(dir, Clock.systemDefaultZone(), segmentBytes, snapshotEvery);
+    }
+
+    public static RentalEventJournal open(Path dir, Clock clock, int segmentBytes, int snapshotEvery) {
+        if (segmentBytes < 4096 || snapshotEvery <= 0) {
+            throw new IllegalArgumentException("segmentBytes must be >= 4096 and snapshotEvery > 0");
+        }
+        return new RentalEventJournal(dir, Objects.requireNonNull(clock, "clock"), segmentBytes, snapshotEvery);
+    }
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    /** 스냅샷도 세그먼트도 없던 새 저널인지 (DB 기준 초기 상태가 필요한지) */
+    public boolean isFresh() { return fresh; }
+    public long getReplayedRecords() { return replayedRecords; }
+    public long getReplayMillis() { return replayMillis; }
+
+    /** 현재까지 기록된 상태 (복사본) */
+    public synchronized RentalJournalState getState() {
+        return state.copy();
+    }
+
+    /**
+     * DB 의 활성 대여로 상태를 채우고 즉시 스냅샷을 남깁니다.
+     * (처음 켤 때, 또는 저널을 끈 채 운영해 DB 와 어긋났을 때 한 번 호출)
+     */
+    public void bootstrap(Collection<RentalDue> activeRentals) {
+        RentalJournalState copy;
+        synchronized (this) {
+            state.seedActive(activeRentals);
+            copy = state.copy();
+            appendedSinceSnapshot = 0;
+        }
+        saveSnapshot(copy);
+    }
+
+    // =================================================================
+    // 기록 (RentalEventListener)
+    // =================================================================
+
+    @Override
+    public void onRented(RentalRecord record, Car car) {
+        if (record.getId() == null) return;
+        awaitDurable(append(RentalJournalRecord.rent(record.getId(), record.getUserId(), car.id(), car.type(),
+                record.getRentalDays(), record.getStartAt(), record.getEndAt(), record.getTotalFee())));
+    }
+
+    @Override
+    public void onReturned(RentalRecord record, Car car) {
+        if (record.getId() == null) return;
+        LocalDateTime endAt = record.getEndAt() != null ? record.getEndAt() : LocalDateTime.now(clock);
+        long seq = append(RentalJournalRecord.returned(record.getId(), record.getUserId(), car.id(), car.type(),
+                endAt, record.getTotalFee(), record.getPenalty()));
+        if (record.getPenalty().compareTo(BigDecimal.ZERO) > 0) {
+            seq = append(RentalJournalRecord.penalty(record.getId(), record.getUserId(), endAt, record.getPenalty()));
+        }
+        awaitDurable(seq);
+    }
+
+    @Override
+    public void onMembershipChanged(String userId, String before, String after) {
+        awaitDurable(append(RentalJournalRecord.membership(userId, LocalDateTime.now(clock), after)));
+    }
+
+    /**
+     * 레코드를 매핑된 세그먼트에 기록하고 상태에 반영합니다 (디스크 동기화는 요청만 하고 기다리지 않음).
+     * @return 부여된 seq (awaitDurable 로 동기화 완료를 기다릴 수 있음)
+     */
+    public long append(RentalJournalRecord record) {
+        long seq;
+        synchronized (this) {
+            if (closing) {
+                throw new IllegalStateException("대여 이벤트 저널이 닫혔습니다.");
+            }
+            int size = record.encodedSize();
+            if (size > segmentBytes) {
+                throw new IllegalArgumentException("레코드가 세그먼트보다 큽니다: " + size + " bytes");
+            }
+            if (segment.remaining() < size) {
+                rollSegment();
+            }
+            seq = nextSeq++;
+            record.encode(segment, seq);
+            state.apply(record);
+            appendedSinceSnapshot++;
+        }
+        synchronized (syncLock) {
+            syncRequested = true;
+            syncLock.notifyAll();
+        }
+        return seq;
+    }
+
+    /** seq 까지의 레코드가 디스크에 동기화될 때까지 대기 */
+    public void awaitDurable(long seq) {
+        synchronized (syncLock) {
+            while (durableSeq < seq) {
+                if (syncStopped) {
+                    throw new IllegalStateException("대여 이벤트 저널 동기화가 중단되었습니다.", syncFailure);
+                }
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // =================================================================
+    // 종료
+    // =================================================================
+
+    /** 남은 기록을 동기화하고 스냅샷을 남긴 뒤 닫습니다. */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closing) return;
+            closing = true;
+        }
+        synchronized (syncLock) {
+            syncStopped = true;
+            syncLock.notifyAll();
+        }
+        try {
+            syncThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RentalJournalState copy;
+        synchronized (this) {
+            segment.force();
+            copy = state.copy();
+        }
+        saveSnapshot(copy);
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    /**
+     * 동기화 스레드: 어떤 이유로 끝나든(close, force 실패, 인터럽트) syncStopped 를 세우고 대기 중인 기록 스레드를 깨움
+     * (동기화 실패 후에는 awaitDurable 이 원인 오류와 함께 IllegalStateException 을 던짐)
+     */
+    private void syncLoop() {
+        try {
+            syncUntilStopped();
+        } catch (RuntimeException | Error e) {
+            System.err.println("❌ 대여 저널 디스크 동기화 실패: " + e.getMessage());
+            synchronized (syncLock) {
+                syncFailure = e;
+            }
+        } finally {
+            synchronized (syncLock) {
+                syncStopped = true;
+                syncLock.notifyAll();
+            }
+        }
+    }
+
+    /** 동기화 요청이 있을 때마다 마지막 동기화 이후 기록된 구간만 force (그 사이 쌓인 기록을 한 번에) */
+    private void syncUntilStopped() {
+        while (true) {
+            synchronized (syncLock) {
+                while (!syncRequested && !syncStopped) {
+                    try {
+                        syncLock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (!syncRequested) return;
+                syncRequested = false;
+            }
+
+            MappedByteBuffer buf;
+            int from;
+            int to;
+            long seq;
+            boolean snapshotDue;
+            synchronized (this) {
+                buf = segment;
+                from = syncedPosition;
+                to = segment.position();
+                seq = nextSeq - 1;
+                syncedPosition = to;
+                snapshotDue = appendedSinceSnapshot >= snapshotEvery;
+            }
+            if (to > from) {
+                buf.force(from, to - from);
+            }
+            synchronized (syncLock) {
+                durableSeq = Math.max(durableSeq, seq);
+                syncLock.notifyAll();
+            }
+
+            if (snapshotDue) {
+                RentalJournalState copy;
+                synchronized (this) {
+                    copy = state.copy();
+                    appendedSinceSnapshot = 0;
+                }
+                try {
+                    saveSnapshot(copy);
+                } catch (RuntimeException e) {
+                    System.err.println("❌ 대여 저널 스냅샷 저장 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** 스냅샷 저장 후, 스냅샷 seq 이하 레코드만 담긴 (현재가 아닌) 세그먼트를 삭제 */
+    private void saveSnapshot(RentalJournalState copy) {
+        copy.writeSnapshot(dir.resolve(SNAPSHOT_FILE));
+        List<Path> covered = new ArrayList<>();
+        synchronized (this) {
+            Long next = segments.higherKey(segments.firstKey());
+            while (next != null && next - 1 <= copy.getLastSeq()) {
+                covered.add(segments.pollFirstEntry().getValue());
+                next = segments.higherKey(segments.firstKey());
+            }
+        }
+        for (Path p : covered) {
+            try {
+                Files.deleteIfExists(p);
+            } catch (IOException e) {
+                System.err.println("⚠️ 대여 저널 세그먼트 삭제 실패: " + p);
+            }
+        }
+    }
+
+    /** 현재 세그먼트를 모두 동기화하고 다음 seq 로 시작하는 새 세그먼트로 전환 (this 잠금 안에서 호출) */
+    private void rollSegment() {
+        segment.force();
+        long seq = nextSeq - 1;
+        synchronized (syncLock) {
+            durableSeq = Math.max(durableSeq, seq);
+            syncLock.notifyAll();
+        }
+        try {
+            openNewSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 저널 세그먼트 생성 실패: " + dir, e);
+        }
+    }
+
+    private void openNewSegment() throws IOException {
+        Path path = dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSeq, SEGMENT_SUFFIX));
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = ch.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        segments.put(nextSeq, path);
+        syncedPosition = 0;
+    }
+
+    /** 마지막 세그먼트를 이어 쓰기용으로 열고, 끊긴 레코드가 남은 뒤쪽 영역은 0 으로 지웁니다. */
+    private void reopenLastSegment(int endPosition) throws IOException {
+        Path path = segments.lastEntry().getValue();
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = Math.max(ch.size(), segmentBytes);
+            segment = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        byte[] zeros = new byte[8192];
+        segment.position(endPosition);
+        while (segment.hasRemaining()) {
+            segment.put(zeros, 0, Math.min(zeros.length, segment.remaining()));
+        }
+        segment.force();
+        segment.position(endPosition);
+        syncedPosition = endPosition;
+    }
+
+    private static long firstSeqOf(Path segmentFile) {
+        String name = segmentFile.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    public static void main(String[] args) {
+        Path dir = Path.of(args.length > 0 ? args[0] : "data/rental-journal");
+        try (RentalEventJournal journal = open(dir)) {
+            RentalJournalState s = journal.getState();
+            System.out.printf("📒 대여 이벤트 저널 %s%n", dir);
+            System.out.printf("   마지막 seq %d, 재생 %d건 (%d ms)%n",
+                    s.getLastSeq(), journal.getReplayedRecords(), journal.getReplayMillis());
+            System.out.printf("   대여 %d건, 반납 %d건, 활성 %d건, 매출 %,d원, 연체료 %,d원%n",
+                    s.getRentCount(), s.getReturnCount(), s.getActiveCount(),
+                    s.getRevenueCents() / 100, s.getPenaltyCents() / 100);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package domain.rental.journal;
+
+import domain.car.carFactory.CarType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.zip.CRC32;
+
+/**
+ * 대여 이벤트 저널의 레코드 1건 (대여 / 반납 / 연체 패널티 / 등급 승급).
+ *
+ * 파일 형식: [int 길이][int CRC32][본문]
+ *   본문 = type(1) seq(8) at(8) rentalId(8) userId carId carType(1) rentalDays(4) dueAt(8)
+ *          amount(8, 원 ×100) penalty(8, 원 ×100) membership
+ *   (문자열은 [unsigned short 길이][UTF-8], 시각은 epoch millis)
+ * 길이 0 은 세그먼트의 끝(아직 기록되지 않은 영역)을 뜻합니다.
+ */
+public final class RentalJournalRecord {
+
+    public enum Type {
+        RENT, RETURN, PENALTY, MEMBERSHIP;
+
+        private static final Type[] VALUES = values();
+    }
+
+    static final int HEADER_BYTES = 8;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final CarType[] CAR_TYPES = CarType.values();
+
+    private final Type type;
+    private long seq;
+    private final long at;
+    private final long rentalId;
+    private final String userId;
+    private final String carId;
+    private final CarType carType;
+    private final int rentalDays;
+    private final long dueAt;
+    private final long amountCents;
+    private final long penaltyCents;
+    private final String membership;
+
+    private RentalJournalRecord(Type type, long seq, long at, long rentalId, String userId, String carId,
+                                CarType carType, int rentalDays, long dueAt, long amountCents, long penaltyCents,
+                                String membership) {
+        this.type = type;
+        this.seq = seq;
+        this.at = at;
+        this.rentalId = rentalId;
+        this.userId = userId;
+        this.carId = carId;
+        this.carType = carType;
+        this.rentalDays = rentalDays;
+        this.dueAt = dueAt;
+        this.amountCents = amountCents;
+        this.penaltyCents = penaltyCents;
+        this.membership = membership;
+    }
+
+    // ====== 생성 ======
+
+    public static RentalJournalRecord rent(long rentalId, String userId, String carId, CarType carType,
+                                           int rentalDays, LocalDateTime startAt, LocalDateTime dueAt,
+                                           BigDecimal fee) {
+        return new RentalJournalRecord(Type.RENT, 0, toEpochMillis(startAt), rentalId, userId, carId, carType,
+                rentalDays, toEpochMillis(dueAt), toCents(fee), 0, null);
+    }
+
+    public static RentalJournalRecord returned(long rentalId, String userId, String carId, CarType carType,
+                                               LocalDateTime endAt, BigDecimal totalFee, BigDecimal penalty) {
+        return new RentalJournalRecord(Type.RETURN, 0, toEpochMillis(endAt), rentalId, userId, carId, carType,
+                0, 0, toCents(totalFee), toCents(penalty), null);
+    }
+
+    public static RentalJournalRecord penalty(long rentalId, String userId, LocalDateTime at, BigDecimal penalty) {
+        return new RentalJournalRecord(Type.PENALTY, 0, toEpochMillis(at), rentalId, userId, null, null,
+                0, 0, 0, toCents(penalty), null);
+    }
+
+    public static RentalJournalRecord membership(String userId, LocalDateTime at, String membership) {
+        return new RentalJournalRecord(Type.MEMBERSHIP, 0, toEpochMillis(at), 0, userId, null, null,
+                0, 0, 0, 0, membership);
+    }
+
+    // ====== 조회 ======
+
+    public Type getType() { return type; }
+    public long getSeq() { return seq; }
+    public LocalDateTime getAt() { return toLocalDateTime(at); }
+    public long getRentalId() { return rentalId; }
+    public String getUserId() { return userId; }
+    public String getCarId() { return carId; }
+    public CarType getCarType() { return carType; }
+    public int getRentalDays() { return rentalDays; }
+    public LocalDateTime getDueAt() { return toLocalDateTime(dueAt); }
+    public long getAmountCents() { return amountCents; }
+    public long getPenaltyCents() { return penaltyCents; }
+    public String getMembership() { return membership; }
+
+    // ====== 직렬화 ======
+
+    /** seq 를 부여해 out 에 [길이][CRC][본문]을 기록합니다 (out 에 encodedSize() 이상 남아 있어야 함). */
+    void encode(ByteBuffer out, long seq) {
+        this.seq = seq;
+        int start = out.position();
+        out.position(start + HEADER_BYTES);
+        out.put((byte) type.ordinal());
+        out.putLong(seq);
+        out.putLong(at);
+        out.putLong(rentalId);
+        putString(out, userId);
+        putString(out, carId);
+        out.put(carType == null ? (byte) -1 : (byte) carType.ordinal());
+        out.putInt(rentalDays);
+        out.putLong(dueAt);
+        out.putLong(amountCents);
+        out.putLong(penaltyCents);
+        putString(out, membership);
+        int end = out.position();
+
+        CRC32 crc = new CRC32();
+        crc.update(out.duplicate().position(start + HEADER_BYTES).limit(end));
+        out.putInt(start, end - start - HEADER_BYTES);
+        out.putInt(start + 4, (int) crc.getValue());
+    }
+
+    int encodedSize() {
+        return HEADER_BYTES + 1 + 8 * 3 + 1 + 4 + 8 * 3
+                + stringSize(userId) + stringSize(carId) + stringSize(membership);
+    }
+
+    /**
+     * in 의 현재 위치에서 레코드 1건을 읽습니다.
+     * @return 세그먼트 끝이거나 기록 도중 끊긴(CRC 불일치) 레코드면 null (위치는 바뀌지 않음)
+     */
+    static RentalJournalRecord decode(ByteBuffer in) {
+        int start = in.position();
+        if (in.remaining() < HEADER_BYTES) return null;
+        int length = in.getInt(start);
+        int checksum = in.getInt(start + 4);
+        if (length <= 0 || length > in.remaining() - HEADER_BYTES) return null;
+
+        ByteBuffer body = in.duplicate().position(start + HEADER_BYTES).limit(start + HEADER_BYTES + length);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) return null;
+
+        try {
+            Type type = Type.VALUES[body.get()];
+            long seq = body.getLong();
+            long at = body.getLong();
+            long rentalId = body.getLong();
+            String userId = getString(body);
+            String carId = getString(body);
+            byte carType = body.get();
+            int rentalDays = body.getInt();
+            long dueAt = body.getLong();
+            long amount = body.getLong();
+            long penalty = body.getLong();
+            String membership = getString(body);
+            in.position(start + HEADER_BYTES + length);
+            return new RentalJournalRecord(type, seq, at, rentalId, userId, carId,
+                    carType < 0 ? null : CAR_TYPES[carType], rentalDays, dueAt, amount, penalty, membership);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    private static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) 0xFFFF);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == 0xFFFF) return null;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(String value) {
+        if (value == null) return 2;
+        int length = value.getBytes(StandardCharsets.UTF_8).length;
+        if (length >= 0xFFFF) {
+            throw new IllegalArgumentException("저널 문자열이 너무 깁니다: " + length + " bytes");
+        }
+        return 2 + length;
+    }
+
+    static long toEpochMillis(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return epochMillis == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    @Override
+    public String toString() {
+        return "RentalJournalRecord{seq=%d, type=%s, rentalId=%d, user=%s}".formatted(seq, type, rentalId, userId);
+    }
+}
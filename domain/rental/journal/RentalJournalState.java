@@ -0,0 +1,178 @@
+package domain.rental.journal;
+
+import domain.car.carFactory.CarType;
+import domain.rental.RentalDue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대여 이벤트 저널을 재생해 만든 메모리 상태 (활성 대여, 사용자별 등급, 누적 건수/금액).
+ *
+ * 저널 레코드는 seq 순서대로 apply(...) 되며, 스냅샷은 특정 seq 까지 반영된 상태를 파일로 저장합니다.
+ * 기동 시 "스냅샷 + 이후 레코드 재생"으로 복구하므로 재생 시간은 마지막 스냅샷 이후 레코드 수에만 비례합니다.
+ * 스레드 안전하지 않으며, RentalEventJournal 이 자신의 잠금 안에서만 변경합니다.
+ */
+public class RentalJournalState {
+
+    private static final int SNAPSHOT_MAGIC = 0x52454A53; // "REJS"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Map<Long, RentalDue> active = new HashMap<>();
+    private final Map<String, String> membershipByUser = new HashMap<>();
+    private long lastSeq;
+    private long rentCount;
+    private long returnCount;
+    private long revenueCents;
+    private long penaltyCents;
+
+    /** 레코드 1건 반영 (이미 반영한 seq 이하는 무시) */
+    public void apply(RentalJournalRecord record) {
+        if (record.getSeq() <= lastSeq) return;
+        switch (record.getType()) {
+            case RENT -> {
+                rentCount++;
+                if (record.getCarType() != null && record.getDueAt() != null) {
+                    active.put(record.getRentalId(), new RentalDue(record.getRentalId(), record.getCarId(),
+                            record.getCarType(), record.getUserId(), record.getDueAt()));
+                }
+            }
+            case RETURN -> {
+                returnCount++;
+                revenueCents += record.getAmountCents();
+                active.remove(record.getRentalId());
+            }
+            case PENALTY -> penaltyCents += record.getPenaltyCents();
+            case MEMBERSHIP -> membershipByUser.put(record.getUserId(), record.getMembership());
+        }
+        lastSeq = record.getSeq();
+    }
+
+    /** 저널 없이 시작할 때 DB 의 활성 대여로 초기 상태를 채웁니다 (seq 는 바꾸지 않음). */
+    public void seedActive(Collection<RentalDue> dues) {
+        active.clear();
+        dues.forEach(due -> active.put(due.getRentalId(), due));
+    }
+
+    // ====== 조회 ======
+
+    public long getLastSeq() { return lastSeq; }
+    public long getRentCount() { return rentCount; }
+    public long getReturnCount() { return returnCount; }
+    public long getRevenueCents() { return revenueCents; }
+    public long getPenaltyCents() { return penaltyCents; }
+    public int getActiveCount() { return active.size(); }
+
+    /** 활성 대여 목록 (복사본) */
+    public List<RentalDue> activeRentals() {
+        return new ArrayList<>(active.values());
+    }
+
+    /** 저널에 기록된 마지막 등급 (기록이 없으면 null) */
+    public String membershipOf(String userId) {
+        return membershipByUser.get(userId);
+    }
+
+    /** 스냅샷 작성용 복사본 */
+    public RentalJournalState copy() {
+        RentalJournalState copy = new RentalJournalState();
+        copy.active.putAll(active);
+        copy.membershipByUser.putAll(membershipByUser);
+        copy.lastSeq = lastSeq;
+        copy.rentCount = rentCount;
+        copy.returnCount = returnCount;
+        copy.revenueCents = revenueCents;
+        copy.penaltyCents = penaltyCents;
+        return copy;
+    }
+
+    // =================================================================
+    // 스냅샷 파일
+    // =================================================================
+
+    /** 임시 파일에 쓴 뒤 원자적으로 교체합니다. */
+    public void writeSnapshot(Path file) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(lastSeq);
+            out.writeLong(rentCount);
+            out.writeLong(returnCount);
+            out.writeLong(revenueCents);
+            out.writeLong(penaltyCents);
+
+            out.writeInt(active.size());
+            for (RentalDue due : active.values()) {
+                out.writeLong(due.getRentalId());
+                out.writeUTF(due.getCarId() == null ? "" : due.getCarId());
+                out.writeByte(due.getCarType().ordinal());
+                out.writeUTF(due.getUserId() == null ? "" : due.getUserId());
+                out.writeLong(RentalJournalRecord.toEpochMillis(due.getDueAt()));
+            }
+
+            out.writeInt(membershipByUser.size());
+            for (Map.Entry<String, String> e : membershipByUser.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeUTF(e.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 저널 스냅샷 저장 실패: " + file, e);
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 저널 스냅샷 교체 실패: " + file, e);
+        }
+    }
+
+    /** 스냅샷 파일을 읽습니다 (파일이 없으면 빈 상태). */
+    public static RentalJournalState readSnapshot(Path file) {
+        RentalJournalState state = new RentalJournalState();
+        if (!Files.exists(file)) {
+            return state;
+        }
+        CarType[] carTypes = CarType.values();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IllegalStateException("대여 저널 스냅샷 형식이 올바르지 않습니다: " + file);
+            }
+            state.lastSeq = in.readLong();
+            state.rentCount = in.readLong();
+            state.returnCount = in.readLong();
+            state.revenueCents = in.readLong();
+            state.penaltyCents = in.readLong();
+
+            int activeCount = in.readInt();
+            for (int i = 0; i < activeCount; i++) {
+                long rentalId = in.readLong();
+                String carId = in.readUTF();
+                CarType carType = carTypes[in.readByte()];
+                String userId = in.readUTF();
+                long dueAt = in.readLong();
+                state.active.put(rentalId, new RentalDue(rentalId, carId.isEmpty() ? null : carId, carType,
+                        userId.isEmpty() ? null : userId, RentalJournalRecord.toLocalDateTime(dueAt)));
+            }
+
+            int membershipCount = in.readInt();
+            for (int i = 0; i < membershipCount; i++) {
+                state.membershipByUser.put(in.readUTF(), in.readUTF());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("대여 저널 스냅샷 읽기 실패: " + file, e);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,73 @@
+package domain.rental.penalty;
+
+import db.DBConnection;
+import db.EnvLoader;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 야간 연체료 누적 배치.
+ *
+ * 연체료는 반납 시점에만 계산되므로, 반납되지 않은 연체 대여의 미수 연체료를 매일 밤 rental.accruedPenalty 에 기록합니다.
+ * 실행 1회는 같은 기준 시각(asOf)으로 CHUNK_SIZE 건씩 키셋 순회하며, 청크 사이에 잠시 쉬어 운영 트래픽과 잠금을 나눠 씁니다.
+ * Main 에서 JobScheduler 작업(overdue-penalty-accrual, 매일 03:00)으로 실행하거나 단독으로 1회 실행할 수 있습니다.
+ *
+ *   java -cp "build;lib/*" domain.rental.penalty.OverduePenaltyAccrualJob
+ */
+public class OverduePenaltyAccrualJob implements Runnable {
+
+    // 청크 1개(UPDATE 1문장)가 잠그는 최대 행 수
+    private static final int CHUNK_SIZE = 2_000;
+    // 청크 사이 대기 시간 (잠금 경합 완화)
+    private static final long PAUSE_MILLIS = 50;
+
+    private final OverduePenaltyRepository penaltyRepository;
+    // 연체 판정 기준 시계 (대여/반납과 같은 시계, 시뮬레이션 시계 포함)
+    private final Clock clock;
+
+    public OverduePenaltyAccrualJob(OverduePenaltyRepository penaltyRepository, Clock clock) {
+        this.penaltyRepository = penaltyRepository;
+        this.clock = clock;
+    }
+
+    /** 1회 실행: 마지막 청크까지 반복 */
+    @Override
+    public void run() {
+        LocalDateTime asOf = LocalDateTime.now(clock);
+        long start = System.nanoTime();
+        long updated = 0;
+        int chunks = 0;
+        // SQL 오류는 잡지 않고 그대로 던져 JobScheduler 의 실패 횟수/마지막 오류(JobStats)에 남김
+        try {
+            OverduePenaltyRepository.AccrualChunk chunk = null;
+            do {
+                chunk = penaltyRepository.accrueChunk(asOf, chunk, CHUNK_SIZE);
+                updated += chunk.getUpdated();
+                chunks++;
+                if (!chunk.isLast()) {
+                    Thread.sleep(PAUSE_MILLIS);
+                }
+            } while (!chunk.isLast());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Map<String, Object> outstanding = penaltyRepository.outstanding(asOf);
+        long count = ((Number) outstanding.get("count")).longValue();
+        if (count > 0) {
+            BigDecimal accrued = new BigDecimal(String.valueOf(outstanding.get("accrued")));
+            System.out.printf("💸 연체료 누적: %s 기준 연체 %,d건, 미수 연체료 %,d원 (갱신 %,d건, 청크 %d개, %.1f초)%n",
+                    asOf.withNano(0), count, accrued.longValue(), updated, chunks, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    public static void main(String[] args) {
+        EnvLoader.load();
+        new OverduePenaltyAccrualJob(new OverduePenaltyRepository(DBConnection.getInstance()),
+                Clock.systemDefaultZone()).run();
+    }
+}
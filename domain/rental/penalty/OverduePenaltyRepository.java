@@ -0,0 +1,130 @@
+package domain.rental.penalty;
+
+import db.DBConnection;
+import domain.car.carFactory.CarType;
+import domain.rental.RentalService;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 반납 전 연체료 누적(rental.accruedPenalty) 리포지토리.
+ *
+ * 연체 대여를 (endTime, id) 키셋 순서로 chunkSize 건씩 나눠, 청크마다 UPDATE 1문장으로 연체료를 SQL 안에서 계산합니다.
+ * 계산식은 반납 시 RentalService.calculatePenaltyNow 와 같습니다:
+ *   일일요금(차량 dailyRentalFee, 없으면 차종 기본 요금) × 초과 일수(하루 미만은 1일) × OVERDUE_RATE
+ * 각 UPDATE 는 자동 커밋되므로 잠금은 청크 1개(최대 chunkSize 행)를 갱신하는 동안만 유지됩니다.
+ */
+public class OverduePenaltyRepository {
+    private static final String TBL = "rental";
+
+    /** 누적 대상: asOf 시점에 반납 예정 시각이 지난 RENTED (idx_rental_status_endtime 범위) */
+    private static final String OVERDUE = "r.status = 'RENTED' AND r.endTime < :asOf ";
+    /** 직전 청크의 마지막 키 이후 */
+    private static final String AFTER_KEY = "AND (r.endTime > :afterEnd OR (r.endTime = :afterEnd AND r.id > :afterId)) ";
+
+    /** 누적 연체료 식 (차종 기본 요금은 CarType 에서 생성하므로 코드와 SQL 이 어긋나지 않음) */
+    private static final String ACCRUED_PENALTY_SQL =
+            "ROUND(COALESCE(c.dailyRentalFee, " + baseRateCase() + ") " +
+            "* GREATEST(1, TIMESTAMPDIFF(DAY, r.endTime, :asOf)) * " + RentalService.OVERDUE_RATE.toPlainString() + ", 2)";
+
+    private final DBConnection db;
+
+    public OverduePenaltyRepository(DBConnection db) {
+        this.db = Objects.requireNonNull(db, "db");
+    }
+
+    /**
+     * 키셋 위치 after(없으면 처음) 다음부터 최대 chunkSize 건의 연체 대여에 asOf 기준 누적 연체료를 기록합니다.
+     *  1) 이번 청크의 마지막 키: 인덱스 순서로 chunkSize 번째 행 (없으면 남은 행 전부가 마지막 청크)
+     *  2) (after, last] 범위를 car 와 조인한 UPDATE 1문장으로 갱신
+     * @return 이번 청크 결과 (isLast 이면 더 처리할 행 없음)
+     */
+    public AccrualChunk accrueChunk(LocalDateTime asOf, AccrualChunk after, int chunkSize) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("asOf", Timestamp.valueOf(asOf));
+        p.put("offset", chunkSize - 1);
+        String afterKey = "";
+        if (after != null) {
+            p.put("afterEnd", Timestamp.valueOf(after.getLastEndTime()));
+            p.put("afterId", after.getLastId());
+            afterKey = AFTER_KEY;
+        }
+
+        Map<String, Object> last = db.queryForObject(
+                "SELECT r.endTime, r.id FROM " + TBL + " r WHERE " + OVERDUE + afterKey +
+                "ORDER BY r.endTime, r.id LIMIT 1 OFFSET :offset", p).orElse(null);
+        String upTo = "";
+        if (last != null) {
+            p.put("lastEnd", last.get("endTime"));
+            p.put("lastId", last.get("id"));
+            upTo = "AND (r.endTime < :lastEnd OR (r.endTime = :lastEnd AND r.id <= :lastId)) ";
+        }
+
+        int updated = db.execute(
+                "UPDATE " + TBL + " r JOIN car c ON c.id = r.carId " +
+                "SET r.accruedPenalty = " + ACCRUED_PENALTY_SQL + ", r.penaltyAccruedAt = :asOf " +
+                "WHERE " + OVERDUE + afterKey + upTo, p);
+
+        if (last == null) {
+            return AccrualChunk.last(updated);
+        }
+        return new AccrualChunk(updated, toLdt(last.get("endTime")), ((Number) last.get("id")).longValue());
+    }
+
+    /**
+     * asOf 시점 연체 대여의 누적 연체료 합계 (아직 누적 계산되지 않은 행은 건수에만 포함).
+     * @return count, accrued(합계), accruedAt(가장 최근 계산 시각, 없으면 null)
+     */
+    public Map<String, Object> outstanding(LocalDateTime asOf) {
+        return db.queryForObject(
+                "SELECT COUNT(*) AS count, COALESCE(SUM(r.accruedPenalty), 0) AS accrued, " +
+                "MAX(r.penaltyAccruedAt) AS accruedAt " +
+                "FROM " + TBL + " r WHERE " + OVERDUE, Map.of("asOf", Timestamp.valueOf(asOf)))
+                .orElse(Map.of("count", 0L, "accrued", BigDecimal.ZERO));
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    /** CASE c.type WHEN 'SEDAN' THEN 90000 ... END */
+    private static String baseRateCase() {
+        StringBuilder sb = new StringBuilder("CASE c.type");
+        for (CarType type : CarType.values()) {
+            sb.append(" WHEN '").append(type.name()).append("' THEN ").append(type.baseRate().toPlainString());
+        }
+        return sb.append(" END").toString();
+    }
+
+    private static LocalDateTime toLdt(Object value) {
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime();
+        if (value instanceof LocalDateTime ldt) return ldt;
+        throw new IllegalStateException("endTime 형식을 알 수 없습니다: " + value);
+    }
+
+    /** 청크 1개 처리 결과 + 다음 청크의 시작 키 */
+    public static final class AccrualChunk {
+        private final int updated;
+        private final LocalDateTime lastEndTime;
+        private final long lastId;
+
+        AccrualChunk(int updated, LocalDateTime lastEndTime, long lastId) {
+            this.updated = updated;
+            this.lastEndTime = lastEndTime;
+            this.lastId = lastId;
+        }
+
+        static AccrualChunk last(int updated) {
+            return new AccrualChunk(updated, null, 0);
+        }
+
+        /** 이번 청크에서 누적 연체료를 기록한 연체 대여 수 */
+        public int getUpdated() { return updated; }
+        public LocalDateTime getLastEndTime() { return lastEndTime; }
+        public long getLastId() { return lastId; }
+        public boolean isLast() { return lastEndTime == null; }
+    }
+}
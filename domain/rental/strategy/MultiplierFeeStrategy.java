@@ -0,0 +1,38 @@
+package domain.rental.strategy;
+
+import domain.car.Car;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 기본 요금에 임의 배율을 적용하는 요금 정책 (성수기/비수기 배율 변경 검토 등 시뮬레이션용 후보).
+ */
+public class MultiplierFeeStrategy implements FeeStrategy {
+
+    private final BigDecimal multiplier;
+
+    public MultiplierFeeStrategy(BigDecimal multiplier) {
+        this.multiplier = Objects.requireNonNull(multiplier, "multiplier");
+        if (multiplier.signum() <= 0) {
+            throw new IllegalArgumentException("multiplier must be > 0");
+        }
+    }
+
+    public BigDecimal getMultiplier() { return multiplier; }
+
+    @Override
+    public BigDecimal calculateTotalFee(Car car, int rentalDays) {
+        BigDecimal dailyFee = car.getDailyRentalFee();
+        if (dailyFee == null) {
+            // dailyRentalFee가 null이면 타입의 기본 요금 사용
+            dailyFee = car.type().baseRate();
+        }
+        return dailyFee.multiply(new BigDecimal(rentalDays)).multiply(multiplier);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiplierFeeStrategy(x" + multiplier.toPlainString() + ")";
+    }
+}
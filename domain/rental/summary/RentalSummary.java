@@ -0,0 +1,48 @@
+package domain.rental.summary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 매출/가동률 요약 1행 (일 × CarType 또는 차량별 합계).
+ *  - rentals / rentedDays / bookedRevenue : 대여 시점 기준 (대여일에 집계)
+ *  - returns / collectedRevenue / penaltyRevenue : 반납 시점 기준 (반납일에 집계)
+ */
+public class RentalSummary {
+    private final LocalDate day;        // 차량별 합계에서는 null
+    private final String carType;
+    private final Integer carId;        // 타입별 집계에서는 null
+    private final String carName;
+    private final long rentals;
+    private final long returns;
+    private final long rentedDays;
+    private final BigDecimal bookedRevenue;
+    private final BigDecimal collectedRevenue;
+    private final BigDecimal penaltyRevenue;
+
+    public RentalSummary(LocalDate day, String carType, Integer carId, String carName,
+                         long rentals, long returns, long rentedDays,
+                         BigDecimal bookedRevenue, BigDecimal collectedRevenue, BigDecimal penaltyRevenue) {
+        this.day = day;
+        this.carType = carType;
+        this.carId = carId;
+        this.carName = carName;
+        this.rentals = rentals;
+        this.returns = returns;
+        this.rentedDays = rentedDays;
+        this.bookedRevenue = bookedRevenue;
+        this.collectedRevenue = collectedRevenue;
+        this.penaltyRevenue = penaltyRevenue;
+    }
+
+    public LocalDate getDay() { return day; }
+    public String getCarType() { return carType; }
+    public Integer getCarId() { return carId; }
+    public String getCarName() { return carName; }
+    public long getRentals() { return rentals; }
+    public long getReturns() { return returns; }
+    public long getRentedDays() { return rentedDays; }
+    public BigDecimal getBookedRevenue() { return bookedRevenue; }
+    public BigDecimal getCollectedRevenue() { return collectedRevenue; }
+    public BigDecimal getPenaltyRevenue() { return penaltyRevenue; }
+}
@@ -0,0 +1,31 @@
+package domain.rental.summary;
+
+import db.DBConnection;
+import db.EnvLoader;
+
+/**
+ * 요약 테이블 재집계 배치 (요약 테이블 도입 직후 1회, 또는 불일치 복구 시).
+ *
+ *   java -cp "build;lib/*" domain.rental.summary.RentalSummaryRebuildJob
+ */
+public class RentalSummaryRebuildJob {
+
+    private final RentalSummaryRepository summaryRepository;
+
+    public RentalSummaryRebuildJob(RentalSummaryRepository summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    /** 재집계 실행 후 결과 안내 출력 */
+    public void run() {
+        System.out.println("⏳ 매출/가동률 요약 테이블 재집계 중...");
+        long start = System.nanoTime();
+        int rows = summaryRepository.rebuild();
+        System.out.printf("✅ 재집계 완료: 일 × 타입 %d행 (%.1f초)%n", rows, (System.nanoTime() - start) / 1e9);
+    }
+
+    public static void main(String[] args) {
+        EnvLoader.load();
+        new RentalSummaryRebuildJob(new RentalSummaryRepository(DBConnection.getInstance())).run();
+    }
+}
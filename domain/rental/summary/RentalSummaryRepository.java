@@ -0,0 +1,176 @@
+package domain.rental.summary;
+
+import db.DBConnection;
+import domain.car.carFactory.CarType;
+import domain.rental.archive.RentalArchiveRepository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 매출/가동률 요약 테이블 (V2__summary_and_archive_tables.sql 의 rental_daily_type_summary, rental_daily_car_summary).
+ *
+ * RentalService 가 대여/반납 트랜잭션 안에서 INSERT ... ON DUPLICATE KEY UPDATE 로 누적하므로,
+ * 리포트는 rental 테이블을 스캔하지 않고 (일 수 × 타입 수) 또는 (일 수 × 차량 수) 행만 읽습니다.
+ */
+public class RentalSummaryRepository {
+    private static final String TYPE_TBL = "rental_daily_type_summary";
+    private static final String CAR_TBL = "rental_daily_car_summary";
+
+    private final DBConnection db;
+
+    public RentalSummaryRepository(DBConnection db) {
+        this.db = Objects.requireNonNull(db, "db");
+    }
+
+    // ====== 증분 갱신 (RentalService 트랜잭션 안에서 호출) ======
+
+    /** 대여 1건: 대여일 버킷의 대여 수, 예약 일수, 예약 매출(정책 기본료 + 옵션) 누적 */
+    public void recordRent(LocalDate day, CarType carType, int carId, int rentalDays, BigDecimal bookedFee) {
+        upsertBoth(day, carType, carId,
+                "rentals, rentedDays, bookedRevenue",
+                "1, :rentalDays, :bookedFee",
+                "rentals = rentals + 1, " +
+                "rentedDays = rentedDays + VALUES(rentedDays), " +
+                "bookedRevenue = bookedRevenue + VALUES(bookedRevenue)",
+                Map.of("rentalDays", rentalDays, "bookedFee", bookedFee));
+    }
+
+    /** 반납 1건: 반납일 버킷의 반납 수, 결제 매출(할인 후 + 패널티), 패널티 매출 누적 */
+    public void recordReturn(LocalDate day, CarType carType, int carId, BigDecimal collectedFee, BigDecimal penalty) {
+        upsertBoth(day, carType, carId,
+                "returns, collectedRevenue, penaltyRevenue",
+                "1, :collectedFee, :penalty",
+                "returns = returns + 1, " +
+                "collectedRevenue = collectedRevenue + VALUES(collectedRevenue), " +
+                "penaltyRevenue = penaltyRevenue + VALUES(penaltyRevenue)",
+                Map.of("collectedFee", collectedFee, "penalty", penalty));
+    }
+
+    /** 같은 증분을 (일 × 타입), (일 × 차량) 두 버킷에 반영 */
+    private void upsertBoth(LocalDate day, CarType carType, int carId,
+                            String columns, String values, String onDuplicate, Map<String, Object> params) {
+        Map<String, Object> p = new HashMap<>(params);
+        p.put("day", Date.valueOf(day));
+        p.put("carType", carType.name());
+        p.put("carId", carId);
+
+        db.execute("INSERT INTO " + TYPE_TBL + " (day, carType, " + columns + ") " +
+                   "VALUES (:day, :carType, " + values + ") " +
+                   "ON DUPLICATE KEY UPDATE " + onDuplicate, p);
+        db.execute("INSERT INTO " + CAR_TBL + " (day, carId, " + columns + ") " +
+                   "VALUES (:day, :carId, " + values + ") " +
+                   "ON DUPLICATE KEY UPDATE " + onDuplicate, p);
+    }
+
+    // ====== 재집계 ======
+
+    /**
+     * rental + rental_archive 전체 이력으로 두 요약 테이블을 다시 계산 (한 트랜잭션).
+     * 요약 테이블 도입 전 데이터 적재나 불일치 복구용이며, 트래픽이 적은 시간에 실행합니다.
+     * @return 재집계한 (일 × 타입) 행 수
+     */
+    public int rebuild() {
+        return db.inTransaction(() -> {
+            db.execute("DELETE FROM " + TYPE_TBL, Map.of());
+            db.execute("DELETE FROM " + CAR_TBL, Map.of());
+            rebuildInto(TYPE_TBL, "carType", "c.type");
+            rebuildInto(CAR_TBL, "carId", "r.carId");
+            return db.queryForObject("SELECT COUNT(*) AS cnt FROM " + TYPE_TBL, Map.of())
+                    .map(row -> ((Number) row.get("cnt")).intValue())
+                    .orElse(0);
+        });
+    }
+
+    private void rebuildInto(String table, String keyColumn, String keyExpr) {
+        // 대여일 기준 집계 (rentalDays 가 없는 과거 기록은 시작~종료 일수로 추정)
+        db.execute(
+                "INSERT INTO " + table + " (day, " + keyColumn + ", rentals, rentedDays, bookedRevenue) " +
+                "SELECT DATE(r.startTime), " + keyExpr + ", COUNT(*), " +
+                "       SUM(COALESCE(r.rentalDays, GREATEST(1, DATEDIFF(r.endTime, r.startTime)))), " +
+                "       SUM(COALESCE(r.baseFee, 0) + COALESCE(r.optionFee, 0)) " +
+                "FROM " + RentalArchiveRepository.ALL_HISTORY + " r JOIN car c ON r.carId = c.id " +
+                "GROUP BY DATE(r.startTime), " + keyExpr, Map.of());
+        // 반납일 기준 집계 (같은 버킷이 있으면 합침)
+        db.execute(
+                "INSERT INTO " + table + " (day, " + keyColumn + ", returns, collectedRevenue, penaltyRevenue) " +
+                "SELECT DATE(r.endTime), " + keyExpr + ", COUNT(*), " +
+                "       SUM(COALESCE(r.totalFee, 0)), SUM(COALESCE(r.penalty, 0)) " +
+                "FROM " + RentalArchiveRepository.ALL_HISTORY + " r JOIN car c ON r.carId = c.id " +
+                "WHERE r.status = 'RETURNED' " +
+                "GROUP BY DATE(r.endTime), " + keyExpr + " " +
+                "ON DUPLICATE KEY UPDATE returns = VALUES(returns), " +
+                "  collectedRevenue = VALUES(collectedRevenue), penaltyRevenue = VALUES(penaltyRevenue)", Map.of());
+    }
+
+    // ====== 리포트 조회 (요약 테이블만 읽음) ======
+
+    /** [from, to] 기간의 일 × CarType 요약 (날짜, 타입 순) */
+    public List<RentalSummary> findDailyByType(LocalDate from, LocalDate to) {
+        String sql =
+                "SELECT * FROM " + TYPE_TBL + " " +
+                "WHERE day BETWEEN :from AND :to ORDER BY day, carType";
+        return db.queryForList(sql, Map.of("from", Date.valueOf(from), "to", Date.valueOf(to)))
+                .stream()
+                .map(row -> mapRow(row, toLocalDate(row.get("day")), String.valueOf(row.get("carType")), null, null))
+                .collect(Collectors.toList());
+    }
+
+    /** [from, to] 기간의 차량별 합계 (결제 매출 내림차순) */
+    public List<RentalSummary> findTotalsByCar(LocalDate from, LocalDate to) {
+        String sql =
+                "SELECT s.carId, c.name AS carName, c.type AS carType, " +
+                "       SUM(s.rentals) AS rentals, SUM(s.returns) AS returns, SUM(s.rentedDays) AS rentedDays, " +
+                "       SUM(s.bookedRevenue) AS bookedRevenue, SUM(s.collectedRevenue) AS collectedRevenue, " +
+                "       SUM(s.penaltyRevenue) AS penaltyRevenue " +
+                "FROM " + CAR_TBL + " s JOIN car c ON s.carId = c.id " +
+                "WHERE s.day BETWEEN :from AND :to " +
+                "GROUP BY s.carId, c.name, c.type " +
+                "ORDER BY collectedRevenue DESC, bookedRevenue DESC";
+        return db.queryForList(sql, Map.of("from", Date.valueOf(from), "to", Date.valueOf(to)))
+                .stream()
+                .map(row -> mapRow(row, null, String.valueOf(row.get("carType")),
+                        ((Number) row.get("carId")).intValue(), String.valueOf(row.get("carName"))))
+                .collect(Collectors.toList());
+    }
+
+    /** CarType 별 보유 차량 수 (가동률 분모, 퇴역 차량 제외) */
+    public Map<CarType, Long> countCarsByType() {
+        Map<CarType, Long> counts = new EnumMap<>(CarType.class);
+        String sql = "SELECT type, COUNT(*) AS cnt FROM car WHERE status <> 'RETIRED' GROUP BY type";
+        for (Map<String, Object> row : db.queryForList(sql, Map.of())) {
+            counts.put(CarType.valueOf(String.valueOf(row.get("type"))), ((Number) row.get("cnt")).longValue());
+        }
+        return counts;
+    }
+
+    private RentalSummary mapRow(Map<String, Object> row, LocalDate day, String carType, Integer carId, String carName) {
+        return new RentalSummary(day, carType, carId, carName,
+                toLong(row.get("rentals")), toLong(row.get("returns")), toLong(row.get("rentedDays")),
+                toMoney(row.get("bookedRevenue")), toMoney(row.get("collectedRevenue")),
+                toMoney(row.get("penaltyRevenue")));
+    }
+
+    private long toLong(Object o) {
+        return o instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private BigDecimal toMoney(Object o) {
+        if (o == null) return BigDecimal.ZERO;
+        if (o instanceof BigDecimal bd) return bd;
+        return new BigDecimal(o.toString());
+    }
+
+    private LocalDate toLocalDate(Object o) {
+        if (o instanceof Date d) return d.toLocalDate();
+        if (o instanceof LocalDate ld) return ld;
+        return LocalDate.parse(o.toString().substring(0, 10));
+    }
+}
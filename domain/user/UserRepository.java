@@ -2,6 +2,7 @@ package domain.user;
 
 import db.DBConnection; // 외부 DB 통신 클래스 임포트
 import domain.user.strategy.*;
+import domain.user.tier.MembershipTier;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -216,21 +217,8 @@ public class UserRepository {
         return Optional.of(user);
     }
 
-    // 저장된 전략 이름에 따라 전략 객체를 생성하는 헬퍼 메서드
+    // 저장된 전략 이름에 따라 등급별 공유 전략 객체를 반환하는 헬퍼 메서드 (ADMIN 은 기본 전략)
     private UserMembershipStrategy createStrategyByType(String typeName) {
-        // ADMIN은 전략이 아니므로 기본 전략(Silver)을 반환
-        if (typeName != null && typeName.equals("ADMIN")) {
-            return new SilverStrategy(); // ADMIN도 기본 전략 사용
-        }
-        if (typeName != null && typeName.contains("Gold")) {
-            return new GoldStrategy();
-        }
-        if (typeName != null && typeName.contains("Platinum")) {
-            return new PlatinumStrategy();
-        }
-        if (typeName != null && typeName.contains("VIP")) {
-            return new VIPStrategy();
-        }
-        return new SilverStrategy();
+        return MembershipTier.of(typeName).strategy();
     }
 }
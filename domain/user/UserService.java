@@ -1,6 +1,14 @@
 package domain.user;
 
 import domain.user.strategy.*;
+import domain.user.tier.MembershipTier;
+import domain.user.tier.RollingActivity;
+import domain.user.tier.UserSpendRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Optional;
 
 /**
@@ -11,14 +19,21 @@ public class UserService {
 
     // UserRepository에 의존하며, 생성자를 통해 주입받습니다.
     private final UserRepository userRepository;
+    // 회원 등급 산정용 월 집계 (null 이면 등급 자동 변경 없음)
+    private final UserSpendRepository spendRepository;
 
     public UserService(UserRepository userRepository) {
+        this(userRepository, null);
+    }
+
+    public UserService(UserRepository userRepository, UserSpendRepository spendRepository) {
         this.userRepository = userRepository;
+        this.spendRepository = spendRepository;
     }
 
-    // 새로운 사용자의 기본 전략을 결정하는 헬퍼 메서드 (전략 선택 역할)
+    // 새로운 사용자의 기본 전략을 결정하는 헬퍼 메서드 (전략 선택 역할, 공유 인스턴스)
     private UserMembershipStrategy getDefaultStrategy() {
-        return new SilverStrategy();
+        return MembershipTier.SILVER.strategy();
     }
 
     // =================================================================
@@ -180,51 +195,48 @@ public class UserService {
     }
 
     // =================================================================
-    // 7. 전략 패턴 활용 예시: VIP 승급 (비즈니스 로직)
+    // 7. 회원 등급: 최근 12개월 이용 실적 기반 (전략 패턴 + Flyweight)
     // =================================================================
-    public User upgradeGrade(String userId) { // i 파라미터 제거
-        // 1. 데이터 접근 위임: 사용자 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        // 2. 현재 전략의 클래스 이름 획득 (예: SilverStrategy)
-        // User 클래스에 getDiscountStrategy()가 public 또는 package-private으로 접근 가능하다고 가정
-        String currentStrategyName = user.getUserMembershipStrategy().getClass().getSimpleName();
-
-        // 3. 등급 순서 정의 (여기서 다음 전략을 결정)
-        UserMembershipStrategy newStrategy;
-
-        // 이 순서는 실제 전략 클래스 이름과 일치해야 합니다.
-        switch (currentStrategyName) {
-            case "SilverStrategy":
-                newStrategy = new GoldStrategy();
-                System.out.println("✅ " + userId + "님: Silver -> Gold 등급으로 승격되었습니다.");
-                break;
-            case "GoldStrategy":
-                newStrategy = new PlatinumStrategy();
-                System.out.println("✅ " + userId + "님: Gold -> Platinum 등급으로 승격되었습니다.");
-                break;
-            case "PlatinumStrategy":
-                newStrategy = new VIPStrategy();
-                System.out.println("✅ " + userId + "님: Platinum -> VIP 등급으로 승격되었습니다.");
-                break;
-            case "VIPStrategy":
-                throw new IllegalArgumentException("이미 최고 등급(VIP)입니다. 더 이상 승격할 수 없습니다.");
-            default:
-                // 예상치 못한 전략이 할당되어 있을 경우
-                newStrategy = new SilverStrategy(); // 기본값으로 설정하거나 예외 처리 가능
-                System.err.println("⚠️ 알 수 없는 등급: " + currentStrategyName + ". Silver로 재설정합니다.");
-                break;
+    /**
+     * 반납 1건을 사용자 월 집계에 누적 (RentalService 반납 트랜잭션 안에서 호출).
+     * 월 집계 저장소가 없으면(등급 엔진 미사용) 아무것도 하지 않습니다.
+     */
+    public void recordReturnSpend(User user, LocalDateTime returnedAt, BigDecimal paid) {
+        if (spendRepository == null || user.getId() == 0) {
+            return;
         }
+        spendRepository.recordReturn(user.getId(), YearMonth.from(returnedAt), paid);
+    }
 
-        // 4. 비즈니스 로직: 새 전략으로 교체 (전략 패턴 Context 업데이트)
-        user.setDiscountStrategy(newStrategy);
-        
-        // 5. membership 필드도 업데이트 (DB 저장 시 올바른 값이 저장되도록)
-        String newMembership = newStrategy.getClass().getSimpleName();
-        user.setMembership(newMembership);
+    /** asOf 가 속한 달을 포함한 최근 12개월 이용 실적 */
+    public RollingActivity getRollingActivity(User user, LocalDate asOf) {
+        if (spendRepository == null || user.getId() == 0) {
+            return RollingActivity.none();
+        }
+        YearMonth to = YearMonth.from(asOf);
+        return spendRepository.rolling(user.getId(), to.minusMonths(MembershipTier.WINDOW_MONTHS - 1), to);
+    }
+
+    /**
+     * 최근 12개월 실적으로 등급을 다시 판정하고, 바뀌었으면 저장합니다 (이미 조회한 User 를 그대로 사용).
+     * 기간이 지나 실적이 줄면 등급이 내려갈 수 있으며, ADMIN 계정은 바꾸지 않습니다.
+     * @return 판정 후 사용자 (변경이 없으면 같은 객체)
+     */
+    public User refreshTier(User user, LocalDate asOf) {
+        if (spendRepository == null || "ADMIN".equals(user.getMembership())) {
+            return user;
+        }
+        MembershipTier current = MembershipTier.of(user.getUserMembershipStrategy());
+        MembershipTier tier = getRollingActivity(user, asOf).tier();
+        if (tier == current) {
+            return user;
+        }
 
-        // 6. 데이터 접근 위임: 변경된 User 객체를 저장 (DB 업데이트)
+        // 공유 전략 인스턴스로 교체 (전략 패턴 Context 업데이트) + DB 저장용 membership 값
+        user.setDiscountStrategy(tier.strategy());
+        user.setMembership(tier.membershipName());
+        System.out.println("✅ " + user.getUserId() + "님: " + current + " -> " + tier + " 등급으로 변경되었습니다.");
         return userRepository.save(user);
     }
 
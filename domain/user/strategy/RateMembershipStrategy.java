@@ -0,0 +1,32 @@
+package domain.user.strategy;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 결제 금액에 임의 비율을 곱하는 회원 등급 정책 (할인율 변경 검토 등 시뮬레이션용 후보).
+ * 예: 0.88 이면 12% 할인
+ */
+public class RateMembershipStrategy implements UserMembershipStrategy {
+
+    private final BigDecimal rate;
+
+    public RateMembershipStrategy(BigDecimal rate) {
+        this.rate = Objects.requireNonNull(rate, "rate");
+        if (rate.signum() < 0 || rate.compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+    }
+
+    public BigDecimal getRate() { return rate; }
+
+    @Override
+    public BigDecimal calculateDiscount(BigDecimal decimal) {
+        return decimal.multiply(rate);
+    }
+
+    @Override
+    public String toString() {
+        return "RateMembershipStrategy(x" + rate.toPlainString() + ")";
+    }
+}
@@ -0,0 +1,101 @@
+package domain.user.tier;
+
+import db.DBConnection;
+import db.EnvLoader;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 등급 재계산 배치.
+ *
+ * 반납 시 증분 갱신되는 월 집계(user_monthly_spend)를 대여 이력으로 다시 만들고, 기간이 지나 내려가야 할 등급까지
+ * 포함해 전체 사용자의 등급을 다시 판정합니다. 사용자 id 범위를 CHUNK_SIZE 단위로 나눠 parallelism 개 스레드가
+ * 청크별 짧은 트랜잭션(UserSpendRepository.recomputeRange)으로 처리합니다.
+ * Main 에서 JobScheduler 작업(membership-tier-recompute, 매일 04:00)으로 실행하거나 단독으로 1회 실행할 수 있습니다.
+ *
+ *   java -cp "build;lib/*" domain.user.tier.MembershipRecomputeJob [병렬 스레드 수]
+ */
+public class MembershipRecomputeJob implements Runnable {
+
+    // 청크 1개(트랜잭션 1개)가 맡는 사용자 id 범위
+    private static final int CHUNK_SIZE = 1_000;
+    // 기본 병렬도 (청크마다 DB 연결 1개 사용)
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private final UserSpendRepository spendRepository;
+    // 등급 산정 기간 기준 시계 (대여/반납과 같은 시계)
+    private final Clock clock;
+    private final int parallelism;
+
+    public MembershipRecomputeJob(UserSpendRepository spendRepository, Clock clock, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be > 0");
+        }
+        this.spendRepository = spendRepository;
+        this.clock = clock;
+        this.parallelism = parallelism;
+    }
+
+    /** 1회 실행: 전체 사용자 청크를 병렬 처리 (실패한 청크가 있으면 나머지를 마친 뒤 첫 오류를 던짐) */
+    @Override
+    public void run() {
+        int[] range = spendRepository.userIdRange().orElse(null);
+        if (range == null) {
+            return;
+        }
+        YearMonth to = YearMonth.now(clock);
+        YearMonth from = to.minusMonths(MembershipTier.WINDOW_MONTHS - 1);
+        long start = System.nanoTime();
+
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "membership-recompute-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        List<Future<Integer>> chunks = new ArrayList<>();
+        try {
+            for (long lo = range[0]; lo <= range[1]; lo += CHUNK_SIZE) {
+                int fromId = (int) lo;
+                int toId = (int) Math.min(lo + CHUNK_SIZE - 1, range[1]);
+                chunks.add(pool.submit(() -> spendRepository.recomputeRange(fromId, toId, from, to)));
+            }
+
+            int changed = 0;
+            RuntimeException failure = null;
+            for (Future<Integer> chunk : chunks) {
+                try {
+                    changed += chunk.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            System.out.printf("🏅 회원 등급 재계산: %s ~ %s 기준, 청크 %d개(병렬 %d), 등급 변경 %d명 (%.1f초)%n",
+                    from, to, chunks.size(), parallelism, changed, (System.nanoTime() - start) / 1e9);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public static void main(String[] args) {
+        EnvLoader.load();
+        int parallelism = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PARALLELISM;
+        new MembershipRecomputeJob(new UserSpendRepository(DBConnection.getInstance()),
+                Clock.systemDefaultZone(), parallelism).run();
+    }
+}
@@ -0,0 +1,88 @@
+package domain.user.tier;
+
+import domain.user.strategy.GoldStrategy;
+import domain.user.strategy.PlatinumStrategy;
+import domain.user.strategy.SilverStrategy;
+import domain.user.strategy.UserMembershipStrategy;
+import domain.user.strategy.VIPStrategy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flyweight Pattern: 회원 등급별 할인 전략 공유 인스턴스 + 등급 기준.
+ *
+ * 할인 전략은 상태가 없으므로 등급마다 인스턴스 1개를 모든 사용자가 함께 씁니다 (사용자 조회마다 new 하지 않음).
+ * 등급은 최근 WINDOW_MONTHS 개월(이번 달 포함)의 반납 건수와 결제 금액이 모두 기준 이상인 가장 높은 등급입니다.
+ */
+public enum MembershipTier {
+    SILVER(new SilverStrategy(), 0, 0),
+    GOLD(new GoldStrategy(), 3, 500_000),
+    PLATINUM(new PlatinumStrategy(), 10, 2_000_000),
+    VIP(new VIPStrategy(), 20, 5_000_000);
+
+    // 등급 산정 기간 (월 단위 집계: 이번 달 + 직전 11개월)
+    public static final int WINDOW_MONTHS = 12;
+
+    private static final Map<String, MembershipTier> BY_NAME = new HashMap<>();
+    static {
+        for (MembershipTier tier : values()) {
+            BY_NAME.put(tier.strategy.name(), tier);
+            BY_NAME.put(tier.name(), tier);
+        }
+    }
+
+    private final UserMembershipStrategy strategy;
+    private final long minRentals;
+    private final long minSpend;
+
+    MembershipTier(UserMembershipStrategy strategy, long minRentals, long minSpend) {
+        this.strategy = strategy;
+        this.minRentals = minRentals;
+        this.minSpend = minSpend;
+    }
+
+    /** 공유 할인 전략 인스턴스 */
+    public UserMembershipStrategy strategy() { return strategy; }
+    /** user.membership 컬럼에 저장되는 이름 (예: GoldStrategy) */
+    public String membershipName() { return strategy.name(); }
+    public long getMinRentals() { return minRentals; }
+    /** 기준 결제 금액 (원) */
+    public long getMinSpend() { return minSpend; }
+
+    /** 기간 내 반납 건수 / 결제 금액(원)에 해당하는 등급 */
+    public static MembershipTier forActivity(long rentals, long spend) {
+        MembershipTier[] tiers = values();
+        for (int i = tiers.length - 1; i > 0; i--) {
+            if (rentals >= tiers[i].minRentals && spend >= tiers[i].minSpend) {
+                return tiers[i];
+            }
+        }
+        return SILVER;
+    }
+
+    /** 다음 등급 (최고 등급이면 null) */
+    public MembershipTier next() {
+        return ordinal() + 1 < values().length ? values()[ordinal() + 1] : null;
+    }
+
+    /**
+     * membership 컬럼 값 → 등급 (예: "GoldStrategy", "GOLD").
+     * 알 수 없는 값과 ADMIN 은 기본 등급(SILVER)
+     */
+    public static MembershipTier of(String membership) {
+        if (membership == null) return SILVER;
+        MembershipTier tier = BY_NAME.get(membership);
+        if (tier != null) return tier;
+        // 예전 데이터 호환: 이름 일부만 맞는 값 (예: "Gold")
+        String upper = membership.toUpperCase();
+        for (int i = values().length - 1; i > 0; i--) {
+            if (upper.contains(values()[i].name())) return values()[i];
+        }
+        return SILVER;
+    }
+
+    public static MembershipTier of(UserMembershipStrategy strategy) {
+        return strategy == null ? SILVER : of(strategy.name());
+    }
+}
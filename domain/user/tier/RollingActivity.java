@@ -0,0 +1,27 @@
+package domain.user.tier;
+
+/**
+ * 사용자 1명의 등급 산정 기간(최근 MembershipTier.WINDOW_MONTHS 개월) 합계.
+ */
+public class RollingActivity {
+    private final long rentals;
+    private final long spend;
+
+    public RollingActivity(long rentals, long spend) {
+        this.rentals = rentals;
+        this.spend = spend;
+    }
+
+    public static RollingActivity none() {
+        return new RollingActivity(0, 0);
+    }
+
+    /** 기간 내 반납 건수 */
+    public long getRentals() { return rentals; }
+    /** 기간 내 결제 금액 합계 (원, 연체료 포함) */
+    public long getSpend() { return spend; }
+
+    public MembershipTier tier() {
+        return MembershipTier.forActivity(rentals, spend);
+    }
+}
@@ -0,0 +1,124 @@
+package domain.user.tier;
+
+import db.DBConnection;
+import domain.rental.archive.RentalArchiveRepository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 회원 등급 산정용 사용자별 월 집계 (V5__user_monthly_spend.sql 의 user_monthly_spend).
+ *
+ * 반납 트랜잭션 안에서 (사용자, 반납 월) 버킷에 반납 건수/결제 금액을 INSERT ... ON DUPLICATE KEY UPDATE 로 누적하므로,
+ * 최근 12개월 합계는 rental 을 스캔하지 않고 PK 범위의 최대 12행만 읽습니다.
+ * 야간 재계산(MembershipRecomputeJob)은 사용자 id 범위 단위로 버킷을 대여 이력에서 다시 만들고 등급을 SQL 로 갱신합니다.
+ */
+public class UserSpendRepository {
+    private static final String TBL = "user_monthly_spend";
+
+    private final DBConnection db;
+
+    public UserSpendRepository(DBConnection db) {
+        this.db = Objects.requireNonNull(db, "db");
+    }
+
+    /** DB 없이 동작하는 하위 클래스(인메모리 백엔드 등)용 생성자. 모든 공개 메서드를 재정의해야 합니다. */
+    protected UserSpendRepository() {
+        this.db = null;
+    }
+
+    // ====== 증분 갱신 (RentalService 반납 트랜잭션 안에서 호출) ======
+
+    /** 반납 1건: 반납 월 버킷의 반납 수, 결제 금액 누적 */
+    public void recordReturn(int userId, YearMonth month, BigDecimal paid) {
+        db.execute("INSERT INTO " + TBL + " (userId, yearMonth, rentals, spend) " +
+                   "VALUES (:userId, :yearMonth, 1, :paid) " +
+                   "ON DUPLICATE KEY UPDATE rentals = rentals + 1, spend = spend + VALUES(spend)",
+                Map.of("userId", userId, "yearMonth", key(month), "paid", paid));
+    }
+
+    /** [from, to] 월 버킷 합계 */
+    public RollingActivity rolling(int userId, YearMonth from, YearMonth to) {
+        return db.queryForObject(
+                "SELECT COALESCE(SUM(rentals), 0) AS rentals, COALESCE(SUM(spend), 0) AS spend FROM " + TBL + " " +
+                "WHERE userId = :userId AND yearMonth BETWEEN :from AND :to",
+                Map.of("userId", userId, "from", key(from), "to", key(to)))
+                .map(row -> new RollingActivity(((Number) row.get("rentals")).longValue(),
+                        ((Number) row.get("spend")).longValue()))
+                .orElse(RollingActivity.none());
+    }
+
+    // ====== 재계산 (MembershipRecomputeJob) ======
+
+    /** 사용자 PK 범위 {min, max} (사용자가 없으면 empty) */
+    public Optional<int[]> userIdRange() {
+        return db.queryForObject("SELECT MIN(id) AS minId, MAX(id) AS maxId FROM user", Map.of())
+                .filter(row -> row.get("minId") != null)
+                .map(row -> new int[] {((Number) row.get("minId")).intValue(), ((Number) row.get("maxId")).intValue()});
+    }
+
+    /**
+     * 사용자 id [fromId, toId] 범위의 [from, to] 월 버킷을 rental + rental_archive 반납 이력으로 다시 만들고,
+     * 그 합계로 등급(user.membership)을 갱신합니다 (한 트랜잭션, 잠금은 이 범위의 사용자/버킷 행만).
+     * 기간 밖의 오래된 버킷은 이때 함께 지워집니다. ADMIN 계정은 등급을 바꾸지 않습니다.
+     * @return 등급이 바뀐 사용자 수
+     */
+    public int recomputeRange(int fromId, int toId, YearMonth from, YearMonth to) {
+        Map<String, Object> p = new HashMap<>();
+        p.put("fromId", fromId);
+        p.put("toId", toId);
+        p.put("from", key(from));
+        p.put("to", key(to));
+        p.put("since", Timestamp.valueOf(from.atDay(1).atStartOfDay()));
+        p.put("until", Timestamp.valueOf(to.plusMonths(1).atDay(1).atStartOfDay()));
+
+        // 각 테이블에 조건을 직접 걸어 rental 은 idx_rental_user_status_start 의 (userId, status) 접두 범위,
+        // rental_archive 는 idx_rental_archive_user 범위로 좁힘 (endTime 조건은 인덱스가 아닌 행 필터)
+        String returned = "userId BETWEEN :fromId AND :toId AND endTime >= :since AND endTime < :until";
+        return db.inTransaction(() -> {
+            db.execute("DELETE FROM " + TBL + " WHERE userId BETWEEN :fromId AND :toId", p);
+            db.execute(
+                    "INSERT INTO " + TBL + " (userId, yearMonth, rentals, spend) " +
+                    "SELECT h.userId, EXTRACT(YEAR_MONTH FROM h.endTime), COUNT(*), SUM(COALESCE(h.totalFee, 0)) " +
+                    "FROM (SELECT userId, endTime, totalFee FROM rental WHERE status = 'RETURNED' AND " + returned +
+                    "      UNION ALL " +
+                    "      SELECT userId, endTime, totalFee FROM " + RentalArchiveRepository.ARCHIVE_TBL +
+                    "      WHERE " + returned + ") h " +
+                    "GROUP BY h.userId, EXTRACT(YEAR_MONTH FROM h.endTime)", p);
+            // 등급이 그대로인 사용자는 조건에서 제외 (드라이버가 일치 행 수를 돌려줘도 변경 수가 되도록)
+            String tier = tierCaseSql();
+            return db.execute(
+                    "UPDATE user u LEFT JOIN (" +
+                    "  SELECT userId, SUM(rentals) AS rentals, SUM(spend) AS spend FROM " + TBL + " " +
+                    "  WHERE userId BETWEEN :fromId AND :toId AND yearMonth BETWEEN :from AND :to GROUP BY userId" +
+                    ") a ON a.userId = u.id " +
+                    "SET u.membership = " + tier + " " +
+                    "WHERE u.id BETWEEN :fromId AND :toId " +
+                    "AND (u.membership IS NULL OR (u.membership <> 'ADMIN' AND u.membership <> " + tier + "))", p);
+        });
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    /** 2026-10 → 202610 (EXTRACT(YEAR_MONTH ...) 와 같은 형식) */
+    static int key(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    /** MembershipTier.forActivity 와 같은 판정을 SQL CASE 로 (높은 등급부터) */
+    private static String tierCaseSql() {
+        StringBuilder sb = new StringBuilder("CASE");
+        MembershipTier[] tiers = MembershipTier.values();
+        for (int i = tiers.length - 1; i > 0; i--) {
+            sb.append(" WHEN COALESCE(a.rentals, 0) >= ").append(tiers[i].getMinRentals())
+              .append(" AND COALESCE(a.spend, 0) >= ").append(tiers[i].getMinSpend())
+              .append(" THEN '").append(tiers[i].membershipName()).append("'");
+        }
+        return sb.append(" ELSE '").append(MembershipTier.SILVER.membershipName()).append("' END").toString();
+    }
+}
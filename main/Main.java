@@ -2,13 +2,36 @@ package main;
 
 import db.DBConnection;
 import db.EnvLoader;
+import db.migration.HotQueryPlanCheck;
+import db.migration.MigrationRunner;
 import domain.admin.AdminService;
 import domain.car.CarRepository;
+import domain.car.CarStatusJournal;
+import domain.car.WriteBehindCarRepository;
+import domain.rental.OverdueAlertScheduler;
+import domain.rental.RentalRepository;
 import domain.rental.RentalService;
+import domain.rental.RentalStatistics;
+import domain.rental.SimulatedClock;
+import domain.rental.analytics.RentalColumnStore;
+import domain.rental.archive.RentalArchiveJob;
+import domain.rental.archive.RentalArchiveRepository;
+import domain.rental.journal.RentalEventJournal;
+import domain.rental.journal.RentalJournalState;
+import domain.rental.penalty.OverduePenaltyAccrualJob;
+import domain.rental.penalty.OverduePenaltyRepository;
+import domain.rental.summary.RentalSummaryRepository;
 import domain.user.UserRepository;
 import domain.user.UserService;
+import domain.user.tier.MembershipRecomputeJob;
+import domain.user.tier.UserSpendRepository;
 import main.command.command.Command;
+import main.command.invoker.CommandMetrics;
 import main.command.invoker.Invoker;
+import main.command.invoker.interceptor.AllocationInterceptor;
+import main.command.invoker.interceptor.ErrorCountingInterceptor;
+import main.command.invoker.interceptor.TimingInterceptor;
+import main.command.invoker.interceptor.TracingInterceptor;
 import main.command.receiver.ApplicationContext;
 import main.command.concretecommand.prelogin.SignUpCommand;
 import main.command.concretecommand.prelogin.AdminSignUpCommand;
@@ -16,9 +39,24 @@ import main.command.concretecommand.prelogin.LoginCommand;
 import main.command.concretecommand.prelogin.FindAccountCommand;
 import main.command.concretecommand.user.*;
 import main.command.concretecommand.admin.*;
+import main.facade.RentalFacade;
+import main.jmx.JmxExporter;
+import main.kiosk.KioskServer;
+import main.scheduler.JobScheduler;
+import main.scheduler.Schedule;
+import main.script.ScriptRunner;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalTime;
 import java.util.Scanner;
 
 /**
@@ -30,6 +68,17 @@ public class Main {
     public static void main(String[] args) {
         System.out.println("\n⏳ 차량 렌트 시스템 시뮬레이션 시작 중...");
         
+        // 키오스크 서버 모드는 DB 작업 전에 포트부터 확인
+        int kioskPort = -1;
+        if (args.length >= 1 && "--kiosk".equals(args[0])) {
+            kioskPort = args.length >= 2 ? parsePort(args[1]) : -1;
+            if (kioskPort < 0) {
+                System.err.println("❌ 키오스크 포트가 올바르지 않습니다: " + (args.length >= 2 ? args[1] : "(없음)"));
+                System.err.println("   사용법: java -cp \"build;lib/*\" main.Main --kiosk <port(1~65535)>");
+                return;
+            }
+        }
+        
         EnvLoader.load();
 
         try (Connection conn = DBConnection.getConnection();
@@ -37,15 +86,58 @@ public class Main {
             System.out.println("✅ DB 연결 완료");
             
             DBConnection db = DBConnection.getInstance();
-            UserService userService = new UserService(new UserRepository(db));
+            
+            // 스키마 마이그레이션 적용 (db/migration/sql) + 주요 조회 실행 계획 점검
+            if (!migrateSchema(db)) {
+                return;
+            }
+            
+            UserService userService = new UserService(new UserRepository(db), new UserSpendRepository(db));
             AdminService adminService = new AdminService(db, userService);
-            CarRepository carRepository = new CarRepository(db);
-            RentalService rentalService = new RentalService(new domain.rental.RentalRepository(db), userService);
+            CarRepository carRepository = createCarRepository(db);
+            RentalSummaryRepository summaryRepository = new RentalSummaryRepository(db);
+            // 대여/반납/연체 판정 기준 시계 (스크립트 모드 또는 CLOCK_RATE 설정 시 시뮬레이션 시계)
+            boolean scriptMode = args.length >= 2 && "--script".equals(args[0]);
+            Clock clock = createClock(scriptMode);
+            RentalRepository rentalRepository = new RentalRepository(db, clock);
+            RentalService rentalService = new RentalService(rentalRepository, userService, summaryRepository, clock);
             
             // ApplicationContext 생성 (Receiver)
             ApplicationContext context = new ApplicationContext(
-                userService, adminService, carRepository, rentalService
+                userService, adminService, carRepository, rentalService, rentalRepository
             );
+            context.setRentalSummaryRepository(summaryRepository);
+            context.setOverduePenaltyRepository(new OverduePenaltyRepository(db));
+            
+            // 런타임 통계를 JMX 로 노출 (JConsole 등으로 조회)
+            RentalStatistics.getInstance().initializeActive(context.getRentalRepository().countActive());
+            JmxExporter.register(context);
+            
+            // 반납 예정 인덱스 적재 (대여 이벤트 저널이 있으면 저널에서 복구)
+            if (!restoreFromRentalEventJournal(context, rentalService)) {
+                context.rebuildRentalDueIndex();
+            }
+            
+            // 분석용 컬럼 저장소 적재 (선택)
+            loadRentalColumnStore(context, rentalService);
+            
+            // 키오스크 서버 모드: 콘솔 메뉴 대신 바이너리 프로토콜 서버 실행
+            if (kioskPort > 0) {
+                startKioskServer(context, kioskPort);
+                return;
+            }
+            
+            // 헤드리스 모드: 애니메이션/메뉴 없이 스크립트 실행 후 요약 출력
+            if (scriptMode) {
+                boolean verbose = args.length >= 3 && "-v".equals(args[2]);
+                runScript(context, args[1], verbose);
+                return;
+            }
+            
+            // 콘솔 모드에서만: 반납 예정 시각이 지나는 순간 연체 알림 + 백그라운드 작업(대여 이력 보관, 캐시 예열, 차량 통계 갱신)
+            // (키오스크/스크립트 모드는 알림을 볼 화면이 없고, 스크립트 실행 중 배치가 결과에 끼어들지 않도록 시작하지 않음)
+            startOverdueAlerts(context, rentalService);
+            startBackgroundJobs(context, db);
             
             System.out.println("✅ 시뮬레이션 시작 완료");
             
@@ -59,6 +151,190 @@ public class Main {
         }
     }
     
+    /**
+     * 시계 선택 (.env 의 CLOCK_RATE).
+     * 설정하면 실제 시간의 CLOCK_RATE 배로 흐르는 시뮬레이션 시계를 사용합니다 (예: 8640 이면 5분 = 30일).
+     * 스크립트 모드는 'advance' 명령으로 시간을 앞당길 수 있도록 설정이 없어도 1배속 시뮬레이션 시계를 사용합니다.
+     */
+    private static Clock createClock(boolean scriptMode) {
+        String rate = System.getProperty("CLOCK_RATE", "");
+        if (rate.isBlank() && !scriptMode) {
+            return Clock.systemDefaultZone();
+        }
+        SimulatedClock clock = SimulatedClock.startingNow(rate.isBlank() ? 1.0 : Double.parseDouble(rate));
+        System.out.println("⏱️ 시뮬레이션 시계 사용: x" + clock.getRate());
+        return clock;
+    }
+    
+    /**
+     * 연체 알림 스케줄러 시작 (반납 예정 시각이 지나는 순간 콘솔에 알림)
+     */
+    private static void startOverdueAlerts(ApplicationContext context, RentalService rentalService) {
+        OverdueAlertScheduler scheduler = new OverdueAlertScheduler(context.getRentalDueIndex(), due ->
+            System.out.printf("%n🔔 [연체 알림] 대여 #%d (%s, 사용자 %s) 반납 예정 시각 %s 경과%n",
+                due.getRentalId(), due.getCarType(), due.getUserId(), due.getDueAt()),
+            rentalService.getClock());
+        rentalService.addListener(scheduler);
+        scheduler.start();
+    }
+    
+    /**
+     * 대여 이벤트 저널 열기 (.env 의 RENTAL_EVENT_JOURNAL_DIR 이 있을 때만)
+     * 스냅샷 + 저널 재생으로 반납 예정 인덱스를 복구하고, 새 저널이거나 DB 의 활성 대여 수와 다르면
+     * DB 기준으로 다시 적재한 뒤 저널 상태를 맞춥니다.
+     * @return 저널을 사용하지 않으면 false (호출자가 DB 에서 적재)
+     */
+    private static boolean restoreFromRentalEventJournal(ApplicationContext context, RentalService rentalService) {
+        String dir = System.getProperty("RENTAL_EVENT_JOURNAL_DIR", "");
+        if (dir.isBlank()) {
+            return false;
+        }
+        RentalEventJournal journal = RentalEventJournal.open(Path.of(dir), rentalService.getClock());
+        rentalService.addListener(journal);
+        Runtime.getRuntime().addShutdownHook(new Thread(journal::close));
+        
+        RentalJournalState state = journal.getState();
+        long activeInDb = context.getRentalRepository().countActive();
+        if (journal.isFresh() || state.getActiveCount() != activeInDb) {
+            if (!journal.isFresh()) {
+                System.out.printf("⚠️ 대여 이벤트 저널의 활성 대여(%d건)가 DB(%d건)와 달라 DB 기준으로 다시 맞춥니다.%n",
+                    state.getActiveCount(), activeInDb);
+            }
+            context.rebuildRentalDueIndex();
+            journal.bootstrap(context.getRentalDueIndex().all());
+            return true;
+        }
+        
+        context.getRentalDueIndex().rebuildFrom(state.activeRentals());
+        System.out.printf("📒 대여 이벤트 저널 복구: 재생 %d건 (%d ms), 활성 대여 %d건%n",
+            journal.getReplayedRecords(), journal.getReplayMillis(), state.getActiveCount());
+        return true;
+    }
+    
+    /**
+     * 분석용 컬럼 저장소 적재 (.env 의 ANALYTICS_COLUMN_STORE=true 일 때만)
+     * 대여 이력 전체를 커서로 읽어 컬럼 배열로 만들고, 이후 대여/반납은 리스너로 반영합니다.
+     * (메뉴/서버를 시작하기 전에 적재하므로 적재 도중의 대여/반납이 빠지지 않음)
+     */
+    private static void loadRentalColumnStore(ApplicationContext context, RentalService rentalService) {
+        if (!Boolean.parseBoolean(System.getProperty("ANALYTICS_COLUMN_STORE"))) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            RentalColumnStore store = RentalColumnStore.load(context.getRentalRepository(), 10_000);
+            rentalService.addListener(store);
+            context.setRentalColumnStore(store);
+            System.out.printf("📊 분석용 컬럼 저장소 적재: %,d건 (%.1f초)%n",
+                store.size(), (System.nanoTime() - start) / 1e9);
+        } catch (RuntimeException e) {
+            System.err.println("❌ 분석용 컬럼 저장소 적재 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 미적용 스키마 스크립트 적용 후 EXPLAIN 점검 결과 출력 (.env 의 MIGRATION_DIR 로 위치 변경 가능)
+     * @return 실패 시 false (시작 중단)
+     */
+    private static boolean migrateSchema(DBConnection db) {
+        try {
+            new MigrationRunner(db, Path.of(System.getProperty("MIGRATION_DIR", "db/migration/sql"))).migrate();
+        } catch (RuntimeException e) {
+            System.err.println("\n❌ DB 스키마 마이그레이션에 실패했습니다! 오류: " + e.getMessage());
+            return false;
+        }
+        new HotQueryPlanCheck(db).run();
+        return true;
+    }
+    
+    /**
+     * 차량 리포지토리 생성 (.env 의 CAR_WRITE_BEHIND=true 이면 상태 변경을 저널에 기록 후 묶어서 반영)
+     * 종료 시 남은 변경을 반영하고, 비정상 종료로 남은 변경은 다음 기동 시 저널에서 복구합니다.
+     */
+    private static CarRepository createCarRepository(DBConnection db) {
+        if (!Boolean.parseBoolean(System.getProperty("CAR_WRITE_BEHIND"))) {
+            return new CarRepository(db);
+        }
+        WriteBehindCarRepository repository = new WriteBehindCarRepository(db,
+            new CarStatusJournal(Path.of(System.getProperty("CAR_WRITE_BEHIND_JOURNAL", "data/car-status.journal"))),
+            Integer.parseInt(System.getProperty("CAR_WRITE_BEHIND_BATCH", "200")),
+            Long.parseLong(System.getProperty("CAR_WRITE_BEHIND_FLUSH_MS", "500")));
+        repository.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(repository::close));
+        return repository;
+    }
+    
+    /**
+     * 백그라운드 작업 스케줄러 시작 (관리자 메뉴 14번 / JMX carrental:type=Job 으로 상태 확인)
+     * 대여 이력 보관은 .env 의 RENTAL_ARCHIVE_DAYS (기본 365일) 지난 반납 건을 이동합니다.
+     */
+    private static void startBackgroundJobs(ApplicationContext context, DBConnection db) {
+        JobScheduler scheduler = new JobScheduler();
+        
+        // 오래된 대여 이력을 rental_archive 로 이동 (1시간마다)
+        int retentionDays = Integer.parseInt(System.getProperty("RENTAL_ARCHIVE_DAYS",
+            String.valueOf(RentalArchiveJob.DEFAULT_RETENTION_DAYS)));
+        scheduler.schedule("rental-archive", Schedule.fixedRate(Duration.ofHours(1), Duration.ofMinutes(1)),
+            Duration.ofMinutes(5), new RentalArchiveJob(new RentalArchiveRepository(db),
+                context.getRentalService().getClock(), retentionDays));
+        
+        // 반납되지 않은 연체 대여의 미수 연체료 누적 (매일 03:00, 대여/반납과 같은 시계 기준)
+        scheduler.schedule("overdue-penalty-accrual", Schedule.dailyAt(LocalTime.of(3, 0)), Duration.ofMinutes(10),
+            new OverduePenaltyAccrualJob(context.getOverduePenaltyRepository(), context.getRentalService().getClock()));
+        
+        // 최근 12개월 실적으로 전체 회원 등급 재계산 (매일 04:00, 기간이 지나 내려가는 등급 반영)
+        scheduler.schedule("membership-tier-recompute", Schedule.dailyAt(LocalTime.of(4, 0)), Duration.ofMinutes(10),
+            new MembershipRecomputeJob(new UserSpendRepository(db), context.getRentalService().getClock(),
+                MembershipRecomputeJob.DEFAULT_PARALLELISM));
+        
+        // 활성 대여를 대여 기록 캐시에 미리 채움 (기동 직후 1회 + 10분마다)
+        scheduler.schedule("rental-record-cache-warmer", Schedule.fixedRate(Duration.ofMinutes(10), Duration.ZERO),
+            Duration.ofSeconds(30), context::warmRentalRecordCache);
+        
+        // 차량 전체 조회로 CarType 별 보유/가용 통계 보정 (다른 프로세스의 변경 반영)
+        scheduler.schedule("fleet-statistics-refresh", Schedule.fixedRate(Duration.ofMinutes(5)),
+            Duration.ofSeconds(30), () -> context.getCarRepository().findAllCars());
+        
+        context.setJobScheduler(scheduler);
+        JmxExporter.registerJobs(scheduler);
+        Runtime.getRuntime().addShutdownHook(new Thread(scheduler::close));
+    }
+    
+    /**
+     * 키오스크 서버 실행 (Ctrl+C 또는 프로세스 종료 시 정지)
+     */
+    private static void startKioskServer(ApplicationContext context, int port) {
+        KioskServer server = new KioskServer(port, new RentalFacade(context));
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.run();
+    }
+    
+    /**
+     * 포트 문자열 → 1~65535 (숫자가 아니거나 범위 밖이면 -1)
+     */
+    private static int parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value.trim());
+            return port >= 1 && port <= 65535 ? port : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * 스크립트 파일(또는 '-' 이면 표준 입력)을 헤드리스로 실행
+     */
+    private static void runScript(ApplicationContext context, String path, boolean verbose) {
+        ScriptRunner runner = new ScriptRunner(new RentalFacade(context), verbose);
+        try (BufferedReader reader = "-".equals(path)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Path.of(path), StandardCharsets.UTF_8)) {
+            runner.run(reader);
+        } catch (IOException e) {
+            System.err.println("❌ 스크립트를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+    
     /**
      * 환영 메시지 애니메이션 효과
      */
@@ -125,7 +401,7 @@ public class Main {
      * 시뮬레이션 메인 루프
      */
     private static void startSimulation(ApplicationContext context, Scanner scanner) {
-        Invoker invoker = new Invoker();
+        Invoker invoker = createInvoker(context);
         
         while (true) {
             // 로그인 상태에 따라 다른 메뉴를 보여줍니다.
@@ -165,6 +441,22 @@ public class Main {
         }
     }
     
+    /**
+     * 인터셉터 체인을 구성한 Invoker 생성
+     * (바깥쪽부터: 추적 → 시간 측정 → 할당량 측정 → 오류 집계 → Command)
+     */
+    private static Invoker createInvoker(ApplicationContext context) {
+        Invoker invoker = new Invoker();
+        CommandMetrics metrics = context.getCommandMetrics();
+        if (Boolean.parseBoolean(System.getProperty("COMMAND_TRACE"))) {
+            invoker.addInterceptor(new TracingInterceptor());
+        }
+        invoker.addInterceptor(new TimingInterceptor(metrics));
+        invoker.addInterceptor(new AllocationInterceptor(metrics));
+        invoker.addInterceptor(new ErrorCountingInterceptor(metrics));
+        return invoker;
+    }
+    
     /**
      * 메뉴 번호에 따라 적절한 Command를 생성합니다.
      */
@@ -191,6 +483,13 @@ public class Main {
                     case 5 -> new ViewRentalRecordsCommand(context, scanner);
                     case 6 -> new ChangeSeasonCommand(context, scanner);
                     case 7 -> new LogoutCommand(context, scanner);
+                    case 8 -> new ViewCommandMetricsCommand(context, scanner);
+                    case 9 -> new ViewRevenueReportCommand(context, scanner);
+                    case 10 -> new ExportRentalHistoryCommand(context, scanner);
+                    case 11 -> new ImportCarsCommand(context, scanner);
+                    case 12 -> new ViewRentalAnalyticsCommand(context, scanner);
+                    case 13 -> new SimulatePricingCommand(context, scanner);
+                    case 14 -> new ViewBackgroundJobsCommand(context, scanner);
                     default -> null;
                 };
             } else {
@@ -238,6 +537,13 @@ public class Main {
             System.out.println(" 5. 대여 기록 조회 ");
             System.out.println(" 6. 시즌 변경 ");
             System.out.println(" 7. 로그아웃 ");
+            System.out.println(" 8. 명령 실행 통계 ");
+            System.out.println(" 9. 매출/가동률 리포트 ");
+            System.out.println(" 10. 대여 이력 내보내기 (CSV) ");
+            System.out.println(" 11. 차량 일괄 등록 (CSV) ");
+            System.out.println(" 12. 대여 이력 분석 ");
+            System.out.println(" 13. 시즌 요금 시뮬레이션 ");
+            System.out.println(" 14. 백그라운드 작업 현황 ");
             System.out.println(" 0. 종료");
         } else {
             // 일반 사용자 메뉴
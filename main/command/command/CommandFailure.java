@@ -0,0 +1,27 @@
+package main.command.command;
+
+/**
+ * Command 가 예외를 직접 잡아 메시지로 처리한 실패를 인터셉터(ErrorCountingInterceptor)에 알리는 통로.
+ *
+ * Command 는 사용자에게 오류를 보여준 뒤 정상 반환하므로 예외가 체인 밖으로 전파되지 않습니다.
+ * 대신 catch 블록에서 report() 를 호출하면, 같은 스레드에서 실행을 감싼 인터셉터가 take() 로 확인해 실패로 집계합니다.
+ * (입력 형식 오류처럼 다시 입력받으면 되는 경우는 보고하지 않음)
+ */
+public final class CommandFailure {
+
+    private static final ThreadLocal<Throwable> REPORTED = new ThreadLocal<>();
+
+    private CommandFailure() {}
+
+    /** 현재 스레드에서 실행 중인 Command 의 실패를 기록 (한 실행에서 여러 번 보고하면 마지막 원인만 유지) */
+    public static void report(Throwable cause) {
+        REPORTED.set(cause);
+    }
+
+    /** 기록된 실패를 꺼내고 지움 (없으면 null) */
+    public static Throwable take() {
+        Throwable cause = REPORTED.get();
+        REPORTED.remove();
+        return cause;
+    }
+}
@@ -1,6 +1,7 @@
 package main.command.concretecommand.admin;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 import domain.rental.strategy.BaseFeeStrategy;
 import domain.rental.strategy.FeeStrategy;
@@ -73,6 +74,7 @@ public class ChangeSeasonCommand implements Command {
             
         } catch (Exception e) {
             System.err.println("❌ 시즌 변경 실패: " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
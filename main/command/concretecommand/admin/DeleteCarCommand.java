@@ -1,6 +1,7 @@
 package main.command.concretecommand.admin;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 
 import java.util.List;
@@ -74,15 +75,19 @@ public class DeleteCarCommand implements Command {
                 System.err.println("❌ 현재 렌트중인 차는 삭제할 수 없습니다.");
                 return;
             }
+            if ("RETIRED".equalsIgnoreCase(carStatus)) {
+                System.err.println("❌ 이미 삭제(퇴역)된 차량입니다.");
+                return;
+            }
             
-            // 5) 삭제 확인
-            System.out.println("⚠️  정말 삭제하시겠습니까? (yes/no)");
+            // 5) 삭제 확인 (대여 이력은 보존되고 차량은 목록에서만 제외됨)
+            System.out.println("⚠️  정말 삭제하시겠습니까? 대여 이력은 보존됩니다. (yes/no)");
             System.out.print("선택: ");
             String confirm = scanner.nextLine().trim().toLowerCase();
             
             if ("yes".equals(confirm)) {
                 try {
-                    boolean deleted = context.getAdminService().deleteCarById(carId);
+                    boolean deleted = context.getAdminService().retireCarById(carId);
                     if (deleted) {
                         System.out.println("✅ 차량 삭제가 완료되었습니다.");
                     } else {
@@ -90,8 +95,10 @@ public class DeleteCarCommand implements Command {
                     }
                 } catch (IllegalStateException e) {
                     System.err.println("❌ " + e.getMessage());
+                    CommandFailure.report(e);
                 } catch (Exception deleteException) {
                     System.err.println("❌ 차량 삭제 실패: " + deleteException.getMessage());
+                    CommandFailure.report(deleteException);
                 }
             } else if ("no".equals(confirm)) {
                 System.out.println("❌ 차량 삭제가 취소되었습니다.");
@@ -101,6 +108,7 @@ public class DeleteCarCommand implements Command {
             
         } catch (Exception e) {
             System.err.println("❌ 차량 삭제 실패: " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
@@ -0,0 +1,73 @@
+package main.command.concretecommand.admin;
+
+import domain.rental.RentalHistoryFilter;
+import domain.rental.export.RentalExportResult;
+import domain.rental.export.RentalHistoryCsvExporter;
+import main.command.command.Command;
+import main.command.command.CommandFailure;
+import main.command.receiver.ApplicationContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 대여 이력 CSV(gzip) 내보내기 명령 (관리자 전용, 재무 정산용)
+ */
+public class ExportRentalHistoryCommand implements Command {
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public ExportRentalHistoryCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[10. 대여 이력 내보내기 (CSV)]");
+
+        RentalHistoryFilter filter = RentalHistoryFilter.all();
+        String fromLabel = "all";
+        String toLabel = "all";
+        try {
+            System.out.print("대여 시작일 From (yyyy-MM-dd, Enter: 제한 없음): ");
+            String from = scanner.nextLine().trim();
+            if (!from.isEmpty()) {
+                filter.from(LocalDate.parse(from).atStartOfDay());
+                fromLabel = from;
+            }
+            System.out.print("대여 시작일 To (yyyy-MM-dd, 해당일 포함, Enter: 제한 없음): ");
+            String to = scanner.nextLine().trim();
+            if (!to.isEmpty()) {
+                filter.to(LocalDate.parse(to).plusDays(1).atStartOfDay());
+                toLabel = to;
+            }
+        } catch (DateTimeParseException e) {
+            System.err.println("❌ 날짜 형식이 올바르지 않습니다. (예: 2025-01-31)");
+            return;
+        }
+
+        String defaultFile = "rental_history_" + fromLabel + "_" + toLabel + ".csv.gz";
+        System.out.printf("저장할 파일 (Enter: %s): ", defaultFile);
+        String file = scanner.nextLine().trim();
+        Path target = Paths.get(file.isEmpty() ? defaultFile : file);
+
+        try {
+            System.out.println("⏳ 내보내는 중...");
+            RentalExportResult result = new RentalHistoryCsvExporter(context.getRentalRepository())
+                    .export(filter, target);
+
+            System.out.printf("✅ 내보내기 완료: %s%n", result.getFile().toAbsolutePath());
+            System.out.printf("   %,d건 | 압축 후 %,d bytes | %.2f초 (%,.0f건/초)%n",
+                    result.getRows(), result.getCompressedBytes(),
+                    result.getElapsedNanos() / 1e9, result.getRowsPerSecond());
+        } catch (Exception e) {
+            System.err.println("❌ 내보내기 실패: " + e.getMessage());
+            CommandFailure.report(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package main.command.concretecommand.admin;
+
+import domain.admin.CarImportReport;
+import main.command.command.Command;
+import main.command.command.CommandFailure;
+import main.command.receiver.ApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 차량 CSV 일괄 등록 명령 (관리자 전용)
+ */
+public class ImportCarsCommand implements Command {
+    // 콘솔에 출력할 최대 오류 행 수
+    private static final int MAX_ERRORS_SHOWN = 100;
+
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public ImportCarsCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[11. 차량 일괄 등록 (CSV)]");
+        System.out.println("형식: type,name,dailyRentalFee (예: SEDAN,Avante 01,50000)");
+        System.out.print("CSV 파일 경로: ");
+        String input = scanner.nextLine().trim();
+        if (input.isEmpty()) {
+            System.err.println("❌ 파일 경로를 입력해주세요.");
+            return;
+        }
+        Path csvFile = Paths.get(input);
+        if (!Files.isRegularFile(csvFile)) {
+            System.err.println("❌ 파일을 찾을 수 없습니다: " + csvFile.toAbsolutePath());
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            CarImportReport report = context.getAdminService().importCars(csvFile);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            List<CarImportReport.RowError> errors = report.getErrors();
+            if (!errors.isEmpty()) {
+                System.out.println("\n--- 등록하지 않은 행 ---");
+                for (CarImportReport.RowError error : errors.subList(0, Math.min(MAX_ERRORS_SHOWN, errors.size()))) {
+                    System.out.printf("%d행: %s%n   └ %s%n", error.getLineNumber(), error.getLine(), error.getMessage());
+                }
+                if (errors.size() > MAX_ERRORS_SHOWN) {
+                    System.out.printf("... 외 %d건%n", errors.size() - MAX_ERRORS_SHOWN);
+                }
+                System.out.println("-".repeat(23));
+            }
+
+            System.out.printf("%n✅ 일괄 등록 완료: 전체 %d행 중 %d대 등록, %d행 오류 (%.2f초)%n",
+                    report.getDataRows(), report.getImported(), errors.size(), seconds);
+        } catch (Exception e) {
+            System.err.println("❌ 일괄 등록 실패 (등록된 차량 없음): " + e.getMessage());
+            CommandFailure.report(e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package main.command.concretecommand.admin;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 import domain.car.carFactory.CarType;
 
@@ -87,6 +88,7 @@ public class RegisterCarCommand implements Command {
             
         } catch (Exception e) {
             System.err.println("❌ 차량 등록 실패: " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
@@ -0,0 +1,99 @@
+package main.command.concretecommand.admin;
+
+import domain.rental.analytics.PricingScenario;
+import domain.rental.analytics.PricingSimulationResult;
+import domain.rental.analytics.PricingSimulator;
+import domain.rental.analytics.RentalColumnStore;
+import main.command.command.Command;
+import main.command.command.CommandFailure;
+import main.command.receiver.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 시즌 요금 What-if 시뮬레이션 명령 (관리자 전용).
+ * 성수기/비수기 배율 후보로 과거 반납 완료 대여를 다시 계산해 실제 매출과 비교합니다.
+ */
+public class SimulatePricingCommand implements Command {
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public SimulatePricingCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[13. 시즌 요금 시뮬레이션]");
+        RentalColumnStore store = context.getRentalColumnStore();
+        if (store == null) {
+            System.out.println("❌ 분석용 컬럼 저장소가 적재되지 않았습니다. (.env 의 ANALYTICS_COLUMN_STORE=true)");
+            return;
+        }
+
+        try {
+            BigDecimal peak = readDecimal("성수기 배율 (현재 1.2, 기본 1.2): ", "1.2");
+            BigDecimal off = readDecimal("비수기 배율 (현재 0.9, 기본 0.9): ", "0.9");
+            System.out.print("대상 기간 (최근 N개월, 기본 12): ");
+            String input = scanner.nextLine().trim();
+            int months = input.isEmpty() ? 12 : Integer.parseInt(input);
+            if (months <= 0) {
+                System.err.println("❌ 기간은 1개월 이상이어야 합니다.");
+                return;
+            }
+            LocalDateTime to = LocalDate.now(context.getRentalService().getClock()).plusDays(1).atStartOfDay();
+            LocalDateTime from = to.minusMonths(months);
+
+            PricingSimulationResult result = new PricingSimulator(store)
+                .run(from, to, List.of(PricingScenario.seasonMultipliers(peak, off)));
+            print(result, from, to);
+
+        } catch (NumberFormatException e) {
+            System.err.println("❌ 숫자를 입력해주세요.");
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            CommandFailure.report(e);
+        } catch (Exception e) {
+            System.err.println("❌ 시뮬레이션 실패: " + e.getMessage());
+            CommandFailure.report(e);
+        }
+    }
+
+    private BigDecimal readDecimal(String prompt, String defaultValue) {
+        System.out.print(prompt);
+        String input = scanner.nextLine().trim();
+        return new BigDecimal(input.isEmpty() ? defaultValue : input);
+    }
+
+    private void print(PricingSimulationResult result, LocalDateTime from, LocalDateTime to) {
+        System.out.printf("%n📊 %s ~ %s, 반납 완료 %,d건 (%.1f ms, 초당 %,.0f행)%n", from.toLocalDate(),
+            to.toLocalDate().minusDays(1), result.getRentals(), result.getElapsedMillis(), result.getRowsPerSecond());
+        for (PricingSimulationResult.ScenarioResult scenario : result.getScenarios()) {
+            System.out.printf("%n🧪 %s%n", scenario.getName());
+            System.out.printf("   실제 매출 %s원 → 예상 매출 %s원 (%+d원, %+.2f%%)%n",
+                context.formatMoney(scenario.getBaseline()), context.formatMoney(scenario.getSimulated()),
+                scenario.getDelta(), scenario.getDeltaPercent());
+            printLines("요금 정책별", scenario.getByFeeStrategy());
+            printLines("회원 등급별", scenario.getByMembership());
+        }
+    }
+
+    private void printLines(String title, List<PricingSimulationResult.Line> lines) {
+        System.out.printf("%n   %s%n", title);
+        System.out.println("-".repeat(84));
+        System.out.printf("%-24s %16s %16s %16s %8s%n", "구분", "실제 매출", "예상 매출", "차이", "증감률");
+        System.out.println("-".repeat(84));
+        for (PricingSimulationResult.Line line : lines) {
+            System.out.printf("%-24s %16s %16s %+16d %+7.2f%%%n", line.getLabel(),
+                context.formatMoney(line.getBaseline()), context.formatMoney(line.getSimulated()),
+                line.getDelta(), line.getDeltaPercent());
+        }
+        System.out.println("-".repeat(84));
+    }
+}
@@ -0,0 +1,69 @@
+package main.command.concretecommand.admin;
+
+import main.command.command.Command;
+import main.command.receiver.ApplicationContext;
+import main.scheduler.JobScheduler;
+import main.scheduler.JobStats;
+
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 백그라운드 작업 현황 조회 / 즉시 실행 명령 (관리자 전용)
+ */
+public class ViewBackgroundJobsCommand implements Command {
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public ViewBackgroundJobsCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[14. 백그라운드 작업 현황]");
+        JobScheduler scheduler = context.getJobScheduler();
+        if (scheduler == null || scheduler.jobs().isEmpty()) {
+            System.out.println("❌ 등록된 백그라운드 작업이 없습니다.");
+            return;
+        }
+
+        List<JobStats> jobs = scheduler.jobs();
+        System.out.println("-".repeat(120));
+        System.out.printf("%-28s %-22s %6s %5s %5s %10s %10s %-19s %-19s%n",
+            "작업", "주기", "실행", "실패", "건너뜀", "최근(ms)", "평균(ms)", "최근 시작", "다음 실행");
+        System.out.println("-".repeat(120));
+        for (JobStats job : jobs) {
+            System.out.printf("%-28s %-22s %6d %5d %5d %10.1f %10.1f %-19s %-19s%s%n",
+                job.getName(), job.getSchedule(), job.getRuns(), job.getFailures(), job.getSkippedOverlaps(),
+                job.getLastDurationMillis(), job.getMeanDurationMillis(),
+                shorten(job.getLastStartedAt()), shorten(job.getNextRunAt()), job.isRunning() ? " ⏳" : "");
+            if (!job.getLastError().isEmpty()) {
+                System.out.println("   ⚠️ 최근 오류: " + job.getLastError());
+            }
+        }
+        System.out.println("-".repeat(120));
+
+        System.out.print("지금 실행할 작업 이름 (Enter: 없음): ");
+        String name = scanner.nextLine().trim();
+        if (name.isEmpty()) {
+            return;
+        }
+        if (scheduler.job(name).isEmpty()) {
+            System.err.println("❌ 존재하지 않는 작업입니다: " + name);
+        } else if (scheduler.runNow(name)) {
+            System.out.println("✅ 실행을 시작했습니다: " + name + " (결과는 다시 조회해 확인)");
+        } else {
+            System.out.println("⏳ 이미 실행 중인 작업입니다: " + name);
+        }
+    }
+
+    /** yyyy-MM-ddTHH:mm:ss.nnn → yyyy-MM-dd HH:mm:ss */
+    private static String shorten(String time) {
+        if (time.isEmpty()) return "-";
+        String s = time.replace('T', ' ');
+        return s.length() > 19 ? s.substring(0, 19) : s;
+    }
+}
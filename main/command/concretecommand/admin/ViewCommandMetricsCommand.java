@@ -0,0 +1,59 @@
+package main.command.concretecommand.admin;
+
+import main.command.command.Command;
+import main.command.invoker.CommandMetrics;
+import main.command.receiver.ApplicationContext;
+import main.metrics.LatencyHistogram;
+
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 명령 실행 통계 조회 명령 (관리자 전용)
+ */
+public class ViewCommandMetricsCommand implements Command {
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public ViewCommandMetricsCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[8. 명령 실행 통계]");
+        List<CommandMetrics.CommandStats> stats = context.getCommandMetrics().snapshot();
+
+        if (stats.isEmpty()) {
+            System.out.println("❌ 아직 실행된 명령이 없습니다.");
+            return;
+        }
+
+        System.out.println("-".repeat(100));
+        System.out.printf("%-28s %6s %6s %9s %9s %9s %9s %12s%n",
+            "명령", "횟수", "오류", "평균(ms)", "p50(ms)", "p99(ms)", "최대(ms)", "평균할당(KB)");
+        System.out.println("-".repeat(100));
+        for (CommandMetrics.CommandStats s : stats) {
+            LatencyHistogram h = s.getLatency();
+            long count = h.getCount();
+            double avgAllocKb = count == 0 ? 0.0 : s.getAllocatedBytes() / 1024.0 / count;
+            System.out.printf("%-28s %6d %6d %9.3f %9.3f %9.3f %9.3f %12.1f%n",
+                s.getCommandName(), count, s.getErrorCount(),
+                h.getMeanNanos() / 1_000_000.0,
+                h.getValueAtPercentile(50) / 1_000_000.0,
+                h.getValueAtPercentile(99) / 1_000_000.0,
+                h.getMaxNanos() / 1_000_000.0,
+                avgAllocKb);
+        }
+        System.out.println("-".repeat(100));
+
+        System.out.print("통계를 초기화하시겠습니까? (yes/no): ");
+        String answer = scanner.nextLine().trim().toLowerCase();
+        if ("yes".equals(answer)) {
+            context.getCommandMetrics().reset();
+            System.out.println("✅ 명령 실행 통계가 초기화되었습니다.");
+        }
+    }
+}
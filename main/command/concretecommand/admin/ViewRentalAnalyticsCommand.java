@@ -0,0 +1,118 @@
+package main.command.concretecommand.admin;
+
+import domain.car.FleetStatistics;
+import domain.rental.analytics.AnalyticsQuery;
+import domain.rental.analytics.AnalyticsResult;
+import domain.rental.analytics.RentalAnalytics;
+import domain.rental.analytics.RentalColumnStore;
+import main.command.command.Command;
+import main.command.command.CommandFailure;
+import main.command.receiver.ApplicationContext;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 대여 이력 분석 명령 (관리자 전용). DB 가 아닌 메모리 컬럼 저장소를 병렬로 집계합니다.
+ */
+public class ViewRentalAnalyticsCommand implements Command {
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public ViewRentalAnalyticsCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[12. 대여 이력 분석]");
+        RentalColumnStore store = context.getRentalColumnStore();
+        if (store == null) {
+            System.out.println("❌ 분석용 컬럼 저장소가 적재되지 않았습니다. (.env 의 ANALYTICS_COLUMN_STORE=true)");
+            return;
+        }
+
+        try {
+            System.out.print("조회 기간 (최근 N개월, 기본 12): ");
+            String input = scanner.nextLine().trim();
+            int months = input.isEmpty() ? 12 : Integer.parseInt(input);
+            if (months <= 0) {
+                System.err.println("❌ 기간은 1개월 이상이어야 합니다.");
+                return;
+            }
+            LocalDateTime to = LocalDate.now(context.getRentalService().getClock()).plusDays(1).atStartOfDay();
+            LocalDateTime from = to.minusMonths(months);
+
+            RentalAnalytics analytics = new RentalAnalytics(store);
+            System.out.printf("%n📈 %s ~ %s, 전체 %,d건 중 대여 시작 기준%n", from.toLocalDate(), to.toLocalDate().minusDays(1),
+                store.size());
+
+            printByCarType(analytics.run(AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.CAR_TYPE).from(from).to(to)),
+                Duration.between(from, to).getSeconds());
+            printByGroup("회원 등급별",
+                analytics.run(AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.MEMBERSHIP).from(from).to(to)));
+            printByGroup("요금 정책별",
+                analytics.run(AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.FEE_STRATEGY).from(from).to(to)));
+            printMonthly(analytics.run(AnalyticsQuery.all().bucket(AnalyticsQuery.Bucket.MONTH).from(from).to(to)));
+
+        } catch (NumberFormatException e) {
+            System.err.println("❌ 숫자를 입력해주세요.");
+        } catch (Exception e) {
+            System.err.println("❌ 분석 실패: " + e.getMessage());
+            CommandFailure.report(e);
+        }
+    }
+
+    /**
+     * 차종별 표. 가동률은 기간과 겹치는 대여 시간 / (보유 대수 × 기간).
+     */
+    private void printByCarType(AnalyticsResult result, long windowSeconds) {
+        Map<String, Long> fleet = FleetStatistics.getInstance().getTotalCarsByType();
+
+        System.out.printf("%n🚗 차종별 (%.1f ms)%n", result.getElapsedMillis());
+        System.out.println("-".repeat(96));
+        System.out.printf("%-8s %10s %16s %12s %12s %12s %12s %8s%n",
+            "차종", "대여", "매출", "평균요금", "요금 p50", "요금 p90", "요금 p99", "가동률");
+        System.out.println("-".repeat(96));
+        for (AnalyticsResult.Row row : result.getRows()) {
+            long cars = fleet.getOrDefault(row.getGroup(), 0L);
+            double utilization = cars == 0 ? 0.0 : Math.min(1.0, (double) row.getOccupiedSeconds() / (cars * windowSeconds));
+            System.out.printf("%-8s %,10d %16s %12s %12s %12s %12s %7.1f%%%n",
+                row.getGroup(), row.getRentals(), context.formatMoney(row.getRevenue()),
+                context.formatMoney(row.getAverageFee()), context.formatMoney(row.getFeeP50()),
+                context.formatMoney(row.getFeeP90()), context.formatMoney(row.getFeeP99()), utilization * 100);
+        }
+        System.out.println("-".repeat(96));
+    }
+
+    private void printByGroup(String title, AnalyticsResult result) {
+        System.out.printf("%n👥 %s (%.1f ms)%n", title, result.getElapsedMillis());
+        System.out.println("-".repeat(84));
+        System.out.printf("%-24s %10s %16s %10s %12s %8s%n", "구분", "대여", "매출", "연체료", "평균요금", "평균일수");
+        System.out.println("-".repeat(84));
+        for (AnalyticsResult.Row row : result.getRows()) {
+            if (row.getRentals() == 0) continue;
+            System.out.printf("%-24s %,10d %16s %10s %12s %8.1f%n",
+                row.getGroup(), row.getRentals(), context.formatMoney(row.getRevenue()),
+                context.formatMoney(row.getPenalty()), context.formatMoney(row.getAverageFee()), row.getAverageDays());
+        }
+        System.out.println("-".repeat(84));
+    }
+
+    private void printMonthly(AnalyticsResult result) {
+        System.out.printf("%n📅 월별 매출 (%.1f ms)%n", result.getElapsedMillis());
+        System.out.println("-".repeat(52));
+        System.out.printf("%-8s %10s %16s %12s%n", "월", "대여", "매출", "연체료");
+        System.out.println("-".repeat(52));
+        for (AnalyticsResult.Row row : result.getRows()) {
+            System.out.printf("%-8s %,10d %16s %12s%n", row.getBucketStart().toString().substring(0, 7),
+                row.getRentals(), context.formatMoney(row.getRevenue()), context.formatMoney(row.getPenalty()));
+        }
+        System.out.println("-".repeat(52));
+    }
+}
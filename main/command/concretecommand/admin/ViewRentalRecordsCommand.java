@@ -1,10 +1,17 @@
 package main.command.concretecommand.admin;
 
+import domain.rental.RentalHistoryFilter;
+import domain.rental.RentalHistoryPage;
+import domain.rental.RentalRecord;
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 
+import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,120 +22,256 @@ import java.util.Scanner;
  * 대여 기록 조회 명령 (관리자 전용)
  */
 public class ViewRentalRecordsCommand implements Command {
+    // 연체 목록 1회 조회 최대 건수
+    private static final int OVERDUE_LIMIT = 50;
+    // 전체/조건 검색 1페이지 건수
+    private static final int PAGE_SIZE = 10;
+    
     private final ApplicationContext context;
+    private final Scanner scanner;
     
     public ViewRentalRecordsCommand(ApplicationContext context, Scanner scanner) {
         this.context = context;
+        this.scanner = scanner;
     }
     
     @Override
     public void execute() {
         System.out.println("\n[6. 대여 기록 조회]");
+        System.out.println("1. 전체 대여 기록");
+        System.out.println("2. 연체 중인 대여만");
+        System.out.println("3. 조건 검색 (사용자 / 차량 / 상태 / 기간)");
+        System.out.print("선택: ");
+        String choice = scanner.nextLine().trim();
+        
         try {
-            List<Map<String, Object>> rentalRecords = context.getAdminService().getAllRentalRecordsWithCarName();
+            // 연체 판정은 대여/반납과 같은 시계 기준 (시뮬레이션 시계 사용 시에도 일치)
+            LocalDateTime now = LocalDateTime.now(context.getRentalService().getClock());
+            
+            if ("2".equals(choice)) {
+                // 연체 판정은 DB 에서 rental(status, endTime) 인덱스로 처리
+                long overdueCount = context.getRentalRepository().countOverdue(now);
+                if (overdueCount == 0) {
+                    System.out.println("✅ 연체 중인 대여가 없습니다.");
+                    return;
+                }
+                List<Map<String, Object>> overdueRecords = context.getRentalRepository().findOverdue(now, OVERDUE_LIMIT);
+                System.out.printf("%n🔴 연체 중인 대여: 총 %d건 (반납 예정일이 오래된 순, 최대 %d건 표시)%n",
+                    overdueCount, OVERDUE_LIMIT);
+                printRecords(overdueRecords, now);
+                printAccruedPenalty(now);
+                return;
+            }
             
-            if (rentalRecords.isEmpty()) {
-                System.out.println("❌ 등록된 대여 기록이 없습니다.");
+            RentalHistoryFilter filter = "3".equals(choice) ? readFilter() : RentalHistoryFilter.all();
+            if (filter == null) {
                 return;
             }
+            pageThrough(filter, now);
             
-            System.out.println("\n전체 대여 기록:");
-            System.out.println("-".repeat(40));
+        } catch (Exception e) {
+            System.err.println("❌ 대여 기록 조회 실패: " + e.getMessage());
+            CommandFailure.report(e);
+            e.printStackTrace();
+        }
+    }
+    
+    /**
+     * 야간 누적 배치(overdue-penalty-accrual)가 마지막으로 계산한 미수 연체료 합계.
+     * 반납 시 확정되는 금액은 반납 시각 기준으로 다시 계산되므로 참고용입니다.
+     */
+    private void printAccruedPenalty(LocalDateTime now) {
+        if (context.getOverduePenaltyRepository() == null) {
+            return;
+        }
+        Map<String, Object> outstanding = context.getOverduePenaltyRepository().outstanding(now);
+        Object accruedAt = outstanding.get("accruedAt");
+        if (accruedAt == null) {
+            System.out.println("💸 누적 연체료: 아직 계산되지 않았습니다. (매일 03:00 또는 관리자 메뉴 14번에서 overdue-penalty-accrual 실행)");
+            return;
+        }
+        BigDecimal accrued = new BigDecimal(String.valueOf(outstanding.get("accrued")));
+        System.out.printf("💸 누적 연체료: %,d원 (마지막 계산 %s)%n", accrued.longValue(), accruedAt);
+    }
+    
+    /**
+     * 키셋 페이지 단위로 출력 (Enter: 다음 페이지, q: 종료).
+     * 각 페이지는 직전 페이지의 마지막 id 부터 이어서 조회하므로 뒤 페이지도 비용이 같습니다.
+     */
+    private void pageThrough(RentalHistoryFilter filter, LocalDateTime now) {
+        RentalHistoryPage page = context.getAdminService().getRentalRecordsPage(filter, null, PAGE_SIZE);
+        if (page.getRows().isEmpty()) {
+            System.out.println("❌ 조건에 맞는 대여 기록이 없습니다.");
+            return;
+        }
+        
+        int pageNo = 1;
+        while (true) {
+            System.out.printf("%n대여 기록 (%d페이지):%n", pageNo);
+            printRecords(page.getRows(), now);
+            if (!page.hasNext()) {
+                System.out.println("마지막 페이지입니다.");
+                return;
+            }
+            System.out.print("[Enter] 다음 페이지 / q 종료: ");
+            if ("q".equalsIgnoreCase(scanner.nextLine().trim())) {
+                return;
+            }
+            page = context.getAdminService().getRentalRecordsPage(filter, page.getNextCursor(), PAGE_SIZE);
+            pageNo++;
+        }
+    }
+    
+    /**
+     * 조건 검색 입력 (빈 입력은 조건 없음). 입력이 잘못되면 null.
+     */
+    private RentalHistoryFilter readFilter() {
+        RentalHistoryFilter filter = RentalHistoryFilter.all();
+        
+        System.out.print("사용자 아이디 (Enter: 전체): ");
+        String userId = scanner.nextLine().trim();
+        if (!userId.isEmpty()) {
+            var user = context.getUserService().getUserInfo(userId);
+            if (user.isEmpty()) {
+                System.err.println("❌ 존재하지 않는 사용자입니다: " + userId);
+                return null;
+            }
+            filter.userPk(user.get().getId());
+        }
+        
+        System.out.print("차량 이름 (Enter: 전체): ");
+        String carName = scanner.nextLine().trim();
+        if (!carName.isEmpty()) {
+            var car = context.getAdminService().findCarByName(carName);
+            if (car.isEmpty()) {
+                System.err.println("❌ 존재하지 않는 차량입니다: " + carName);
+                return null;
+            }
+            filter.carPk(((Number) car.get().get("id")).intValue());
+        }
+        
+        System.out.print("상태 (RENTED / RETURNED, Enter: 전체): ");
+        String status = scanner.nextLine().trim().toUpperCase();
+        if (!status.isEmpty()) {
+            try {
+                filter.status(RentalRecord.Status.valueOf(status));
+            } catch (IllegalArgumentException e) {
+                System.err.println("❌ 상태는 RENTED 또는 RETURNED 만 가능합니다.");
+                return null;
+            }
+        }
+        
+        try {
+            System.out.print("대여 시작일 From (yyyy-MM-dd, Enter: 제한 없음): ");
+            String from = scanner.nextLine().trim();
+            if (!from.isEmpty()) {
+                filter.from(LocalDate.parse(from).atStartOfDay());
+            }
+            System.out.print("대여 시작일 To (yyyy-MM-dd, 해당일 포함, Enter: 제한 없음): ");
+            String to = scanner.nextLine().trim();
+            if (!to.isEmpty()) {
+                filter.to(LocalDate.parse(to).plusDays(1).atStartOfDay());
+            }
+        } catch (DateTimeParseException e) {
+            System.err.println("❌ 날짜 형식이 올바르지 않습니다. (예: 2025-01-31)");
+            return null;
+        }
+        return filter;
+    }
+    
+    /**
+     * 대여 기록을 세로 형식으로 출력 (연체 건은 🔴 표시)
+     */
+    private void printRecords(List<Map<String, Object>> rentalRecords, LocalDateTime now) {
+        System.out.println("-".repeat(40));
+        
+        for (int i = 0; i < rentalRecords.size(); i++) {
+            Map<String, Object> record = rentalRecords.get(i);
             
-            LocalDateTime now = LocalDateTime.now();
+            // 연체 여부 확인
+            Object endTimeObj = record.get("endTime");
+            LocalDateTime endTime = null;
+            boolean isOverdue = false;
             
-            for (int i = 0; i < rentalRecords.size(); i++) {
-                Map<String, Object> record = rentalRecords.get(i);
-                
-                // 연체 여부 확인
-                Object endTimeObj = record.get("endTime");
-                LocalDateTime endTime = null;
-                boolean isOverdue = false;
-                
-                if (endTimeObj != null) {
-                    if (endTimeObj instanceof Timestamp) {
-                        endTime = ((Timestamp) endTimeObj).toLocalDateTime();
-                    } else if (endTimeObj instanceof LocalDateTime) {
-                        endTime = (LocalDateTime) endTimeObj;
-                    }
-                    
-                    String recordStatus = Objects.toString(record.get("status"), "");
-                    if ("RENTED".equalsIgnoreCase(recordStatus) && endTime != null && now.isAfter(endTime)) {
-                        isOverdue = true;
-                    }
-                }
-                
-                // 차량 이름
-                String carName = null;
-                if (record.containsKey("carName")) {
-                    carName = Objects.toString(record.get("carName"), "");
-                } else if (record.containsKey("c.name")) {
-                    carName = Objects.toString(record.get("c.name"), "");
-                }
-                if (carName == null || carName.isEmpty() || "null".equals(carName)) {
-                    carName = "알 수 없음";
+            if (endTimeObj != null) {
+                if (endTimeObj instanceof Timestamp) {
+                    endTime = ((Timestamp) endTimeObj).toLocalDateTime();
+                } else if (endTimeObj instanceof LocalDateTime) {
+                    endTime = (LocalDateTime) endTimeObj;
                 }
                 
-                // 사용자 이름
-                String userName = null;
-                if (record.containsKey("userName")) {
-                    userName = Objects.toString(record.get("userName"), "");
-                } else if (record.containsKey("u.name")) {
-                    userName = Objects.toString(record.get("u.name"), "");
+                String recordStatus = Objects.toString(record.get("status"), "");
+                if ("RENTED".equalsIgnoreCase(recordStatus) && endTime != null && now.isAfter(endTime)) {
+                    isOverdue = true;
                 }
-                if (userName == null || userName.isEmpty() || "null".equals(userName)) {
-                    userName = "알 수 없음";
-                }
-                
-                // 대여 날짜
-                Object startTimeObj = record.get("startTime");
-                String startTimeStr = "";
-                if (startTimeObj != null) {
-                    if (startTimeObj instanceof Timestamp) {
-                        startTimeStr = ((Timestamp) startTimeObj).toLocalDateTime().toString();
-                    } else if (startTimeObj instanceof LocalDateTime) {
-                        startTimeStr = startTimeObj.toString();
-                    } else {
-                        startTimeStr = startTimeObj.toString();
-                    }
-                    if (startTimeStr.contains("T")) {
-                        startTimeStr = startTimeStr.substring(0, startTimeStr.indexOf("T"));
-                    }
+            }
+            
+            // 차량 이름
+            String carName = null;
+            if (record.containsKey("carName")) {
+                carName = Objects.toString(record.get("carName"), "");
+            } else if (record.containsKey("c.name")) {
+                carName = Objects.toString(record.get("c.name"), "");
+            }
+            if (carName == null || carName.isEmpty() || "null".equals(carName)) {
+                carName = "알 수 없음";
+            }
+            
+            // 사용자 이름
+            String userName = null;
+            if (record.containsKey("userName")) {
+                userName = Objects.toString(record.get("userName"), "");
+            } else if (record.containsKey("u.name")) {
+                userName = Objects.toString(record.get("u.name"), "");
+            }
+            if (userName == null || userName.isEmpty() || "null".equals(userName)) {
+                userName = "알 수 없음";
+            }
+            
+            // 대여 날짜
+            Object startTimeObj = record.get("startTime");
+            String startTimeStr = "";
+            if (startTimeObj != null) {
+                if (startTimeObj instanceof Timestamp) {
+                    startTimeStr = ((Timestamp) startTimeObj).toLocalDateTime().toString();
+                } else if (startTimeObj instanceof LocalDateTime) {
+                    startTimeStr = startTimeObj.toString();
+                } else {
+                    startTimeStr = startTimeObj.toString();
                 }
-                
-                // 반납 날짜
-                String endTimeStr = "";
-                if (endTime != null) {
-                    endTimeStr = endTime.toString();
-                    if (endTimeStr.contains("T")) {
-                        endTimeStr = endTimeStr.substring(0, endTimeStr.indexOf("T"));
-                    }
+                if (startTimeStr.contains("T")) {
+                    startTimeStr = startTimeStr.substring(0, startTimeStr.indexOf("T"));
                 }
-                
-                // 상태
-                String status = Objects.toString(record.get("status"), "");
-                
-                // 연체 표시
-                String overdueIcon = isOverdue ? "🔴 " : "";
-                
-                // 세로로 출력
-                System.out.println(overdueIcon + "차량: " + carName);
-                System.out.println("사용자: " + userName);
-                System.out.println("대여 날짜: " + startTimeStr);
-                System.out.println("반납 날짜: " + endTimeStr);
-                System.out.println("상태: " + status);
-                
-                // 마지막 항목이 아니면 구분선 추가
-                if (i < rentalRecords.size() - 1) {
-                    System.out.println();
+            }
+            
+            // 반납 날짜
+            String endTimeStr = "";
+            if (endTime != null) {
+                endTimeStr = endTime.toString();
+                if (endTimeStr.contains("T")) {
+                    endTimeStr = endTimeStr.substring(0, endTimeStr.indexOf("T"));
                 }
             }
-            System.out.println("-".repeat(40));
             
-        } catch (Exception e) {
-            System.err.println("❌ 대여 기록 조회 실패: " + e.getMessage());
-            e.printStackTrace();
+            // 상태
+            String status = Objects.toString(record.get("status"), "");
+            
+            // 연체 표시
+            String overdueIcon = isOverdue ? "🔴 " : "";
+            
+            // 세로로 출력
+            System.out.println(overdueIcon + "차량: " + carName);
+            System.out.println("사용자: " + userName);
+            System.out.println("대여 날짜: " + startTimeStr);
+            System.out.println("반납 날짜: " + endTimeStr);
+            System.out.println("상태: " + status);
+            
+            // 마지막 항목이 아니면 구분선 추가
+            if (i < rentalRecords.size() - 1) {
+                System.out.println();
+            }
         }
+        System.out.println("-".repeat(40));
     }
 }
 
@@ -0,0 +1,134 @@
+package main.command.concretecommand.admin;
+
+import domain.car.carFactory.CarType;
+import domain.rental.summary.RentalSummary;
+import domain.rental.summary.RentalSummaryRebuildJob;
+import domain.rental.summary.RentalSummaryRepository;
+import main.command.command.Command;
+import main.command.command.CommandFailure;
+import main.command.receiver.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Command Pattern: ConcreteCommand
+ * 매출/가동률 리포트 명령 (관리자 전용). rental 테이블이 아닌 요약 테이블만 읽습니다.
+ */
+public class ViewRevenueReportCommand implements Command {
+    // 차량별 합계 최대 표시 건수
+    private static final int TOP_CARS = 10;
+
+    private final ApplicationContext context;
+    private final Scanner scanner;
+
+    public ViewRevenueReportCommand(ApplicationContext context, Scanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    @Override
+    public void execute() {
+        System.out.println("\n[9. 매출/가동률 리포트]");
+        RentalSummaryRepository summaryRepository = context.getRentalSummaryRepository();
+        if (summaryRepository == null) {
+            System.out.println("❌ 요약 테이블이 구성되지 않았습니다.");
+            return;
+        }
+
+        System.out.println("1. 리포트 조회");
+        System.out.println("2. 요약 테이블 재집계");
+        System.out.print("선택: ");
+        String choice = scanner.nextLine().trim();
+
+        try {
+            if ("2".equals(choice)) {
+                new RentalSummaryRebuildJob(summaryRepository).run();
+                return;
+            }
+
+            System.out.print("조회 기간 (최근 N일, 기본 7): ");
+            String input = scanner.nextLine().trim();
+            int days = input.isEmpty() ? 7 : Integer.parseInt(input);
+            if (days <= 0) {
+                System.err.println("❌ 기간은 1일 이상이어야 합니다.");
+                return;
+            }
+            LocalDate to = LocalDate.now(context.getRentalService().getClock());
+            LocalDate from = to.minusDays(days - 1L);
+
+            printDailyByType(summaryRepository, from, to);
+            printTotalsByCar(summaryRepository, from, to);
+
+        } catch (NumberFormatException e) {
+            System.err.println("❌ 숫자를 입력해주세요.");
+        } catch (Exception e) {
+            System.err.println("❌ 리포트 조회 실패: " + e.getMessage());
+            CommandFailure.report(e);
+        }
+    }
+
+    /**
+     * 일 × 타입 표. 가동률은 예약 기준 (예약 일수 / 보유 대수).
+     */
+    private void printDailyByType(RentalSummaryRepository repository, LocalDate from, LocalDate to) {
+        List<RentalSummary> rows = repository.findDailyByType(from, to);
+        Map<CarType, Long> fleet = repository.countCarsByType();
+
+        System.out.printf("%n📊 일별 × 차종별 (%s ~ %s)%n", from, to);
+        System.out.println("-".repeat(92));
+        System.out.printf("%-10s %-6s %6s %6s %8s %12s %12s %10s %8s%n",
+            "날짜", "차종", "대여", "반납", "예약일수", "예약매출", "결제매출", "패널티", "가동률");
+        System.out.println("-".repeat(92));
+        if (rows.isEmpty()) {
+            System.out.println("(해당 기간의 집계가 없습니다)");
+        }
+
+        long totalRentals = 0, totalReturns = 0;
+        BigDecimal totalBooked = BigDecimal.ZERO, totalCollected = BigDecimal.ZERO;
+        for (RentalSummary row : rows) {
+            long cars = fleet.getOrDefault(CarType.valueOf(row.getCarType()), 0L);
+            double utilization = cars == 0 ? 0.0 : Math.min(1.0, (double) row.getRentedDays() / cars);
+            System.out.printf("%-10s %-6s %6d %6d %8d %12s %12s %10s %7.1f%%%n",
+                row.getDay(), row.getCarType(), row.getRentals(), row.getReturns(), row.getRentedDays(),
+                context.formatMoney(row.getBookedRevenue()), context.formatMoney(row.getCollectedRevenue()),
+                context.formatMoney(row.getPenaltyRevenue()), utilization * 100);
+            totalRentals += row.getRentals();
+            totalReturns += row.getReturns();
+            totalBooked = totalBooked.add(row.getBookedRevenue());
+            totalCollected = totalCollected.add(row.getCollectedRevenue());
+        }
+        System.out.println("-".repeat(92));
+        System.out.printf("합계: 대여 %d건, 반납 %d건, 예약매출 %s원, 결제매출 %s원%n",
+            totalRentals, totalReturns, context.formatMoney(totalBooked), context.formatMoney(totalCollected));
+    }
+
+    /**
+     * 차량별 합계 (결제 매출 상위). 가동률은 예약 일수 / 기간 일수.
+     */
+    private void printTotalsByCar(RentalSummaryRepository repository, LocalDate from, LocalDate to) {
+        List<RentalSummary> rows = repository.findTotalsByCar(from, to);
+        long periodDays = ChronoUnit.DAYS.between(from, to) + 1;
+
+        System.out.printf("%n🚗 차량별 합계 (결제매출 상위 %d대)%n", TOP_CARS);
+        System.out.println("-".repeat(80));
+        System.out.printf("%-16s %-6s %6s %6s %8s %12s %12s %8s%n",
+            "차량", "차종", "대여", "반납", "예약일수", "예약매출", "결제매출", "가동률");
+        System.out.println("-".repeat(80));
+        if (rows.isEmpty()) {
+            System.out.println("(해당 기간의 집계가 없습니다)");
+        }
+        for (RentalSummary row : rows.subList(0, Math.min(TOP_CARS, rows.size()))) {
+            double utilization = Math.min(1.0, (double) row.getRentedDays() / periodDays);
+            System.out.printf("%-16s %-6s %6d %6d %8d %12s %12s %7.1f%%%n",
+                row.getCarName(), row.getCarType(), row.getRentals(), row.getReturns(), row.getRentedDays(),
+                context.formatMoney(row.getBookedRevenue()), context.formatMoney(row.getCollectedRevenue()),
+                utilization * 100);
+        }
+        System.out.println("-".repeat(80));
+    }
+}
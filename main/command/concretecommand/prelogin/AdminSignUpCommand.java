@@ -1,6 +1,7 @@
 package main.command.concretecommand.prelogin;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 
 import java.util.Scanner;
@@ -45,8 +46,10 @@ public class AdminSignUpCommand implements Command {
             System.out.println("✅ " + adminUser.getName() + "님 관리자 회원가입이 완료되었습니다!");
         } catch (IllegalArgumentException e) {
             System.err.println("❌ " + e.getMessage());
+            CommandFailure.report(e);
         } catch (IllegalStateException e) {
             System.err.println("❌ " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
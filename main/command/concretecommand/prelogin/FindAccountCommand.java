@@ -1,6 +1,7 @@
 package main.command.concretecommand.prelogin;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 import domain.user.User;
 
@@ -100,6 +101,7 @@ public class FindAccountCommand implements Command {
             System.out.println("✅ 비밀번호 재설정이 완료되었습니다!");
         } catch (IllegalArgumentException e) {
             System.err.println("❌ " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
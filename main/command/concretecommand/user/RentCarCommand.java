@@ -1,6 +1,7 @@
 package main.command.concretecommand.user;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 import domain.car.carFactory.CarType;
 import domain.rental.strategy.FeeStrategy;
@@ -56,6 +57,10 @@ public class RentCarCommand implements Command {
                 .collect(Collectors.toList());
             if (cars.isEmpty()) {
                 System.out.println("❌ 현재 대여 가능한 " + rentType + " 차량이 없습니다.");
+                // 반납 예정 인덱스로 가장 빠른 반납 예정 시각 안내
+                context.getRentalDueIndex().nextAvailableAt(rentType).ifPresent(eta ->
+                    System.out.println("⏰ 가장 빠른 반납 예정: " +
+                        eta.format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"))));
                 return;
             }
             System.out.println("\n대여 가능한 " + rentType + " 차량 목록:");
@@ -212,8 +217,10 @@ public class RentCarCommand implements Command {
             System.err.println("❌ 올바른 숫자를 입력해주세요.");
         } catch (IllegalArgumentException e) {
             System.err.println("❌ " + e.getMessage());
+            CommandFailure.report(e);
         } catch (Exception e) {
             System.err.println("❌ 대여 실패: " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
@@ -1,11 +1,13 @@
 package main.command.concretecommand.user;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 import domain.rental.strategy.BaseFeeStrategy;
 import domain.rental.strategy.FeeStrategy;
 import domain.rental.strategy.PeakSeasonFeeStrategy;
 import domain.rental.strategy.OffSeasonFeeStrategy;
+import domain.user.tier.MembershipTier;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -38,7 +40,8 @@ public class ReturnCarCommand implements Command {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
             int userPk = currentUser.getId();
             
-            List<domain.rental.RentalRecord> activeRentals = context.getRentalRepository().findActiveByUserId(userPk);
+            // 활성 대여 + 차량 이름/타입/요금을 한 번의 JOIN 으로 조회
+            List<domain.rental.ActiveRentalView> activeRentals = context.getRentalRepository().findActiveWithCarByUserId(userPk);
             
             if (activeRentals.isEmpty()) {
                 System.out.println("❌ 현재 대여 중인 차량이 없습니다.");
@@ -48,52 +51,28 @@ public class ReturnCarCommand implements Command {
             // 2) 렌트 중인 차량 목록 표시
             System.out.println("\n현재 대여 중인 차량 목록:");
             System.out.println("-".repeat(60));
-            List<domain.rental.RentalRecord> validRecords = new ArrayList<>();
             for (int i = 0; i < activeRentals.size(); i++) {
-                domain.rental.RentalRecord record = activeRentals.get(i);
-                domain.rental.RentalRecord cachedRecord = context.getRentalRecordCache().get(record.getId());
-                if (cachedRecord != null) {
-                    record = cachedRecord;
-                }
-                
-                String carIdStr = record.getCarId();
-                domain.car.Car car = context.getCarRepository().findById(carIdStr);
-                if (car == null) {
-                    continue;
-                }
-                
-                String displayCarName = car.getName();
+                domain.rental.ActiveRentalView view = activeRentals.get(i);
+                domain.rental.RentalRecord record = view.getRecord();
                 String startDate = record.getStartAt() != null ?
                     record.getStartAt().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd")) :
                     "알 수 없음";
                 
-                System.out.printf("%d. %s | 대여일: %s%n", i + 1, displayCarName, startDate);
-                validRecords.add(record);
+                System.out.printf("%d. %s | 대여일: %s%n", i + 1, view.getCarName(), startDate);
             }
             System.out.println("-".repeat(60));
             
-            if (validRecords.isEmpty()) {
-                System.err.println("❌ 반납 가능한 차량이 없습니다.");
-                return;
-            }
-            
             // 3) 차량 이름으로 반납할 차량 선택
             System.out.print("\n반납할 차량 이름 입력: ");
             String returnCarName = scanner.nextLine().trim();
             
             domain.rental.RentalRecord selectedRecord = null;
             domain.car.Car returnCar = null;
-            for (domain.rental.RentalRecord record : validRecords) {
-                String carIdStr = record.getCarId();
-                domain.car.Car car = context.getCarRepository().findById(carIdStr);
-                if (car != null && car.getName().equals(returnCarName)) {
-                    domain.rental.RentalRecord cachedRecord = context.getRentalRecordCache().get(record.getId());
-                    if (cachedRecord != null) {
-                        selectedRecord = cachedRecord;
-                    } else {
-                        selectedRecord = record;
-                    }
-                    returnCar = car;
+            for (domain.rental.ActiveRentalView view : activeRentals) {
+                if (view.getCarName().equals(returnCarName)) {
+                    domain.rental.RentalRecord cachedRecord = context.findCachedRentalRecord(view.getRentalId());
+                    selectedRecord = cachedRecord != null ? cachedRecord : view.getRecord();
+                    returnCar = view.toCar();
                     break;
                 }
             }
@@ -103,15 +82,6 @@ public class ReturnCarCommand implements Command {
                 return;
             }
             
-            // baseFee와 optionFee가 0이면 캐시에서 다시 확인
-            if ((selectedRecord.getBaseFee() == null || selectedRecord.getBaseFee().compareTo(BigDecimal.ZERO) == 0) &&
-                (selectedRecord.getOptionFee() == null || selectedRecord.getOptionFee().compareTo(BigDecimal.ZERO) == 0)) {
-                domain.rental.RentalRecord cachedRecordForReturn = context.getRentalRecordCache().get(selectedRecord.getId());
-                if (cachedRecordForReturn != null) {
-                    selectedRecord = cachedRecordForReturn;
-                }
-            }
-            
             long rentalId = selectedRecord.getId();
             
             // 반납 전 사용자 등급 저장
@@ -248,11 +218,17 @@ public class ReturnCarCommand implements Command {
             if (!membershipBefore.equals(membershipAfter)) {
                 String beforeGrade = membershipBefore.replace("Strategy", "");
                 String afterGrade = membershipAfter.replace("Strategy", "");
-                System.out.printf("🎉 회원 등급이 %s에서 %s로 올랐습니다!%n", beforeGrade, afterGrade);
+                // 등급은 최근 12개월 실적으로 판정하므로 내려갈 수도 있음
+                if (MembershipTier.of(membershipAfter).compareTo(MembershipTier.of(membershipBefore)) > 0) {
+                    System.out.printf("🎉 회원 등급이 %s에서 %s로 올랐습니다!%n", beforeGrade, afterGrade);
+                } else {
+                    System.out.printf("ℹ️ 최근 12개월 이용 실적에 따라 회원 등급이 %s에서 %s로 조정되었습니다.%n", beforeGrade, afterGrade);
+                }
             }
             
         } catch (Exception e) {
             System.err.println("❌ 반납 실패: " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
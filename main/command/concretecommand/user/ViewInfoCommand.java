@@ -3,6 +3,10 @@ package main.command.concretecommand.user;
 import main.command.command.Command;
 import main.command.receiver.ApplicationContext;
 
+import domain.user.tier.MembershipTier;
+import domain.user.tier.RollingActivity;
+
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.Scanner;
 
@@ -36,9 +40,27 @@ public class ViewInfoCommand implements Command {
                     ? "ADMIN"
                     : user.getUserMembershipStrategy().name().replace("Strategy", "").toUpperCase();
                 System.out.println("등급: " + gradeDisplay);
+                if (!"ADMIN".equals(gradeDisplay)) {
+                    printTierProgress(user);
+                }
             },
             () -> System.err.println("❌ 사용자 정보를 찾을 수 없습니다. (내부 오류)")
         );
     }
+    
+    /**
+     * 최근 12개월 이용 실적과 다음 등급까지 남은 기준 (등급 엔진을 쓰지 않는 환경이면 실적 0으로 표시)
+     */
+    private void printTierProgress(domain.user.User user) {
+        LocalDate today = LocalDate.now(context.getRentalService().getClock());
+        RollingActivity activity = context.getUserService().getRollingActivity(user, today);
+        System.out.printf("최근 %d개월 이용: 반납 %d건, 결제 %,d원%n",
+            MembershipTier.WINDOW_MONTHS, activity.getRentals(), activity.getSpend());
+        MembershipTier next = MembershipTier.of(user.getUserMembershipStrategy()).next();
+        if (next != null) {
+            System.out.printf("다음 등급(%s)까지: 반납 %d건, 결제 %,d원%n", next,
+                Math.max(0, next.getMinRentals() - activity.getRentals()),
+                Math.max(0, next.getMinSpend() - activity.getSpend()));
+        }
+    }
 }
-
@@ -1,6 +1,7 @@
 package main.command.concretecommand.user;
 
 import main.command.command.Command;
+import main.command.command.CommandFailure;
 import main.command.receiver.ApplicationContext;
 import domain.rental.strategy.BaseFeeStrategy;
 import domain.rental.strategy.FeeStrategy;
@@ -38,7 +39,8 @@ public class ViewPaymentCommand implements Command {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
             int userPkForPayment = currentUserForPayment.getId();
             
-            List<domain.rental.RentalRecord> activeRentalsForPayment = context.getRentalRepository().findActiveByUserId(userPkForPayment);
+            // 활성 대여 + 차량 이름/타입/요금을 한 번의 JOIN 으로 조회
+            List<domain.rental.ActiveRentalView> activeRentalsForPayment = context.getRentalRepository().findActiveWithCarByUserId(userPkForPayment);
             
             if (activeRentalsForPayment.isEmpty()) {
                 System.out.println("❌ 현재 대여 중인 차량이 없습니다.");
@@ -48,52 +50,28 @@ public class ViewPaymentCommand implements Command {
             // 2) 렌트 중인 차량 목록 표시
             System.out.println("\n현재 대여 중인 차량 목록:");
             System.out.println("-".repeat(60));
-            List<domain.rental.RentalRecord> validRecordsForPayment = new ArrayList<>();
             for (int i = 0; i < activeRentalsForPayment.size(); i++) {
-                domain.rental.RentalRecord record = activeRentalsForPayment.get(i);
-                domain.rental.RentalRecord cachedRecord = context.getRentalRecordCache().get(record.getId());
-                if (cachedRecord != null) {
-                    record = cachedRecord;
-                }
-                
-                String carIdStr = record.getCarId();
-                domain.car.Car car = context.getCarRepository().findById(carIdStr);
-                if (car == null) {
-                    continue;
-                }
-                
-                String displayCarName = car.getName();
+                domain.rental.ActiveRentalView view = activeRentalsForPayment.get(i);
+                domain.rental.RentalRecord record = view.getRecord();
                 String startDate = record.getStartAt() != null ?
                     record.getStartAt().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd")) :
                     "알 수 없음";
                 
-                System.out.printf("%d. %s | 대여일: %s%n", i + 1, displayCarName, startDate);
-                validRecordsForPayment.add(record);
+                System.out.printf("%d. %s | 대여일: %s%n", i + 1, view.getCarName(), startDate);
             }
             System.out.println("-".repeat(60));
             
-            if (validRecordsForPayment.isEmpty()) {
-                System.err.println("❌ 확인 가능한 차량이 없습니다.");
-                return;
-            }
-            
             // 3) 차량 이름으로 확인할 차량 선택
             System.out.print("\n결제 금액을 확인할 차량 이름 입력: ");
             String paymentCarName = scanner.nextLine().trim();
             
             domain.rental.RentalRecord selectedRecordForPayment = null;
             domain.car.Car paymentCar = null;
-            for (domain.rental.RentalRecord record : validRecordsForPayment) {
-                String carIdStr = record.getCarId();
-                domain.car.Car car = context.getCarRepository().findById(carIdStr);
-                if (car != null && car.getName().equals(paymentCarName)) {
-                    domain.rental.RentalRecord cachedRecord = context.getRentalRecordCache().get(record.getId());
-                    if (cachedRecord != null) {
-                        selectedRecordForPayment = cachedRecord;
-                    } else {
-                        selectedRecordForPayment = record;
-                    }
-                    paymentCar = car;
+            for (domain.rental.ActiveRentalView view : activeRentalsForPayment) {
+                if (view.getCarName().equals(paymentCarName)) {
+                    domain.rental.RentalRecord cachedRecord = context.findCachedRentalRecord(view.getRentalId());
+                    selectedRecordForPayment = cachedRecord != null ? cachedRecord : view.getRecord();
+                    paymentCar = view.toCar();
                     break;
                 }
             }
@@ -103,15 +81,6 @@ public class ViewPaymentCommand implements Command {
                 return;
             }
             
-            // baseFee와 optionFee가 0이면 캐시에서 다시 확인
-            if ((selectedRecordForPayment.getBaseFee() == null || selectedRecordForPayment.getBaseFee().compareTo(BigDecimal.ZERO) == 0) &&
-                (selectedRecordForPayment.getOptionFee() == null || selectedRecordForPayment.getOptionFee().compareTo(BigDecimal.ZERO) == 0)) {
-                domain.rental.RentalRecord cachedRecordForPayment = context.getRentalRecordCache().get(selectedRecordForPayment.getId());
-                if (cachedRecordForPayment != null) {
-                    selectedRecordForPayment = cachedRecordForPayment;
-                }
-            }
-            
             // 대여 시 청구한 금액 표시
             BigDecimal dailyFee = paymentCar.getDailyRentalFee() != null ?
                 paymentCar.getDailyRentalFee() : paymentCar.type().baseRate();
@@ -203,6 +172,7 @@ public class ViewPaymentCommand implements Command {
             
         } catch (Exception e) {
             System.err.println("❌ 결제 금액 확인 실패: " + e.getMessage());
+            CommandFailure.report(e);
         }
     }
 }
@@ -0,0 +1,30 @@
+package main.command.invoker;
+
+import main.command.command.Command;
+
+import java.util.List;
+
+/**
+ * 인터셉터 목록을 순서대로 호출하고, 마지막에 실제 Command 를 실행하는 체인.
+ */
+public class CommandChain {
+    private final List<CommandInterceptor> interceptors;
+    private final Command command;
+    private int index = 0;
+
+    CommandChain(List<CommandInterceptor> interceptors, Command command) {
+        this.interceptors = interceptors;
+        this.command = command;
+    }
+
+    /**
+     * 다음 인터셉터(없으면 Command 자체)를 실행합니다.
+     */
+    public void proceed() {
+        if (index < interceptors.size()) {
+            interceptors.get(index++).intercept(command, this);
+        } else {
+            command.execute();
+        }
+    }
+}
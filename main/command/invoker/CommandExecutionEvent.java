@@ -0,0 +1,27 @@
+package main.command.invoker;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: Invoker 를 통한 Command 실행 1건 (인터셉터 체인 포함 전체 시간).
+ */
+@Name("carrental.CommandExecution")
+@Label("Command Execution")
+@Category({"Car Rental", "Command"})
+@Description("Invoker 를 통한 Command 실행 1건")
+@StackTrace(false)
+public class CommandExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Command")
+    public String command;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,16 @@
+package main.command.invoker;
+
+import main.command.command.Command;
+
+/**
+ * Chain of Responsibility: Invoker 가 Command 를 실행하기 전후에 끼워 넣는 미들웨어
+ * (시간 측정, 오류 집계, 할당량 측정, 추적 등)
+ */
+public interface CommandInterceptor {
+    /**
+     * 명령 실행을 감쌉니다. 다음 단계로 진행하려면 반드시 chain.proceed() 를 호출해야 합니다.
+     * @param command 실행될 명령
+     * @param chain   남은 인터셉터 + 실제 명령 실행
+     */
+    void intercept(Command command, CommandChain chain);
+}
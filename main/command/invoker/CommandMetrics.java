@@ -0,0 +1,57 @@
+package main.command.invoker;
+
+import main.command.command.Command;
+import main.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Command 클래스별 실행 통계 저장소 (인터셉터들이 기록하고, 관리자 메트릭 명령이 조회).
+ */
+public class CommandMetrics {
+
+    /** Command 클래스 1종의 누적 통계 */
+    public static class CommandStats {
+        private final String commandName;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        CommandStats(String commandName) {
+            this.commandName = commandName;
+        }
+
+        public String getCommandName() { return commandName; }
+        public LatencyHistogram getLatency() { return latency; }
+        public long getErrorCount() { return errors.sum(); }
+        public long getAllocatedBytes() { return allocatedBytes.sum(); }
+
+        public void recordLatency(long nanos) { latency.record(nanos); }
+        public void recordError() { errors.increment(); }
+        public void recordAllocation(long bytes) { allocatedBytes.add(bytes); }
+    }
+
+    private final Map<Class<?>, CommandStats> statsByCommand = new ConcurrentHashMap<>();
+
+    /** 해당 Command 클래스의 통계 (없으면 생성) */
+    public CommandStats statsFor(Command command) {
+        return statsByCommand.computeIfAbsent(command.getClass(),
+                type -> new CommandStats(type.getSimpleName()));
+    }
+
+    /** 실행 횟수 내림차순 스냅샷 */
+    public List<CommandStats> snapshot() {
+        List<CommandStats> list = new ArrayList<>(statsByCommand.values());
+        list.sort(Comparator.comparingLong((CommandStats s) -> s.getLatency().getCount()).reversed());
+        return list;
+    }
+
+    public void reset() {
+        statsByCommand.clear();
+    }
+}
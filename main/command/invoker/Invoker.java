@@ -2,12 +2,17 @@ package main.command.invoker;
 
 import main.command.command.Command;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Command Pattern: Invoker
  * Command 객체를 실행하는 역할
+ * 등록된 인터셉터 체인(CommandInterceptor)을 거쳐 Command 를 실행합니다.
  */
 public class Invoker {
     private Command command;
+    private final List<CommandInterceptor> interceptors = new CopyOnWriteArrayList<>();
     
     /**
      * 실행할 Command를 설정합니다.
@@ -16,12 +21,36 @@ public class Invoker {
         this.command = command;
     }
     
+    /**
+     * 인터셉터를 체인 끝(Command 에 가장 가까운 쪽)에 추가합니다.
+     */
+    public void addInterceptor(CommandInterceptor interceptor) {
+        interceptors.add(interceptor);
+    }
+    
     /**
      * 설정된 Command를 실행합니다.
+     * JFR 기록 중이면 실행 1건마다 CommandExecutionEvent 를 남깁니다.
      */
     public void executeCommand() {
-        if (command != null) {
-            command.execute();
+        if (command == null) {
+            return;
+        }
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        if (!event.isEnabled()) {
+            new CommandChain(interceptors, command).proceed();
+            return;
+        }
+        event.begin();
+        event.command = command.getClass().getSimpleName();
+        try {
+            new CommandChain(interceptors, command).proceed();
+            event.success = true;
+        } catch (RuntimeException e) {
+            event.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            throw e;
+        } finally {
+            event.commit();
         }
     }
 }
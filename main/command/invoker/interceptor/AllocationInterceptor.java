@@ -0,0 +1,53 @@
+package main.command.invoker.interceptor;
+
+import main.command.command.Command;
+import main.command.invoker.CommandChain;
+import main.command.invoker.CommandInterceptor;
+import main.command.invoker.CommandMetrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Command 실행 중 현재 스레드가 할당한 힙 바이트 수를 기록합니다.
+ * (HotSpot 의 com.sun.management.ThreadMXBean 을 지원하지 않는 JVM 에서는 아무것도 하지 않음)
+ */
+public class AllocationInterceptor implements CommandInterceptor {
+    private final CommandMetrics metrics;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    public AllocationInterceptor(CommandMetrics metrics) {
+        this.metrics = metrics;
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported()) {
+            if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            this.threadBean = sunBean;
+        } else {
+            this.threadBean = null;
+        }
+    }
+
+    public boolean isSupported() {
+        return threadBean != null;
+    }
+
+    @Override
+    public void intercept(Command command, CommandChain chain) {
+        if (threadBean == null) {
+            chain.proceed();
+            return;
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        try {
+            chain.proceed();
+        } finally {
+            long after = threadBean.getThreadAllocatedBytes(threadId);
+            if (before >= 0 && after >= before) {
+                metrics.statsFor(command).recordAllocation(after - before);
+            }
+        }
+    }
+}
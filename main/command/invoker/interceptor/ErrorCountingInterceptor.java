@@ -0,0 +1,35 @@
+package main.command.invoker.interceptor;
+
+import main.command.command.Command;
+import main.command.command.CommandFailure;
+import main.command.invoker.CommandChain;
+import main.command.invoker.CommandInterceptor;
+import main.command.invoker.CommandMetrics;
+
+/**
+ * Command 의 실패를 Command 클래스별로 집계합니다.
+ *  - Command 밖으로 전파된 예외: 집계한 뒤 그대로 다시 던짐
+ *  - Command 내부에서 잡아 출력한 오류: Command 가 CommandFailure.report 로 알린 경우 집계
+ */
+public class ErrorCountingInterceptor implements CommandInterceptor {
+    private final CommandMetrics metrics;
+
+    public ErrorCountingInterceptor(CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void intercept(Command command, CommandChain chain) {
+        CommandFailure.take(); // 이전 실행에서 남은 보고는 버림
+        try {
+            chain.proceed();
+        } catch (RuntimeException | Error e) {
+            CommandFailure.take();
+            metrics.statsFor(command).recordError();
+            throw e;
+        }
+        if (CommandFailure.take() != null) {
+            metrics.statsFor(command).recordError();
+        }
+    }
+}
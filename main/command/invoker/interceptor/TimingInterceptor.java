@@ -0,0 +1,28 @@
+package main.command.invoker.interceptor;
+
+import main.command.command.Command;
+import main.command.invoker.CommandChain;
+import main.command.invoker.CommandInterceptor;
+import main.command.invoker.CommandMetrics;
+
+/**
+ * Command 실행 시간을 Command 클래스별 지연시간 히스토그램에 기록합니다.
+ * (예외로 끝난 실행도 기록)
+ */
+public class TimingInterceptor implements CommandInterceptor {
+    private final CommandMetrics metrics;
+
+    public TimingInterceptor(CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void intercept(Command command, CommandChain chain) {
+        long start = System.nanoTime();
+        try {
+            chain.proceed();
+        } finally {
+            metrics.statsFor(command).recordLatency(System.nanoTime() - start);
+        }
+    }
+}
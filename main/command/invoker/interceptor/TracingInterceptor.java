@@ -0,0 +1,33 @@
+package main.command.invoker.interceptor;
+
+import main.command.command.Command;
+import main.command.invoker.CommandChain;
+import main.command.invoker.CommandInterceptor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (선택) Command 시작/종료를 표준 에러로 출력하는 추적 인터셉터.
+ * .env 의 COMMAND_TRACE=true 로 활성화합니다.
+ */
+public class TracingInterceptor implements CommandInterceptor {
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public void intercept(Command command, CommandChain chain) {
+        long traceId = sequence.incrementAndGet();
+        String name = command.getClass().getSimpleName();
+        System.err.println("[trace #" + traceId + "] " + name + " 시작");
+        long start = System.nanoTime();
+        String outcome = "완료";
+        try {
+            chain.proceed();
+        } catch (RuntimeException | Error e) {
+            outcome = "실패(" + e.getClass().getSimpleName() + ")";
+            throw e;
+        } finally {
+            System.err.printf("[trace #%d] %s %s (%.3fms)%n",
+                    traceId, name, outcome, (System.nanoTime() - start) / 1_000_000.0);
+        }
+    }
+}
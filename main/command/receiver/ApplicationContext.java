@@ -7,9 +7,11 @@ import domain.rental.RentalService;
 import domain.user.User;
 import domain.user.UserService;
 import db.DBConnection;
+import main.command.invoker.CommandMetrics;
+import main.metrics.CacheStats;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Command Pattern: Receiver
@@ -25,16 +27,40 @@ public class ApplicationContext {
     // 애플리케이션 상태
     private User loggedInUser = null;
     private boolean isAdmin = false;
-    private final Map<Long, domain.rental.RentalRecord> rentalRecordCache = new HashMap<>();
+    // 키오스크/부하 생성기 등 여러 스레드에서 공유될 수 있으므로 ConcurrentHashMap 사용
+    private final Map<Long, domain.rental.RentalRecord> rentalRecordCache = new ConcurrentHashMap<>();
+    private final CacheStats rentalRecordCacheStats = new CacheStats("rentalRecord", rentalRecordCache);
     private domain.rental.strategy.FeeStrategy currentSeason = new domain.rental.strategy.BaseFeeStrategy();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final domain.rental.RentalDueIndex rentalDueIndex;
+    private domain.rental.summary.RentalSummaryRepository rentalSummaryRepository = null;
+    // 반납 전 연체료 누적 (DB 백엔드에서만, 없으면 null)
+    private domain.rental.penalty.OverduePenaltyRepository overduePenaltyRepository = null;
+    // 분석용 컬럼 저장소 (ANALYTICS_COLUMN_STORE 설정 시에만, 없으면 null)
+    private domain.rental.analytics.RentalColumnStore rentalColumnStore = null;
+    // 백그라운드 작업 스케줄러 (콘솔 앱에서만, 없으면 null)
+    private main.scheduler.JobScheduler jobScheduler = null;
     
     public ApplicationContext(UserService userService, AdminService adminService,
                              CarRepository carRepository, RentalService rentalService) {
+        this(userService, adminService, carRepository, rentalService,
+             new RentalRepository(DBConnection.getInstance()));
+    }
+    
+    /**
+     * RentalRepository 를 직접 주입하는 생성자 (인메모리 백엔드 등 DB 없이 구성할 때 사용)
+     */
+    public ApplicationContext(UserService userService, AdminService adminService,
+                             CarRepository carRepository, RentalService rentalService,
+                             RentalRepository rentalRepository) {
         this.userService = userService;
         this.adminService = adminService;
         this.carRepository = carRepository;
         this.rentalService = rentalService;
-        this.rentalRepository = new RentalRepository(DBConnection.getInstance());
+        this.rentalRepository = rentalRepository;
+        this.rentalDueIndex = new domain.rental.RentalDueIndex(rentalService.getClock());
+        // 대여/반납마다 반납 예정 인덱스 갱신 (기동 시 적재는 rebuildRentalDueIndex)
+        rentalService.addListener(rentalDueIndex);
     }
     
     // Getters
@@ -43,6 +69,15 @@ public class ApplicationContext {
     public CarRepository getCarRepository() { return carRepository; }
     public RentalService getRentalService() { return rentalService; }
     public RentalRepository getRentalRepository() { return rentalRepository; }
+    public CommandMetrics getCommandMetrics() { return commandMetrics; }
+    public domain.rental.RentalDueIndex getRentalDueIndex() { return rentalDueIndex; }
+    
+    /**
+     * rental 테이블의 활성 대여로 반납 예정 인덱스를 다시 구성 (기동 시 1회)
+     */
+    public void rebuildRentalDueIndex() {
+        rentalDueIndex.rebuild(rentalRepository.findAllActiveWithCar());
+    }
     
     public User getLoggedInUser() { return loggedInUser; }
     public void setLoggedInUser(User user) { 
@@ -60,6 +95,52 @@ public class ApplicationContext {
     public void setAdmin(boolean admin) { this.isAdmin = admin; }
     
     public Map<Long, domain.rental.RentalRecord> getRentalRecordCache() { return rentalRecordCache; }
+    public CacheStats getRentalRecordCacheStats() { return rentalRecordCacheStats; }
+    
+    /**
+     * 대여 기록 캐시 조회 (적중/미스를 집계하므로 조회는 이 메서드를 사용)
+     */
+    public domain.rental.RentalRecord findCachedRentalRecord(long rentalId) {
+        domain.rental.RentalRecord cached = rentalRecordCache.get(rentalId);
+        if (cached != null) {
+            rentalRecordCacheStats.recordHit();
+        } else {
+            rentalRecordCacheStats.recordMiss(rentalId);
+        }
+        return cached;
+    }
+    
+    /**
+     * 활성 대여를 대여 기록 캐시에 채우고, 더 이상 활성이 아닌 항목은 제거 (캐시 예열 작업용)
+     * 재기동 직후처럼 캐시가 비어 있어도 반납 시 DB 재조회 없이 캐시에서 찾을 수 있게 합니다.
+     * @return 새로 채운 건수
+     */
+    public int warmRentalRecordCache() {
+        java.util.Set<Long> activeIds = new java.util.HashSet<>();
+        int added = 0;
+        for (domain.rental.ActiveRentalView view : rentalRepository.findAllActiveWithCar()) {
+            domain.rental.RentalRecord rec = view.getRecord();
+            if (rec.getId() == null) continue;
+            activeIds.add(rec.getId());
+            if (rentalRecordCache.putIfAbsent(rec.getId(), rec) == null) {
+                added++;
+            }
+        }
+        rentalRecordCache.keySet().retainAll(activeIds);
+        return added;
+    }
+    
+    public domain.rental.summary.RentalSummaryRepository getRentalSummaryRepository() { return rentalSummaryRepository; }
+    public void setRentalSummaryRepository(domain.rental.summary.RentalSummaryRepository repository) { this.rentalSummaryRepository = repository; }
+    
+    public domain.rental.penalty.OverduePenaltyRepository getOverduePenaltyRepository() { return overduePenaltyRepository; }
+    public void setOverduePenaltyRepository(domain.rental.penalty.OverduePenaltyRepository repository) { this.overduePenaltyRepository = repository; }
+    
+    public main.scheduler.JobScheduler getJobScheduler() { return jobScheduler; }
+    public void setJobScheduler(main.scheduler.JobScheduler scheduler) { this.jobScheduler = scheduler; }
+    
+    public domain.rental.analytics.RentalColumnStore getRentalColumnStore() { return rentalColumnStore; }
+    public void setRentalColumnStore(domain.rental.analytics.RentalColumnStore store) { this.rentalColumnStore = store; }
     
     public domain.rental.strategy.FeeStrategy getCurrentSeason() { return currentSeason; }
     public void setCurrentSeason(domain.rental.strategy.FeeStrategy season) { this.currentSeason = season; }
@@ -71,5 +152,12 @@ public class ApplicationContext {
         if (amount == null) return "0";
         return String.valueOf(amount.setScale(0, java.math.RoundingMode.HALF_UP).intValue());
     }
+    
+    /**
+     * 원 단위 long 금액을 문자열로 변환 (집계 합계처럼 int 범위를 넘을 수 있는 금액용)
+     */
+    public String formatMoney(long amount) {
+        return String.valueOf(amount);
+    }
 }
 
@@ -0,0 +1,191 @@
+package main.facade;
+
+import domain.car.Car;
+import domain.car.carFactory.CarStatus;
+import domain.car.carFactory.CarType;
+import domain.rental.ActiveRentalView;
+import domain.rental.RentalHistoryFilter;
+import domain.rental.RentalHistoryPage;
+import domain.rental.RentalQuote;
+import domain.rental.RentalRecord;
+import domain.user.User;
+import main.command.receiver.ApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Facade Pattern: Command 클래스들이 수행하는 작업을 Scanner 입출력 없이 호출할 수 있도록 모은 창구.
+ *
+ * - 키오스크 서버, 스크립트 실행기 등 콘솔 메뉴가 아닌 진입점에서 사용
+ * - 로그인 상태는 호출자가 관리하고(userId 를 직접 전달), 시즌/대여 캐시는 ApplicationContext 것을 공유
+ * - 동작은 RentCarCommand / ReturnCarCommand 등과 동일한 서비스 호출 순서를 따릅니다.
+ */
+public class RentalFacade {
+
+    private final ApplicationContext context;
+
+    public RentalFacade(ApplicationContext context) {
+        this.context = Objects.requireNonNull(context, "context");
+    }
+
+    public ApplicationContext getContext() { return context; }
+
+    // =================================================================
+    // 1. 회원
+    // =================================================================
+
+    public User signUp(String userId, String rawPassword, String name, String phoneNumber) {
+        return context.getUserService().signUp(userId, rawPassword, name, phoneNumber);
+    }
+
+    public Optional<User> login(String userId, String rawPassword) {
+        return context.getUserService().login(userId, rawPassword);
+    }
+
+    // =================================================================
+    // 2. 차량 조회 / 견적
+    // =================================================================
+
+    /** 대여 가능한 차량 목록 (type 이 null 이면 전체 타입) */
+    public List<Car> findAvailableCars(CarType type) {
+        return context.getCarRepository().findAllCars().stream()
+                .filter(car -> car.status() == CarStatus.AVAILABLE)
+                .filter(car -> type == null || car.type() == type)
+                .collect(Collectors.toList());
+    }
+
+    /** 이름으로 대여 가능한 차량 1대 조회 */
+    public Optional<Car> findAvailableCarByName(String carName) {
+        return findAvailableCars(null).stream()
+                .filter(car -> car.getName().equals(carName))
+                .findFirst();
+    }
+
+    /**
+     * 사용자 본인의 대여 이력 1페이지 (최신순). 다음 페이지는 이전 페이지의 nextCursor 를 afterId 로 넘깁니다.
+     */
+    public RentalHistoryPage rentalHistory(String userId, Long afterId, int pageSize) {
+        User user = context.getUserService().getUserInfo(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        return context.getRentalRepository().findHistoryPage(
+                RentalHistoryFilter.all().userPk(user.getId()), afterId, pageSize);
+    }
+
+    /** 해당 타입 차량의 가장 빠른 반납 예정 시각 (대여 중인 차량이 없으면 empty) */
+    public Optional<LocalDateTime> nextAvailableAt(CarType type) {
+        return context.getRentalDueIndex().nextAvailableAt(type);
+    }
+
+    /** 현재 시즌 요금 정책으로 견적 계산 */
+    public RentalQuote quote(String carName, int rentalDays, List<String> options) {
+        Car car = requireAvailableCar(carName);
+        return context.getRentalService().quote(car, rentalDays, options, context.getCurrentSeason());
+    }
+
+    /**
+     * 이름으로 대여 가능한 차량을 찾습니다.
+     * @throws IllegalArgumentException 해당 이름의 차량이 없을 때
+     * @throws IllegalStateException    차량은 있지만 이미 대여 중일 때 (동시 대여 경합)
+     */
+    public Car requireAvailableCar(String carName) {
+        Car car = context.getCarRepository().findAllCars().stream()
+                .filter(c -> c.getName().equals(carName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당 이름의 차량을 찾을 수 없습니다: " + carName));
+        if (car.status() != CarStatus.AVAILABLE) {
+            throw new IllegalStateException("해당 차량은 현재 대여 불가능합니다: " + carName);
+        }
+        return car;
+    }
+
+    // =================================================================
+    // 3. 대여 / 반납
+    // =================================================================
+
+    /**
+     * 차량 이름으로 대여 (RentCarCommand 와 동일한 흐름).
+     *  1) 대여 가능한 차량 조회
+     *  2) RentalService.rent (현재 시즌 정책)
+     *  3) 반납 시 요금 정보 유지를 위해 대여 캐시에 복사본 저장
+     *  4) 차량 상태 DB 반영
+     */
+    public RentalRecord rent(String userId, String carName, int rentalDays, List<String> options) {
+        Car car = requireAvailableCar(carName);
+
+        RentalRecord record = context.getRentalService()
+                .rent(userId, car, rentalDays, options, context.getCurrentSeason());
+        context.getRentalRecordCache().put(record.getId(), copyOf(record));
+
+        car.occupy();
+        context.getCarRepository().update(car);
+        return record;
+    }
+
+    /** 차량 이름으로 반납 (ReturnCarCommand 와 동일한 흐름) */
+    public RentalRecord returnCar(String userId, String carName) {
+        return returnMatching(userId, (record, car) -> car.getName().equals(carName),
+                "해당 이름의 대여 중인 차량을 찾을 수 없습니다: " + carName);
+    }
+
+    /** 대여 ID로 반납 (키오스크 등 ID 를 알고 있는 클라이언트용) */
+    public RentalRecord returnCar(String userId, long rentalId) {
+        return returnMatching(userId, (record, car) -> record.getId() != null && record.getId() == rentalId,
+                "대여 중인 기록을 찾을 수 없습니다: id=" + rentalId);
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    private interface RentalMatcher {
+        boolean matches(RentalRecord record, Car car);
+    }
+
+    private RentalRecord returnMatching(String userId, RentalMatcher matcher, String notFoundMessage) {
+        User user = context.getUserService().getUserInfo(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+        // 활성 대여 + 차량 정보를 한 번의 JOIN 으로 조회 (대여 건마다 차량을 다시 조회하지 않음)
+        for (ActiveRentalView view : context.getRentalRepository().findActiveWithCarByUserId(user.getId())) {
+            RentalRecord active = view.getRecord();
+            Car car = view.toCar();
+            if (!matcher.matches(active, car)) {
+                continue;
+            }
+
+            RentalRecord cached = context.findCachedRentalRecord(active.getId());
+            RentalRecord selected = cached != null ? cached : active;
+
+            context.getRentalService().returnCar(active.getId(), car, selected);
+            context.getRentalRecordCache().remove(active.getId()); // 반납 완료된 기록은 더 이상 조회하지 않음
+
+            car.release();
+            context.getCarRepository().update(car);
+            return selected;
+        }
+        throw new IllegalArgumentException(notFoundMessage);
+    }
+
+    private RentalRecord copyOf(RentalRecord record) {
+        RentalRecord copy = new RentalRecord();
+        copy.setId(record.getId());
+        copy.setUserId(record.getUserId());
+        copy.setCarId(record.getCarId());
+        copy.setRentalDays(record.getRentalDays());
+        copy.setStartAt(record.getStartAt());
+        copy.setEndAt(record.getEndAt());
+        copy.setStatus(record.getStatus());
+        copy.setFeeStrategyType(record.getFeeStrategyType());
+        copy.setMembershipStrategyType(record.getMembershipStrategyType());
+        copy.setOptions(new ArrayList<>(record.getOptions()));
+        copy.setBaseFee(record.getBaseFee());
+        copy.setOptionFee(record.getOptionFee());
+        copy.setDiscount(record.getDiscount());
+        copy.setPenalty(record.getPenalty());
+        copy.setTotalFee(record.getTotalFee());
+        return copy;
+    }
+}
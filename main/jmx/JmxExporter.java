@@ -0,0 +1,78 @@
+package main.jmx;
+
+import db.DBConnectionStats;
+import domain.car.FleetStatistics;
+import domain.rental.RentalStatistics;
+import main.command.receiver.ApplicationContext;
+import main.scheduler.JobScheduler;
+import main.scheduler.JobStats;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 런타임 통계를 플랫폼 MBeanServer 에 등록합니다 (JConsole/VisualVM 또는 JMX 수집기로 조회).
+ *
+ *   carrental:type=Database              DB 연결/SQL 실행 통계
+ *   carrental:type=Cache,name=rentalRecord 대여 기록 캐시 적중률
+ *   carrental:type=Rentals               활성 대여 수, 초당 대여/반납 수, 연체 반납 수
+ *   carrental:type=Fleet                 CarType 별 전체/가용 차량 수
+ *   carrental:type=DueIndex              반납 예정 인덱스 (현재 연체 건수, 다음 반납 예정 시각)
+ *   carrental:type=Job,name=...          백그라운드 작업별 실행 횟수/실패/소요 시간/다음 실행 시각
+ */
+public final class JmxExporter {
+
+    private static final String DOMAIN = "carrental";
+    private static ScheduledExecutorService sampler;
+
+    private JmxExporter() {}
+
+    /** MBean 등록 + 초당 처리량 샘플러 시작 (여러 번 호출해도 한 번만 등록) */
+    public static synchronized void register(ApplicationContext context) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            registerIfAbsent(server, DOMAIN + ":type=Database", DBConnectionStats.getInstance());
+            registerIfAbsent(server, DOMAIN + ":type=Cache,name=rentalRecord", context.getRentalRecordCacheStats());
+            registerIfAbsent(server, DOMAIN + ":type=Rentals", RentalStatistics.getInstance());
+            registerIfAbsent(server, DOMAIN + ":type=Fleet", FleetStatistics.getInstance());
+            registerIfAbsent(server, DOMAIN + ":type=DueIndex", context.getRentalDueIndex());
+        } catch (JMException e) {
+            System.err.println("❌ JMX 등록 실패: " + e.getMessage());
+            return;
+        }
+
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "jmx-rate-sampler");
+                t.setDaemon(true);
+                return t;
+            });
+            RentalStatistics stats = RentalStatistics.getInstance();
+            sampler.scheduleAtFixedRate(stats::sampleRates, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    /** 스케줄러에 등록된 작업별 통계 MBean 등록 (작업을 추가한 뒤 다시 호출해도 됨) */
+    public static synchronized void registerJobs(JobScheduler scheduler) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (JobStats stats : scheduler.jobs()) {
+            try {
+                registerIfAbsent(server, DOMAIN + ":type=Job,name=" + ObjectName.quote(stats.getName()), stats);
+            } catch (JMException e) {
+                System.err.println("❌ JMX 작업 통계 등록 실패 (" + stats.getName() + "): " + e.getMessage());
+            }
+        }
+    }
+
+    private static void registerIfAbsent(MBeanServer server, String name, Object bean) throws JMException {
+        ObjectName objectName = new ObjectName(name);
+        if (!server.isRegistered(objectName)) {
+            server.registerMBean(bean, objectName);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package main.kiosk;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 지점 키오스크용 길이 접두(length-prefixed) 바이너리 프로토콜 정의.
+ *
+ * 요청 프레임 (big-endian):
+ *  - int32  length     : 이후 바이트 수 (requestId + opcode + payload)
+ *  - int32  requestId  : 클라이언트가 부여, 응답에 그대로 돌려줌 (파이프라이닝 시 응답 매칭용)
+ *  - uint8  opcode     : OP_* 상수
+ *  - payload
+ *
+ * 응답 프레임:
+ *  - int32  length
+ *  - int32  requestId
+ *  - uint8  status     : STATUS_OK / STATUS_ERROR (ERROR 의 payload 는 메시지 문자열)
+ *  - payload
+ *
+ * 문자열은 uint16 바이트 길이 + UTF-8, 금액은 원 단위 int64 (소수점 반올림) 로 인코딩합니다.
+ * 요청은 응답을 기다리지 않고 연속으로 보낼 수 있으며, 응답은 같은 연결에서 요청 순서대로 돌아갑니다.
+ */
+public final class KioskProtocol {
+
+    private KioskProtocol() {}
+
+    /** 한 프레임의 최대 크기 (length 필드 제외) */
+    public static final int MAX_FRAME_LENGTH = 16 * 1024;
+    /** 응답 1건의 최대 크기: 쓰기 버퍼에 이만큼 여유가 있을 때만 다음 요청을 처리 */
+    public static final int MAX_RESPONSE_LENGTH = 64 * 1024;
+
+    // --- opcode ---
+    /** payload 없음 → 빈 응답 */
+    public static final byte OP_PING = 0x01;
+    /** str userId, str password → str name, str membership */
+    public static final byte OP_LOGIN = 0x02;
+    /** payload 없음 → 빈 응답 (세션 로그아웃) */
+    public static final byte OP_LOGOUT = 0x03;
+    /** uint8 carType(TYPE_ANY 면 전체) → uint16 count, [int32 carId, uint8 carType, str name, int64 dailyFee]* */
+    public static final byte OP_LIST_AVAILABLE = 0x10;
+    /** str carName, uint16 days, uint8 optionMask → int64 baseFee, int64 optionFee, int64 totalFee */
+    public static final byte OP_QUOTE = 0x11;
+    /** (로그인 필요) str carName, uint16 days, uint8 optionMask → int64 rentalId, int64 totalFee */
+    public static final byte OP_RENT = 0x20;
+    /** (로그인 필요) int64 rentalId → int64 discount, int64 penalty, int64 totalFee */
+    public static final byte OP_RETURN = 0x21;
+
+    // --- status ---
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+
+    // --- 차량 타입 코드 (CarType.ordinal 과 동일) ---
+    public static final int TYPE_ANY = 0xFF;
+
+    // --- 옵션 비트마스크 ---
+    public static final int OPTION_BLACKBOX   = 1;
+    public static final int OPTION_NAVIGATION = 1 << 1;
+    public static final int OPTION_SUNROOF    = 1 << 2;
+
+    // =================================================================
+    // 문자열 인코딩 헬퍼 (버퍼를 재사용하여 추가 할당을 최소화)
+    // =================================================================
+
+    /**
+     * uint16 길이 + UTF-8 문자열을 읽습니다.
+     * @param scratch 디코딩용 재사용 배열 (MAX_FRAME_LENGTH 이상)
+     */
+    public static String getString(ByteBuffer in, byte[] scratch) {
+        int len = Short.toUnsignedInt(in.getShort());
+        if (len > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        in.get(scratch, 0, len);
+        return new String(scratch, 0, len, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * uint16 길이 + UTF-8 문자열을 씁니다. (중간 byte[] 를 만들지 않고 버퍼에 직접 인코딩)
+     */
+    public static void putString(ByteBuffer out, String s) {
+        int lengthPos = out.position();
+        out.putShort((short) 0);
+        int start = out.position();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                out.put((byte) (0xF0 | (cp >> 18)));
+                out.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (cp & 0x3F)));
+            } else {
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        int written = out.position() - start;
+        if (written > 0xFFFF) {
+            throw new IllegalArgumentException("문자열이 너무 깁니다: " + written + " bytes");
+        }
+        out.putShort(lengthPos, (short) written);
+    }
+}
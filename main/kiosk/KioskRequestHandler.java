@@ -0,0 +1,183 @@
+package main.kiosk;
+
+import domain.car.Car;
+import domain.car.carFactory.CarType;
+import domain.rental.RentalQuote;
+import domain.rental.RentalRecord;
+import domain.user.User;
+import main.facade.RentalFacade;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static main.kiosk.KioskProtocol.*;
+
+/**
+ * 요청 프레임 1개를 해석해 RentalFacade 호출로 연결하고, 응답 프레임을 쓰기 버퍼에 기록합니다.
+ * 각 opcode 는 콘솔 Command 와 1:1 로 대응합니다.
+ *  - OP_LOGIN          → LoginCommand
+ *  - OP_LIST_AVAILABLE → ViewAvailableCarsCommand
+ *  - OP_QUOTE          → RentCarCommand 의 요금 계산 내역
+ *  - OP_RENT           → RentCarCommand
+ *  - OP_RETURN         → ReturnCarCommand
+ */
+class KioskRequestHandler {
+
+    private static final CarType[] CAR_TYPES = CarType.values();
+    /** 옵션 비트마스크 → 옵션 이름 목록 (8가지 조합을 미리 만들어 재사용) */
+    private static final List<List<String>> OPTIONS_BY_MASK = buildOptionLists();
+
+    private final RentalFacade facade;
+
+    KioskRequestHandler(RentalFacade facade) {
+        this.facade = facade;
+    }
+
+    /**
+     * @param payload 요청 payload 만 보이도록 limit 이 설정된 버퍼
+     * @param out     세션 쓰기 버퍼 (쓰기 모드)
+     */
+    void handle(KioskSession session, int requestId, byte opcode, ByteBuffer payload, ByteBuffer out) {
+        int frameStart = out.position();
+        out.putInt(0);              // length 자리 (마지막에 채움)
+        out.putInt(requestId);
+        out.put(STATUS_OK);
+
+        try {
+            switch (opcode) {
+                case OP_PING -> { }
+                case OP_LOGIN -> login(session, payload, out);
+                case OP_LOGOUT -> session.setUserId(null);
+                case OP_LIST_AVAILABLE -> listAvailable(payload, out);
+                case OP_QUOTE -> quote(session, payload, out);
+                case OP_RENT -> rent(session, payload, out);
+                case OP_RETURN -> returnCar(session, payload, out);
+                default -> throw new IllegalArgumentException("알 수 없는 opcode: " + opcode);
+            }
+        } catch (BufferOverflowException e) {
+            writeError(out, frameStart, requestId, "응답이 너무 큽니다.");
+        } catch (BufferUnderflowException e) {
+            writeError(out, frameStart, requestId, "요청 payload 형식이 올바르지 않습니다.");
+        } catch (RuntimeException e) {
+            writeError(out, frameStart, requestId, e.getMessage() != null ? e.getMessage() : e.toString());
+        }
+
+        out.putInt(frameStart, out.position() - frameStart - 4);
+    }
+
+    // ====== opcode 별 처리 ======
+
+    private void login(KioskSession session, ByteBuffer in, ByteBuffer out) {
+        String userId = getString(in, session.scratch);
+        String password = getString(in, session.scratch);
+
+        Optional<User> userOpt = facade.login(userId, password);
+        if (userOpt.isEmpty()) {
+            throw new IllegalArgumentException("로그인 실패! ID 또는 비밀번호가 올바르지 않습니다.");
+        }
+        User user = userOpt.get();
+        session.setUserId(user.getUserId());
+        putString(out, user.getName());
+        putString(out, user.getUserMembershipStrategy().name());
+    }
+
+    private void listAvailable(ByteBuffer in, ByteBuffer out) {
+        int typeCode = Byte.toUnsignedInt(in.get());
+        CarType type = typeCode == TYPE_ANY ? null : toCarType(typeCode);
+
+        List<Car> cars = facade.findAvailableCars(type);
+        int count = Math.min(cars.size(), 0xFFFF);
+        out.putShort((short) count);
+        for (int i = 0; i < count; i++) {
+            Car car = cars.get(i);
+            BigDecimal fee = car.getDailyRentalFee() != null ? car.getDailyRentalFee() : car.type().baseRate();
+            out.putInt(Integer.parseInt(car.id()));
+            out.put((byte) car.type().ordinal());
+            putString(out, car.getName());
+            out.putLong(toWon(fee));
+        }
+    }
+
+    private void quote(KioskSession session, ByteBuffer in, ByteBuffer out) {
+        String carName = getString(in, session.scratch);
+        int days = Short.toUnsignedInt(in.getShort());
+        List<String> options = toOptions(in.get());
+
+        RentalQuote quote = facade.quote(carName, days, options);
+        out.putLong(toWon(quote.getBaseFee()));
+        out.putLong(toWon(quote.getOptionFee()));
+        out.putLong(toWon(quote.getTotalFee()));
+    }
+
+    private void rent(KioskSession session, ByteBuffer in, ByteBuffer out) {
+        String userId = requireLogin(session);
+        String carName = getString(in, session.scratch);
+        int days = Short.toUnsignedInt(in.getShort());
+        List<String> options = toOptions(in.get());
+
+        RentalRecord record = facade.rent(userId, carName, days, options);
+        out.putLong(record.getId());
+        out.putLong(toWon(record.getTotalFee()));
+    }
+
+    private void returnCar(KioskSession session, ByteBuffer in, ByteBuffer out) {
+        String userId = requireLogin(session);
+        long rentalId = in.getLong();
+
+        RentalRecord record = facade.returnCar(userId, rentalId);
+        out.putLong(toWon(record.getDiscount()));
+        out.putLong(toWon(record.getPenalty()));
+        out.putLong(toWon(record.getTotalFee()));
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    private String requireLogin(KioskSession session) {
+        if (session.getUserId() == null) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        return session.getUserId();
+    }
+
+    private void writeError(ByteBuffer out, int frameStart, int requestId, String message) {
+        out.position(frameStart);
+        out.putInt(0);
+        out.putInt(requestId);
+        out.put(STATUS_ERROR);
+        putString(out, message.length() > 1000 ? message.substring(0, 1000) : message);
+    }
+
+    private CarType toCarType(int code) {
+        if (code >= CAR_TYPES.length) {
+            throw new IllegalArgumentException("알 수 없는 차량 타입 코드: " + code);
+        }
+        return CAR_TYPES[code];
+    }
+
+    private List<String> toOptions(byte mask) {
+        return OPTIONS_BY_MASK.get(mask & 0x07);
+    }
+
+    private long toWon(BigDecimal amount) {
+        if (amount == null) return 0L;
+        return amount.setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private static List<List<String>> buildOptionLists() {
+        List<List<String>> lists = new ArrayList<>(8);
+        for (int mask = 0; mask < 8; mask++) {
+            List<String> options = new ArrayList<>(3);
+            if ((mask & OPTION_BLACKBOX) != 0) options.add("Blackbox");
+            if ((mask & OPTION_NAVIGATION) != 0) options.add("Navigation");
+            if ((mask & OPTION_SUNROOF) != 0) options.add("Sunroof");
+            lists.add(List.copyOf(options));
+        }
+        return List.copyOf(lists);
+    }
+}
@@ -0,0 +1,271 @@
+package main.kiosk;
+
+import main.facade.RentalFacade;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키오스크 전용 바이너리 프로토콜 서버 (NIO Selector 기반 단일 이벤트 루프).
+ *
+ * - 연결마다 읽기/쓰기 direct ByteBuffer 를 1번만 할당하고 재사용
+ * - 한 번의 read 로 들어온 여러 요청 프레임을 순서대로 모두 처리 (파이프라이닝)
+ * - 응답은 requestId 로 요청과 매칭되며, 쓰기 버퍼에 모았다가 한 번에 write
+ * - 쓰기 버퍼 여유가 응답 최대 크기보다 작으면 읽기를 멈춰 느린 클라이언트에 대한 backpressure 적용
+ *
+ * 서비스 계층(JDBC)은 동기 호출이므로 DB 를 쓰는 opcode 는 작업 스레드 풀에서 처리합니다.
+ * - 연결마다 한 번에 요청 1건만 작업 스레드로 넘기고, 응답이 돌아올 때까지 그 연결의 다음 프레임은 읽기 버퍼에 둠
+ *   (로그인 → 대여 같은 파이프라인 순서와 세션 상태를 유지)
+ * - 작업 스레드는 세션 응답 버퍼에 응답을 쓰고 완료 큐에 넣은 뒤 selector.wakeup() 으로 이벤트 루프를 깨움
+ * - 이벤트 루프는 완료 큐의 응답을 쓰기 버퍼로 옮기고 다음 프레임 처리를 이어감
+ * DB 를 쓰지 않는 OP_PING, OP_LOGOUT 은 이벤트 루프에서 바로 응답합니다.
+ */
+public class KioskServer implements Runnable {
+
+    // 기본 작업 스레드 수 (동시에 처리하는 DB 요청 수)
+    public static final int DEFAULT_WORKERS = 4;
+
+    private final int port;
+    private final KioskRequestHandler handler;
+    private final ExecutorService workers;
+    /** 작업 스레드가 응답을 다 쓴 연결 (이벤트 루프가 쓰기 버퍼로 옮김) */
+    private final Queue<SelectionKey> completed = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+    private volatile Selector selector;
+
+    public KioskServer(int port, RentalFacade facade) {
+        this(port, facade, DEFAULT_WORKERS);
+    }
+
+    public KioskServer(int port, RentalFacade facade, int workerCount) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("workerCount must be > 0");
+        }
+        this.port = port;
+        this.handler = new KioskRequestHandler(facade);
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "kiosk-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public void run() {
+        try (Selector sel = Selector.open();
+             ServerSocketChannel server = ServerSocketChannel.open()) {
+            this.selector = sel;
+            server.bind(new InetSocketAddress(port));
+            server.configureBlocking(false);
+            server.register(sel, SelectionKey.OP_ACCEPT);
+            System.out.println("✅ 키오스크 서버 시작 (port=" + port + ")");
+
+            while (running) {
+                sel.select();
+                drainCompleted();
+                Iterator<SelectionKey> it = sel.selectedKeys().iterator();
+                while (it.hasNext()) {
+                    SelectionKey key = it.next();
+                    it.remove();
+                    try {
+                        if (!key.isValid()) continue;
+                        if (key.isAcceptable()) {
+                            accept(server, sel);
+                        } else {
+                            if (key.isReadable()) read(key);
+                            if (key.isValid() && key.isWritable()) write(key);
+                        }
+                    } catch (IOException e) {
+                        closeQuietly(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("❌ 키오스크 서버 오류: " + e.getMessage());
+        } finally {
+            workers.shutdownNow();
+        }
+        System.out.println("👋 키오스크 서버를 종료합니다.");
+    }
+
+    public void stop() {
+        running = false;
+        Selector sel = selector;
+        if (sel != null) {
+            sel.wakeup();
+        }
+    }
+
+    // ====== 이벤트 처리 ======
+
+    private void accept(ServerSocketChannel server, Selector sel) throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) return;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.register(sel, SelectionKey.OP_READ, new KioskSession());
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        KioskSession session = (KioskSession) key.attachment();
+
+        int n = channel.read(session.readBuffer);
+        if (n < 0) {
+            closeQuietly(key);
+            return;
+        }
+        processFrames(key, session);
+        write(key);
+    }
+
+    /** 읽기 버퍼에 완성된 프레임이 있는 만큼 처리 */
+    private void processFrames(SelectionKey key, KioskSession session) throws IOException {
+        ByteBuffer in = session.readBuffer;
+        ByteBuffer out = session.writeBuffer;
+        if (session.inFlight) {
+            updateInterest(key, session);
+            return;
+        }
+        in.flip();
+        try {
+            while (in.remaining() >= 4) {
+                int length = in.getInt(in.position());
+                if (length < 5 || length > KioskProtocol.MAX_FRAME_LENGTH) {
+                    throw new IOException("잘못된 프레임 길이: " + length);
+                }
+                if (in.remaining() < 4 + length) {
+                    break; // 프레임이 아직 다 도착하지 않음
+                }
+                if (out.remaining() < KioskProtocol.MAX_RESPONSE_LENGTH) {
+                    break; // 응답을 먼저 내보낸 뒤 이어서 처리
+                }
+
+                int frameEnd = in.position() + 4 + length;
+                in.position(in.position() + 4);
+                int requestId = in.getInt();
+                byte opcode = in.get();
+
+                int savedLimit = in.limit();
+                in.limit(frameEnd);
+                if (opcode == KioskProtocol.OP_PING || opcode == KioskProtocol.OP_LOGOUT) {
+                    handler.handle(session, requestId, opcode, in, out);
+                    in.limit(savedLimit);
+                    in.position(frameEnd);
+                    continue;
+                }
+                // DB 요청: payload 를 세션 요청 버퍼로 복사해 작업 스레드로 넘기고, 응답이 올 때까지 다음 프레임은 보류
+                session.requestBuffer.clear();
+                session.requestBuffer.put(in).flip();
+                in.limit(savedLimit);
+                in.position(frameEnd);
+                dispatch(key, session, requestId, opcode);
+                break;
+            }
+        } finally {
+            in.compact();
+        }
+        updateInterest(key, session);
+    }
+
+    /** 요청 1건을 작업 스레드에서 처리 (응답은 세션 응답 버퍼 → 완료 큐 → 이벤트 루프) */
+    private void dispatch(SelectionKey key, KioskSession session, int requestId, byte opcode) {
+        session.inFlight = true;
+        try {
+            workers.execute(() -> {
+                try {
+                    session.responseBuffer.clear();
+                    handler.handle(session, requestId, opcode, session.requestBuffer, session.responseBuffer);
+                } catch (Throwable e) {
+                    // 처리기가 잡지 못한 Error: 응답이 중간까지만 쓰였을 수 있으므로 연결을 닫음
+                    closeQuietly(key);
+                    throw e;
+                } finally {
+                    // 어떤 경우에도 이벤트 루프에 알려 inFlight 를 해제
+                    completed.add(key);
+                    selector.wakeup();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 서버 종료 중: 응답 없이 연결을 닫음
+            session.inFlight = false;
+            closeQuietly(key);
+        }
+    }
+
+    /** 작업 스레드가 끝낸 응답을 쓰기 버퍼로 옮기고, 보류했던 다음 프레임 처리를 이어감 */
+    private void drainCompleted() {
+        SelectionKey key;
+        while ((key = completed.poll()) != null) {
+            KioskSession session = (KioskSession) key.attachment();
+            session.inFlight = false;
+            if (!key.isValid()) continue; // 처리 중에 연결이 닫힘
+            try {
+                session.writeBuffer.put(session.responseBuffer.flip());
+                processFrames(key, session);
+                write(key);
+            } catch (IOException e) {
+                closeQuietly(key);
+            }
+        }
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        KioskSession session = (KioskSession) key.attachment();
+
+        ByteBuffer out = session.writeBuffer;
+        out.flip();
+        try {
+            channel.write(out);
+        } finally {
+            out.compact();
+        }
+
+        // 쓰기 버퍼가 비었으면 backpressure 로 멈춰 있던 프레임을 이어서 처리
+        if (!session.hasPendingWrites() && session.readBuffer.position() > 0) {
+            processFrames(key, session);
+            if (session.hasPendingWrites()) {
+                write(key);
+                return;
+            }
+        }
+        updateInterest(key, session);
+    }
+
+    private void updateInterest(SelectionKey key, KioskSession session) {
+        if (!key.isValid()) return;
+        int ops = 0;
+        // 응답 대기 중 읽기 버퍼가 가득 차면 읽기를 멈춤 (빈 read 로 이벤트 루프가 헛돌지 않도록)
+        if (session.writeBuffer.remaining() >= KioskProtocol.MAX_RESPONSE_LENGTH
+                && session.readBuffer.hasRemaining()) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (session.hasPendingWrites()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(ops);
+    }
+
+    private void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+}
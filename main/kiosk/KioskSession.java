@@ -0,0 +1,33 @@
+package main.kiosk;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 키오스크 연결 1개의 상태.
+ * 읽기/쓰기 버퍼는 연결 수명 동안 재사용하는 direct ByteBuffer 입니다.
+ */
+class KioskSession {
+
+    /** 수신 데이터 (쓰기 모드 유지, 처리 시에만 flip/compact) */
+    final ByteBuffer readBuffer = ByteBuffer.allocateDirect(KioskProtocol.MAX_FRAME_LENGTH * 4);
+    /** 송신 대기 응답 (쓰기 모드 유지, 전송 시에만 flip/compact) */
+    final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(KioskProtocol.MAX_RESPONSE_LENGTH * 4);
+    /** 문자열 디코딩용 재사용 배열 (작업 스레드에서 처리 중인 요청만 사용) */
+    final byte[] scratch = new byte[KioskProtocol.MAX_FRAME_LENGTH];
+    /** 작업 스레드로 넘긴 요청 payload (읽기 모드) */
+    final ByteBuffer requestBuffer = ByteBuffer.allocate(KioskProtocol.MAX_FRAME_LENGTH);
+    /** 작업 스레드가 쓴 응답 프레임 (쓰기 모드, 이벤트 루프가 writeBuffer 로 옮김) */
+    final ByteBuffer responseBuffer = ByteBuffer.allocate(KioskProtocol.MAX_RESPONSE_LENGTH);
+    /** 작업 스레드에서 처리 중인 요청이 있는지 (이벤트 루프 스레드만 읽고 씀) */
+    boolean inFlight;
+
+    /** OP_LOGIN 으로 인증된 로그인 아이디 (user.userId, 이벤트 루프와 작업 스레드가 함께 사용) */
+    private volatile String userId;
+
+    String getUserId() { return userId; }
+    void setUserId(String userId) { this.userId = userId; }
+
+    boolean hasPendingWrites() {
+        return writeBuffer.position() > 0;
+    }
+}
@@ -0,0 +1,144 @@
+package main.loadgen;
+
+import domain.car.carFactory.CarType;
+import domain.rental.RentalRecord;
+import domain.rental.analytics.AnalyticsQuery;
+import domain.rental.analytics.AnalyticsResult;
+import domain.rental.analytics.PricingScenario;
+import domain.rental.analytics.PricingSimulationResult;
+import domain.rental.analytics.PricingSimulator;
+import domain.rental.analytics.RentalAnalytics;
+import domain.rental.analytics.RentalColumnStore;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 대여 이력 분석 엔진(RentalAnalytics) 처리 시간 측정 (DB 없이 합성 데이터 사용).
+ *
+ * 컬럼 저장소에 years 년치 대여 rows 건을 생성한 뒤, 관리자 메뉴 12번과 같은 집계
+ * (차종별 / 회원 등급별 / 요금 정책별 / 월별)와 관리자 메뉴 13번의 시즌 요금 시뮬레이션(전체 기간, 시나리오 3개)을
+ * runs 번씩 실행해 최소·평균 시간을 출력합니다.
+ * 행당 약 90바이트를 쓰므로 2천만 건이면 -Xmx4g 정도가 필요합니다.
+ *
+ *   java -Xmx4g -cp "build;lib/*" main.loadgen.AnalyticsBenchmark rows=20000000 years=3 runs=5
+ */
+public class AnalyticsBenchmark {
+
+    private static final String[] MEMBERSHIPS = {"SilverStrategy", "GoldStrategy", "PlatinumStrategy", "VIPStrategy"};
+    private static final String[] FEE_STRATEGIES = {"BaseFeeStrategy", "PeakSeasonFeeStrategy", "OffSeasonFeeStrategy"};
+    private static final String[] OPTIONS = {"Blackbox", "Navigation", "Sunroof"};
+
+    private int rows = 20_000_000;
+    private int years = 3;
+    private int users = 100_000;
+    private int cars = 5_000;
+    private int runs = 5;
+
+    public static void main(String[] args) {
+        AnalyticsBenchmark bench = new AnalyticsBenchmark();
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            switch (kv[0]) {
+                case "rows" -> bench.rows = Integer.parseInt(kv[1]);
+                case "years" -> bench.years = Integer.parseInt(kv[1]);
+                case "users" -> bench.users = Integer.parseInt(kv[1]);
+                case "cars" -> bench.cars = Integer.parseInt(kv[1]);
+                case "runs" -> bench.runs = Integer.parseInt(kv[1]);
+                default -> throw new IllegalArgumentException("알 수 없는 인자: " + kv[0]);
+            }
+        }
+        bench.run();
+    }
+
+    private void run() {
+        System.out.printf("⏳ 합성 데이터 생성 중: %,d건, %d년, 사용자 %,d명, 차량 %,d대%n", rows, years, users, cars);
+        long start = System.nanoTime();
+        RentalColumnStore store = generate();
+        System.out.printf("✅ 생성 완료 (%.1f초), 병렬도 %d%n",
+            (System.nanoTime() - start) / 1e9, ForkJoinPool.getCommonPoolParallelism());
+
+        LocalDateTime to = LocalDate.now().plusDays(1).atStartOfDay();
+        LocalDateTime from = to.minusYears(1);
+        RentalAnalytics analytics = new RentalAnalytics(store);
+        List<AnalyticsQuery> queries = List.of(
+            AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.CAR_TYPE).from(from).to(to),
+            AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.MEMBERSHIP).from(from).to(to),
+            AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.FEE_STRATEGY).from(from).to(to),
+            AnalyticsQuery.all().bucket(AnalyticsQuery.Bucket.MONTH).from(from).to(to),
+            AnalyticsQuery.groupBy(AnalyticsQuery.GroupBy.CAR_TYPE).bucket(AnalyticsQuery.Bucket.WEEK));
+
+        System.out.println("-".repeat(90));
+        System.out.printf("%-60s %8s %8s %8s%n", "query", "rows", "min ms", "avg ms");
+        System.out.println("-".repeat(90));
+        for (AnalyticsQuery query : queries) {
+            double min = Double.MAX_VALUE;
+            double sum = 0;
+            int resultRows = 0;
+            for (int i = 0; i < runs; i++) {
+                AnalyticsResult result = analytics.run(query);
+                min = Math.min(min, result.getElapsedMillis());
+                sum += result.getElapsedMillis();
+                resultRows = result.getRows().size();
+            }
+            String label = query.getGroupBy() + " × " + query.getBucket() + (query.getFrom() == null ? " (전체 기간)" : " (최근 1년)");
+            System.out.printf("%-60s %8d %8.1f %8.1f%n", label, resultRows, min, sum / runs);
+        }
+        System.out.println("-".repeat(90));
+
+        PricingSimulator simulator = new PricingSimulator(store);
+        List<PricingScenario> scenarios = List.of(
+            PricingScenario.seasonMultipliers(new BigDecimal("1.3"), new BigDecimal("0.9")),
+            PricingScenario.seasonMultipliers(new BigDecimal("1.2"), new BigDecimal("0.85")),
+            PricingScenario.seasonMultipliers(new BigDecimal("1.25"), new BigDecimal("0.95")));
+        double min = Double.MAX_VALUE;
+        double sum = 0;
+        PricingSimulationResult result = null;
+        for (int i = 0; i < runs; i++) {
+            result = simulator.run(null, null, scenarios);
+            min = Math.min(min, result.getElapsedMillis());
+            sum += result.getElapsedMillis();
+        }
+        System.out.printf("%-60s %8d %8.1f %8.1f%n", "시즌 요금 시뮬레이션 × 3", scenarios.size(), min, sum / runs);
+        System.out.printf("   초당 %,.0f행, 첫 시나리오 매출 차이 %+,d원%n", store.size() * 1000.0 / min,
+            result.getScenarios().get(0).getDelta());
+        System.out.println("-".repeat(90));
+    }
+
+    /** 최근 years 년에 고르게 퍼진 반납 완료 대여 (요금은 차종 기본 요금 × 일수 + 옵션) */
+    private RentalColumnStore generate() {
+        RentalColumnStore store = new RentalColumnStore();
+        SplittableRandom random = new SplittableRandom(42);
+        String[] userIds = new String[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = "user" + i;
+        }
+        CarType[] types = CarType.values();
+        long end = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+        long span = years * 365L * 86_400L;
+
+        for (int i = 0; i < rows; i++) {
+            CarType type = types[random.nextInt(types.length)];
+            int days = 1 + random.nextInt(14);
+            long startEpoch = end - random.nextLong(span);
+            int optionMask = random.nextInt(1 << OPTIONS.length);
+            long baseFee = type.baseRate().longValue() * days * RentalColumnStore.MONEY_SCALE;
+            long optionFee = Integer.bitCount(optionMask) * 7_000L * days * RentalColumnStore.MONEY_SCALE;
+            long discount = (baseFee + optionFee) / 20;
+            long penalty = random.nextInt(10) == 0 ? type.baseRate().longValue() * 30 : 0;
+            store.append(i + 1L, random.nextInt(cars) + 1, userIds[random.nextInt(users)], type,
+                startEpoch, startEpoch + days * 86_400L, days, RentalRecord.Status.RETURNED,
+                FEE_STRATEGIES[random.nextInt(FEE_STRATEGIES.length)], MEMBERSHIPS[random.nextInt(MEMBERSHIPS.length)],
+                optionMask, baseFee, optionFee, discount, penalty, baseFee + optionFee - discount + penalty);
+        }
+        return store;
+    }
+}
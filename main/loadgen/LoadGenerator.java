@@ -0,0 +1,294 @@
+package main.loadgen;
+
+import domain.car.carFactory.CarType;
+import domain.rental.RentalRecord;
+import domain.rental.RentalStatistics;
+import domain.rental.SimulatedClock;
+import main.facade.RentalFacade;
+import main.metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대여/반납 합성 부하 생성기.
+ *
+ * 1) 준비: UserService.signUp 으로 N명, AdminService.addCar 로 M대 생성 (실행마다 고유 접두어 사용)
+ * 2) 실행: K개 워커 스레드가 설정된 비율(mix)로 목록 조회 / 견적 / 대여 / 반납을 반복
+ * 3) 보고: 작업별 처리량, 지연시간 백분위수, 경합(conflict)·오류 비율
+ *
+ * 경합: 다른 워커가 먼저 대여한 차량을 고르는 등 IllegalStateException 으로 끝난 작업
+ * 오류: 그 밖의 모든 예외
+ */
+public class LoadGenerator {
+
+    private static final String[] OPTION_NAMES = {"Blackbox", "Navigation", "Sunroof"};
+    private static final int MAX_ERROR_SAMPLES = 10;
+
+    /** 작업별 통계 */
+    private static class OpStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder success = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final LoadGeneratorConfig config;
+    private final RentalFacade facade;
+    private final String runTag = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<LoadOperation, OpStats> stats = new EnumMap<>(LoadOperation.class);
+    private final Map<String, LongAdder> errorSamples = new ConcurrentHashMap<>();
+    private final List<String> userIds = new ArrayList<>();
+    private final List<String> carNames = new ArrayList<>();
+
+    // 실행 시작 시점의 연체 반납 누계 (보고 시 이번 실행분만 계산)
+    private long overdueReturnsAtStart;
+    private volatile long measureStartNanos;
+    private volatile long deadlineNanos;
+
+    public LoadGenerator(LoadGeneratorConfig config, RentalFacade facade) {
+        this.config = config;
+        this.facade = facade;
+        for (LoadOperation op : LoadOperation.values()) {
+            stats.put(op, new OpStats());
+        }
+    }
+
+    // =================================================================
+    // 1. 준비 단계
+    // =================================================================
+
+    public void setUp() {
+        for (int i = 0; i < config.getUsers(); i++) {
+            String userId = "lg-" + runTag + "-u" + i;
+            facade.getContext().getUserService()
+                    .signUp(userId, "pw", "부하" + runTag + "-" + i, "lg-" + runTag + "-" + i);
+            userIds.add(userId);
+        }
+
+        CarType[] types = CarType.values();
+        for (int i = 0; i < config.getCars(); i++) {
+            CarType type = types[i % types.length];
+            String name = "LG-" + runTag + "-" + i;
+            facade.getContext().getAdminService().addCar(type, type.baseRate(), name);
+            carNames.add(name);
+        }
+    }
+
+    // =================================================================
+    // 2. 실행 단계
+    // =================================================================
+
+    public void run() throws InterruptedException {
+        int threads = effectiveThreads();
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "loadgen-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        overdueReturnsAtStart = RentalStatistics.getInstance().getOverdueReturns();
+        long now = System.nanoTime();
+        measureStartNanos = now + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        deadlineNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        for (int w = 0; w < threads; w++) {
+            List<String> owned = new ArrayList<>();
+            for (int i = w; i < userIds.size(); i += threads) {
+                owned.add(userIds.get(i));
+            }
+            pool.execute(new Worker(owned, new Random(config.getSeed() + w)));
+        }
+
+        pool.shutdown();
+        long waitSeconds = config.getWarmupSeconds() + config.getDurationSeconds() + 60L;
+        if (!pool.awaitTermination(waitSeconds, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+
+    /** 실제 워커 수: 워커마다 담당 사용자가 최소 1명 있어야 하므로 사용자 수를 넘지 않음 */
+    private int effectiveThreads() {
+        return Math.max(1, Math.min(config.getThreads(), userIds.size()));
+    }
+
+    /** 워커 1개: 담당 사용자들로 작업을 반복하며, 자신이 대여한 차량만 반납합니다. */
+    private class Worker implements Runnable {
+        private final List<String> ownedUsers;
+        private final Random random;
+        /** {userId, carName} */
+        private final List<String[]> activeRentals = new ArrayList<>();
+        private final int totalWeight;
+
+        Worker(List<String> ownedUsers, Random random) {
+            this.ownedUsers = ownedUsers;
+            this.random = random;
+            int sum = 0;
+            for (LoadOperation op : LoadOperation.values()) {
+                sum += config.weightOf(op);
+            }
+            this.totalWeight = sum;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadlineNanos) {
+                LoadOperation op = nextOperation();
+                if (op == LoadOperation.RETURN && activeRentals.isEmpty()) {
+                    op = LoadOperation.RENT;
+                }
+
+                long t0 = System.nanoTime();
+                Throwable failure = null;
+                try {
+                    execute(op);
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                long t1 = System.nanoTime();
+
+                if (t0 >= measureStartNanos && t1 <= deadlineNanos) {
+                    record(op, t1 - t0, failure);
+                }
+            }
+        }
+
+        private LoadOperation nextOperation() {
+            int r = random.nextInt(totalWeight);
+            for (LoadOperation op : LoadOperation.values()) {
+                r -= config.weightOf(op);
+                if (r < 0) return op;
+            }
+            return LoadOperation.LIST;
+        }
+
+        private void execute(LoadOperation op) {
+            switch (op) {
+                case LIST -> facade.findAvailableCars(null);
+                case QUOTE -> facade.quote(randomCar(), randomDays(), randomOptions());
+                case RENT -> {
+                    String userId = ownedUsers.get(random.nextInt(ownedUsers.size()));
+                    String carName = randomCar();
+                    RentalRecord record = facade.rent(userId, carName, randomDays(), randomOptions());
+                    if (record != null) {
+                        activeRentals.add(new String[]{userId, carName});
+                    }
+                }
+                case RETURN -> {
+                    int index = random.nextInt(activeRentals.size());
+                    String[] rental = activeRentals.get(index);
+                    try {
+                        facade.returnCar(rental[0], rental[1]);
+                    } catch (IllegalStateException | IllegalArgumentException e) {
+                        // 이미 반납됐거나 활성 대여가 없음 → 목록에서 제거
+                        // (그 밖의 오류는 대여가 남아 있을 수 있으므로 목록에 두고 다음 반납 때 다시 시도)
+                        activeRentals.remove(index);
+                        throw e;
+                    }
+                    activeRentals.remove(index);
+                }
+            }
+        }
+
+        private String randomCar() {
+            return carNames.get(random.nextInt(carNames.size()));
+        }
+
+        private int randomDays() {
+            return 1 + random.nextInt(config.getMaxRentalDays());
+        }
+
+        private List<String> randomOptions() {
+            List<String> options = new ArrayList<>(3);
+            for (String option : OPTION_NAMES) {
+                if (random.nextBoolean()) options.add(option);
+            }
+            return options;
+        }
+    }
+
+    private void record(LoadOperation op, long nanos, Throwable failure) {
+        OpStats s = stats.get(op);
+        s.latency.record(nanos);
+        if (failure == null) {
+            s.success.increment();
+        } else if (failure instanceof IllegalStateException) {
+            s.conflicts.increment();
+        } else {
+            s.errors.increment();
+            String key = op + ": " + failure.getClass().getSimpleName() + " - " + failure.getMessage();
+            if (errorSamples.size() < MAX_ERROR_SAMPLES || errorSamples.containsKey(key)) {
+                errorSamples.computeIfAbsent(key, k -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    // =================================================================
+    // 3. 보고
+    // =================================================================
+
+    public void printReport() {
+        double seconds = config.getDurationSeconds();
+        long totalOps = 0;
+        long rentReturnOps = 0;
+        LatencyHistogram all = new LatencyHistogram();
+        for (Map.Entry<LoadOperation, OpStats> e : stats.entrySet()) {
+            long count = e.getValue().latency.getCount();
+            totalOps += count;
+            if (e.getKey() == LoadOperation.RENT || e.getKey() == LoadOperation.RETURN) {
+                rentReturnOps += e.getValue().success.sum();
+            }
+            all.add(e.getValue().latency);
+        }
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("📊 부하 테스트 결과");
+        System.out.println("=".repeat(70));
+        System.out.println("설정: " + config);
+        if (effectiveThreads() < config.getThreads()) {
+            System.out.printf("⚠️ threads(%d) 가 사용자 수(%d)보다 많아 워커 %d개로 실행했습니다.%n",
+                    config.getThreads(), userIds.size(), effectiveThreads());
+        }
+        System.out.printf("전체 처리량: %.1f ops/s (성공한 대여+반납 %.1f ops/s)%n",
+                totalOps / seconds, rentReturnOps / seconds);
+        System.out.println("-".repeat(70));
+        for (Map.Entry<LoadOperation, OpStats> e : stats.entrySet()) {
+            OpStats s = e.getValue();
+            long count = s.latency.getCount();
+            if (count == 0) continue;
+            System.out.printf("%-7s %8.1f ops/s | 경합 %5.2f%% | 오류 %5.2f%% | %s%n",
+                    e.getKey(), count / seconds,
+                    100.0 * s.conflicts.sum() / count,
+                    100.0 * s.errors.sum() / count,
+                    s.latency.summary());
+        }
+        System.out.printf("%-7s %s%n", "ALL", all.summary());
+
+        if (facade.getContext().getRentalService().getClock() instanceof SimulatedClock clock) {
+            long returns = stats.get(LoadOperation.RETURN).success.sum();
+            long overdue = RentalStatistics.getInstance().getOverdueReturns() - overdueReturnsAtStart;
+            System.out.println("-".repeat(70));
+            System.out.printf("⏱️ 시뮬레이션 시간 %.1f일 (x%.0f) | 연체 반납 %d건 (반납의 %.1f%%, 준비 구간 포함)%n",
+                    clock.elapsed().toSeconds() / 86_400.0, clock.getRate(), overdue,
+                    returns == 0 ? 0.0 : 100.0 * overdue / returns);
+        }
+
+        if (!errorSamples.isEmpty()) {
+            System.out.println("-".repeat(70));
+            System.out.println("오류 샘플:");
+            errorSamples.forEach((msg, n) -> System.out.println("  (" + n.sum() + "회) " + msg));
+        }
+        System.out.println("=".repeat(70));
+    }
+}
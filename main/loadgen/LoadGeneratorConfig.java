@@ -0,0 +1,110 @@
+package main.loadgen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 생성기 설정. "key=value" 형식 인자로 덮어쓸 수 있습니다.
+ *
+ *   backend=memory|db   users=100   cars=50   threads=8   duration=30   warmup=5
+ *   mix=list:40,quote:20,rent:20,return:20   maxDays=7   seed=42   quiet=true
+ *   timeWarp=8640   (시뮬레이션 시계 배율: 실제 1초 = 8640초, 5분 실행이 30일치 대여/연체에 해당. 기본 1 = 실제 시계)
+ */
+public class LoadGeneratorConfig {
+
+    public enum Backend { MEMORY, DB }
+
+    private Backend backend = Backend.MEMORY;
+    private int users = 100;
+    private int cars = 50;
+    private int threads = 8;
+    private int durationSeconds = 30;
+    private int warmupSeconds = 5;
+    private int maxRentalDays = 7;
+    private long seed = System.nanoTime();
+    private boolean quiet = true;
+    private double timeWarp = 1.0;
+    /** 작업 종류 → 가중치 */
+    private final Map<LoadOperation, Integer> mix = new HashMap<>(Map.of(
+            LoadOperation.LIST, 40,
+            LoadOperation.QUOTE, 20,
+            LoadOperation.RENT, 20,
+            LoadOperation.RETURN, 20));
+
+    public static LoadGeneratorConfig parse(String[] args) {
+        LoadGeneratorConfig config = new LoadGeneratorConfig();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("key=value 형식이어야 합니다: " + arg);
+            }
+            String key = arg.substring(0, eq).trim();
+            String value = arg.substring(eq + 1).trim();
+            switch (key) {
+                case "backend" -> config.backend = Backend.valueOf(value.toUpperCase());
+                case "users" -> config.users = positive(key, value);
+                case "cars" -> config.cars = positive(key, value);
+                case "threads" -> config.threads = positive(key, value);
+                case "duration" -> config.durationSeconds = positive(key, value);
+                case "warmup" -> config.warmupSeconds = Integer.parseInt(value);
+                case "maxDays" -> config.maxRentalDays = positive(key, value);
+                case "seed" -> config.seed = Long.parseLong(value);
+                case "quiet" -> config.quiet = Boolean.parseBoolean(value);
+                case "mix" -> config.parseMix(value);
+                case "timeWarp" -> {
+                    config.timeWarp = Double.parseDouble(value);
+                    if (!(config.timeWarp > 0) || Double.isInfinite(config.timeWarp)) {
+                        throw new IllegalArgumentException("timeWarp 는 0보다 커야 합니다: " + value);
+                    }
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 설정: " + key);
+            }
+        }
+        return config;
+    }
+
+    private void parseMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("mix 형식 오류 (예: list:40,rent:30): " + value);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("mix 가중치는 0 이상이어야 합니다: " + part);
+            }
+            mix.put(LoadOperation.valueOf(kv[0].trim().toUpperCase()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix 가중치 합은 0보다 커야 합니다.");
+        }
+    }
+
+    private static int positive(String key, String value) {
+        int n = Integer.parseInt(value);
+        if (n <= 0) {
+            throw new IllegalArgumentException(key + " 는 1 이상이어야 합니다: " + value);
+        }
+        return n;
+    }
+
+    public Backend getBackend() { return backend; }
+    public int getUsers() { return users; }
+    public int getCars() { return cars; }
+    public int getThreads() { return threads; }
+    public int getDurationSeconds() { return durationSeconds; }
+    public int getWarmupSeconds() { return warmupSeconds; }
+    public int getMaxRentalDays() { return maxRentalDays; }
+    public long getSeed() { return seed; }
+    public boolean isQuiet() { return quiet; }
+    public double getTimeWarp() { return timeWarp; }
+    public int weightOf(LoadOperation op) { return mix.getOrDefault(op, 0); }
+
+    @Override
+    public String toString() {
+        return "backend=" + backend + ", users=" + users + ", cars=" + cars + ", threads=" + threads +
+                ", duration=" + durationSeconds + "s, warmup=" + warmupSeconds + "s, mix=" + mix +
+                ", maxDays=" + maxRentalDays + ", seed=" + seed + (timeWarp == 1.0 ? "" : ", timeWarp=x" + timeWarp);
+    }
+}
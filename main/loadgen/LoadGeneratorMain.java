@@ -0,0 +1,97 @@
+package main.loadgen;
+
+import db.DBConnection;
+import db.EnvLoader;
+import db.migration.MigrationRunner;
+import domain.admin.AdminService;
+import domain.car.CarRepository;
+import domain.rental.RentalRepository;
+import domain.rental.RentalService;
+import domain.rental.SimulatedClock;
+import domain.rental.summary.RentalSummaryRepository;
+import domain.user.UserRepository;
+import domain.user.UserService;
+import domain.user.tier.UserSpendRepository;
+import main.command.receiver.ApplicationContext;
+import main.facade.RentalFacade;
+import main.jmx.JmxExporter;
+import main.loadgen.memory.InMemoryAdminService;
+import main.loadgen.memory.InMemoryCarRepository;
+import main.loadgen.memory.InMemoryRentalRepository;
+import main.loadgen.memory.InMemoryUserRepository;
+import main.loadgen.memory.InMemoryUserSpendRepository;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * 부하 생성기 실행 진입점.
+ *
+ *   java -cp "build;lib/*" main.loadgen.LoadGeneratorMain backend=memory users=200 cars=100 threads=16 duration=30
+ *   java -cp "build;lib/*" main.loadgen.LoadGeneratorMain backend=db ...   (.env 의 MariaDB 사용)
+ *   java -cp "build;lib/*" main.loadgen.LoadGeneratorMain timeWarp=8640 duration=300 maxDays=14   (30일치 연체 재현)
+ */
+public class LoadGeneratorMain {
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadGeneratorConfig config = LoadGeneratorConfig.parse(args);
+        System.out.println("⏳ 부하 생성기 준비 중... (" + config + ")");
+
+        // timeWarp 배율로 흐르는 시뮬레이션 시계 (기본 1 이면 실제 시계)
+        Clock clock = config.getTimeWarp() == 1.0
+                ? Clock.systemDefaultZone()
+                : SimulatedClock.startingNow(config.getTimeWarp());
+        ApplicationContext context = config.getBackend() == LoadGeneratorConfig.Backend.DB
+                ? createDbContext(clock)
+                : createInMemoryContext(clock);
+        LoadGenerator generator = new LoadGenerator(config, new RentalFacade(context));
+        JmxExporter.register(context); // 실행 중 JConsole 로 처리량/플릿 상태 관찰 가능
+
+        // 서비스 계층의 콘솔 출력(등급 승급 안내 등)이 측정을 왜곡하지 않도록 실행 중에는 숨김
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        if (config.isQuiet()) {
+            PrintStream nul = new PrintStream(OutputStream.nullOutputStream());
+            System.setOut(nul);
+            System.setErr(nul);
+        }
+        try {
+            generator.setUp();
+            generator.run();
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+
+        generator.printReport();
+    }
+
+    private static ApplicationContext createDbContext(Clock clock) {
+        EnvLoader.load();
+        DBConnection db = DBConnection.getInstance();
+        new MigrationRunner(db, Path.of(System.getProperty("MIGRATION_DIR", "db/migration/sql"))).migrate();
+        UserService userService = new UserService(new UserRepository(db), new UserSpendRepository(db));
+        AdminService adminService = new AdminService(db, userService);
+        RentalRepository rentalRepository = new RentalRepository(db, clock);
+        RentalSummaryRepository summaryRepository = new RentalSummaryRepository(db);
+        RentalService rentalService = new RentalService(rentalRepository, userService, summaryRepository, clock);
+        ApplicationContext context = new ApplicationContext(userService, adminService, new CarRepository(db),
+                rentalService, rentalRepository);
+        context.setRentalSummaryRepository(summaryRepository);
+        return context;
+    }
+
+    private static ApplicationContext createInMemoryContext(Clock clock) {
+        InMemoryCarRepository carRepository = new InMemoryCarRepository();
+        InMemoryRentalRepository rentalRepository = new InMemoryRentalRepository(carRepository, clock);
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        UserService userService = new UserService(userRepository,
+                new InMemoryUserSpendRepository(userRepository, rentalRepository));
+        AdminService adminService = new InMemoryAdminService(userService, carRepository);
+        RentalService rentalService = new RentalService(rentalRepository, userService, null, clock);
+        return new ApplicationContext(userService, adminService, carRepository,
+                rentalService, rentalRepository);
+    }
+}
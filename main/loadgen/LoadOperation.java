@@ -0,0 +1,15 @@
+package main.loadgen;
+
+/**
+ * 부하 생성기가 실행하는 작업 종류.
+ */
+public enum LoadOperation {
+    /** 대여 가능한 차량 목록 조회 (ViewAvailableCarsCommand) */
+    LIST,
+    /** 요금 견적 (RentCarCommand 의 요금 계산) */
+    QUOTE,
+    /** RentalService.rent */
+    RENT,
+    /** RentalService.returnCar */
+    RETURN
+}
@@ -0,0 +1,188 @@
+package main.loadgen;
+
+import db.DBConnection;
+import db.EnvLoader;
+import main.metrics.LatencyHistogram;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * rental 월별 파티셔닝 효과 측정 (db/sql/rental_partitioning.sql 적용 전 비교용).
+ *
+ * 같은 데이터를 일반 테이블과 월별 파티션 테이블에 적재한 뒤, RentalRepository 의 활성 대여 조회와 같은 형태의
+ * 쿼리를 반복 실행해 지연시간을 비교합니다. 데이터는 MariaDB Sequence 엔진(seq_1_to_N)으로 서버 안에서 생성합니다.
+ *
+ *   java -cp "build;lib/*" main.loadgen.PartitionBenchmark rows=10000000 months=36 queries=2000
+ *
+ * 비교 대상
+ *   plain/unbounded : 일반 테이블, startTime 하한 없음 (기존 쿼리)
+ *   plain/bounded   : 일반 테이블, startTime >= 활성 대여 하한
+ *   part/bounded    : 파티션 테이블, startTime >= 활성 대여 하한 (오래된 파티션 프루닝)
+ */
+public class PartitionBenchmark {
+
+    private static final String PLAIN = "bench_rental_plain";
+    private static final String PART = "bench_rental_part";
+    // 적재 시 한 번에 INSERT ... SELECT 하는 행 수
+    private static final long LOAD_CHUNK = 1_000_000;
+
+    private long rows = 10_000_000;
+    private int months = 36;
+    private int users = 100_000;
+    private int cars = 5_000;
+    private int active = 2_000;
+    private int queries = 2_000;
+    private boolean keep = false;
+
+    private final DBConnection db;
+    private final Random random = new Random(42);
+
+    private PartitionBenchmark(DBConnection db) {
+        this.db = db;
+    }
+
+    public static void main(String[] args) {
+        EnvLoader.load();
+        PartitionBenchmark bench = new PartitionBenchmark(DBConnection.getInstance());
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            switch (kv[0]) {
+                case "rows" -> bench.rows = Long.parseLong(kv[1]);
+                case "months" -> bench.months = Integer.parseInt(kv[1]);
+                case "users" -> bench.users = Integer.parseInt(kv[1]);
+                case "active" -> bench.active = Integer.parseInt(kv[1]);
+                case "queries" -> bench.queries = Integer.parseInt(kv[1]);
+                case "keep" -> bench.keep = Boolean.parseBoolean(kv[1]);
+                default -> throw new IllegalArgumentException("알 수 없는 인자: " + kv[0]);
+            }
+        }
+        bench.run();
+    }
+
+    private void run() {
+        LocalDate firstMonth = LocalDate.now().withDayOfMonth(1).minusMonths(months - 1L);
+        System.out.printf("⏳ 적재 중: %,d행, %d개월 (%s ~), 활성 %d건%n", rows, months, firstMonth, active);
+        long start = System.nanoTime();
+        createTables(firstMonth);
+        load(firstMonth);
+        db.queryForList("ANALYZE TABLE " + PLAIN + ", " + PART, Map.of()); // 결과 행(테이블별 상태)을 반환하므로 조회로 실행
+        System.out.printf("✅ 적재 완료 (%.1f초)%n", (System.nanoTime() - start) / 1e9);
+
+        Timestamp activeSince = activeSince();
+        System.out.println("활성 대여 startTime 하한: " + activeSince);
+        System.out.println("=".repeat(100));
+
+        String byUser = "SELECT * FROM %s WHERE userId = :userId AND status = 'RENTED'";
+        String overdue = "SELECT id FROM %s WHERE status = 'RENTED' AND endTime < :now";
+        String countActive = "SELECT COUNT(*) AS cnt FROM %s WHERE status = 'RENTED'";
+        String bound = " AND startTime >= :activeSince";
+
+        for (String[] query : new String[][] {
+                {"findActiveByUserId", byUser}, {"findOverdue", overdue}, {"countActive", countActive}}) {
+            System.out.println("[" + query[0] + "]");
+            measure("plain/unbounded", String.format(query[1], PLAIN), activeSince);
+            measure("plain/bounded", String.format(query[1], PLAIN) + bound, activeSince);
+            measure("part/bounded", String.format(query[1], PART) + bound, activeSince);
+        }
+        System.out.println("=".repeat(100));
+
+        if (!keep) {
+            db.execute("DROP TABLE IF EXISTS " + PLAIN + ", " + PART, Map.of());
+        }
+    }
+
+    // ====== 적재 ======
+
+    private void createTables(LocalDate firstMonth) {
+        db.execute("DROP TABLE IF EXISTS " + PLAIN + ", " + PART, Map.of());
+        String columns =
+                "id INT NOT NULL, userId INT NOT NULL, carId INT NOT NULL, " +
+                "startTime DATETIME NOT NULL, endTime DATETIME NOT NULL, status VARCHAR(50) NOT NULL, " +
+                "INDEX idx_user (userId), INDEX idx_car (carId), INDEX idx_status_endtime (status, endTime)";
+        db.execute("CREATE TABLE " + PLAIN + " (" + columns + ", PRIMARY KEY (id))", Map.of());
+
+        StringBuilder partitions = new StringBuilder();
+        for (int i = 0; i < months; i++) {
+            LocalDate month = firstMonth.plusMonths(i);
+            partitions.append(String.format("PARTITION p%d%02d VALUES LESS THAN ('%s'), ",
+                    month.getYear(), month.getMonthValue(), month.plusMonths(1)));
+        }
+        db.execute("CREATE TABLE " + PART + " (" + columns + ", PRIMARY KEY (id, startTime)) " +
+                   "PARTITION BY RANGE COLUMNS (startTime) (" + partitions +
+                   "PARTITION pmax VALUES LESS THAN (MAXVALUE))", Map.of());
+    }
+
+    /** id 순으로 시작 시각이 고르게 증가하고, 마지막 active 건만 RENTED 인 대여 이력 */
+    private void load(LocalDate firstMonth) {
+        long spanSeconds = java.time.Duration.between(firstMonth.atStartOfDay(), LocalDateTime.now()).getSeconds();
+        for (long from = 1; from <= rows; from += LOAD_CHUNK) {
+            long to = Math.min(rows, from + LOAD_CHUNK - 1);
+            Map<String, Object> p = new HashMap<>();
+            p.put("base", Timestamp.valueOf(firstMonth.atStartOfDay()));
+            p.put("span", spanSeconds);
+            p.put("rows", rows);
+            p.put("users", users);
+            p.put("cars", cars);
+            p.put("activeFrom", rows - active);
+            db.execute(
+                    "INSERT INTO " + PLAIN + " " +
+                    "SELECT seq, 1 + seq % :users, 1 + seq % :cars, " +
+                    "       :base + INTERVAL (seq * :span DIV :rows) SECOND, " +
+                    "       :base + INTERVAL (seq * :span DIV :rows) SECOND + INTERVAL (1 + seq % 7) DAY, " +
+                    "       IF(seq > :activeFrom, 'RENTED', 'RETURNED') " +
+                    "FROM seq_" + from + "_to_" + to, p);
+            db.execute("INSERT INTO " + PART + " SELECT * FROM " + PLAIN +
+                       " WHERE id BETWEEN " + from + " AND " + to, Map.of());
+            System.out.printf("   %,d / %,d%n", to, rows);
+        }
+    }
+
+    /** RentalRepository.activeSince() 와 같은 하한 (가장 오래된 활성 대여와 현재 - 1일 중 이른 값) */
+    private Timestamp activeSince() {
+        LocalDateTime floor = LocalDateTime.now().minusDays(1);
+        Object oldest = db.queryForObject("SELECT MIN(startTime) AS oldest FROM " + PLAIN +
+                                          " WHERE status = 'RENTED'", Map.of())
+                .map(row -> row.get("oldest"))
+                .orElse(null);
+        LocalDateTime value = oldest instanceof Timestamp ts ? ts.toLocalDateTime() : null;
+        return Timestamp.valueOf(value != null && value.isBefore(floor) ? value : floor);
+    }
+
+    // ====== 측정 ======
+
+    private void measure(String label, String sql, Timestamp activeSince) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < queries + queries / 10; i++) {
+            Map<String, Object> p = new HashMap<>();
+            p.put("userId", 1 + random.nextInt(users));
+            p.put("now", Timestamp.valueOf(LocalDateTime.now()));
+            p.put("activeSince", activeSince);
+
+            long start = System.nanoTime();
+            db.queryForList(sql, p);
+            if (i >= queries / 10) { // 앞 10%는 워밍업
+                histogram.record(System.nanoTime() - start);
+            }
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", 1);
+        params.put("now", Timestamp.valueOf(LocalDateTime.now()));
+        params.put("activeSince", activeSince);
+        List<Map<String, Object>> plan = db.queryForList("EXPLAIN PARTITIONS " + sql, params);
+        String partitions = plan.isEmpty() ? "-" : String.valueOf(plan.get(0).get("partitions"));
+        String key = plan.isEmpty() ? "-" : String.valueOf(plan.get(0).get("key"));
+
+        System.out.printf("  %-16s %s | key=%s, partitions=%s%n", label, histogram.summary(), key,
+                partitions.length() > 40 ? partitions.split(",").length + "개" : partitions);
+    }
+}
@@ -0,0 +1,38 @@
+package main.loadgen.memory;
+
+import domain.admin.AdminService;
+import domain.car.carFactory.CarType;
+import domain.user.UserService;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * 인메모리 백엔드용 AdminService.
+ * 부하 생성기가 사용하는 차량 등록(addCar)만 InMemoryCarRepository 로 연결하며,
+ * 그 밖의 관리자 기능(DB 직접 조회)은 지원하지 않습니다.
+ */
+public class InMemoryAdminService extends AdminService {
+
+    private final InMemoryCarRepository carRepository;
+
+    public InMemoryAdminService(UserService userService, InMemoryCarRepository carRepository) {
+        super(null, userService);
+        this.carRepository = carRepository;
+    }
+
+    @Override
+    public void addCar(CarType type, BigDecimal dailyRentalFee, String carName) {
+        Objects.requireNonNull(type, "CarType 은 null 일 수 없습니다.");
+        if (carName == null || carName.trim().isEmpty()) {
+            throw new IllegalArgumentException("차량 이름은 필수입니다.");
+        }
+        if (dailyRentalFee == null) {
+            throw new IllegalArgumentException("일일 대여료는 필수입니다.");
+        }
+        if (dailyRentalFee.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("일일 대여료는 0보다 커야 합니다.");
+        }
+        carRepository.insert(type, dailyRentalFee, carName.trim());
+    }
+}
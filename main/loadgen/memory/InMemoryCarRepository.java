@@ -0,0 +1,90 @@
+package main.loadgen.memory;
+
+import domain.car.Car;
+import domain.car.CarRepository;
+import domain.car.FleetStatistics;
+import domain.car.carFactory.CarFactoryProvider;
+import domain.car.carFactory.CarStatus;
+import domain.car.carFactory.CarType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 없이 동작하는 CarRepository (부하 생성기의 인메모리 백엔드).
+ * DB 와 마찬가지로 조회할 때마다 새 Car 객체를 만들어 돌려줍니다.
+ */
+public class InMemoryCarRepository extends CarRepository {
+
+    private static class CarRow {
+        final int id;
+        final CarType type;
+        final String name;
+        final BigDecimal dailyRentalFee;
+        volatile CarStatus status = CarStatus.AVAILABLE;
+
+        CarRow(int id, CarType type, String name, BigDecimal dailyRentalFee) {
+            this.id = id;
+            this.type = type;
+            this.name = name;
+            this.dailyRentalFee = dailyRentalFee;
+        }
+    }
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<Integer, CarRow> rows = new ConcurrentSkipListMap<>();
+
+    public InMemoryCarRepository() {
+        super(null);
+    }
+
+    /** 차량 추가 (AdminService.addCar 의 INSERT 에 해당). 이름 중복이면 예외. */
+    public synchronized int insert(CarType type, BigDecimal dailyRentalFee, String name) {
+        boolean duplicated = rows.values().stream().anyMatch(r -> r.name.equals(name));
+        if (duplicated) {
+            throw new IllegalArgumentException("이미 존재하는 차량 이름입니다: " + name);
+        }
+        int id = sequence.incrementAndGet();
+        rows.put(id, new CarRow(id, type, name, dailyRentalFee));
+        return id;
+    }
+
+    @Override
+    public List<Car> findAllCars() {
+        List<Car> cars = new ArrayList<>(rows.size());
+        for (CarRow row : rows.values()) {
+            cars.add(toCar(row));
+        }
+        return cars;
+    }
+
+    @Override
+    public void update(Car car) {
+        CarRow row = rows.get(Integer.parseInt(car.id()));
+        if (row != null) {
+            row.status = car.status();
+            FleetStatistics.getInstance().observe(car);
+        }
+    }
+
+    @Override
+    public Car findById(String carId) {
+        CarRow row = rows.get(Integer.parseInt(carId));
+        return row == null ? null : toCar(row);
+    }
+
+    private Car toCar(CarRow row) {
+        Car car = CarFactoryProvider.getFactory(row.type.name()).createCar(String.valueOf(row.id));
+        car.setDailyRentalFee(row.dailyRentalFee != null ? row.dailyRentalFee : row.type.baseRate());
+        car.setName(row.name);
+        if (row.status == CarStatus.UNAVAILABLE) {
+            car.occupy();
+        }
+        FleetStatistics.getInstance().observe(car);
+        return car;
+    }
+}
@@ -0,0 +1,338 @@
+package main.loadgen.memory;
+
+import db.RowHandler;
+import domain.car.Car;
+import domain.rental.ActiveRentalView;
+import domain.rental.RentalHistoryFilter;
+import domain.rental.RentalHistoryPage;
+import domain.rental.RentalRecord;
+import domain.rental.RentalRepository;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * DB 없이 동작하는 RentalRepository (부하 생성기의 인메모리 백엔드).
+ * 차량당 활성 대여 1건을 원자적으로 보장하므로, 동시 대여 경합은 save 시점의 IllegalStateException 으로 드러납니다.
+ */
+public class InMemoryRentalRepository extends RentalRepository {
+
+    private static class RentalRow {
+        final long id;
+        final int userPk;
+        final String loginUserId;
+        final int carPk;
+        final LocalDateTime startTime;
+        volatile LocalDateTime endTime;
+        volatile RentalRecord.Status status = RentalRecord.Status.RENTED;
+        final int rentalDays;
+        // 요금 내역 (대여 시 확정, 반납 시 discount/penalty/totalFee 갱신)
+        final String feeStrategy;
+        final String membership;
+        final String options;
+        final BigDecimal baseFee;
+        final BigDecimal optionFee;
+        volatile BigDecimal discount;
+        volatile BigDecimal penalty;
+        volatile BigDecimal totalFee;
+
+        RentalRow(long id, int userPk, int carPk, LocalDateTime startTime, RentalRecord r) {
+            this.id = id;
+            this.userPk = userPk;
+            this.loginUserId = r.getUserId();
+            this.carPk = carPk;
+            this.startTime = startTime;
+            this.endTime = startTime.plusDays(r.getRentalDays());
+            this.rentalDays = r.getRentalDays();
+            this.feeStrategy = r.getFeeStrategyType();
+            this.membership = r.getMembershipStrategyType();
+            this.options = String.join(",", r.getOptions());
+            this.baseFee = r.getBaseFee();
+            this.optionFee = r.getOptionFee();
+            this.totalFee = r.getTotalFee();
+        }
+    }
+
+    /** streamHistory 컬럼 (RentalRepository.streamHistory 의 SELECT 절과 같은 순서) */
+    private static final String[] HISTORY_COLUMNS = {
+            "id", "startTime", "endTime", "status", "rentalDays", "feeStrategy", "membership",
+            "options", "baseFee", "optionFee", "discount", "penalty", "totalFee",
+            "carId", "carName", "carType", "userId", "loginUserId", "userName"
+    };
+
+    private final InMemoryCarRepository carRepository;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, RentalRow> rows = new ConcurrentHashMap<>();
+    /** carPk → 활성 대여 id */
+    private final Map<Integer, Long> activeByCar = new ConcurrentHashMap<>();
+
+    /** car 테이블 JOIN 에 해당하는 조회를 위해 인메모리 차량 저장소를 함께 받음 */
+    public InMemoryRentalRepository(InMemoryCarRepository carRepository) {
+        this(carRepository, Clock.systemDefaultZone());
+    }
+
+    /** 시뮬레이션 시계(SimulatedClock 등)를 쓰는 경우 RentalService 와 같은 시계를 넘김 */
+    public InMemoryRentalRepository(InMemoryCarRepository carRepository, Clock clock) {
+        super(clock);
+        this.carRepository = carRepository;
+    }
+
+    @Override
+    public Optional<RentalRecord> findActiveByCarId(int carId) {
+        Long id = activeByCar.get(carId);
+        RentalRow row = id == null ? null : rows.get(id);
+        return row == null ? Optional.empty() : Optional.of(toRecord(row));
+    }
+
+    /** 선점 확인만 (실제 원자적 선점은 save 의 activeByCar.putIfAbsent) */
+    @Override
+    public boolean claimCar(int carId) {
+        return !activeByCar.containsKey(carId);
+    }
+
+    @Override
+    public Optional<RentalRecord> findById(long id) {
+        RentalRow row = rows.get(id);
+        return row == null ? Optional.empty() : Optional.of(toRecord(row));
+    }
+
+    @Override
+    public List<RentalRecord> findActiveByUserId(int userId) {
+        List<RentalRecord> result = new ArrayList<>();
+        for (RentalRow row : rows.values()) {
+            if (row.userPk == userId && row.status == RentalRecord.Status.RENTED) {
+                result.add(toRecord(row));
+            }
+        }
+        result.sort(Comparator.comparing(RentalRecord::getStartAt).reversed());
+        return result;
+    }
+
+    @Override
+    public List<ActiveRentalView> findActiveWithCarByUserId(int userId) {
+        return withCar(findActiveByUserId(userId));
+    }
+
+    @Override
+    public List<ActiveRentalView> findAllActiveWithCar() {
+        List<RentalRecord> active = new ArrayList<>();
+        for (RentalRow row : rows.values()) {
+            if (row.status == RentalRecord.Status.RENTED) {
+                active.add(toRecord(row));
+            }
+        }
+        return withCar(active);
+    }
+
+    private List<ActiveRentalView> withCar(List<RentalRecord> records) {
+        List<ActiveRentalView> result = new ArrayList<>();
+        for (RentalRecord rec : records) {
+            Car car = carRepository.findById(rec.getCarId());
+            if (car != null) {
+                result.add(new ActiveRentalView(rec, car.getName(), car.type(),
+                        car.getDailyRentalFee(), car.status()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Map<String, Object>> findOverdue(LocalDateTime asOf, int limit) {
+        List<RentalRow> overdue = new ArrayList<>();
+        for (RentalRow row : rows.values()) {
+            if (row.status == RentalRecord.Status.RENTED && row.endTime.isBefore(asOf)) {
+                overdue.add(row);
+            }
+        }
+        overdue.sort(Comparator.comparing((RentalRow row) -> row.endTime));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (RentalRow row : overdue.subList(0, Math.min(limit, overdue.size()))) {
+            result.add(toHistoryRow(row));
+        }
+        return result;
+    }
+
+    /** 관리자 화면용 행 (DB 조회 결과와 같은 컬럼 이름) */
+    private Map<String, Object> toHistoryRow(RentalRow row) {
+        Car car = carRepository.findById(String.valueOf(row.carPk));
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", row.id);
+        map.put("userId", row.userPk);
+        map.put("carId", row.carPk);
+        map.put("startTime", Timestamp.valueOf(row.startTime));
+        map.put("endTime", Timestamp.valueOf(row.endTime));
+        map.put("status", row.status.name());
+        map.put("carName", car != null ? car.getName() : null);
+        map.put("userName", row.loginUserId); // 인메모리 백엔드는 사용자 이름 대신 로그인 아이디 사용
+        map.put("loginUserId", row.loginUserId);
+        return map;
+    }
+
+    @Override
+    public long countOverdue(LocalDateTime asOf) {
+        return rows.values().stream()
+                .filter(row -> row.status == RentalRecord.Status.RENTED && row.endTime.isBefore(asOf))
+                .count();
+    }
+
+    @Override
+    public RentalHistoryPage findHistoryPage(RentalHistoryFilter filter, Long afterId, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be > 0");
+        }
+        List<Map<String, Object>> result = new ArrayList<>();
+        rows.values().stream()
+                .filter(row -> afterId == null || row.id < afterId)
+                .filter(row -> filter.getUserPk() == null || row.userPk == filter.getUserPk())
+                .filter(row -> filter.getCarPk() == null || row.carPk == filter.getCarPk())
+                .filter(row -> filter.getStatus() == null || row.status == filter.getStatus())
+                .filter(row -> filter.getFrom() == null || !row.startTime.isBefore(filter.getFrom()))
+                .filter(row -> filter.getTo() == null || row.startTime.isBefore(filter.getTo()))
+                .sorted(Comparator.comparingLong((RentalRow row) -> row.id).reversed())
+                .limit(pageSize + 1L)
+                .forEach(row -> result.add(toHistoryRow(row)));
+        return toPage(result, pageSize);
+    }
+
+    /** 대여 이력(필터 적용)을 id 오름차순으로 1건씩 넘겨줌 (인메모리 백엔드는 보관 이력이 없음) */
+    @Override
+    public long streamHistory(RentalHistoryFilter filter, int fetchSize, RowHandler handler) {
+        List<RentalRow> matched = new ArrayList<>();
+        for (RentalRow row : rows.values()) {
+            if (filter.getUserPk() != null && row.userPk != filter.getUserPk()) continue;
+            if (filter.getCarPk() != null && row.carPk != filter.getCarPk()) continue;
+            if (filter.getStatus() != null && row.status != filter.getStatus()) continue;
+            if (filter.getFrom() != null && row.startTime.isBefore(filter.getFrom())) continue;
+            if (filter.getTo() != null && !row.startTime.isBefore(filter.getTo())) continue;
+            matched.add(row);
+        }
+        matched.sort(Comparator.comparingLong((RentalRow row) -> row.id));
+
+        InMemoryResultSet cursor = new InMemoryResultSet(HISTORY_COLUMNS);
+        long count = 0;
+        try {
+            for (RentalRow row : matched) {
+                handler.handle(cursor.setRow(historyValues(row)));
+                count++;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("인메모리 대여 이력 스트리밍 실패: " + e.getMessage(), e);
+        }
+        return count;
+    }
+
+    /** HISTORY_COLUMNS 순서의 값 (상태와 반납 시 갱신되는 값은 행 잠금 안에서 함께 읽음) */
+    private Object[] historyValues(RentalRow row) {
+        Car car = carRepository.findById(String.valueOf(row.carPk));
+        synchronized (row) {
+            return new Object[] {
+                    row.id, Timestamp.valueOf(row.startTime), Timestamp.valueOf(row.endTime), row.status.name(),
+                    row.rentalDays, row.feeStrategy, row.membership,
+                    row.options, row.baseFee, row.optionFee, row.discount, row.penalty, row.totalFee,
+                    row.carPk, car != null ? car.getName() : null, car != null ? car.type().name() : null,
+                    row.userPk, row.loginUserId, row.loginUserId // 사용자 이름 대신 로그인 아이디
+            };
+        }
+    }
+
+    @Override
+    public long countActive() {
+        return activeByCar.size();
+    }
+
+    @Override
+    public long save(int userId, int carId, RentalRecord r) {
+        long id = sequence.incrementAndGet();
+        if (activeByCar.putIfAbsent(carId, id) != null) {
+            throw new IllegalStateException("이미 대여 중인 차량입니다: carId=" + carId);
+        }
+        rows.put(id, new RentalRow(id, userId, carId, r.getStartAt(), r));
+        r.setId(id);
+        return id;
+    }
+
+    @Override
+    public boolean markReturnedIfRented(long id, LocalDateTime endTime, BigDecimal discount, BigDecimal penalty,
+                                        BigDecimal totalFee) {
+        return markReturned(id, endTime, discount, penalty, totalFee);
+    }
+
+    /** 인메모리 백엔드는 저장 단위가 이미 원자적이므로 그대로 실행 */
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return work.get();
+    }
+
+    @Override
+    public boolean markReturnedIfRented(long id) {
+        RentalRow row = rows.get(id);
+        return row != null && markReturned(id, LocalDateTime.now(getClock()), row.discount, row.penalty, row.totalFee);
+    }
+
+    private boolean markReturned(long id, LocalDateTime endTime, BigDecimal discount, BigDecimal penalty,
+                                 BigDecimal totalFee) {
+        RentalRow row = rows.get(id);
+        if (row == null) return false;
+        synchronized (row) {
+            if (row.status != RentalRecord.Status.RENTED) return false;
+            row.endTime = endTime;
+            row.discount = discount;
+            row.penalty = penalty;
+            row.totalFee = totalFee;
+            row.status = RentalRecord.Status.RETURNED;
+        }
+        activeByCar.remove(row.carPk, id);
+        return true;
+    }
+
+    /**
+     * 회원 등급 재계산용: 사용자 PK [fromId, toId] 의 반납 대여를 반납 월 [from, to] 버킷으로 집계
+     * (UserSpendRepository.recomputeRange 의 INSERT ... SELECT 와 같은 집계, 버킷 값은 {반납 수, 결제 금액(원)})
+     */
+    public Map<Integer, Map<YearMonth, long[]>> returnedBuckets(int fromId, int toId, YearMonth from, YearMonth to) {
+        Map<Integer, Map<YearMonth, long[]>> result = new HashMap<>();
+        for (RentalRow row : rows.values()) {
+            if (row.userPk < fromId || row.userPk > toId) continue;
+            LocalDateTime endTime;
+            BigDecimal totalFee;
+            synchronized (row) {
+                if (row.status != RentalRecord.Status.RETURNED) continue;
+                endTime = row.endTime;
+                totalFee = row.totalFee;
+            }
+            YearMonth month = YearMonth.from(endTime);
+            if (month.isBefore(from) || month.isAfter(to)) continue;
+            long[] bucket = result.computeIfAbsent(row.userPk, id -> new HashMap<>())
+                    .computeIfAbsent(month, m -> new long[2]);
+            bucket[0]++;
+            bucket[1] += totalFee == null ? 0 : totalFee.longValue();
+        }
+        return result;
+    }
+
+    private RentalRecord toRecord(RentalRow row) {
+        RentalRecord rec = new RentalRecord();
+        rec.setId(row.id);
+        rec.setUserId(row.loginUserId);
+        rec.setCarId(String.valueOf(row.carPk));
+        rec.setStartAt(row.startTime);
+        rec.setEndAt(row.endTime);
+        rec.setStatus(row.status);
+        rec.setRentalDays(row.rentalDays);
+        return rec;
+    }
+}
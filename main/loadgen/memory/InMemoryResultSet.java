@@ -0,0 +1,99 @@
+package main.loadgen.memory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인메모리 백엔드의 RowHandler 호출용 읽기 전용 ResultSet (현재 행 1개만 보이는 커서).
+ *
+ * DB 커서의 현재 행처럼 getString/getInt/getLong/getBigDecimal/getTimestamp/getObject 와 wasNull 을
+ * 컬럼 번호(1부터) 또는 컬럼 이름으로 지원하고, 그 밖의 메서드는 SQLFeatureNotSupportedException 을 던집니다.
+ * 행 이동(next)은 호출자가 setRow 로 대신합니다.
+ */
+final class InMemoryResultSet implements InvocationHandler {
+
+    /** DATETIME 컬럼을 getString 으로 읽을 때의 형식 (드라이버와 같은 형식) */
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Map<String, Integer> indexByName = new HashMap<>();
+    private final ResultSet proxy;
+    private Object[] row;
+    private boolean lastWasNull;
+
+    InMemoryResultSet(String... columns) {
+        for (int i = 0; i < columns.length; i++) {
+            indexByName.put(columns[i].toLowerCase(), i);
+        }
+        this.proxy = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, this);
+    }
+
+    /** 다음 행으로 이동 (값은 컬럼 순서대로) */
+    ResultSet setRow(Object... values) {
+        this.row = values;
+        return proxy;
+    }
+
+    @Override
+    public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "wasNull" -> { return lastWasNull; }
+            case "isClosed" -> { return false; }
+            case "findColumn" -> { return column(args[0]) + 1; }
+            case "toString" -> { return "InMemoryResultSet" + indexByName.keySet(); }
+            case "hashCode" -> { return System.identityHashCode(self); }
+            case "equals" -> { return self == args[0]; }
+            default -> { }
+        }
+        if (!name.startsWith("get") || args == null || args.length != 1) {
+            throw new SQLFeatureNotSupportedException("인메모리 ResultSet 은 " + name + " 을 지원하지 않습니다.");
+        }
+
+        Object value = row[column(args[0])];
+        lastWasNull = value == null;
+        return switch (name) {
+            case "getObject" -> value;
+            case "getString" -> asString(value);
+            case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+            case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+            case "getBigDecimal" -> value == null || value instanceof BigDecimal ? value
+                    : new BigDecimal(value.toString());
+            case "getTimestamp" -> value;
+            default -> throw new SQLFeatureNotSupportedException("인메모리 ResultSet 은 " + name + " 을 지원하지 않습니다.");
+        };
+    }
+
+    // ====== 내부 헬퍼 메서드 ======
+
+    /** 컬럼 번호(1부터) 또는 이름 → 배열 인덱스 */
+    private int column(Object key) throws SQLException {
+        if (key instanceof Integer index) {
+            if (index < 1 || index > row.length) {
+                throw new SQLException("컬럼 번호가 범위를 벗어났습니다: " + index);
+            }
+            return index - 1;
+        }
+        Integer index = indexByName.get(String.valueOf(key).toLowerCase());
+        if (index == null) {
+            throw new SQLException("알 수 없는 컬럼: " + key);
+        }
+        return index;
+    }
+
+    private static String asString(Object value) {
+        if (value == null) return null;
+        if (value instanceof Timestamp ts) return ts.toLocalDateTime().format(DATETIME);
+        if (value instanceof BigDecimal decimal) return decimal.toPlainString();
+        return value.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package main.loadgen.memory;
+
+import domain.user.User;
+import domain.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 없이 동작하는 UserRepository (부하 생성기의 인메모리 백엔드).
+ * 조회 시마다 새 User 객체를 돌려주어 DB 조회와 같은 의미를 유지합니다.
+ */
+public class InMemoryUserRepository extends UserRepository {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<String, User> byUserId = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdByPhone = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdByName = new ConcurrentHashMap<>();
+
+    public InMemoryUserRepository() {
+        super(null);
+    }
+
+    @Override
+    public synchronized User save(User user) {
+        if (user.getId() == 0) {
+            user.updateId(sequence.incrementAndGet());
+        } else {
+            // 이름/전화번호 변경 시 이전 인덱스 제거
+            User old = byUserId.get(user.getUserId());
+            if (old != null) {
+                userIdByPhone.remove(old.getPhoneNumber());
+                userIdByName.remove(old.getName());
+            }
+        }
+        byUserId.put(user.getUserId(), copyOf(user));
+        if (user.getPhoneNumber() != null) userIdByPhone.put(user.getPhoneNumber(), user.getUserId());
+        if (user.getName() != null) userIdByName.put(user.getName(), user.getUserId());
+        return user;
+    }
+
+    @Override
+    public Optional<User> findByUserId(String userId) {
+        User user = byUserId.get(userId);
+        return user == null ? Optional.empty() : Optional.of(copyOf(user));
+    }
+
+    @Override
+    public Optional<User> findByPhoneNumber(String phoneNumber) {
+        String userId = userIdByPhone.get(phoneNumber);
+        return userId == null ? Optional.empty() : findByUserId(userId);
+    }
+
+    @Override
+    public Optional<User> findByName(String name) {
+        String userId = userIdByName.get(name);
+        return userId == null ? Optional.empty() : findByUserId(userId);
+    }
+
+    @Override
+    public synchronized boolean delete(String userId) {
+        User removed = byUserId.remove(userId);
+        if (removed == null) return false;
+        userIdByPhone.remove(removed.getPhoneNumber());
+        userIdByName.remove(removed.getName());
+        return true;
+    }
+
+    @Override
+    public User registerCard(String userId, String cardNumber) {
+        User user = findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        if (cardNumber == null || cardNumber.isEmpty()) {
+            throw new IllegalArgumentException("유효한 카드 번호가 필요합니다.");
+        }
+        user.updateCardNumber(cardNumber);
+        return save(user);
+    }
+
+    /** 사용자 PK 범위 {min, max} (사용자가 없으면 empty) */
+    public Optional<int[]> idRange() {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (User user : byUserId.values()) {
+            min = Math.min(min, user.getId());
+            max = Math.max(max, user.getId());
+        }
+        return min > max ? Optional.empty() : Optional.of(new int[] {min, max});
+    }
+
+    /** 사용자 PK [fromId, toId] 범위의 사용자 (조회와 같이 복사본) */
+    public List<User> findByIdRange(int fromId, int toId) {
+        List<User> result = new ArrayList<>();
+        for (User user : byUserId.values()) {
+            if (user.getId() >= fromId && user.getId() <= toId) {
+                result.add(copyOf(user));
+            }
+        }
+        return result;
+    }
+
+    private User copyOf(User user) {
+        User copy = new User(user.getUserId(), user.getPassword(), user.getName(),
+                user.getPhoneNumber(), user.getCardNumber(), user.getUserMembershipStrategy());
+        copy.updateId(user.getId());
+        copy.setMembership(user.getMembership());
+        return copy;
+    }
+}
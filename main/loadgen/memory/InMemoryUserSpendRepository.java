@@ -0,0 +1,92 @@
+package main.loadgen.memory;
+
+import domain.user.User;
+import domain.user.tier.MembershipTier;
+import domain.user.tier.RollingActivity;
+import domain.user.tier.UserSpendRepository;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DB 없이 동작하는 UserSpendRepository (부하 생성기의 인메모리 백엔드).
+ * 월 집계는 반납 시 증분으로 유지하고, 재계산(recomputeRange)은 인메모리 대여 저장소의 반납 행으로 버킷을 다시 만든 뒤
+ * 인메모리 사용자 저장소의 등급을 갱신합니다. DB 와 달리 행 잠금이 없으므로 재계산 도중 반납된 건은
+ * 다음 재계산 때까지 중복 집계될 수 있습니다.
+ */
+public class InMemoryUserSpendRepository extends UserSpendRepository {
+
+    /** 사용자 → (월 → {반납 수, 결제 금액(원)}) */
+    private final Map<Integer, Map<YearMonth, long[]>> buckets = new ConcurrentHashMap<>();
+
+    private final InMemoryUserRepository userRepository;
+    private final InMemoryRentalRepository rentalRepository;
+
+    /** user / rental 테이블에 해당하는 재계산 원본으로 인메모리 저장소를 함께 받음 */
+    public InMemoryUserSpendRepository(InMemoryUserRepository userRepository,
+                                       InMemoryRentalRepository rentalRepository) {
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepository");
+        this.rentalRepository = Objects.requireNonNull(rentalRepository, "rentalRepository");
+    }
+
+    @Override
+    public void recordReturn(int userId, YearMonth month, BigDecimal paid) {
+        long[] bucket = buckets.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(month, m -> new long[2]);
+        synchronized (bucket) {
+            bucket[0]++;
+            bucket[1] += paid.longValue();
+        }
+    }
+
+    @Override
+    public RollingActivity rolling(int userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, long[]> months = buckets.get(userId);
+        if (months == null) {
+            return RollingActivity.none();
+        }
+        long rentals = 0;
+        long spend = 0;
+        for (Map.Entry<YearMonth, long[]> e : months.entrySet()) {
+            if (e.getKey().isBefore(from) || e.getKey().isAfter(to)) continue;
+            long[] bucket = e.getValue();
+            synchronized (bucket) {
+                rentals += bucket[0];
+                spend += bucket[1];
+            }
+        }
+        return new RollingActivity(rentals, spend);
+    }
+
+    @Override
+    public Optional<int[]> userIdRange() {
+        return userRepository.idRange();
+    }
+
+    @Override
+    public int recomputeRange(int fromId, int toId, YearMonth from, YearMonth to) {
+        // 1) 범위 사용자의 버킷을 반납 이력으로 교체 (기간 밖의 오래된 버킷도 함께 제거)
+        Map<Integer, Map<YearMonth, long[]>> rebuilt = rentalRepository.returnedBuckets(fromId, toId, from, to);
+        buckets.keySet().removeIf(userId -> userId >= fromId && userId <= toId && !rebuilt.containsKey(userId));
+        for (Map.Entry<Integer, Map<YearMonth, long[]>> e : rebuilt.entrySet()) {
+            buckets.put(e.getKey(), new ConcurrentHashMap<>(e.getValue()));
+        }
+
+        // 2) 새 합계로 등급 판정 (ADMIN 제외, 등급이 그대로인 사용자는 저장하지 않음)
+        int changed = 0;
+        for (User user : userRepository.findByIdRange(fromId, toId)) {
+            if ("ADMIN".equals(user.getMembership())) continue;
+            MembershipTier tier = rolling(user.getId(), from, to).tier();
+            if (tier.membershipName().equals(user.getMembership())) continue;
+            user.setDiscountStrategy(tier.strategy());
+            user.setMembership(tier.membershipName());
+            userRepository.save(user);
+            changed++;
+        }
+        return changed;
+    }
+}
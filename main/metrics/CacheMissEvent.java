@@ -0,0 +1,24 @@
+package main.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: 캐시 미스 1건 (순간 이벤트, 호출 위치 확인을 위해 스택 트레이스 포함).
+ */
+@Name("carrental.CacheMiss")
+@Label("Cache Miss")
+@Category({"Car Rental", "Cache"})
+@Description("캐시에서 값을 찾지 못해 원본 조회로 넘어간 경우")
+@StackTrace(true)
+public class CacheMissEvent extends jdk.jfr.Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+}
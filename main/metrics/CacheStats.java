@@ -0,0 +1,45 @@
+package main.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 맵 기반 캐시 1개의 적중/미스 카운터 (락 없는 누적).
+ */
+public class CacheStats implements CacheStatsMXBean {
+
+    private final String name;
+    private final Map<?, ?> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CacheStats(String name, Map<?, ?> cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    public void recordHit() { hits.increment(); }
+
+    /** 미스 집계 + JFR 기록 중이면 CacheMissEvent 발행 */
+    public void recordMiss(Object key) {
+        misses.increment();
+        CacheMissEvent event = new CacheMissEvent();
+        if (event.shouldCommit()) {
+            event.cache = name;
+            event.key = String.valueOf(key);
+            event.commit();
+        }
+    }
+
+    @Override public String getName() { return name; }
+    @Override public long getHits() { return hits.sum(); }
+    @Override public long getMisses() { return misses.sum(); }
+    @Override public long getSize() { return cache.size(); }
+
+    @Override
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+}
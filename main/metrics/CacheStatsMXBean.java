@@ -0,0 +1,12 @@
+package main.metrics;
+
+/**
+ * JMX 로 노출되는 캐시 적중률 통계.
+ */
+public interface CacheStatsMXBean {
+    String getName();
+    long getHits();
+    long getMisses();
+    double getHitRate();
+    long getSize();
+}
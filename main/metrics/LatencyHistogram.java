@@ -0,0 +1,124 @@
+package main.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 나노초 단위 지연시간 히스토그램 (로그-선형 버킷, 여러 스레드에서 동시에 기록 가능).
+ *
+ * - 0 ~ 127ns 는 1ns 단위, 그 이상은 2의 거듭제곱 구간마다 64개 하위 버킷 (상대 오차 약 1.6%)
+ * - 기록은 배열 원소 1개 증가 + 합계/최대값 갱신뿐이라 락이 없고 객체를 만들지 않음
+ * - 백분위수는 버킷 중앙값으로 근사
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;          // 64
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2;       // 128
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /** 지연시간 1건 기록 (음수는 0으로 처리) */
+    public void record(long nanos) {
+        long v = Math.max(0L, nanos);
+        buckets.incrementAndGet(indexOf(v));
+        count.increment();
+        totalNanos.add(v);
+        long max;
+        while (v > (max = maxNanos.get())) {
+            if (maxNanos.compareAndSet(max, v)) break;
+        }
+    }
+
+    public long getCount() { return count.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    public double getMeanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) totalNanos.sum() / n;
+    }
+
+    /**
+     * 백분위수 근사값 (나노초).
+     * @param percentile 0 ~ 100 (예: 99.9)
+     */
+    public long getValueAtPercentile(double percentile) {
+        long n = count.sum();
+        if (n == 0) return 0L;
+        long rank = (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * n);
+        rank = Math.max(1L, rank);
+
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(representativeValue(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /** 다른 히스토그램의 기록을 합칩니다. (스레드별 히스토그램 병합용) */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = other.buckets.get(i);
+            if (c != 0) buckets.addAndGet(i, c);
+        }
+        count.add(other.count.sum());
+        totalNanos.add(other.totalNanos.sum());
+        long otherMax = other.maxNanos.get();
+        long max;
+        while (otherMax > (max = maxNanos.get())) {
+            if (maxNanos.compareAndSet(max, otherMax)) break;
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+    }
+
+    /** "count=.., mean=..ms, p50=..ms, p95=..ms, p99=..ms, max=..ms" 형식 요약 */
+    public String summary() {
+        return String.format("count=%d, mean=%.3fms, p50=%.3fms, p95=%.3fms, p99=%.3fms, max=%.3fms",
+                getCount(),
+                getMeanNanos() / 1_000_000.0,
+                getValueAtPercentile(50) / 1_000_000.0,
+                getValueAtPercentile(95) / 1_000_000.0,
+                getValueAtPercentile(99) / 1_000_000.0,
+                getMaxNanos() / 1_000_000.0);
+    }
+
+    // ====== 버킷 계산 ======
+
+    private static int indexOf(long v) {
+        if (v < LINEAR_LIMIT) {
+            return (int) v;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(v);   // 7 이상
+        int shift = magnitude - SUB_BITS;                     // 1 이상
+        int sub = (int) (v >>> shift);                        // 64 ~ 127
+        return LINEAR_LIMIT + (shift - 1) * SUB_COUNT + (sub - SUB_COUNT);
+    }
+
+    private static long representativeValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int shift = offset / SUB_COUNT + 1;
+        long sub = offset % SUB_COUNT + SUB_COUNT;
+        long lower = sub << shift;
+        return lower + (1L << (shift - 1));
+    }
+}
@@ -0,0 +1,114 @@
+package main.scheduler;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * 5필드 cron 식 (분 시 일 월 요일). 각 필드는 '*', 숫자, 목록(1,15), 범위(1-5), 간격(*&#47;10, 0-30/5)을 지원합니다.
+ * 요일은 0~7 (0 과 7 은 일요일). 일과 요일이 모두 지정되면 둘 중 하나만 맞아도 실행합니다 (표준 cron 과 동일).
+ * 시각은 스케줄러 시계의 시간대 기준입니다.
+ */
+final class CronSchedule implements Schedule {
+
+    private final String expression;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet days;
+    private final BitSet months;
+    private final BitSet weekdays;
+    private final boolean anyDay;
+    private final boolean anyWeekday;
+
+    private CronSchedule(String expression, String[] fields) {
+        this.expression = expression;
+        this.minutes = parseField(fields[0], 0, 59);
+        this.hours = parseField(fields[1], 0, 23);
+        this.days = parseField(fields[2], 1, 31);
+        this.months = parseField(fields[3], 1, 12);
+        this.weekdays = parseField(fields[4], 0, 7);
+        if (weekdays.get(7)) {
+            weekdays.set(0);
+        }
+        this.anyDay = "*".equals(fields[2]);
+        this.anyWeekday = "*".equals(fields[4]);
+    }
+
+    static CronSchedule parse(String expression) {
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("cron 식은 '분 시 일 월 요일' 5개 필드여야 합니다: " + expression);
+        }
+        return new CronSchedule(expression.trim(), fields);
+    }
+
+    @Override
+    public ZonedDateTime next(ZonedDateTime after) {
+        ZonedDateTime t = after.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        // 맞지 않는 월/일/시는 통째로 건너뛰므로 최악의 경우도 수천 번 이내 (4년이면 포기)
+        ZonedDateTime limit = t.plusYears(4);
+        while (t.isBefore(limit)) {
+            if (!months.get(t.getMonthValue())) {
+                t = t.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+            } else if (!dayMatches(t)) {
+                t = t.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            } else if (!hours.get(t.getHour())) {
+                t = t.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            } else if (!minutes.get(t.getMinute())) {
+                t = t.plusMinutes(1);
+            } else {
+                return t;
+            }
+        }
+        return null;
+    }
+
+    private boolean dayMatches(ZonedDateTime t) {
+        boolean day = days.get(t.getDayOfMonth());
+        boolean weekday = weekdays.get(t.getDayOfWeek().getValue() % 7);
+        if (anyDay) return weekday;
+        if (anyWeekday) return day;
+        return day || weekday;
+    }
+
+    private static BitSet parseField(String field, int min, int max) {
+        BitSet bits = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+                if (step <= 0) {
+                    throw new IllegalArgumentException("cron 간격은 1 이상이어야 합니다: " + field);
+                }
+            }
+            int from;
+            int to;
+            if ("*".equals(range)) {
+                from = min;
+                to = max;
+            } else if (range.contains("-")) {
+                String[] bounds = range.split("-", 2);
+                from = Integer.parseInt(bounds[0]);
+                to = Integer.parseInt(bounds[1]);
+            } else {
+                from = Integer.parseInt(range);
+                to = slash >= 0 ? max : from;
+            }
+            if (from < min || to > max || from > to) {
+                throw new IllegalArgumentException("cron 값 범위(" + min + "-" + max + ") 오류: " + field);
+            }
+            for (int v = from; v <= to; v += step) {
+                bits.set(v);
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        return "cron(" + expression + ")";
+    }
+}
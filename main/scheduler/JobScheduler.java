@@ -0,0 +1,242 @@
+package main.scheduler;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이름 붙은 백그라운드 작업 스케줄러 (연체료 누적, 캐시 예열, 대여 이력 보관 등).
+ *
+ *  - 시각 계산은 타이머 스레드 1개(ScheduledExecutorService)가 맡고, 작업 본문은 별도 워커에서 실행
+ *    (JDK 21 이상이면 작업마다 가상 스레드, 아니면 데몬 스레드 풀) → 오래 걸리는 작업이 다른 작업의 시각을 밀지 않음
+ *  - 다음 실행 시각은 이전 "예정" 시각 기준으로 계산 (고정 주기), 늦어졌으면 현재 이후의 첫 시각으로 건너뜀
+ *  - jitter: 실행마다 0 ~ jitter 사이 임의 지연을 더해 여러 인스턴스/작업이 같은 순간에 몰리지 않게 함
+ *  - 단일 실행: 이전 실행이 끝나지 않았으면 이번 차례는 건너뛰고 skippedOverlaps 로 집계
+ *  - 작업별 실행 횟수/실패/소요 시간은 JobStats (JMX: carrental:type=Job,name=...)
+ *
+ *   JobScheduler scheduler = new JobScheduler(clock);
+ *   scheduler.schedule("rental-archive", Schedule.fixedRate(Duration.ofHours(1)), Duration.ofMinutes(5), archiveJob);
+ */
+public class JobScheduler implements AutoCloseable {
+
+    /** 등록된 작업 1개 */
+    private static final class Job {
+        final String name;
+        final Schedule schedule;
+        final Duration jitter;
+        final Runnable task;
+        final JobStats stats;
+        final AtomicBoolean running = new AtomicBoolean();
+        volatile ScheduledFuture<?> timer;
+        volatile boolean cancelled;
+
+        Job(String name, Schedule schedule, Duration jitter, Runnable task) {
+            this.name = name;
+            this.schedule = schedule;
+            this.jitter = jitter;
+            this.task = task;
+            this.stats = new JobStats(name, schedule.toString());
+        }
+    }
+
+    private final Clock clock;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService workers;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public JobScheduler() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /** clock: 실행 시각 계산 기준 (cron 의 시간대 포함). 대기는 실제 시간이므로 실제 시간과 같은 속도로 흐르는 시계여야 함 */
+    public JobScheduler(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "job-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        this.workers = newWorkerExecutor();
+    }
+
+    public JobStats schedule(String name, Schedule schedule, Runnable task) {
+        return schedule(name, schedule, Duration.ZERO, task);
+    }
+
+    /**
+     * 작업 등록. 같은 이름이 이미 있으면 IllegalStateException.
+     * @param jitter 실행마다 더할 최대 임의 지연 (0 이면 정시 실행)
+     */
+    public JobStats schedule(String name, Schedule schedule, Duration jitter, Runnable task) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(schedule, "schedule");
+        Objects.requireNonNull(task, "task");
+        if (jitter.isNegative()) {
+            throw new IllegalArgumentException("jitter must be >= 0");
+        }
+        if (closed) {
+            throw new IllegalStateException("스케줄러가 이미 종료되었습니다.");
+        }
+        Job job = new Job(name, schedule, jitter, task);
+        if (jobs.putIfAbsent(name, job) != null) {
+            throw new IllegalStateException("이미 등록된 작업입니다: " + name);
+        }
+        arm(job, schedule.first(ZonedDateTime.now(clock)));
+        return job.stats;
+    }
+
+    /**
+     * 예정 시각과 관계없이 지금 한 번 실행 (비동기). 실행 중이거나 없는 작업이면 false.
+     */
+    public boolean runNow(String name) {
+        Job job = jobs.get(name);
+        return job != null && !job.cancelled && dispatch(job);
+    }
+
+    /** 작업 해제 (실행 중인 본문은 끝까지 실행됨) */
+    public boolean cancel(String name) {
+        Job job = jobs.remove(name);
+        if (job == null) return false;
+        job.cancelled = true;
+        ScheduledFuture<?> future = job.timer;
+        if (future != null) future.cancel(false);
+        job.stats.nextRun(null);
+        return true;
+    }
+
+    /** 등록된 작업 통계 (이름순) */
+    public List<JobStats> jobs() {
+        List<JobStats> result = new ArrayList<>();
+        for (Job job : jobs.values()) {
+            result.add(job.stats);
+        }
+        result.sort(Comparator.comparing(JobStats::getName));
+        return result;
+    }
+
+    public Optional<JobStats> job(String name) {
+        Job job = jobs.get(name);
+        return job == null ? Optional.empty() : Optional.of(job.stats);
+    }
+
+    /** 새 실행을 멈추고, 실행 중인 작업은 최대 timeout 동안 기다림 */
+    public void close(Duration timeout) {
+        closed = true;
+        for (String name : new ArrayList<>(jobs.keySet())) {
+            cancel(name);
+        }
+        timer.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(10));
+    }
+
+    // ====== 내부 ======
+
+    /** scheduledAt 에 실행되도록 타이머 등록 (jitter 는 지연에만 더하므로 다음 예정 시각은 밀리지 않음) */
+    private void arm(Job job, ZonedDateTime scheduledAt) {
+        if (scheduledAt == null || job.cancelled || closed) {
+            job.stats.nextRun(null);
+            return;
+        }
+        job.stats.nextRun(scheduledAt);
+        long delayNanos = Math.max(0, Duration.between(ZonedDateTime.now(clock), scheduledAt).toNanos());
+        if (!job.jitter.isZero()) {
+            delayNanos += ThreadLocalRandom.current().nextLong(job.jitter.toNanos() + 1);
+        }
+        try {
+            job.timer = timer.schedule(() -> fire(job, scheduledAt), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // close() 와 경합: 종료 중이면 더 등록하지 않음
+        }
+    }
+
+    private void fire(Job job, ZonedDateTime scheduledAt) {
+        if (job.cancelled) return;
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime next = job.schedule.next(scheduledAt);
+        if (next != null && !next.isAfter(now)) {
+            next = job.schedule.next(now); // 밀린 차례는 몰아서 실행하지 않음
+        }
+        arm(job, next);
+        dispatch(job);
+    }
+
+    /** 단일 실행 보장: 이전 실행이 끝나지 않았으면 건너뜀 */
+    private boolean dispatch(Job job) {
+        if (!job.running.compareAndSet(false, true)) {
+            job.stats.skipped();
+            return false;
+        }
+        try {
+            workers.execute(() -> execute(job));
+            return true;
+        } catch (RejectedExecutionException e) {
+            job.running.set(false);
+            return false;
+        }
+    }
+
+    private void execute(Job job) {
+        Thread thread = Thread.currentThread();
+        String previousName = thread.getName();
+        thread.setName("job-" + job.name);
+        job.stats.started(ZonedDateTime.now(clock));
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            job.task.run();
+        } catch (Throwable e) {
+            failure = e;
+            System.err.println("❌ 백그라운드 작업 실패 [" + job.name + "]: " + e.getMessage());
+        } finally {
+            job.stats.finished(System.nanoTime() - start, failure);
+            job.running.set(false);
+            thread.setName(previousName);
+        }
+    }
+
+    /** JDK 21 이상이면 가상 스레드 실행기, 아니면 데몬 스레드 풀 (이 프로젝트는 JDK 17 로도 빌드되므로 리플렉션 사용) */
+    private static ExecutorService newWorkerExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger seq = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "job-worker-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+}
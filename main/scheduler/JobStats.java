@@ -0,0 +1,67 @@
+package main.scheduler;
+
+import main.metrics.LatencyHistogram;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 백그라운드 작업 1개의 실행 통계 (JobScheduler 가 갱신, 조회는 어느 스레드에서나 가능).
+ */
+public class JobStats implements JobStatsMXBean {
+
+    private final String name;
+    private final String schedule;
+    private final LatencyHistogram durations = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skippedOverlaps = new LongAdder();
+
+    private volatile boolean running;
+    private volatile long lastDurationNanos;
+    private volatile ZonedDateTime lastStartedAt;
+    private volatile ZonedDateTime nextRunAt;
+    private volatile String lastError;
+
+    JobStats(String name, String schedule) {
+        this.name = name;
+        this.schedule = schedule;
+    }
+
+    // ====== JobScheduler 에서 호출 ======
+
+    void started(ZonedDateTime at) {
+        running = true;
+        lastStartedAt = at;
+    }
+
+    void finished(long nanos, Throwable failure) {
+        durations.record(nanos);
+        lastDurationNanos = nanos;
+        if (failure != null) {
+            failures.increment();
+            lastError = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        }
+        running = false;
+    }
+
+    void skipped() { skippedOverlaps.increment(); }
+
+    void nextRun(ZonedDateTime at) { nextRunAt = at; }
+
+    // ====== 조회 ======
+
+    @Override public String getName() { return name; }
+    @Override public String getSchedule() { return schedule; }
+    @Override public boolean isRunning() { return running; }
+    @Override public long getRuns() { return durations.getCount(); }
+    @Override public long getFailures() { return failures.sum(); }
+    @Override public long getSkippedOverlaps() { return skippedOverlaps.sum(); }
+    @Override public double getLastDurationMillis() { return lastDurationNanos / 1_000_000.0; }
+    @Override public double getMeanDurationMillis() { return durations.getMeanNanos() / 1_000_000.0; }
+    @Override public double getMaxDurationMillis() { return durations.getMaxNanos() / 1_000_000.0; }
+    @Override public String getLastStartedAt() { return lastStartedAt == null ? "" : lastStartedAt.toLocalDateTime().toString(); }
+    @Override public String getNextRunAt() { return nextRunAt == null ? "" : nextRunAt.toLocalDateTime().toString(); }
+    @Override public String getLastError() { return lastError == null ? "" : lastError; }
+
+    public LatencyHistogram getDurations() { return durations; }
+}
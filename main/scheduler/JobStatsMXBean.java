@@ -0,0 +1,20 @@
+package main.scheduler;
+
+/**
+ * JMX 로 노출되는 백그라운드 작업 1개의 실행 통계.
+ */
+public interface JobStatsMXBean {
+    String getName();
+    String getSchedule();
+    boolean isRunning();
+    long getRuns();
+    long getFailures();
+    /** 이전 실행이 끝나지 않아 건너뛴 횟수 (단일 실행 보장) */
+    long getSkippedOverlaps();
+    double getLastDurationMillis();
+    double getMeanDurationMillis();
+    double getMaxDurationMillis();
+    String getLastStartedAt();
+    String getNextRunAt();
+    String getLastError();
+}
@@ -0,0 +1,61 @@
+package main.scheduler;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * 백그라운드 작업 실행 시각 규칙.
+ *
+ *   Schedule.fixedRate(Duration.ofMinutes(5))          5분마다 (이전 예정 시각 기준, 실행 시간과 무관)
+ *   Schedule.fixedRate(Duration.ofHours(1), Duration.ofMinutes(1))   첫 실행은 1분 후
+ *   Schedule.dailyAt(LocalTime.of(3, 0))                매일 03:00
+ *   Schedule.cron("30 2 * * 1-5")                       평일 02:30 (분 시 일 월 요일)
+ */
+public interface Schedule {
+
+    /** after 이후(after 제외) 다음 실행 시각. 더 이상 실행하지 않으면 null */
+    ZonedDateTime next(ZonedDateTime after);
+
+    /** 등록 직후 첫 실행 시각 (기본: next(now)) */
+    default ZonedDateTime first(ZonedDateTime now) {
+        return next(now);
+    }
+
+    static Schedule fixedRate(Duration period) {
+        return fixedRate(period, period);
+    }
+
+    static Schedule fixedRate(Duration period, Duration initialDelay) {
+        Objects.requireNonNull(period, "period");
+        Objects.requireNonNull(initialDelay, "initialDelay");
+        if (period.isNegative() || period.isZero() || initialDelay.isNegative()) {
+            throw new IllegalArgumentException("period must be > 0 and initialDelay >= 0");
+        }
+        return new Schedule() {
+            @Override
+            public ZonedDateTime next(ZonedDateTime after) {
+                return after.plus(period);
+            }
+
+            @Override
+            public ZonedDateTime first(ZonedDateTime now) {
+                return now.plus(initialDelay);
+            }
+
+            @Override
+            public String toString() {
+                return "every " + period;
+            }
+        };
+    }
+
+    static Schedule dailyAt(LocalTime time) {
+        return cron(time.getMinute() + " " + time.getHour() + " * * *");
+    }
+
+    static Schedule cron(String expression) {
+        return CronSchedule.parse(expression);
+    }
+}
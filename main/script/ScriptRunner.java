@@ -0,0 +1,242 @@
+package main.script;
+
+import domain.rental.RentalRecord;
+import domain.rental.SimulatedClock;
+import domain.rental.strategy.BaseFeeStrategy;
+import domain.rental.strategy.OffSeasonFeeStrategy;
+import domain.rental.strategy.PeakSeasonFeeStrategy;
+import domain.user.User;
+import main.facade.RentalFacade;
+import main.metrics.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 헤드리스(배치) 모드 스크립트 실행기.
+ * 콘솔 메뉴/애니메이션 없이 스크립트의 명령을 같은 서비스에 최대 속도로 실행하고,
+ * 마지막에 처리량과 명령별 지연시간 요약을 출력합니다. (운영 트래픽 재생용)
+ *
+ * 스크립트 형식: 한 줄에 명령 1개, 공백 구분, 공백이 포함된 값은 "큰따옴표", '#' 이후는 주석
+ *   signup  <id> <pw> <name> <phone>
+ *   login   <id> <pw>
+ *   logout
+ *   list
+ *   quote   <carName> <days> [option...]
+ *   rent    <carName> <days> [option...]      (로그인 필요)
+ *   return  <carName>                         (로그인 필요)
+ *   season  BASE | PEAK | OFF
+ *   advance <기간>                            (시뮬레이션 시계를 앞당김, 예: 3d, 12h, 30m, P1DT6H)
+ */
+public class ScriptRunner {
+
+    private final RentalFacade facade;
+    private final boolean verbose;
+
+    /** 명령 이름 → 지연시간 (출력 순서 유지) */
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final LatencyHistogram total = new LatencyHistogram();
+    private long errorCount = 0;
+
+    // 스크립트 세션 상태
+    private String loggedInUserId;
+
+    public ScriptRunner(RentalFacade facade, boolean verbose) {
+        this.facade = facade;
+        this.verbose = verbose;
+    }
+
+    /**
+     * 스크립트를 끝까지 실행하고 요약을 출력합니다.
+     */
+    public void run(BufferedReader reader) throws IOException {
+        long startedAt = System.nanoTime();
+        int lineNo = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            List<String> tokens = tokenize(line);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+
+            String op = tokens.get(0).toLowerCase();
+            long t0 = System.nanoTime();
+            try {
+                execute(op, tokens);
+            } catch (RuntimeException e) {
+                errorCount++;
+                if (verbose) {
+                    System.err.println("⚠️ " + lineNo + "행 [" + op + "] 실패: " + e.getMessage());
+                }
+            } finally {
+                long elapsed = System.nanoTime() - t0;
+                latencies.computeIfAbsent(op, k -> new LatencyHistogram()).record(elapsed);
+                total.record(elapsed);
+            }
+        }
+
+        printSummary(System.nanoTime() - startedAt);
+    }
+
+    // ====== 명령 실행 ======
+
+    private void execute(String op, List<String> t) {
+        switch (op) {
+            case "signup" -> {
+                requireArgs(t, 5);
+                facade.signUp(t.get(1), t.get(2), t.get(3), t.get(4));
+            }
+            case "login" -> {
+                requireArgs(t, 3);
+                Optional<User> user = facade.login(t.get(1), t.get(2));
+                if (user.isEmpty()) {
+                    throw new IllegalArgumentException("로그인 실패: " + t.get(1));
+                }
+                loggedInUserId = user.get().getUserId();
+            }
+            case "logout" -> loggedInUserId = null;
+            case "list" -> facade.findAvailableCars(null);
+            case "quote" -> {
+                requireArgs(t, 3);
+                facade.quote(t.get(1), Integer.parseInt(t.get(2)), t.subList(3, t.size()));
+            }
+            case "rent" -> {
+                requireArgs(t, 3);
+                RentalRecord record = facade.rent(requireLogin(), t.get(1),
+                        Integer.parseInt(t.get(2)), new ArrayList<>(t.subList(3, t.size())));
+                if (verbose) {
+                    System.out.println("✅ 대여 완료: " + t.get(1) + " (대여 ID: " + record.getId() + ")");
+                }
+            }
+            case "return" -> {
+                requireArgs(t, 2);
+                facade.returnCar(requireLogin(), t.get(1));
+                if (verbose) {
+                    System.out.println("✅ 반납 완료: " + t.get(1));
+                }
+            }
+            case "season" -> {
+                requireArgs(t, 2);
+                switch (t.get(1).toUpperCase()) {
+                    case "BASE" -> facade.getContext().setCurrentSeason(new BaseFeeStrategy());
+                    case "PEAK" -> facade.getContext().setCurrentSeason(new PeakSeasonFeeStrategy());
+                    case "OFF"  -> facade.getContext().setCurrentSeason(new OffSeasonFeeStrategy());
+                    default -> throw new IllegalArgumentException("알 수 없는 시즌: " + t.get(1));
+                }
+            }
+            case "advance" -> {
+                requireArgs(t, 2);
+                Clock clock = facade.getContext().getRentalService().getClock();
+                if (!(clock instanceof SimulatedClock simulated)) {
+                    throw new IllegalStateException("시뮬레이션 시계가 아니어서 시간을 앞당길 수 없습니다.");
+                }
+                simulated.advance(parseDuration(t.get(1)));
+                if (verbose) {
+                    System.out.println("⏩ 현재 시각: " + LocalDateTime.now(simulated));
+                }
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 명령: " + op);
+        }
+    }
+
+    /** "3d", "12h", "30m", "45s" 또는 ISO-8601 기간 ("P1DT6H") */
+    static Duration parseDuration(String text) {
+        String value = text.trim();
+        if (value.toUpperCase().startsWith("P")) {
+            return Duration.parse(value.toUpperCase());
+        }
+        if (value.length() < 2) {
+            throw new IllegalArgumentException("기간 형식 오류 (예: 3d, 12h): " + text);
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (Character.toLowerCase(value.charAt(value.length() - 1))) {
+            case 'd' -> Duration.ofDays(amount);
+            case 'h' -> Duration.ofHours(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 's' -> Duration.ofSeconds(amount);
+            default -> throw new IllegalArgumentException("기간 형식 오류 (예: 3d, 12h): " + text);
+        };
+    }
+
+    private String requireLogin() {
+        if (loggedInUserId == null) {
+            throw new IllegalStateException("로그인이 필요합니다.");
+        }
+        return loggedInUserId;
+    }
+
+    private void requireArgs(List<String> tokens, int count) {
+        if (tokens.size() < count) {
+            throw new IllegalArgumentException("인자가 부족합니다: " + String.join(" ", tokens));
+        }
+    }
+
+    // ====== 요약 출력 ======
+
+    private void printSummary(long elapsedNanos) {
+        long ops = total.getCount();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double throughput = seconds > 0 ? ops / seconds : 0.0;
+
+        System.out.println("\n" + "=".repeat(60));
+        System.out.println("📊 스크립트 실행 요약");
+        System.out.println("=".repeat(60));
+        System.out.printf("총 명령: %d건 (실패 %d건), 소요 시간: %.3f초, 처리량: %.1f ops/s%n",
+                ops, errorCount, seconds, throughput);
+        System.out.println("-".repeat(60));
+        for (Map.Entry<String, LatencyHistogram> e : latencies.entrySet()) {
+            System.out.printf("%-8s %s%n", e.getKey(), e.getValue().summary());
+        }
+        System.out.printf("%-8s %s%n", "(전체)", total.summary());
+        System.out.println("=".repeat(60));
+    }
+
+    // ====== 토큰 분리 ======
+
+    /** 공백 기준 분리, "..." 는 하나의 토큰, '#' 이후는 주석 */
+    static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuote = false;
+        boolean hasToken = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuote) {
+                if (c == '"') {
+                    inQuote = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                inQuote = true;
+                hasToken = true;
+            } else if (c == '#') {
+                break;
+            } else if (Character.isWhitespace(c)) {
+                if (hasToken) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                    hasToken = false;
+                }
+            } else {
+                current.append(c);
+                hasToken = true;
+            }
+        }
+        if (hasToken) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}